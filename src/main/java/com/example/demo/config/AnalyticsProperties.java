@@ -0,0 +1,33 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ρυθμίσεις για τα endpoints των αναλυτικών στοιχείων και την ανακατασκευή των συνόλων παραγγελιών.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.analytics")
+@Getter
+@Setter
+public class AnalyticsProperties {
+
+    private int rebuildChunkSize = 1000;
+    private int defaultTopSize = 20;
+    private int maxTopSize = 500;
+
+    /**
+     * Επιστρέφει το πλήθος των γραμμών κατάταξης περιορισμένο στο διάστημα [1, maxTopSize].
+     *
+     * @param requested το πλήθος που ζήτησε ο client ή null.
+     * @return το πλήθος που θα χρησιμοποιηθεί.
+     */
+    public int resolveTopSize(Integer requested) {
+        if (requested == null) {
+            return defaultTopSize;
+        }
+        return Math.max(1, Math.min(requested, maxTopSize));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Ρυθμίσεις για τα αιτήματα με Idempotency-Key (IdempotencyStore).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+
+    // Μέγιστο μήκος του κλειδιού που στέλνει ο client
+    private int maxKeyLength = 100;
+
+    // Ολοκληρωμένες αποκρίσεις στη μνήμη, μπροστά από τον πίνακα idempotency_keys
+    private long cacheMaxSize = 10_000;
+
+    // Χρόνος ζωής μιας απόκρισης στη μνήμη· μετά διαβάζεται από τον πίνακα
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    // Χρόνος διατήρησης των εγγραφών στον πίνακα· μετά το κλειδί μπορεί να ξαναχρησιμοποιηθεί
+    private Duration retention = Duration.ofHours(24);
+
+    // Διάστημα ανάμεσα στις διαγραφές των εγγραφών που ξεπέρασαν τον χρόνο διατήρησης
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    // Πόσο περιμένει ένα διπλό αίτημα την ολοκλήρωση της εκτέλεσης σε άλλον κόμβο πριν απαντήσει 409
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    // Διάστημα ανάμεσα στους ελέγχους του πίνακα όσο περιμένει
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    // Μετά από πόσο μια εκτέλεση που δεν ολοκληρώθηκε (π.χ. κόμβος που σταμάτησε) θεωρείται εγκαταλελειμμένη
+    private Duration abandonAfter = Duration.ofMinutes(1);
+}
@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Ρυθμίσεις για τις δεσμεύσεις αποθέματος και την προσωρινή εικόνα του αποθέματος στη μνήμη.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.inventory")
+@Getter
+@Setter
+public class InventoryProperties {
+
+    private int stripes = 64;
+    private Duration snapshotTtl = Duration.ofSeconds(1);
+    private long snapshotMaxSize = 10_000;
+}
@@ -0,0 +1,18 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ρυθμίσεις για τη μαζική δημιουργία παραγγελιών.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.orders.batch")
+@Getter
+@Setter
+public class OrderBatchProperties {
+
+    private int maxLines = 1000;
+}
@@ -0,0 +1,112 @@
+package com.example.demo.config;
+
+import com.example.demo.model.Order;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Μοιράζει IDs παραγγελιών από μπλοκ των {@link Order#ID_ALLOCATION_SIZE} τιμών, που δεσμεύονται στον πίνακα
+ * id_generators. Επειδή τα IDs είναι γνωστά πριν από το INSERT, το Hibernate μπορεί να ομαδοποιεί τις εισαγωγές σε
+ * JDBC batches.
+ *
+ * <p>Κάθε νέο μπλοκ δεσμεύεται σε δική του, αυτόνομη συναλλαγή, με σύνδεση από ένα μικρό αποκλειστικό pool.
+ * Αν χρησιμοποιούσε το κοινό pool, τα νήματα που περιμένουν ID κρατώντας ήδη τη σύνδεση της συναλλαγής τους θα
+ * μπορούσαν να το εξαντλήσουν, και η δέσμευση του μπλοκ να μην πάρει ποτέ σύνδεση.</p>
+ */
+@Component
+public class OrderIdAllocator implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIdAllocator.class);
+
+    public static final String SEQUENCE_NAME = "orders";
+
+    private final HikariDataSource dataSource;
+
+    // Lock αντί για synchronized: η δέσμευση μπλοκ γίνεται με JDBC και ένα virtual thread που περιμένει μέσα σε
+    // synchronized κρατά δεσμευμένο (pinned) το νήμα-φορέα του
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Το τρέχον μπλοκ: next <= id < limit
+    private long next;
+    private long limit;
+
+    public OrderIdAllocator(DataSourceProperties properties) {
+        this.dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("order-id-pool");
+        this.dataSource.setMaximumPoolSize(1);
+        this.dataSource.setMinimumIdle(0);
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                next = allocateBlock();
+                limit = next + Order.ID_ALLOCATION_SIZE;
+                logger.debug("Νέο μπλοκ IDs παραγγελιών: {} έως {}.", next, limit - 1);
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long allocateBlock() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long start = incrementAndGet(connection) - Order.ID_ALLOCATION_SIZE;
+                connection.commit();
+                return start;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Αποτυχία δέσμευσης IDs παραγγελιών", e);
+        }
+    }
+
+    // Αυξάνει την ακολουθία κατά ένα μπλοκ και επιστρέφει τη νέα τιμή. Η γραμμή μένει κλειδωμένη έως το commit,
+    // οπότε δύο κόμβοι δεν παίρνουν ποτέ το ίδιο μπλοκ
+    private static long incrementAndGet(Connection connection) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE id_generators SET next_val = next_val + ? WHERE sequence_name = ?")) {
+            update.setInt(1, Order.ID_ALLOCATION_SIZE);
+            update.setString(2, SEQUENCE_NAME);
+            if (update.executeUpdate() == 0) {
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO id_generators (sequence_name, next_val) VALUES (?, ?)")) {
+                    insert.setString(1, SEQUENCE_NAME);
+                    insert.setLong(2, 1L + Order.ID_ALLOCATION_SIZE);
+                    insert.executeUpdate();
+                }
+                return 1L + Order.ID_ALLOCATION_SIZE;
+            }
+        }
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT next_val FROM id_generators WHERE sequence_name = ?")) {
+            select.setString(1, SEQUENCE_NAME);
+            try (ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
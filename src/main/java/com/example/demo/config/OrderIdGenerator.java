@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Γεννήτρια IDs του Hibernate για τις παραγγελίες. Τη δημιουργεί το Spring (μέσω του bean container του Hibernate),
+ * ώστε να μοιράζεται τον ίδιο {@link OrderIdAllocator} με την υπόλοιπη εφαρμογή.
+ */
+public class OrderIdGenerator implements IdentifierGenerator {
+
+    private final OrderIdAllocator allocator;
+
+    public OrderIdGenerator(OrderIdAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return Math.toIntExact(allocator.nextId());
+    }
+}
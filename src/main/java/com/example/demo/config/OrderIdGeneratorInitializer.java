@@ -0,0 +1,50 @@
+package com.example.demo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ευθυγραμμίζει τη γεννήτρια IDs των παραγγελιών (πίνακας id_generators) με τις υπάρχουσες παραγγελίες κατά την
+ * εκκίνηση. Σε βάσεις όπου οι παραγγελίες δημιουργήθηκαν με AUTO_INCREMENT, η γεννήτρια ξεκινά πάνω από το
+ * μεγαλύτερο υπάρχον ID, ώστε τα νέα IDs να μη συγκρούονται με τα παλιά. Η τιμή μόνο αυξάνεται, ποτέ δε μειώνεται.
+ */
+@Component
+public class OrderIdGeneratorInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIdGeneratorInitializer.class);
+
+    private static final String GENERATOR_NAME = OrderIdAllocator.SEQUENCE_NAME;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderIdGeneratorInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Long.class);
+        // Κάθε μπλοκ ξεκινά από την αποθηκευμένη τιμή, οπότε αρκεί να είναι μεγαλύτερη από το μεγαλύτερο ID
+        long floor = (maxId != null ? maxId : 0) + 1;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE id_generators SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                floor, GENERATOR_NAME, floor);
+        if (updated > 0) {
+            logger.info("Η γεννήτρια IDs παραγγελιών μετακινήθηκε στο {}.", floor);
+            return;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM id_generators WHERE sequence_name = ?", Integer.class, GENERATOR_NAME);
+        if (rows == null || rows == 0) {
+            jdbcTemplate.update("INSERT INTO id_generators (sequence_name, next_val) VALUES (?, ?)",
+                    GENERATOR_NAME, floor);
+            logger.info("Η γεννήτρια IDs παραγγελιών αρχικοποιήθηκε στο {}.", floor);
+        }
+    }
+}
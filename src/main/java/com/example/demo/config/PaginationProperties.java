@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ρυθμίσεις για τα όρια μεγέθους σελίδας στα endpoints με keyset pagination.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.pagination")
+@Getter
+@Setter
+public class PaginationProperties {
+
+    private int defaultSize = 50;
+    private int maxSize = 500;
+
+    /**
+     * Επιστρέφει το μέγεθος σελίδας περιορισμένο στο διάστημα [1, maxSize].
+     *
+     * @param requested το μέγεθος που ζήτησε ο client ή null.
+     * @return το μέγεθος σελίδας που θα χρησιμοποιηθεί.
+     */
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(requested, maxSize));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Στα read-only transactions, που διαβάζουν από το replica, η cache δεύτερου επιπέδου του Hibernate μόνο διαβάζεται
+ * ({@link CacheMode#GET}): οι οντότητες και τα αποτελέσματα queries που φορτώνονται από το replica δεν
+ * αποθηκεύονται σε αυτήν. Διαφορετικά μια ανάγνωση από replica που καθυστερεί, αμέσως μετά από μια ενημέρωση που
+ * άδειασε την cache, θα την ξαναγέμιζε με τα παλιά δεδομένα μέχρι την επόμενη ενημέρωση. Την cache τη γεμίζουν οι
+ * αναγνώσεις στην κύρια βάση (transactions ανάγνωσης και εγγραφής).
+ *
+ * <p>Η προηγούμενη ρύθμιση του session επανέρχεται στο τέλος του transaction.</p>
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    private record ReadOnlyTransactionData(Object transactionData, Session session, CacheMode previousCacheMode) {
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            super.cleanupTransaction(readOnly.transactionData());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+}
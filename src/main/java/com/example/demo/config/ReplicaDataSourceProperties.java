@@ -0,0 +1,31 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Ρυθμίσεις της βάσης ανάγνωσης (replica). Χωρίς {@code url} η εφαρμογή χρησιμοποιεί μόνο την κύρια βάση.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = 20;
+    private Duration connectionTimeout = Duration.ofSeconds(10);
+
+    // Μέγιστη καθυστέρηση του replica πέρα από την οποία οι αναγνώσεις πηγαίνουν στην κύρια βάση
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // Κάθε πότε γράφεται ο παλμός στην κύρια βάση και μετριέται η καθυστέρηση στο replica
+    private Duration checkInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,154 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Μετρά πόσο πίσω βρίσκεται το replica από την κύρια βάση και αποφασίζει αν οι αναγνώσεις μπορούν να πάνε σε αυτό.
+ *
+ * <p>Σε κάθε έλεγχο γράφεται ένας παλμός (η τρέχουσα ώρα) στον πίνακα {@code replication_heartbeat} της κύριας
+ * βάσης και διαβάζεται ο πιο πρόσφατος παλμός από το replica· η διαφορά από την τρέχουσα ώρα είναι η καθυστέρηση
+ * της αναπαραγωγής, με ακρίβεια ενός διαστήματος ελέγχου. Αν ξεπερνά το {@code max-lag} ή αν το replica δεν
+ * απαντά, οι αναγνώσεις πηγαίνουν στην κύρια βάση έως τον επόμενο επιτυχημένο έλεγχο.</p>
+ *
+ * <p>Δημοσιεύει τα metrics {@code datasource.replica.lag} (δευτερόλεπτα, NaN αν δεν είναι γνωστή) και
+ * {@code datasource.replica.usable} (1 ή 0).</p>
+ *
+ * <p>Ο πίνακας του παλμού δημιουργείται από τη μετάπτωση {@code V3__replication_heartbeat}. Οι έλεγχοι ξεκινούν
+ * μετά την αρχικοποίηση όλων των beans (SmartLifecycle), άρα αφού εφαρμοστούν οι μεταπτώσεις· έως τότε οι
+ * αναγνώσεις πηγαίνουν στην κύρια βάση.</p>
+ */
+public class ReplicaLagGuard implements MeterBinder, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagGuard.class);
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-guard");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Duration lag;
+    private volatile boolean replicaUsable;
+    private volatile boolean running;
+
+    public ReplicaLagGuard(DataSource primaryDataSource, DataSource replicaDataSource,
+                           ReplicaDataSourceProperties properties) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLag = properties.getMaxLag();
+        this.checkInterval = properties.getCheckInterval();
+    }
+
+    /**
+     * Κάνει τον πρώτο έλεγχο και προγραμματίζει τους επόμενους.
+     */
+    @Override
+    public void start() {
+        running = true;
+        check();
+        long intervalMillis = Math.max(1, checkInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Γράφει τον παλμό στην κύρια βάση και ενημερώνει την καθυστέρηση του replica.
+     */
+    public void check() {
+        Instant now = Instant.now();
+        try {
+            beat(now);
+        } catch (DataAccessException e) {
+            logger.warn("Αποτυχία εγγραφής του παλμού αναπαραγωγής στην κύρια βάση: {}", e.getMessage());
+        }
+
+        Duration measured = null;
+        try {
+            Timestamp beatAt = replica.queryForObject("SELECT MAX(beat_at) FROM replication_heartbeat", Timestamp.class);
+            if (beatAt != null) {
+                // Αρνητική διαφορά σημαίνει μόνο απόκλιση ρολογιών μεταξύ κόμβων
+                measured = Duration.between(beatAt.toInstant(), now);
+                measured = measured.isNegative() ? Duration.ZERO : measured;
+            }
+        } catch (DataAccessException e) {
+            logger.debug("Αποτυχία ανάγνωσης του παλμού από το replica: {}", e.getMessage());
+        }
+        update(measured);
+    }
+
+    /**
+     * @return true αν οι αναγνώσεις μπορούν να πάνε στο replica.
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * @return η τελευταία μετρημένη καθυστέρηση ή null αν το replica δεν απάντησε.
+     */
+    public Duration getLag() {
+        return lag;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.replica.lag", this, guard -> guard.lag == null ? Double.NaN : guard.lag.toMillis() / 1000.0)
+                .description("Καθυστέρηση αναπαραγωγής του replica")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("datasource.replica.usable", this, guard -> guard.replicaUsable ? 1 : 0)
+                .description("Αν οι αναγνώσεις πηγαίνουν στο replica")
+                .register(registry);
+    }
+
+    private void beat(Instant now) {
+        Timestamp beatAt = Timestamp.from(now);
+        if (primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", beatAt) == 0) {
+            primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+        }
+    }
+
+    private void update(Duration measured) {
+        boolean usable = measured != null && measured.compareTo(maxLag) <= 0;
+        lag = measured;
+        if (usable != replicaUsable) {
+            if (usable) {
+                logger.info("Το replica είναι ενημερωμένο (καθυστέρηση {} ms)· οι αναγνώσεις πηγαίνουν σε αυτό.",
+                        measured.toMillis());
+            } else {
+                logger.warn("Το replica {}· οι αναγνώσεις πηγαίνουν στην κύρια βάση.", measured == null
+                        ? "δεν απαντά" : "καθυστερεί " + measured.toMillis() + " ms (όριο " + maxLag.toMillis() + " ms)");
+            }
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Στέλνει τις συνδέσεις των read-only transactions στο replica και όλες τις υπόλοιπες στην κύρια βάση.
+ * Όταν ο {@link ReplicaLagGuard} κρίνει ότι το replica καθυστερεί ή δεν απαντά, και οι αναγνώσεις πηγαίνουν στην
+ * κύρια βάση.
+ *
+ * <p>Η απόφαση παίρνεται όταν ζητείται η σύνδεση, οπότε πρέπει να τυλίγεται σε
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: έτσι η σύνδεση ανοίγει στο πρώτο
+ * statement, αφού έχει δηλωθεί αν το transaction είναι read-only.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagGuard replicaLagGuard;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                    ReplicaLagGuard replicaLagGuard) {
+        this.replicaLagGuard = replicaLagGuard;
+        setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagGuard.isReplicaUsable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
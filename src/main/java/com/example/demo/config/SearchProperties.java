@@ -0,0 +1,21 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ρυθμίσεις για την αναζήτηση προϊόντων από το ευρετήριο στη μνήμη.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.search")
+@Getter
+@Setter
+public class SearchProperties {
+
+    private int maxResults = 50;
+
+    // Πάνω από τόσα προϊόντα που ταιριάζουν, η αναζήτηση παραγγελιών γίνεται με LIKE στη βάση αντί για IN με τα IDs
+    private int maxOrderSearchProducts = 500;
+}
@@ -0,0 +1,56 @@
+package com.example.demo.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Cache δεύτερου επιπέδου του Hibernate στη μνήμη (JCache με Caffeine) για τα δεδομένα αναφοράς: κατηγορίες,
+ * ρόλους και προμηθευτές, καθώς και για τα αποτελέσματα των cacheable queries.
+ *
+ * <p>Οι περιοχές δημιουργούνται εδώ από το {@code app.cache.regions.*}, με όριο μεγέθους και διάρκεια ζωής, και
+ * το Hibernate χρησιμοποιεί αυτόν τον CacheManager. Η ενεργοποίηση της cache γίνεται στο application.properties
+ * ({@code hibernate.cache.*}).</p>
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        // Ξεχωριστό URI ανά context, ώστε δύο contexts στην ίδια JVM (π.χ. στα tests) να μη μοιράζονται περιοχές
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (Map.Entry<String, SecondLevelCacheProperties.Region> entry : properties.getRegions().entrySet()) {
+            cacheManager.createCache(entry.getKey(), configuration(entry.getValue()));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (region.getMaxSize() > 0) {
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+        }
+        if (region.getTtl() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+        }
+        // Στατιστικά του Caffeine (hits, misses, evictions) για τα metrics cache.* και το /api/cache/stats
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
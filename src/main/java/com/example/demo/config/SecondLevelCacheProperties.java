@@ -0,0 +1,35 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Ρυθμίσεις των περιοχών (regions) της cache δεύτερου επιπέδου του Hibernate. Κάθε περιοχή που χρησιμοποιεί το
+ * Hibernate πρέπει να δηλώνεται εδώ· μια περιοχή που λείπει σταματά την εκκίνηση.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+@Getter
+@Setter
+public class SecondLevelCacheProperties {
+
+    // Όνομα περιοχής -> όρια της περιοχής
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        // Μέγιστο πλήθος εγγραφών (0: χωρίς όριο)
+        private long maxSize;
+
+        // Διάρκεια ζωής κάθε εγγραφής από την εγγραφή της (κενό: χωρίς λήξη)
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.SupplierDTO;
+import com.example.demo.service.SingleFlight;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Συνένωση των ταυτόχρονων αναγνώσεων για τις πιο συχνές αναζητήσεις με ID (προϊόντα και προμηθευτές), ώστε σε
+ * αιχμές πολλά ταυτόχρονα αιτήματα για το ίδιο ID να εκτελούν ένα μόνο query. Κάθε bean δημοσιεύει τα δικά του
+ * metrics {@code singleflight.*} με {@code name=<όνομα>}.
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight<Integer, ProductDTO> productLookups(SingleFlightProperties properties) {
+        return new SingleFlight<>("products", properties);
+    }
+
+    @Bean
+    public SingleFlight<Integer, SupplierDTO> supplierLookups(SingleFlightProperties properties) {
+        return new SingleFlight<>("suppliers", properties);
+    }
+}
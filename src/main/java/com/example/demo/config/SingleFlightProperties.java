@@ -0,0 +1,30 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Ρυθμίσεις για τη συνένωση των ταυτόχρονων αναγνώσεων του ίδιου κλειδιού (SingleFlight).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.single-flight")
+@Getter
+@Setter
+public class SingleFlightProperties {
+
+    // Με false κάθε κλήση φορτώνει μόνη της από τη βάση (π.χ. για σύγκριση στο benchmark)
+    private boolean enabled = true;
+
+    // Πόσο περιμένει μια κλήση τη φόρτωση που ήδη εκτελείται πριν φορτώσει μόνη της
+    private Duration waitTimeout = Duration.ofSeconds(5);
+
+    // Πλήθος κλειδιών με στατιστικά ανά κλειδί στη μνήμη (τα πιο πρόσφατα χρησιμοποιημένα)
+    private long trackedKeys = 1_000;
+
+    // Χρόνος μετά την τελευταία χρήση ενός κλειδιού έως την αφαίρεση των στατιστικών του
+    private Duration keyStatsTtl = Duration.ofMinutes(10);
+}
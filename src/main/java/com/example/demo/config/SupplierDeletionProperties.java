@@ -0,0 +1,19 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ρυθμίσεις για τη διαγραφή προμηθευτών μαζί με τις παραγγελίες και τα προϊόντα τους.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.supplier-deletion")
+@Getter
+@Setter
+public class SupplierDeletionProperties {
+
+    // Παραγγελίες που αφαιρούνται από τα σύνολα ανά ανάγνωση και, στη διαγραφή στο παρασκήνιο, ανά transaction
+    private int chunkSize = 5000;
+}
@@ -0,0 +1,100 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.RollupRebuildStatusDTO;
+import com.example.demo.dto.SalesRollupDTO;
+import com.example.demo.dto.SalesTotalDTO;
+import com.example.demo.model.RollupDimension;
+import com.example.demo.service.AnalyticsService;
+import com.example.demo.service.OrderRollupRebuildJob;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controller για τα αναλυτικά στοιχεία πωλήσεων των dashboards.
+ * Οι απαντήσεις βασίζονται στα προ-υπολογισμένα σύνολα και όχι στον πίνακα των παραγγελιών.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final OrderRollupRebuildJob orderRollupRebuildJob;
+
+    /**
+     * Constructor για την εξάρτηση των υπηρεσιών αναλυτικών στοιχείων.
+     *
+     * @param analyticsService      η υπηρεσία ανάγνωσης των συνόλων.
+     * @param orderRollupRebuildJob η εργασία ανακατασκευής των συνόλων.
+     */
+    public AnalyticsController(AnalyticsService analyticsService, OrderRollupRebuildJob orderRollupRebuildJob) {
+        this.analyticsService = analyticsService;
+        this.orderRollupRebuildJob = orderRollupRebuildJob;
+    }
+
+    /**
+     * Επιστρέφει τα ημερήσια σύνολα πωλήσεων ανά προϊόν, προμηθευτή ή κατηγορία.
+     *
+     * @param dimension   PRODUCT, SUPPLIER ή CATEGORY.
+     * @param startDate   η πρώτη ημέρα του διαστήματος.
+     * @param endDate     η τελευταία ημέρα του διαστήματος.
+     * @param dimensionId προαιρετικό ID για ένα μόνο προϊόν, προμηθευτή ή κατηγορία.
+     * @return λίστα με μία γραμμή ανά ημέρα και ID.
+     */
+    @GetMapping("/sales/daily")
+    public ResponseEntity<List<SalesRollupDTO>> getDailySales(
+            @RequestParam RollupDimension dimension,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) Integer dimensionId) {
+        return ResponseEntity.ok(analyticsService.getDailySales(dimension, dimensionId, startDate, endDate));
+    }
+
+    /**
+     * Επιστρέφει τα σύνολα πωλήσεων του διαστήματος ανά προϊόν, προμηθευτή ή κατηγορία,
+     * με φθίνουσα σειρά τζίρου.
+     *
+     * @param dimension PRODUCT, SUPPLIER ή CATEGORY.
+     * @param startDate η πρώτη ημέρα του διαστήματος.
+     * @param endDate   η τελευταία ημέρα του διαστήματος.
+     * @param limit     προαιρετικό μέγιστο πλήθος γραμμών.
+     * @return λίστα με τα σύνολα ανά ID.
+     */
+    @GetMapping("/sales/totals")
+    public ResponseEntity<List<SalesTotalDTO>> getSalesTotals(
+            @RequestParam RollupDimension dimension,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(analyticsService.getSalesTotals(dimension, startDate, endDate, limit));
+    }
+
+    /**
+     * Ξεκινά την ανακατασκευή των συνόλων από τον πίνακα των παραγγελιών.
+     *
+     * @return 202 με την πρόοδο ή 409 αν εκτελείται ήδη ανακατασκευή.
+     */
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<RollupRebuildStatusDTO> startRebuild() {
+        boolean started = orderRollupRebuildJob.start();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(orderRollupRebuildJob.getStatus());
+    }
+
+    /**
+     * Επιστρέφει την πρόοδο της τελευταίας ανακατασκευής των συνόλων.
+     *
+     * @return η πρόοδος της ανακατασκευής.
+     */
+    @GetMapping("/rollups/rebuild")
+    public ResponseEntity<RollupRebuildStatusDTO> getRebuildStatus() {
+        return ResponseEntity.ok(orderRollupRebuildJob.getStatus());
+    }
+}
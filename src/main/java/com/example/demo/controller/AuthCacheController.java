@@ -0,0 +1,46 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.CacheStatsDTO;
+import com.example.demo.security.jwt.JwtTokenCache;
+import com.example.demo.service.UserPrincipalCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller για την προβολή των στατιστικών των caches της αυθεντικοποίησης.
+ */
+@RestController
+@RequestMapping("/api/security")
+public class AuthCacheController {
+
+    private final JwtTokenCache jwtTokenCache;
+    private final UserPrincipalCache userPrincipalCache;
+
+    /**
+     * Constructor για την εξάρτηση των caches.
+     *
+     * @param jwtTokenCache      η cache των επαληθευμένων JWT.
+     * @param userPrincipalCache η cache των φορτωμένων χρηστών.
+     */
+    public AuthCacheController(JwtTokenCache jwtTokenCache, UserPrincipalCache userPrincipalCache) {
+        this.jwtTokenCache = jwtTokenCache;
+        this.userPrincipalCache = userPrincipalCache;
+    }
+
+    /**
+     * Επιστρέφει τα hits/misses και το hit ratio κάθε cache.
+     *
+     * @return λίστα με τα στατιστικά των caches.
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(List.of(
+                CacheStatsDTO.of("jwt-tokens", jwtTokenCache.stats(), jwtTokenCache.size()),
+                CacheStatsDTO.of("user-principals", userPrincipalCache.stats(), userPrincipalCache.size())
+        ));
+    }
+}
@@ -5,7 +5,7 @@ import com.example.demo.dto.LoginRequestDTO;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.security.jwt.JwtTokenUtil;
-import com.example.demo.security.AESEncryptionUtil;
+import com.example.demo.service.PasswordService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
@@ -23,12 +23,15 @@ public class AuthController {
     private final UserRepository userRepository;
     private final JwtTokenUtil jwtTokenUtil;
     private final MessageSource messageSource;
+    private final PasswordService passwordService;
 
     @Autowired
-    public AuthController(UserRepository userRepository, JwtTokenUtil jwtTokenUtil, MessageSource messageSource) {
+    public AuthController(UserRepository userRepository, JwtTokenUtil jwtTokenUtil, MessageSource messageSource,
+                          PasswordService passwordService) {
         this.userRepository = userRepository;
         this.jwtTokenUtil = jwtTokenUtil;
         this.messageSource = messageSource;
+        this.passwordService = passwordService;
     }
 
     /**
@@ -48,9 +51,8 @@ public class AuthController {
                             messageSource.getMessage("validation.user.notfound",
                                     new Object[]{username}, LocaleContextHolder.getLocale())));
 
-            String decryptedPassword = AESEncryptionUtil.decrypt(user.getPassword());
-
-            if (plainPassword.equals(decryptedPassword)) {
+            // Έλεγχος με BCrypt (οι παλιοί κωδικοί AES αντικαθίστανται μετά από επιτυχή σύνδεση)
+            if (passwordService.authenticate(user, plainPassword)) {
                 String token = jwtTokenUtil.generateToken(username, user.getEmail());
                 return ResponseEntity.ok().body("{\"token\": \"" + token + "\"}");
             } else {
@@ -74,12 +76,12 @@ public class AuthController {
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequestDTO registerRequest) {
         try {
-            String encryptedPassword = AESEncryptionUtil.encrypt(registerRequest.getPassword());
+            String hashedPassword = passwordService.encode(registerRequest.getPassword());
 
             User user = new User();
             user.setUsername(registerRequest.getUsername());
             user.setEmail(registerRequest.getEmail());
-            user.setPassword(encryptedPassword);
+            user.setPassword(hashedPassword);
 
             userRepository.save(user);
 
@@ -0,0 +1,64 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.JwtKeyRotationDTO;
+import com.example.demo.dto.JwtKeysDTO;
+import com.example.demo.security.jwt.JwtKeyManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller για την εναλλαγή των κλειδιών υπογραφής των JWT. Επιτρέπεται μόνο σε χρήστες με ROLE_ADMIN.
+ */
+@RestController
+@RequestMapping("/api/security/jwt-keys")
+public class JwtKeyController {
+
+    private final JwtKeyManager jwtKeyManager;
+
+    /**
+     * Constructor για την εξάρτηση της διαχείρισης των κλειδιών.
+     *
+     * @param jwtKeyManager η διαχείριση των κλειδιών υπογραφής.
+     */
+    public JwtKeyController(JwtKeyManager jwtKeyManager) {
+        this.jwtKeyManager = jwtKeyManager;
+    }
+
+    /**
+     * Επιστρέφει το ενεργό κλειδί και τα κλειδιά που γίνονται δεκτά.
+     *
+     * @return τα αναγνωριστικά των κλειδιών.
+     */
+    @GetMapping
+    public ResponseEntity<JwtKeysDTO> getKeys() {
+        return ResponseEntity.ok(jwtKeyManager.getKeys());
+    }
+
+    /**
+     * Προσθέτει ένα νέο κλειδί και το κάνει ενεργό για τα νέα tokens.
+     *
+     * @param request το αναγνωριστικό και το μυστικό του νέου κλειδιού.
+     * @return τα κλειδιά μετά την αλλαγή.
+     */
+    @PostMapping
+    public ResponseEntity<JwtKeysDTO> rotate(@RequestBody JwtKeyRotationDTO request) {
+        return ResponseEntity.ok(jwtKeyManager.rotate(request.getKeyId(), request.getSecret()));
+    }
+
+    /**
+     * Αφαιρεί ένα κλειδί που δεν είναι το ενεργό· τα tokens του απορρίπτονται στο εξής.
+     *
+     * @param keyId το αναγνωριστικό του κλειδιού.
+     * @return τα κλειδιά μετά την αλλαγή.
+     */
+    @DeleteMapping("/{keyId}")
+    public ResponseEntity<JwtKeysDTO> retire(@PathVariable String keyId) {
+        return ResponseEntity.ok(jwtKeyManager.retire(keyId));
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.OrderBatchResultDTO;
 import com.example.demo.dto.OrderDTO;
+import com.example.demo.dto.OrderLineDTO;
+import com.example.demo.service.IdempotencyStore;
 import com.example.demo.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 
 /**
@@ -16,35 +21,73 @@ import java.util.List;
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
-     * Constructor για την εξάρτηση του OrderService.
+     * Constructor για τις εξαρτήσεις του controller.
      *
-     * @param orderService η υπηρεσία διαχείρισης παραγγελιών.
+     * @param orderService     η υπηρεσία διαχείρισης παραγγελιών.
+     * @param idempotencyStore η αποθήκη των αιτημάτων με Idempotency-Key.
      */
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, IdempotencyStore idempotencyStore) {
         this.orderService = orderService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     /**
      * Δημιουργεί μια νέα παραγγελία.
+     * Με την κεφαλίδα Idempotency-Key, οι επαναλήψεις του ίδιου αιτήματος (π.χ. μετά από timeout) δεν δημιουργούν
+     * νέα παραγγελία αλλά επιστρέφουν την απόκριση της πρώτης, με την κεφαλίδα Idempotent-Replayed: true.
      *
-     * @param orderDTO τα δεδομένα της παραγγελίας που πρόκειται να δημιουργηθεί.
+     * @param idempotencyKey το κλειδί του client για το αίτημα (προαιρετικό).
+     * @param orderDTO       τα δεδομένα της παραγγελίας που πρόκειται να δημιουργηθεί.
+     * @param principal      ο χρήστης του αιτήματος· τα κλειδιά κάθε χρήστη είναι ξεχωριστά.
      * @return το DTO της δημιουργημένης παραγγελίας.
      * @throws IllegalArgumentException αν το productId ή η ποσότητα δεν είναι έγκυρα.
      */
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public OrderDTO createOrder(@RequestBody OrderDTO orderDTO) {
+    public ResponseEntity<OrderDTO> createOrder(@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                String idempotencyKey,
+                                                @RequestBody OrderDTO orderDTO,
+                                                Principal principal) {
         if (orderDTO.getProductId() <= 0) {
             throw new IllegalArgumentException("Το productId είναι υποχρεωτικό.");
         }
         if (orderDTO.getQuantity() <= 0) {
             throw new IllegalArgumentException("Η ποσότητα πρέπει να είναι μεγαλύτερη από το μηδέν.");
         }
-        return orderService.createOrderWithProductAndQuantity(orderDTO.getProductId(), orderDTO.getQuantity());
+        int productId = orderDTO.getProductId();
+        int quantity = orderDTO.getQuantity();
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(orderService.createOrderWithProductAndQuantity(productId, quantity));
+        }
+
+        String scope = "POST /api/orders:" + (principal != null ? principal.getName() : "");
+        IdempotencyStore.Result<OrderDTO> result = idempotencyStore.execute(scope, idempotencyKey,
+                List.of(productId, quantity), OrderDTO.class,
+                () -> orderService.createOrderWithProductAndQuantity(productId, quantity));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.body());
+    }
+
+    /**
+     * Δημιουργεί πολλές παραγγελίες με ένα αίτημα.
+     * Οι έγκυρες γραμμές αποθηκεύονται σε ένα transaction, ενώ οι μη έγκυρες (άγνωστο προϊόν ή μη θετική ποσότητα)
+     * επιστρέφονται ως απορριφθείσες χωρίς να εμποδίζουν τις υπόλοιπες.
+     *
+     * @param lines οι γραμμές της παραγγελίας (productId και quantity).
+     * @return το αποτέλεσμα κάθε γραμμής, με τη σειρά του αιτήματος.
+     */
+    @PostMapping("/batch")
+    public OrderBatchResultDTO createOrdersBatch(@RequestBody List<OrderLineDTO> lines) {
+        return orderService.createOrdersBatch(lines);
     }
 
     /**
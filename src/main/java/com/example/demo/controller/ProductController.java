@@ -1,15 +1,25 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.ProductPageDTO;
 import com.example.demo.service.ProductService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -22,16 +32,21 @@ import java.util.List;
 public class ProductController {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructor για την εξάρτηση του ProductService.
      *
      * @param productService η υπηρεσία διαχείρισης προϊόντων.
+     * @param objectMapper   ο ObjectMapper για τη σταδιακή εγγραφή JSON.
      */
     @Autowired
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ObjectMapper objectMapper) {
         this.productService = productService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -49,18 +64,64 @@ public class ProductController {
     }
 
     /**
-     * Επιστρέφει όλα τα προϊόντα.
+     * Επιστρέφει τα προϊόντα.
+     * Αν δοθεί cursor ή limit, επιστρέφεται μία σελίδα (keyset pagination στο ID) μαζί με
+     * το token για την επόμενη σελίδα. Διαφορετικά επιστρέφεται ολόκληρη η λίστα.
      *
-     * @return λίστα με DTO όλων των προϊόντων με HTTP Status 200 (OK).
+     * @param cursor το token συνέχειας από την προηγούμενη σελίδα (προαιρετικό).
+     * @param limit  το μέγεθος της σελίδας (προαιρετικό, περιορίζεται από το app.pagination.max-size).
+     * @return σελίδα ή λίστα με DTO προϊόντων με HTTP Status 200 (OK).
      */
     @GetMapping
-    public ResponseEntity<List<ProductDTO>> getAllProducts() {
+    public ResponseEntity<?> getAllProducts(@RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            logger.info("Αίτημα ανάκτησης σελίδας προϊόντων με limit: {}", limit);
+            ProductPageDTO page = productService.getProductsPage(cursor, limit);
+            logger.info("Ανακτήθηκαν {} προϊόντα στη σελίδα.", page.getSize());
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        }
+
         logger.info("Αίτημα ανάκτησης όλων των προϊόντων.");
         List<ProductDTO> products = productService.getAllProducts();
         logger.info("Ανακτήθηκαν {} προϊόντα.", products.size());
         return new ResponseEntity<>(products, HttpStatus.OK);
     }
 
+    /**
+     * Επιστρέφει όλα τα προϊόντα ως JSON array που γράφεται σταδιακά στην απόκριση.
+     * Τα προϊόντα διαβάζονται από τη βάση ως Stream, οπότε η μνήμη μένει σταθερή
+     * ανεξάρτητα από το μέγεθος του καταλόγου.
+     *
+     * @return το σώμα της απόκρισης που γράφεται σταδιακά με HTTP Status 200 (OK).
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        logger.info("Αίτημα σταδιακής ανάκτησης όλων των προϊόντων.");
+        // Το flush γίνεται ανά STREAM_FLUSH_INTERVAL προϊόντα και όχι μετά από κάθε εγγραφή
+        ObjectWriter writer = objectMapper.writerFor(ProductDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                int[] written = {0};
+                generator.writeStartArray();
+                productService.streamAllProducts(product -> {
+                    try {
+                        writer.writeValue(generator, product);
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                logger.info("Στάλθηκαν σταδιακά {} προϊόντα.", written[0]);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     /**
      * Επιστρέφει το προϊόν με βάση το ID του.
      *
@@ -0,0 +1,61 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.CacheStatsDTO;
+import com.example.demo.dto.SingleFlightKeyStatsDTO;
+import com.example.demo.service.ReferenceDataCache;
+import com.example.demo.service.SingleFlight;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller για την προβολή των στατιστικών της cache δεύτερου επιπέδου (κατηγορίες, ρόλοι, προμηθευτές, queries)
+ * και της συνένωσης των ταυτόχρονων αναζητήσεων (SingleFlight).
+ */
+@RestController
+@RequestMapping("/api/cache")
+public class ReferenceDataCacheController {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final List<SingleFlight<?, ?>> singleFlights;
+
+    /**
+     * Constructor για τις εξαρτήσεις των caches.
+     *
+     * @param referenceDataCache η cache δεύτερου επιπέδου των δεδομένων αναφοράς.
+     * @param singleFlights      οι συνενώσεις των αναζητήσεων με ID.
+     */
+    public ReferenceDataCacheController(ReferenceDataCache referenceDataCache, List<SingleFlight<?, ?>> singleFlights) {
+        this.referenceDataCache = referenceDataCache;
+        this.singleFlights = singleFlights;
+    }
+
+    /**
+     * Επιστρέφει τα hits/misses, το hit ratio και το μέγεθος κάθε περιοχής.
+     *
+     * @return λίστα με τα στατιστικά των περιοχών.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(referenceDataCache.stats());
+    }
+
+    /**
+     * Επιστρέφει τα κλειδιά με τις περισσότερες κλήσεις σε κάθε SingleFlight, με τις φορτώσεις από τη βάση και τις
+     * κλήσεις που μοιράστηκαν μια φόρτωση σε εξέλιξη.
+     *
+     * @param limit το μέγιστο πλήθος κλειδιών ανά SingleFlight.
+     * @return λίστα με τα στατιστικά των κλειδιών.
+     */
+    @GetMapping("/single-flight")
+    public ResponseEntity<List<SingleFlightKeyStatsDTO>> getSingleFlightStats(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(singleFlights.stream()
+                .flatMap(singleFlight -> singleFlight.hotKeys(limit).stream())
+                .toList());
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.SupplierDTO;
+import com.example.demo.dto.SupplierDeletionStatusDTO;
+import com.example.demo.dto.SupplierTurnoverDTO;
+import com.example.demo.service.SupplierDeletionJob;
 import com.example.demo.service.SupplierService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -18,14 +22,17 @@ import java.util.List;
 public class SupplierController {
 
     private final SupplierService supplierService;
+    private final SupplierDeletionJob supplierDeletionJob;
 
     /**
      * Constructor για την εξάρτηση του SupplierService.
      *
-     * @param supplierService η υπηρεσία διαχείρισης προμηθευτών.
+     * @param supplierService     η υπηρεσία διαχείρισης προμηθευτών.
+     * @param supplierDeletionJob η διαγραφή προμηθευτών στο παρασκήνιο.
      */
-    public SupplierController(SupplierService supplierService) {
+    public SupplierController(SupplierService supplierService, SupplierDeletionJob supplierDeletionJob) {
         this.supplierService = supplierService;
+        this.supplierDeletionJob = supplierDeletionJob;
     }
 
     /**
@@ -65,6 +72,31 @@ public class SupplierController {
         return ResponseEntity.ok("Ο προμηθευτής διαγράφηκε επιτυχώς.");
     }
 
+    /**
+     * Ξεκινά τη διαγραφή ενός προμηθευτή με πολλές παραγγελίες στο παρασκήνιο, σε τμήματα παραγγελιών.
+     *
+     * @param id το ID του προμηθευτή που θα διαγραφεί.
+     * @return 202 με την πρόοδο ή 409 αν εκτελείται ήδη διαγραφή του προμηθευτή.
+     */
+    @PostMapping("/{id}/deletion")
+    public ResponseEntity<SupplierDeletionStatusDTO> startSupplierDeletion(@PathVariable Integer id) {
+        boolean started = supplierDeletionJob.start(id);
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(supplierDeletionJob.getStatus(id));
+    }
+
+    /**
+     * Επιστρέφει την πρόοδο της διαγραφής ενός προμηθευτή στο παρασκήνιο.
+     *
+     * @param id το ID του προμηθευτή.
+     * @return η πρόοδος ή 404 αν δεν έχει ζητηθεί διαγραφή του προμηθευτή.
+     */
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<SupplierDeletionStatusDTO> getSupplierDeletionStatus(@PathVariable Integer id) {
+        SupplierDeletionStatusDTO status = supplierDeletionJob.getStatus(id);
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+    }
+
     /**
      * Επιστρέφει έναν προμηθευτή βάσει του ID του.
      *
@@ -118,14 +150,14 @@ public class SupplierController {
      * @param supplierId το ID του προμηθευτή.
      * @param startDate  η ημερομηνία έναρξης.
      * @param endDate    η ημερομηνία λήξης.
-     * @return ο τζίρος του προμηθευτή για την περίοδο που ορίστηκε.
+     * @return ο τζίρος, το πλήθος και η ποσότητα των παραγγελιών της περιόδου, συνολικά και ανά ημέρα/μήνα.
      */
     @GetMapping("/{supplierId}/turnover")
-    public ResponseEntity<Double> calculateTurnover(
+    public ResponseEntity<SupplierTurnoverDTO> calculateTurnover(
             @PathVariable Integer supplierId,
             @RequestParam LocalDate startDate,
             @RequestParam LocalDate endDate) {
-        Double turnover = supplierService.calculateTurnover(supplierId, startDate, endDate);
+        SupplierTurnoverDTO turnover = supplierService.calculateTurnover(supplierId, startDate, endDate);
         return ResponseEntity.ok(turnover);
     }
 }
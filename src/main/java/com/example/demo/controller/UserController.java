@@ -4,6 +4,7 @@ import com.example.demo.dto.UserDTO;
 import com.example.demo.mapper.UserMapper;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.UserPrincipalCache;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -23,17 +25,21 @@ public class UserController {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * Δημιουργεί ένα νέο UserController με τις απαραίτητες εξαρτήσεις.
      *
-     * @param userRepository το repository για τη διαχείριση των χρηστών.
-     * @param userMapper     ο mapper για τη μετατροπή μεταξύ User και UserDTO.
+     * @param userRepository     το repository για τη διαχείριση των χρηστών.
+     * @param userMapper         ο mapper για τη μετατροπή μεταξύ User και UserDTO.
+     * @param userPrincipalCache η cache των χρηστών που χρησιμοποιεί η αυθεντικοποίηση.
      */
     @Autowired
-    public UserController(UserRepository userRepository, UserMapper userMapper) {
+    public UserController(UserRepository userRepository, UserMapper userMapper,
+                          UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     /**
@@ -86,8 +92,10 @@ public class UserController {
     public ResponseEntity<UserDTO> updateUser(@PathVariable Integer id, @Valid @RequestBody UserDTO userDTO) {
         return userRepository.findById(id)
                 .map(existingUser -> {
+                    userPrincipalCache.evict(existingUser.getUsername());
                     userMapper.updateEntityFromDTO(userDTO, existingUser);
                     User updatedUser = userRepository.save(existingUser);
+                    userPrincipalCache.evict(updatedUser.getUsername());
                     return ResponseEntity.ok(userMapper.toDTO(updatedUser, false));
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -101,8 +109,10 @@ public class UserController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteUser(@PathVariable Integer id) {
-        if (userRepository.existsById(id)) {
-            userRepository.deleteById(id);
+        Optional<User> user = userRepository.findById(id);
+        if (user.isPresent()) {
+            userRepository.delete(user.get());
+            userPrincipalCache.evict(user.get().getUsername());
             return ResponseEntity.ok("Ο χρήστης διαγράφηκε επιτυχώς.");
         } else {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Ο χρήστης με ID " + id + " δεν βρέθηκε.");
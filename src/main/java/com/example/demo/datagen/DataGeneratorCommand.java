@@ -0,0 +1,51 @@
+package com.example.demo.datagen;
+
+import com.example.demo.DemoApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Εντολή γραμμής εντολών που γεμίζει τη βάση της εφαρμογής με συνθετικά δεδομένα ({@link SyntheticDataGenerator})
+ * και τερματίζει. Εκκινεί την εφαρμογή με τις ίδιες ρυθμίσεις βάσης (σε τυχαία θύρα, ώστε να μη συγκρούεται με
+ * μια εφαρμογή σε λειτουργία) και με {@code app.datagen.enabled=true}, και δέχεται τις ρυθμίσεις
+ * {@code app.datagen.*} ως ορίσματα. Τα αποτελέσματα καταγράφονται στο log· σε αποτυχία η εξαίρεση φτάνει έξω από
+ * το {@code main}, οπότε η εντολή τερματίζει με σφάλμα.
+ *
+ * <p>Εκτέλεση: {@code mvn compile exec:java -Dexec.mainClass=com.example.demo.datagen.DataGeneratorCommand
+ * -Dexec.args="--app.datagen.products=500000 --app.datagen.orders=5000000 --app.datagen.workers=8"}</p>
+ */
+public final class DataGeneratorCommand {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataGeneratorCommand.class);
+
+    private DataGeneratorCommand() {
+    }
+
+    public static void main(String[] args) {
+        // Πριν από τα ορίσματα του χρήστη, ώστε να μπορούν να αλλαχτούν: χωρίς μετάπτωση κωδικών στο παρασκήνιο
+        // και χωρίς DEBUG για κάθε εντολή INSERT. Η ρύθμιση ασφαλείας χρειάζεται web context, γι' αυτό ο server
+        // εκκινεί κανονικά
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--app.datagen.enabled=true",
+                "--app.security.password.migrate-on-startup=false",
+                "--logging.level.org.springframework=INFO",
+                "--logging.level.com.example.demo=INFO"));
+        arguments.addAll(Arrays.asList(args));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .run(arguments.toArray(String[]::new))) {
+            // Οι γραμμές ανά δευτερόλεπτο κάθε πίνακα και το σύνολο καταγράφονται από τη γεννήτρια (INFO)
+            context.getBean(SyntheticDataGenerator.class).generate();
+        } catch (RuntimeException e) {
+            logger.error("Η γεννήτρια δεδομένων απέτυχε.", e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.datagen;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Ρυθμίσεις της γεννήτριας συνθετικών δεδομένων ({@link SyntheticDataGenerator}): πλήθη ανά πίνακα, σπόρος και
+ * τρόπος εισαγωγής (γραμμές ανά INSERT, γραμμές ανά transaction, παράλληλες εργασίες).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datagen")
+@Getter
+@Setter
+public class DataGeneratorProperties {
+
+    // Η γεννήτρια δημιουργείται μόνο με true (DataGeneratorCommand, profile loadtest), ώστε να μην υπάρχει στην
+    // εφαρμογή σε λειτουργία
+    private boolean enabled = false;
+
+    // Σπόρος των τυχαίων τιμών: ίδιος σπόρος και ίδιο chunk-size σε άδεια βάση δίνουν τα ίδια δεδομένα
+    private long seed = 42;
+
+    private int categories = 50;
+    private int suppliers = 1000;
+    private int products = 100_000;
+
+    // Προμηθευτές ανά νέο προϊόν στον πίνακα suppliers_products (ο πρώτος είναι ο προμηθευτής του προϊόντος)
+    private int suppliersPerProduct = 2;
+
+    private int users = 10_000;
+    private long orders = 1_000_000;
+
+    // Κωδικός όλων των χρηστών που δημιουργούνται (αποθηκεύεται με BCrypt)
+    private String userPassword = "Password1!";
+
+    // Μέγιστο απόθεμα ανά προϊόν και ανά προμηθευτή-προϊόν· το απόθεμα επιλέγεται μεταξύ stock/2 και stock
+    private int stock = 1000;
+
+    // Οι παραγγελίες κατανέμονται στις order-days ημέρες πριν από την orders-until (προεπιλογή: σήμερα)
+    private int orderDays = 365;
+    private LocalDate ordersUntil;
+
+    // Γραμμές ανά εντολή INSERT πολλαπλών γραμμών
+    private int rowsPerStatement = 500;
+
+    // Γραμμές ανά transaction· κάθε τμήμα είναι μία παράλληλη εργασία
+    private int chunkSize = 5000;
+
+    // Παράλληλες εργασίες εισαγωγής (0: όσοι οι επεξεργαστές)
+    private int workers = 0;
+
+    // Ανακατασκευή των συνόλων παραγγελιών (order_rollups) μετά την εισαγωγή
+    private boolean rebuildRollups = true;
+}
@@ -0,0 +1,405 @@
+package com.example.demo.datagen;
+
+import com.example.demo.config.OrderIdAllocator;
+import com.example.demo.config.OrderIdGeneratorInitializer;
+import com.example.demo.service.OrderRollupRebuildJob;
+import com.example.demo.service.PasswordService;
+import com.example.demo.service.ReferenceDataCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Γεννήτρια συνθετικών δεδομένων για δοκιμές κλιμάκωσης: κατηγορίες, προμηθευτές, προϊόντα, συνδέσεις
+ * προμηθευτών-προϊόντων (suppliers_products), χρήστες και παραγγελίες, σε όγκους εκατομμυρίων γραμμών.
+ *
+ * <p>Οι γραμμές κάθε πίνακα χωρίζονται σε τμήματα ({@code chunk-size}) που εισάγονται παράλληλα, το καθένα στο
+ * δικό του transaction, με εντολές INSERT πολλαπλών γραμμών. Κάθε τμήμα έχει δική του γεννήτρια τυχαίων αριθμών
+ * με σπόρο από τον γενικό σπόρο, τον πίνακα και τον αριθμό του τμήματος, οπότε το αποτέλεσμα δεν εξαρτάται από
+ * τη σειρά εκτέλεσης των εργασιών.</p>
+ *
+ * <p>Τα IDs δίνονται ρητά, μετά το μεγαλύτερο υπάρχον, και οι μοναδικές τιμές προκύπτουν από αυτά: ΑΦΜ του
+ * προμηθευτή από το ID (ελέγχεται πριν από την εισαγωγή ότι κανένα δεν υπάρχει ήδη), username και email από το ID
+ * του χρήστη και διαφορετικοί προμηθευτές για κάθε νέο προϊόν στο suppliers_products. Οι παραγγελίες παίρνουν
+ * τον προμηθευτή και την τιμή του προϊόντος τους, χωρίς δέσμευση αποθέματος (stock_reserved = NULL).</p>
+ *
+ * <p>Μετά την εισαγωγή ευθυγραμμίζονται η γεννήτρια IDs των παραγγελιών και, προαιρετικά, τα σύνολα παραγγελιών.
+ * Το ευρετήριο αναζήτησης μιας εφαρμογής που ήδη εκτελείται ενημερώνεται στην επόμενη εκκίνησή της.</p>
+ *
+ * <p>Το bean δημιουργείται μόνο με {@code app.datagen.enabled=true}.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datagen", name = "enabled", havingValue = "true")
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    /**
+     * Ουσιαστικά των ονομάτων των προϊόντων, χρήσιμα ως όροι αναζήτησης.
+     */
+    public static final List<String> PRODUCT_NOUNS = List.of("τραπέζι", "κινητό", "ποδήλατο", "ψυγείο", "ρολόι",
+            "ηχείο", "φωτιστικό", "σακίδιο", "πληκτρολόγιο", "μπλέντερ", "καναπές", "τηλεσκόπιο");
+
+    private static final String[] PRODUCT_ADJECTIVES = {"Ξύλινο", "Μεταλλικό", "Ηλεκτρικό", "Φορητό", "Ασύρματο",
+            "Κλασικό", "Αδιάβροχο", "Ελαφρύ", "Επαγγελματικό", "Οικολογικό"};
+    private static final String[] CATEGORY_NAMES = {"Ηλεκτρονικά", "Έπιπλα", "Αθλητικά", "Οικιακά", "Παιχνίδια",
+            "Κήπος", "Γραφείο", "Ένδυση"};
+    private static final String[] FIRST_NAMES = {"Γιώργος", "Μαρία", "Νίκος", "Ελένη", "Κώστας", "Δήμητρα", "Παύλος"};
+    private static final String[] LAST_NAMES = {"Παπαδόπουλος", "Νικολάου", "Γεωργίου", "Οικονόμου", "Αθανασίου"};
+    private static final String[] LOCATIONS = {"Αθήνα", "Θεσσαλονίκη", "Πάτρα", "Ηράκλειο", "Λάρισα", "Βόλος"};
+
+    private static final long MAX_AFM = 999_999_999L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordService passwordService;
+    private final OrderIdGeneratorInitializer orderIdGeneratorInitializer;
+    private final OrderRollupRebuildJob orderRollupRebuildJob;
+    private final ReferenceDataCache referenceDataCache;
+    private final DataGeneratorProperties properties;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  PasswordService passwordService,
+                                  OrderIdGeneratorInitializer orderIdGeneratorInitializer,
+                                  OrderRollupRebuildJob orderRollupRebuildJob, ReferenceDataCache referenceDataCache,
+                                  DataGeneratorProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordService = passwordService;
+        this.orderIdGeneratorInitializer = orderIdGeneratorInitializer;
+        this.orderRollupRebuildJob = orderRollupRebuildJob;
+        this.referenceDataCache = referenceDataCache;
+        this.properties = properties;
+    }
+
+    /**
+     * Γραμμές και χρόνος εισαγωγής ενός πίνακα.
+     */
+    public record TableStats(String table, long rows, long nanos) {
+
+        public double rowsPerSecond() {
+            return nanos == 0 ? 0 : rows * 1e9 / nanos;
+        }
+    }
+
+    /**
+     * Αποτέλεσμα μιας εκτέλεσης της γεννήτριας, ανά πίνακα με τη σειρά εισαγωγής.
+     */
+    public record Report(List<TableStats> tables, long nanos) {
+
+        public long rows() {
+            return tables.stream().mapToLong(TableStats::rows).sum();
+        }
+
+        public double rowsPerSecond() {
+            return nanos == 0 ? 0 : rows() * 1e9 / nanos;
+        }
+    }
+
+    /**
+     * Εισάγει τα δεδομένα σύμφωνα με τις ρυθμίσεις {@code app.datagen.*}.
+     *
+     * @throws IllegalStateException αν κάποιο ΑΦΜ που θα δημιουργούνταν υπάρχει ήδη, αν λείπουν κατηγορίες ή
+     *                               προμηθευτές για τα προϊόντα ή αν αποτύχει κάποιο τμήμα.
+     */
+    public Report generate() {
+        long startedAt = System.nanoTime();
+        int workers = properties.getWorkers() > 0 ? properties.getWorkers() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "datagen-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean h2 = "H2".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        logger.info("Έναρξη γεννήτριας δεδομένων: σπόρος {}, {} εργασίες, {} γραμμές ανά INSERT, {} ανά transaction.",
+                properties.getSeed(), workers, properties.getRowsPerStatement(), properties.getChunkSize());
+
+        List<TableStats> tables = new ArrayList<>();
+        try {
+            tables.add(generateCategories(executor));
+            tables.add(generateSuppliers(executor));
+            int[] categoryIds = loadIds("categories");
+            int[] supplierIds = loadIds("suppliers");
+            long firstNewProductId = nextId("products");
+            tables.add(generateProducts(executor, categoryIds, supplierIds));
+            Catalog catalog = loadCatalog(supplierIds);
+            tables.add(generateSupplierProducts(executor, catalog, supplierIds, firstNewProductId));
+            tables.add(generateUsers(executor));
+            tables.add(generateOrders(executor, catalog));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (h2) {
+            // Η H2 δεν προχωρά το IDENTITY όταν το ID δίνεται ρητά· το MySQL προχωρά το AUTO_INCREMENT μόνο του
+            for (String table : List.of("categories", "suppliers", "products", "suppliers_products", "users")) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(table));
+            }
+        }
+        // Οι εισαγωγές έγιναν εκτός Hibernate, οπότε τα αποθηκευμένα queries (π.χ. όλες οι κατηγορίες) είναι παλιά
+        referenceDataCache.evictAll();
+        orderIdGeneratorInitializer.run(null);
+        if (properties.isRebuildRollups() && properties.getOrders() > 0) {
+            long rebuildStartedAt = System.nanoTime();
+            orderRollupRebuildJob.run();
+            Long rollups = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_rollups", Long.class);
+            tables.add(log(new TableStats("order_rollups", rollups != null ? rollups : 0,
+                    System.nanoTime() - rebuildStartedAt)));
+        }
+
+        Report report = new Report(List.copyOf(tables), System.nanoTime() - startedAt);
+        logger.info("Η γεννήτρια δεδομένων ολοκληρώθηκε: {} γραμμές σε {} s ({} γραμμές/s).", report.rows(),
+                String.format("%.1f", report.nanos() / 1e9), Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    private TableStats generateCategories(ExecutorService executor) {
+        return insert(executor, 1, "categories", "id, name", nextId("categories"), properties.getCategories(),
+                (id, random) -> new Object[]{id, CATEGORY_NAMES[(int) (id % CATEGORY_NAMES.length)] + " " + id});
+    }
+
+    private TableStats generateSuppliers(ExecutorService executor) {
+        long firstId = nextId("suppliers");
+        long lastId = firstId + properties.getSuppliers() - 1;
+        if (properties.getSuppliers() > 0) {
+            if (lastId > MAX_AFM) {
+                throw new IllegalStateException("Τα ΑΦΜ των προμηθευτών έως το ID " + lastId + " δεν χωρούν σε 9 ψηφία");
+            }
+            Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM suppliers WHERE afm BETWEEN ? AND ?",
+                    Long.class, afm(firstId), afm(lastId));
+            if (existing != null && existing > 0) {
+                throw new IllegalStateException("Υπάρχουν ήδη προμηθευτές με ΑΦΜ από " + afm(firstId) + " έως "
+                        + afm(lastId));
+            }
+        }
+        return insert(executor, 2, "suppliers", "id, first_name, last_name, telephone, afm, location",
+                firstId, properties.getSuppliers(),
+                (id, random) -> new Object[]{id, pick(random, FIRST_NAMES), pick(random, LAST_NAMES),
+                        String.format("69%08d", id % 100_000_000), afm(id), pick(random, LOCATIONS)});
+    }
+
+    private TableStats generateProducts(ExecutorService executor, int[] categoryIds, int[] supplierIds) {
+        if (properties.getProducts() > 0 && (categoryIds.length == 0 || supplierIds.length == 0)) {
+            throw new IllegalStateException("Για τα προϊόντα χρειάζονται κατηγορίες και προμηθευτές");
+        }
+        int stock = properties.getStock();
+        return insert(executor, 3, "products", "id, product_name, category_id, price, supplier_id, quantity, uuid",
+                nextId("products"), properties.getProducts(),
+                (id, random) -> new Object[]{id,
+                        pick(random, PRODUCT_ADJECTIVES) + " " + PRODUCT_NOUNS.get(random.nextInt(PRODUCT_NOUNS.size()))
+                                + " " + id,
+                        categoryIds[random.nextInt(categoryIds.length)],
+                        Math.round((1 + random.nextDouble() * 499) * 100) / 100.0,
+                        supplierIds[random.nextInt(supplierIds.length)],
+                        stock(random, stock),
+                        new UUID(random.nextLong(), random.nextLong()).toString()});
+    }
+
+    // Κάθε νέο προϊόν συνδέεται με τον προμηθευτή του και με τους επόμενους στη σειρά, ώστε να μην
+    // επαναλαμβάνεται ζεύγος (supplier_id, product_id)
+    private TableStats generateSupplierProducts(ExecutorService executor, Catalog catalog, int[] supplierIds,
+                                                long firstNewProductId) {
+        int firstProduct = Arrays.binarySearch(catalog.ids, (int) firstNewProductId);
+        if (firstProduct < 0) {
+            firstProduct = -firstProduct - 1;
+        }
+        int newProducts = catalog.ids.length - firstProduct;
+        int perProduct = Math.min(properties.getSuppliersPerProduct(), supplierIds.length);
+        long firstId = nextId("suppliers_products");
+        int productOffset = firstProduct;
+        int stock = properties.getStock();
+        return insert(executor, 4, "suppliers_products", "id, supplier_id, product_id, quantity",
+                firstId, (long) newProducts * Math.max(perProduct, 0),
+                (id, random) -> {
+                    long link = id - firstId;
+                    int product = productOffset + (int) (link / perProduct);
+                    int supplier = (catalog.supplierPositions[product] + (int) (link % perProduct)) % supplierIds.length;
+                    return new Object[]{id, supplierIds[supplier], catalog.ids[product], stock(random, stock)};
+                });
+    }
+
+    private TableStats generateUsers(ExecutorService executor) {
+        // Ένα hash για όλους: ο κωδικός είναι κοινός και το BCrypt ανά χρήστη θα κόστιζε ~100 ms τον καθένα
+        String hash = properties.getUsers() > 0 ? passwordService.encode(properties.getUserPassword()) : null;
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().withNano(0));
+        return insert(executor, 5, "users", "id, username, email, password, created_at",
+                nextId("users"), properties.getUsers(),
+                (id, random) -> new Object[]{id, username(id), username(id) + "@example.com", hash, createdAt});
+    }
+
+    private TableStats generateOrders(ExecutorService executor, Catalog catalog) {
+        if (properties.getOrders() > 0 && catalog.ids.length == 0) {
+            throw new IllegalStateException("Για τις παραγγελίες χρειάζονται προϊόντα");
+        }
+        // Πάνω και από τα IDs που έχει ήδη δεσμεύσει η γεννήτρια IDs μιας εφαρμογής σε λειτουργία
+        List<Long> reserved = jdbcTemplate.queryForList("SELECT next_val FROM id_generators WHERE sequence_name = ?",
+                Long.class, OrderIdAllocator.SEQUENCE_NAME);
+        long firstId = Math.max(nextId("orders"), reserved.isEmpty() ? 1 : reserved.get(0));
+        LocalDate until = properties.getOrdersUntil() != null ? properties.getOrdersUntil() : LocalDate.now();
+        LocalDateTime end = until.plusDays(1).atStartOfDay();
+        int spanSeconds = Math.max(1, properties.getOrderDays()) * 24 * 3600;
+        return insert(executor, 6, "orders", "id, supplier_id, product_id, quantity, price, total_price, created_at",
+                firstId, properties.getOrders(),
+                (id, random) -> {
+                    int product = random.nextInt(catalog.ids.length);
+                    int quantity = random.nextInt(5) + 1;
+                    double price = catalog.prices[product];
+                    return new Object[]{id, catalog.supplierIds[product], catalog.ids[product], quantity, price,
+                            price * quantity, Timestamp.valueOf(end.minusSeconds(random.nextInt(spanSeconds) + 1))};
+                });
+    }
+
+    /**
+     * Εισάγει τις γραμμές με IDs από firstId έως firstId + count - 1, σε τμήματα που εκτελούνται παράλληλα.
+     */
+    private TableStats insert(ExecutorService executor, int table, String tableName, String columns, long firstId,
+                              long count, RowGenerator generator) {
+        long startedAt = System.nanoTime();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        int rowsPerStatement = Math.max(1, Math.min(properties.getRowsPerStatement(), chunkSize));
+        int columnCount = columns.split(",").length;
+        String fullStatement = insertStatement(tableName, columns, columnCount, rowsPerStatement);
+
+        List<Future<?>> chunks = new ArrayList<>();
+        for (long chunk = 0; chunk * chunkSize < count; chunk++) {
+            long from = firstId + chunk * chunkSize;
+            long to = Math.min(firstId + count, from + chunkSize);
+            long chunkSeed = (properties.getSeed() * 31 + table) * 1_000_003L + chunk;
+            chunks.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                Random random = new Random(chunkSeed);
+                List<Object> args = new ArrayList<>(rowsPerStatement * columnCount);
+                int rows = 0;
+                for (long id = from; id < to; id++) {
+                    Collections.addAll(args, generator.row(id, random));
+                    if (++rows == rowsPerStatement) {
+                        jdbcTemplate.update(fullStatement, args.toArray());
+                        args.clear();
+                        rows = 0;
+                    }
+                }
+                if (rows > 0) {
+                    jdbcTemplate.update(insertStatement(tableName, columns, columnCount, rows), args.toArray());
+                }
+            })));
+        }
+        awaitAll(chunks, tableName);
+        return log(new TableStats(tableName, count, System.nanoTime() - startedAt));
+    }
+
+    private static void awaitAll(List<Future<?>> chunks, String table) {
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException("Αποτυχία εισαγωγής στον πίνακα " + table, e.getCause());
+        } catch (InterruptedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Η εισαγωγή στον πίνακα " + table + " διακόπηκε", e);
+        }
+    }
+
+    private static String insertStatement(String table, String columns, int columnCount, int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return "INSERT INTO " + table + " (" + columns + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+
+    private static TableStats log(TableStats stats) {
+        logger.info("{}: {} γραμμές σε {} ms ({} γραμμές/s).", stats.table(), stats.rows(), stats.nanos() / 1_000_000,
+                Math.round(stats.rowsPerSecond()));
+        return stats;
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return (maxId != null ? maxId : 0) + 1;
+    }
+
+    private int[] loadIds(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Integer.class).stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // Όλα τα προϊόντα (υπάρχοντα και νέα) ως πίνακες, για τις συνδέσεις με προμηθευτές και τις παραγγελίες
+    private Catalog loadCatalog(int[] supplierIds) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+        Catalog catalog = new Catalog(count != null ? count.intValue() : 0);
+        int[] next = new int[1];
+        jdbcTemplate.query("SELECT id, price, supplier_id FROM products ORDER BY id", resultSet -> {
+            int row = next[0]++;
+            if (row < catalog.ids.length) {
+                catalog.ids[row] = resultSet.getInt(1);
+                catalog.prices[row] = resultSet.getDouble(2);
+                catalog.supplierIds[row] = resultSet.getInt(3);
+                catalog.supplierPositions[row] = Math.max(0, Arrays.binarySearch(supplierIds, catalog.supplierIds[row]));
+            }
+        });
+        return catalog;
+    }
+
+    /**
+     * Username του χρήστη με το δεδομένο ID.
+     */
+    public static String username(long id) {
+        return "datagen-" + id;
+    }
+
+    private static String afm(long id) {
+        return String.format("%09d", id);
+    }
+
+    private static int stock(Random random, int stock) {
+        return stock / 2 + random.nextInt(stock - stock / 2 + 1);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    @FunctionalInterface
+    private interface RowGenerator {
+
+        Object[] row(long id, Random random);
+    }
+
+    private static final class Catalog {
+
+        private final int[] ids;
+        private final double[] prices;
+        private final int[] supplierIds;
+        private final int[] supplierPositions;
+
+        private Catalog(int size) {
+            ids = new int[size];
+            prices = new double[size];
+            supplierIds = new int[size];
+            supplierPositions = new int[size];
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO με τα στατιστικά χρήσης μιας cache (hits, misses, hit ratio).
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatsDTO {
+
+    private String name;
+
+    private long hits;
+
+    private long misses;
+
+    private double hitRatio;
+
+    private long evictions;
+
+    private long size;
+
+    public static CacheStatsDTO of(String name, CacheStats stats, long size) {
+        return new CacheStatsDTO(name, stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), size);
+    }
+}
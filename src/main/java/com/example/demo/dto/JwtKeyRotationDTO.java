@@ -0,0 +1,25 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO για το αίτημα προσθήκης νέου ενεργού κλειδιού υπογραφής των JWT.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class JwtKeyRotationDTO {
+
+    private String keyId;
+
+    private String secret;
+
+    @Override
+    public String toString() {
+        return "JwtKeyRotationDTO{" +
+                "keyId='" + keyId + '\'' +
+                ", secret='***'}"; // Απόκρυψη του μυστικού για λόγους ασφαλείας
+    }
+}
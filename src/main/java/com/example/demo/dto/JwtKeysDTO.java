@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO με τα κλειδιά υπογραφής των JWT: το ενεργό και όσα γίνονται δεκτά στην επαλήθευση (χωρίς τα μυστικά).
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class JwtKeysDTO {
+
+    private String activeKeyId;
+
+    private List<String> keyIds;
+}
@@ -0,0 +1,25 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO με το αποτέλεσμα μιας μαζικής παραγγελίας: πλήθος γραμμών που δημιουργήθηκαν και απορρίφθηκαν
+ * και το αποτέλεσμα κάθε γραμμής με τη σειρά του αιτήματος.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchResultDTO {
+
+    private int created;
+
+    private int rejected;
+
+    private List<OrderLineResultDTO> lines;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO με μία γραμμή μιας μαζικής παραγγελίας (προϊόν και ποσότητα).
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderLineDTO {
+
+    private Integer productId;
+
+    private Integer quantity;
+}
@@ -0,0 +1,45 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO με το αποτέλεσμα μίας γραμμής μιας μαζικής παραγγελίας.
+ * Για τις γραμμές που δημιουργήθηκαν περιέχει το ID και τις τιμές της παραγγελίας,
+ * ενώ για τις απορριφθείσες τον κωδικό και το μήνυμα του σφάλματος.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderLineResultDTO {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    private int line;
+
+    private Integer productId;
+
+    private Integer quantity;
+
+    private String status;
+
+    private Integer orderId;
+
+    private Double price;
+
+    private Double totalPrice;
+
+    private String errorCode;
+
+    private String message;
+
+    public OrderLineResultDTO(int line, Integer productId, Integer quantity) {
+        this.line = line;
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+}
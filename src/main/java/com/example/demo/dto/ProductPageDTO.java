@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO για μία σελίδα προϊόντων με keyset pagination.
+ * Το nextCursor λείπει όταν δεν υπάρχουν άλλες σελίδες.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductPageDTO {
+
+    private List<ProductDTO> items;
+
+    private String nextCursor;
+
+    private int size;
+}
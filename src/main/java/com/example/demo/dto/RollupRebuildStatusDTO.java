@@ -0,0 +1,36 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO με την πρόοδο της ανακατασκευής των συνόλων παραγγελιών.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RollupRebuildStatusDTO {
+
+    private String state;
+
+    private long processedOrders;
+
+    private long chunks;
+
+    private Integer lastOrderId;
+
+    private Integer maxOrderId;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+}
@@ -0,0 +1,33 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.RollupDimension;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * DTO με τα σύνολα πωλήσεων μιας ημέρας για ένα προϊόν, έναν προμηθευτή ή μία κατηγορία.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesRollupDTO {
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private RollupDimension dimension;
+
+    private Integer dimensionId;
+
+    private long orderCount;
+
+    private long quantity;
+
+    private double turnover;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.RollupDimension;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO με τα σύνολα πωλήσεων ενός προϊόντος, προμηθευτή ή κατηγορίας για ένα διάστημα.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesTotalDTO {
+
+    private RollupDimension dimension;
+
+    private Integer dimensionId;
+
+    private long orderCount;
+
+    private long quantity;
+
+    private double turnover;
+}
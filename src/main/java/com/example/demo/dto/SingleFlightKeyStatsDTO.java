@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO με τα στατιστικά ενός κλειδιού του SingleFlight: πόσες φορτώσεις έγιναν από τη βάση και πόσες κλήσεις
+ * πήραν το αποτέλεσμα μιας φόρτωσης που ήδη εκτελούνταν.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SingleFlightKeyStatsDTO {
+
+    private String name;
+
+    private String key;
+
+    private long loads;
+
+    private long shared;
+
+    private long failures;
+}
@@ -0,0 +1,40 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO με την πρόοδο της διαγραφής ενός προμηθευτή στο παρασκήνιο.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SupplierDeletionStatusDTO {
+
+    private Integer supplierId;
+
+    private String state;
+
+    private long totalOrders;
+
+    private long deletedOrders;
+
+    private long chunks;
+
+    private Integer lastOrderId;
+
+    private Integer deletedProducts;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+}
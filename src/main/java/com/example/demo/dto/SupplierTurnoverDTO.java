@@ -0,0 +1,39 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO με τον τζίρο ενός προμηθευτή για ένα διάστημα, μαζί με το πλήθος και την ποσότητα των παραγγελιών
+ * και την ανάλυσή τους ανά ημέρα και ανά μήνα.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SupplierTurnoverDTO {
+
+    private Integer supplierId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    private double turnover;
+
+    private long orderCount;
+
+    private long quantity;
+
+    private List<TurnoverBucketDTO> daily;
+
+    private List<TurnoverBucketDTO> monthly;
+}
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO με τα σύνολα των παραγγελιών μιας περιόδου (ημέρα "yyyy-MM-dd" ή μήνας "yyyy-MM").
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TurnoverBucketDTO {
+
+    private String period;
+
+    private long orderCount;
+
+    private long quantity;
+
+    private double turnover;
+}
@@ -24,7 +24,19 @@ public enum ErrorCode {
     COLUMN_MUST_BE_UNIQUE(HttpStatus.CONFLICT, "IND-012"),
     RECORD_CANNOT_BE_DELETED(HttpStatus.CONFLICT, "IND-013"),
     VALUE_TOO_LONG(HttpStatus.BAD_REQUEST, "IND-014"),
-    USER_ROLE_NOT_FOUND(HttpStatus.NOT_FOUND, "IND-015");
+    USER_ROLE_NOT_FOUND(HttpStatus.NOT_FOUND, "IND-015"),
+    INVALID_PAGE_CURSOR(HttpStatus.BAD_REQUEST, "IND-017"),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "IND-018"),
+    INVALID_ORDER_QUANTITY(HttpStatus.BAD_REQUEST, "IND-019"),
+    INVALID_BATCH_SIZE(HttpStatus.BAD_REQUEST, "IND-020"),
+    INSUFFICIENT_STOCK(HttpStatus.CONFLICT, "IND-021"),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "IND-022"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "IND-023"),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "IND-024"),
+    JWT_KEY_NOT_FOUND(HttpStatus.NOT_FOUND, "IND-025"),
+    INVALID_JWT_KEY(HttpStatus.BAD_REQUEST, "IND-026"),
+    JWT_KEY_ALREADY_EXISTS(HttpStatus.CONFLICT, "IND-027"),
+    ACTIVE_JWT_KEY_CANNOT_BE_RETIRED(HttpStatus.CONFLICT, "IND-028");
 
     private final HttpStatus status;
     private final String code;
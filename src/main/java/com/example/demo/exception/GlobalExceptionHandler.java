@@ -51,6 +51,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, ex.getErrorCode().getStatus());
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidRequestException(InvalidRequestException ex,
+                                                                          HttpServletRequest request) {
+        String localizedMessage = messageSource.getMessage(
+                ex.getErrorCode().getCode(),
+                ex.getParams(),
+                LocaleContextHolder.getLocale()
+        );
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                ex.getErrorCode().getCode(),
+                localizedMessage,
+                null,
+                LocalDateTime.now(),
+                ex.getErrorCode().getStatus().value(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, ex.getErrorCode().getStatus());
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponseDTO> handleDataIntegrityViolationException(DataIntegrityViolationException ex,
                                                                                   HttpServletRequest request) {
@@ -0,0 +1,20 @@
+package com.example.demo.exception;
+
+import lombok.Getter;
+
+/**
+ * Εξαίρεση που πετιέται όταν ένα αίτημα περιέχει μη έγκυρες παραμέτρους.
+ */
+@Getter
+public class InvalidRequestException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+    private final Object[] params;
+
+    // Κατασκευαστής με ErrorCode και παραμέτρους
+    public InvalidRequestException(ErrorCode errorCode, Object... params) {
+        super(errorCode.name());
+        this.errorCode = errorCode;
+        this.params = params;
+    }
+}
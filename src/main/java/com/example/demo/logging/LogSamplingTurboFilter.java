@@ -0,0 +1,87 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Περιορίζει τις γραμμές INFO (και χαμηλότερες) κάθε logger των επιλεγμένων πακέτων σε {@code maxPerSecond}
+ * ανά δευτερόλεπτο. Οι επιπλέον γραμμές απορρίπτονται πριν μορφοποιηθεί το μήνυμα, οπότε δεν καλείται
+ * ούτε το {@code toString()} των παραμέτρων. Τα WARN και ERROR περνούν πάντα.
+ *
+ * <p>Δηλώνεται στο logback-spring.xml, με τιμές από τα {@code app.logging.sampling.*}.</p>
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final long WINDOW_MILLIS = 1000;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private int maxPerSecond = 100;
+    private String[] loggerPrefixes = new String[0];
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * @param loggers ονόματα loggers ή πακέτων, χωρισμένα με κόμμα.
+     */
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Χωρίς μήνυμα πρόκειται για έλεγχο isXxxEnabled(), που δε μετράει ως γραμμή
+        if (format == null || level == null || level.isGreaterOrEqual(Level.WARN) || maxPerSecond <= 0
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        return window.tryAcquire(System.currentTimeMillis(), maxPerSecond) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean sampled(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Σταθερό παράθυρο ενός δευτερολέπτου: η αρχή του και το πλήθος των γραμμών σε ένα long (32 + 32 bits)
+    private static final class Window {
+        private final AtomicLong state = new AtomicLong();
+
+        boolean tryAcquire(long now, int limit) {
+            long second = now / WINDOW_MILLIS;
+            while (true) {
+                long current = state.get();
+                long currentSecond = current >>> 32;
+                int count = (int) current;
+                long next;
+                if (currentSecond != (second & 0xFFFFFFFFL)) {
+                    next = (second << 32) | 1;
+                } else if (count < limit) {
+                    next = current + 1;
+                } else {
+                    return false;
+                }
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
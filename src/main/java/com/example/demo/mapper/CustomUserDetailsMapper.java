@@ -9,16 +9,16 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsMapper {
 
     /**
-     * Μετατρέπει μια οντότητα User σε CustomUserDetails.
+     * Μετατρέπει μια οντότητα User σε CustomUserDetails. Ο κωδικός δεν περιλαμβάνεται: ελέγχεται μόνο
+     * κατά τη σύνδεση από το PasswordService και τα αιτήματα αυθεντικοποιούνται με το JWT.
      *
-     * @param user               Η οντότητα User.
-     * @param decryptedPassword  Ο αποκρυπτογραφημένος κωδικός.
+     * @param user Η οντότητα User.
      * @return Το CustomUserDetails.
      */
-    public static CustomUserDetails toCustomUserDetails(User user, String decryptedPassword) {
+    public static CustomUserDetails toCustomUserDetails(User user) {
         return new CustomUserDetails(
                 user.getUsername(),
-                decryptedPassword,
+                "",
                 user.getEmail(),
                 user.getRoles().stream()
                         .map(role -> new SimpleGrantedAuthority(role.getName().name()))
@@ -2,25 +2,17 @@ package com.example.demo.mapper;
 
 import com.example.demo.dto.CustomerDTO;
 import com.example.demo.model.Customer;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import com.example.demo.model.Role;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 /**
  * Mapper για τη χαρτογράφηση μεταξύ της οντότητας Customer και του DTO CustomerDTO.
+ * Η υλοποίηση παράγεται από το MapStruct κατά τη μεταγλώττιση.
  */
-@Component
-public class CustomerMapper {
-
-    private final ModelMapper modelMapper;
-
-    /**
-     * Constructor που δέχεται ένα instance του ModelMapper.
-     *
-     * @param modelMapper το ModelMapper που θα χρησιμοποιηθεί.
-     */
-    public CustomerMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
+@Mapper(config = MapStructConfig.class)
+public abstract class CustomerMapper {
 
     /**
      * Μετατρέπει μια οντότητα Customer σε DTO CustomerDTO.
@@ -28,19 +20,17 @@ public class CustomerMapper {
      * @param customer η οντότητα Customer.
      * @return το αντίστοιχο CustomerDTO.
      */
-    public CustomerDTO toDTO(Customer customer) {
-        return modelMapper.map(customer, CustomerDTO.class);
-    }
+    public abstract CustomerDTO toDTO(Customer customer);
 
     /**
      * Μετατρέπει ένα DTO CustomerDTO σε οντότητα Customer.
+     * Ο χρήστης του πελάτη ορίζεται από την υπηρεσία και όχι από το DTO.
      *
      * @param customerDTO το DTO CustomerDTO.
      * @return η αντίστοιχη οντότητα Customer.
      */
-    public Customer toEntity(CustomerDTO customerDTO) {
-        return modelMapper.map(customerDTO, Customer.class);
-    }
+    @Mapping(target = "user", ignore = true)
+    public abstract Customer toEntity(CustomerDTO customerDTO);
 
     /**
      * Ενημερώνει μια υπάρχουσα οντότητα Customer με δεδομένα από ένα CustomerDTO.
@@ -52,6 +42,16 @@ public class CustomerMapper {
         if (customerDTO.getId() != null && !customerDTO.getId().equals(customer.getId())) {
             throw new IllegalArgumentException("Δεν επιτρέπεται αλλαγή του ID.");
         }
-        modelMapper.map(customerDTO, customer);
+        updateFields(customerDTO, customer);
+    }
+
+    // Το ID και ο συνδεδεμένος χρήστης της υπάρχουσας οντότητας δεν αλλάζουν από το DTO
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    protected abstract void updateFields(CustomerDTO customerDTO, @MappingTarget Customer customer);
+
+    // Οι ρόλοι του χρήστη εμφανίζονται στο JSON με τη μορφή του Role.toString()
+    protected String roleToString(Role role) {
+        return role.toString();
     }
 }
@@ -0,0 +1,19 @@
+package com.example.demo.mapper;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Κοινές ρυθμίσεις για όλους τους mappers που παράγονται από το MapStruct κατά τη μεταγλώττιση.
+ * Οι υλοποιήσεις είναι Spring beans με constructor injection και κάθε πεδίο-στόχος που δεν
+ * αντιστοιχίζεται ρητά προκαλεί σφάλμα μεταγλώττισης.
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface MapStructConfig {
+}
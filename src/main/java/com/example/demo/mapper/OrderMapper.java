@@ -5,28 +5,30 @@ import com.example.demo.dto.OrderDTO;
 import com.example.demo.model.Order;
 import com.example.demo.model.Product;
 import com.example.demo.model.Supplier;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
-@Component
-public class OrderMapper {
+@Mapper(config = MapStructConfig.class, uses = {ProductMapper.class, SupplierMapper.class})
+public abstract class OrderMapper {
 
-    private final ModelMapper modelMapper;
-    private final ProductMapper productMapper;
-    private final SupplierMapper supplierMapper;
+    private ProductMapper productMapper;
 
-    public OrderMapper(ModelMapper modelMapper, ProductMapper productMapper, SupplierMapper supplierMapper) {
-        this.modelMapper = modelMapper;
+    /**
+     * Ο ProductMapper χρειάζεται στις χειρόγραφες μεθόδους δημιουργίας παραγγελίας.
+     * Ο παραγόμενος κώδικας του MapStruct λαμβάνει τους δικούς του mappers μέσω constructor.
+     *
+     * @param productMapper ο mapper των προϊόντων.
+     */
+    @Autowired
+    public void setProductMapper(ProductMapper productMapper) {
         this.productMapper = productMapper;
-        this.supplierMapper = supplierMapper;
     }
 
-    public OrderDTO toDTO(Order order) {
-        OrderDTO dto = modelMapper.map(order, OrderDTO.class);
-        dto.setProductId(order.getProduct().getId());
-        dto.setSupplier(supplierMapper.toDTO(order.getSupplier()));
-        return dto;
-    }
+    // Τα productId και supplierId προκύπτουν από τα ενσωματωμένα product και supplier
+    @Mapping(target = "productId", ignore = true)
+    @Mapping(target = "supplierId", ignore = true)
+    public abstract OrderDTO toDTO(Order order);
 
     public Order createOrderFromProduct(Product product, int quantity) {
         Order order = new Order();
@@ -61,9 +63,14 @@ public class OrderMapper {
     }
 
     public Order toEntity(OrderDTO orderDTO, Product product, Supplier supplier) {
-        Order order = modelMapper.map(orderDTO, Order.class);
+        Order order = toOrder(orderDTO);
         order.setProduct(product);
         order.setSupplier(supplier);
         return order;
     }
+
+    @Mapping(target = "product", ignore = true)
+    @Mapping(target = "supplier", ignore = true)
+    @Mapping(target = "stockReserved", ignore = true)
+    protected abstract Order toOrder(OrderDTO orderDTO);
 }
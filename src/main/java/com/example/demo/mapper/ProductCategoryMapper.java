@@ -2,24 +2,15 @@ package com.example.demo.mapper;
 
 import com.example.demo.dto.ProductCategoryDTO;
 import com.example.demo.model.ProductCategory;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * Η κλάση ProductCategoryMapper είναι υπεύθυνη για τη μετατροπή της οντότητας ProductCategory σε DTO και το αντίστροφο.
- * Χρησιμοποιεί το ModelMapper για την αντιστοίχιση πεδίων μεταξύ των αντικειμένων.
+ * Η υλοποίηση παράγεται από το MapStruct κατά τη μεταγλώττιση.
  */
-@Component
-public class ProductCategoryMapper {
-
-    private final ModelMapper modelMapper;
-
-    /**
-     * Κατασκευαστής που δημιουργεί το αντικείμενο ModelMapper για τη μετατροπή των οντοτήτων.
-     */
-    public ProductCategoryMapper() {
-        this.modelMapper = new ModelMapper();
-    }
+@Mapper(config = MapStructConfig.class)
+public abstract class ProductCategoryMapper {
 
     /**
      * Μετατρέπει μια οντότητα ProductCategory σε DTO ProductCategory.
@@ -27,9 +18,7 @@ public class ProductCategoryMapper {
      * @param productCategory Η οντότητα ProductCategory.
      * @return Το αντικείμενο ProductCategoryDTO που περιέχει τα δεδομένα από την οντότητα.
      */
-    public ProductCategoryDTO toDTO(ProductCategory productCategory) {
-        return modelMapper.map(productCategory, ProductCategoryDTO.class);
-    }
+    public abstract ProductCategoryDTO toDTO(ProductCategory productCategory);
 
     /**
      * Μετατρέπει ένα DTO ProductCategory σε οντότητα ProductCategory.
@@ -37,8 +26,7 @@ public class ProductCategoryMapper {
      * @param productCategoryDTO Το DTO που περιέχει τα δεδομένα του ProductCategory.
      * @return Η οντότητα ProductCategory.
      */
-    public ProductCategory toEntity(ProductCategoryDTO productCategoryDTO) {
-        return modelMapper.map(productCategoryDTO, ProductCategory.class);
-    }
+    @Mapping(target = "products", ignore = true)
+    public abstract ProductCategory toEntity(ProductCategoryDTO productCategoryDTO);
 
 }
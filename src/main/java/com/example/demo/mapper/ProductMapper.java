@@ -4,42 +4,21 @@ import com.example.demo.dto.ProductDTO;
 import com.example.demo.model.Product;
 import com.example.demo.model.ProductCategory;
 import com.example.demo.model.Supplier;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-@Component
-public class ProductMapper {
+@Mapper(config = MapStructConfig.class, uses = SupplierMapper.class)
+public abstract class ProductMapper {
 
-    private final ModelMapper modelMapper;
+    // Το πεδίο type του DTO είναι το όνομα της κατηγορίας του προϊόντος
+    @Mapping(target = "type", source = "category.name")
+    public abstract ProductDTO toDTO(Product product);
 
-    public ProductMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-        modelMapper.typeMap(Product.class, ProductDTO.class).addMappings(mapper ->
-                mapper.map(src -> src.getCategory().getName(), ProductDTO::setType)
-        );
-    }
-
-    public ProductDTO toDTO(Product product) {
-        return modelMapper.map(product, ProductDTO.class);
-    }
-
-    public Product toEntity(ProductDTO productDTO) {
-        Product product = modelMapper.map(productDTO, Product.class);
-
-        if (productDTO.getSupplier() != null) {
-            Supplier supplier = new Supplier();
-            supplier.setId(productDTO.getSupplier().getId());
-            product.setSupplier(supplier);
-        }
-
-        if (productDTO.getType() != null) {
-            ProductCategory category = new ProductCategory();
-            category.setName(productDTO.getType());
-            product.setCategory(category);
-        }
-
-        return product;
-    }
+    @Mapping(target = "supplier", ignore = true)
+    @Mapping(target = "category", ignore = true)
+    public abstract Product toEntity(ProductDTO productDTO);
 
     public void updateEntityFromDTO(ProductDTO productDTO, Product existingProduct) {
         existingProduct.setProductName(productDTO.getProductName());
@@ -65,4 +44,20 @@ public class ProductMapper {
         product.setId(productId);
         return product;
     }
+
+    // Ο προμηθευτής και η κατηγορία συνδέονται μόνο μέσω του ID και του ονόματος αντίστοιχα
+    @AfterMapping
+    protected void linkReferences(ProductDTO productDTO, @MappingTarget Product product) {
+        if (productDTO.getSupplier() != null) {
+            Supplier supplier = new Supplier();
+            supplier.setId(productDTO.getSupplier().getId());
+            product.setSupplier(supplier);
+        }
+
+        if (productDTO.getType() != null) {
+            ProductCategory category = new ProductCategory();
+            category.setName(productDTO.getType());
+            product.setCategory(category);
+        }
+    }
 }
@@ -2,25 +2,16 @@ package com.example.demo.mapper;
 
 import com.example.demo.dto.SupplierDTO;
 import com.example.demo.model.Supplier;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 /**
  * Mapper για τη χαρτογράφηση μεταξύ της οντότητας Supplier και του DTO SupplierDTO.
+ * Η υλοποίηση παράγεται από το MapStruct κατά τη μεταγλώττιση.
  */
-@Component
-public class SupplierMapper {
-
-    private final ModelMapper modelMapper;
-
-    /**
-     * Constructor που δέχεται ένα instance του ModelMapper.
-     *
-     * @param modelMapper το ModelMapper που θα χρησιμοποιηθεί.
-     */
-    public SupplierMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
+@Mapper(config = MapStructConfig.class)
+public abstract class SupplierMapper {
 
     /**
      * Μετατρέπει μια οντότητα Supplier σε DTO SupplierDTO.
@@ -28,9 +19,7 @@ public class SupplierMapper {
      * @param supplier η οντότητα Supplier.
      * @return το αντίστοιχο SupplierDTO.
      */
-    public SupplierDTO toDTO(Supplier supplier) {
-        return modelMapper.map(supplier, SupplierDTO.class);
-    }
+    public abstract SupplierDTO toDTO(Supplier supplier);
 
     /**
      * Μετατρέπει ένα DTO SupplierDTO σε οντότητα Supplier.
@@ -38,9 +27,8 @@ public class SupplierMapper {
      * @param supplierDTO το DTO SupplierDTO.
      * @return η αντίστοιχη οντότητα Supplier.
      */
-    public Supplier toEntity(SupplierDTO supplierDTO) {
-        return modelMapper.map(supplierDTO, Supplier.class);
-    }
+    @Mapping(target = "products", ignore = true)
+    public abstract Supplier toEntity(SupplierDTO supplierDTO);
 
     /**
      * Ενημερώνει μια υπάρχουσα οντότητα Supplier με δεδομένα από ένα SupplierDTO.
@@ -52,12 +40,17 @@ public class SupplierMapper {
         if (supplierDTO.getId() != null && !supplierDTO.getId().equals(supplier.getId())) {
             throw new IllegalArgumentException("Δεν επιτρέπεται αλλαγή του ID.");
         }
-        modelMapper.map(supplierDTO, supplier);
+        updateFields(supplierDTO, supplier);
     }
+
     public Supplier toEntityWithId(Integer supplierId) {
         Supplier supplier = new Supplier();
         supplier.setId(supplierId);
         return supplier;
     }
 
+    // Το ID της υπάρχουσας οντότητας δεν αλλάζει ποτέ από το DTO
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "products", ignore = true)
+    protected abstract void updateFields(SupplierDTO supplierDTO, @MappingTarget Supplier supplier);
 }
@@ -1,26 +1,21 @@
 package com.example.demo.mapper;
 
+import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.SupplierDTO;
 import com.example.demo.dto.SupplierProductDTO;
+import com.example.demo.model.Product;
+import com.example.demo.model.Supplier;
 import com.example.demo.model.SupplierProduct;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * Η κλάση SupplierProductMapper είναι υπεύθυνη για τη μετατροπή της οντότητας SupplierProduct σε DTO SupplierProductDTO
  * και το αντίστροφο.
- * Χρησιμοποιεί το ModelMapper για την αντιστοίχιση πεδίων μεταξύ των αντικειμένων.
+ * Η υλοποίηση παράγεται από το MapStruct κατά τη μεταγλώττιση.
  */
-@Component
-public class SupplierProductMapper {
-
-    private final ModelMapper modelMapper;
-
-    /**
-     * Κατασκευαστής που δημιουργεί το αντικείμενο ModelMapper για τη μετατροπή των οντοτήτων.
-     */
-    public SupplierProductMapper() {
-        this.modelMapper = new ModelMapper();
-    }
+@Mapper(config = MapStructConfig.class)
+public abstract class SupplierProductMapper {
 
     /**
      * Μετατρέπει μια οντότητα SupplierProduct σε DTO SupplierProductDTO.
@@ -28,9 +23,7 @@ public class SupplierProductMapper {
      * @param supplierProduct Η οντότητα SupplierProduct.
      * @return Το αντικείμενο SupplierProductDTO που περιέχει τα δεδομένα από την οντότητα.
      */
-    public SupplierProductDTO toDTO(SupplierProduct supplierProduct) {
-        return modelMapper.map(supplierProduct, SupplierProductDTO.class);
-    }
+    public abstract SupplierProductDTO toDTO(SupplierProduct supplierProduct);
 
     /**
      * Μετατρέπει ένα DTO SupplierProductDTO σε οντότητα SupplierProduct.
@@ -38,17 +31,28 @@ public class SupplierProductMapper {
      * @param supplierProductDTO Το DTO που περιέχει τα δεδομένα του SupplierProduct.
      * @return Η οντότητα SupplierProduct.
      */
-    public SupplierProduct toEntity(SupplierProductDTO supplierProductDTO) {
-        return modelMapper.map(supplierProductDTO, SupplierProduct.class);
-    }
+    public abstract SupplierProduct toEntity(SupplierProductDTO supplierProductDTO);
 
     /**
      * Ενημερώνει ένα υπάρχον αντικείμενο SupplierProduct με δεδομένα από το SupplierProductDTO.
+     * Ο προμηθευτής και το προϊόν αντικαθίστανται και δεν τροποποιούνται οι ήδη φορτωμένες οντότητες.
      *
      * @param supplierProductDTO Το DTO που περιέχει τα νέα δεδομένα.
      * @param supplierProduct Το υπάρχον αντικείμενο SupplierProduct που θα ενημερωθεί.
      */
     public void updateEntityFromDTO(SupplierProductDTO supplierProductDTO, SupplierProduct supplierProduct) {
-        modelMapper.map(supplierProductDTO, supplierProduct);
+        supplierProduct.setSupplier(toSupplier(supplierProductDTO.getSupplier()));
+        supplierProduct.setProduct(toProduct(supplierProductDTO.getProduct()));
+        supplierProduct.setQuantity(supplierProductDTO.getQuantity());
     }
+
+    // Η σχέση δεν εκθέτει την κατηγορία του προϊόντος
+    @Mapping(target = "type", ignore = true)
+    protected abstract ProductDTO toProductDTO(Product product);
+
+    @Mapping(target = "category", ignore = true)
+    protected abstract Product toProduct(ProductDTO productDTO);
+
+    @Mapping(target = "products", ignore = true)
+    protected abstract Supplier toSupplier(SupplierDTO supplierDTO);
 }
@@ -0,0 +1,49 @@
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Χρονομετρεί κάθε δημόσια μέθοδο των υπηρεσιών ({@code *Impl} στο πακέτο service) στο metric
+ * {@value #METRIC}, με tags την κλάση, τη μέθοδο και την εξαίρεση (ή {@code none}).
+ *
+ * <p>Οι μέθοδοι των repositories χρονομετρούνται ήδη από το Spring Data ({@code spring.data.repository.invocations})
+ * και τα endpoints από το Spring MVC ({@code http.server.requests}).</p>
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String METRIC = "app.service.method";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Η καταχώριση των metrics των caches (MeterBinder) δεν αφορά τη λειτουργία των υπηρεσιών
+    @Around("execution(public * com.example.demo.service.*Impl.*(..))"
+            + " && !execution(* io.micrometer.core.instrument.binder.MeterBinder.bindTo(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .description("Διάρκεια των μεθόδων των υπηρεσιών")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
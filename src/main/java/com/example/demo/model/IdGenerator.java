@@ -0,0 +1,28 @@
+package com.example.demo.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Γραμμή του πίνακα id_generators: η επόμενη ελεύθερη τιμή μιας ακολουθίας IDs.
+ * Τον πίνακα τον διαβάζει και τον ενημερώνει μόνο ο {@link com.example.demo.config.OrderIdAllocator}.
+ */
+@Entity
+@Table(name = "id_generators")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdGenerator {
+
+    @Id
+    @Column(name = "sequence_name", nullable = false)
+    private String sequenceName;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
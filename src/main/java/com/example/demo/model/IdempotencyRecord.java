@@ -0,0 +1,65 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ένα αίτημα με Idempotency-Key και η απόκρισή του. Το unique constraint στο (scope, idempotency_key) εξασφαλίζει
+ * ότι μόνο ένα αίτημα ανά κλειδί εκτελείται, ακόμη και από διαφορετικούς κόμβους.
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_scope_key",
+                columnNames = {"scope", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Το endpoint και ο χρήστης, ώστε το ίδιο κλειδί από διαφορετικούς χρήστες να μη συγκρούεται
+    @Column(name = "scope", length = 100, nullable = false)
+    private String scope;
+
+    @Column(name = "idempotency_key", length = 100, nullable = false)
+    private String idempotencyKey;
+
+    // SHA-256 του σώματος του αιτήματος· ίδιο κλειδί με διαφορετικό σώμα απορρίπτεται
+    @Column(name = "request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16, nullable = false)
+    private IdempotencyStatus status;
+
+    // Η απόκριση σε JSON, όταν το αίτημα έχει ολοκληρωθεί
+    @JdbcTypeCode(SqlTypes.LONGVARCHAR)
+    @Column(name = "response_body", length = 65_535)
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Override
+    public String toString() {
+        return "Αίτημα {" +
+                "Scope=" + scope +
+                ", Κλειδί=" + idempotencyKey +
+                ", Κατάσταση=" + status +
+                ", Δημιουργία=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.model;
+
+/**
+ * Κατάσταση ενός αιτήματος με Idempotency-Key.
+ */
+public enum IdempotencyStatus {
+    // Το αίτημα εκτελείται (το κλειδί έχει δεσμευτεί)
+    IN_PROGRESS,
+    // Το αίτημα ολοκληρώθηκε και η απόκρισή του έχει αποθηκευτεί
+    COMPLETED
+}
@@ -7,14 +7,38 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "orders")
+@NamedEntityGraph(name = Order.WITH_REFERENCES,
+        attributeNodes = {
+                @NamedAttributeNode(value = "product", subgraph = "product"),
+                @NamedAttributeNode("supplier")
+        },
+        subgraphs = @NamedSubgraph(name = "product",
+                attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("supplier")}))
+@Table(name = "orders",
+        indexes = {
+                @Index(name = "idx_orders_supplier_created_at", columnList = "supplier_id, created_at"),
+                @Index(name = "idx_orders_product_id", columnList = "product_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
 public class Order {
 
+    /**
+     * Πλήθος IDs που δεσμεύει κάθε ενημέρωση του πίνακα id_generators.
+     * Ταυτίζεται με το hibernate.jdbc.batch_size, ώστε μια παρτίδα εισαγωγών να μη χρειάζεται νέα δέσμευση.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Entity graph με όσα χρειάζεται ο OrderMapper.toDTO: το προϊόν με την κατηγορία και τον προμηθευτή του,
+     * και τον προμηθευτή της παραγγελίας. Φορτώνονται με JOIN στο ίδιο SELECT.
+     */
+    public static final String WITH_REFERENCES = "Order.withReferences";
+
+    // Τα IDs δεσμεύονται εκ των προτέρων (pooled), ώστε το Hibernate να μπορεί να ομαδοποιεί τα INSERT σε JDBC batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @OrderIdSequence
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,6 +61,11 @@ public class Order {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // Αν η ποσότητα της παραγγελίας έχει αφαιρεθεί από το απόθεμα. Οι παλαιότερες παραγγελίες (null)
+    // δημιουργήθηκαν πριν από τις δεσμεύσεις αποθέματος, οπότε η διαγραφή τους δεν επιστρέφει ποσότητα
+    @Column(name = "stock_reserved")
+    private Boolean stockReserved;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -52,6 +81,7 @@ public class Order {
                 ", Τιμή=" + price +
                 ", Σύνολο=" + totalPrice +
                 ", Ημερομηνία Δημιουργίας=" + createdAt +
+                ", Δέσμευση Αποθέματος=" + stockReserved +
                 '}';
     }
 }
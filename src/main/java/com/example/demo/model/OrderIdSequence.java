@@ -0,0 +1,18 @@
+package com.example.demo.model;
+
+import com.example.demo.config.OrderIdGenerator;
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Το ID της οντότητας παράγεται από τον {@link OrderIdGenerator}, δηλαδή από μπλοκ IDs που δεσμεύονται εκ των προτέρων.
+ */
+@IdGeneratorType(OrderIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface OrderIdSequence {
+}
@@ -0,0 +1,58 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Προ-υπολογισμένα σύνολα παραγγελιών ανά ημέρα για ένα προϊόν, έναν προμηθευτή ή μία κατηγορία.
+ * Ενημερώνεται σταδιακά σε κάθε δημιουργία, ενημέρωση ή διαγραφή παραγγελίας.
+ */
+@Entity
+@Table(name = "order_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_rollups_bucket",
+                columnNames = {"dimension", "dimension_id", "bucket_date"}),
+        indexes = @Index(name = "idx_order_rollups_dimension_date", columnList = "dimension, bucket_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", length = 16, nullable = false)
+    private RollupDimension dimension;
+
+    @Column(name = "dimension_id", nullable = false)
+    private Integer dimensionId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Column(name = "turnover", nullable = false)
+    private double turnover;
+
+    @Override
+    public String toString() {
+        return "Σύνολο Παραγγελιών {" +
+                "Διάσταση=" + dimension +
+                ", ID=" + dimensionId +
+                ", Ημέρα=" + bucketDate +
+                ", Παραγγελίες=" + orderCount +
+                ", Ποσότητα=" + quantity +
+                ", Τζίρος=" + turnover +
+                '}';
+    }
+}
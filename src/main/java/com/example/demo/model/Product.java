@@ -6,7 +6,13 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "products")
+// Τα ευρετήρια τα δημιουργεί η μετάπτωση V2__query_indexes· δηλώνονται κι εδώ για τα σχήματα create-drop των tests
+@Table(name = "products",
+        indexes = {
+                @Index(name = "idx_products_category_id", columnList = "category_id"),
+                @Index(name = "idx_products_supplier_id", columnList = "supplier_id"),
+                @Index(name = "idx_products_uuid", columnList = "uuid")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,10 @@
+package com.example.demo.model;
+
+/**
+ * Οι διαστάσεις για τις οποίες διατηρούνται προ-υπολογισμένα σύνολα πωλήσεων.
+ */
+public enum RollupDimension {
+    PRODUCT,
+    SUPPLIER,
+    CATEGORY
+}
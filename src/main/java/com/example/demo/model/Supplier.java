@@ -9,9 +9,14 @@ import jakarta.persistence.Column;
 import lombok.NoArgsConstructor;
 import  lombok.Getter;
 import  lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
+// Δεδομένα αναφοράς στην cache δεύτερου επιπέδου (η λίστα προϊόντων δεν αποθηκεύεται)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "suppliers")
 @Table(name = "suppliers")
 @Getter
 @Setter
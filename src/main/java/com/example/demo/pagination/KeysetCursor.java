@@ -0,0 +1,57 @@
+package com.example.demo.pagination;
+
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Αδιαφανές (opaque) token συνέχειας για keyset pagination πάνω στο πρωτεύον κλειδί.
+ * Ο client δεν χρειάζεται να γνωρίζει τη μορφή του· απλώς το επιστρέφει στο επόμενο αίτημα.
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Κωδικοποιεί το τελευταίο ID μιας σελίδας σε token συνέχειας.
+     *
+     * @param lastId το ID της τελευταίας εγγραφής της σελίδας.
+     * @return το token σε μορφή Base64 (URL-safe, χωρίς padding).
+     */
+    public static String encode(Integer lastId) {
+        String raw = VERSION_PREFIX + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Αποκωδικοποιεί ένα token συνέχειας στο ID μετά το οποίο συνεχίζεται η ανάγνωση.
+     *
+     * @param cursor το token ή null για την πρώτη σελίδα.
+     * @return το τελευταίο ID της προηγούμενης σελίδας ή 0 για την πρώτη σελίδα.
+     * @throws InvalidRequestException αν το token δεν είναι έγκυρο.
+     */
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(VERSION_PREFIX)) {
+                throw new InvalidRequestException(ErrorCode.INVALID_PAGE_CURSOR, cursor);
+            }
+            int lastId = Integer.parseInt(raw.substring(VERSION_PREFIX.length()));
+            if (lastId < 0) {
+                throw new InvalidRequestException(ErrorCode.INVALID_PAGE_CURSOR, cursor);
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            // Καλύπτει και το NumberFormatException
+            throw new InvalidRequestException(ErrorCode.INVALID_PAGE_CURSOR, cursor);
+        }
+    }
+}
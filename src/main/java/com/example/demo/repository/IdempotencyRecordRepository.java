@@ -0,0 +1,47 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository για τα αιτήματα με Idempotency-Key.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    /**
+     * Αναζητά το αίτημα ενός κλειδιού (unique constraint στο scope, idempotency_key).
+     */
+    Optional<IdempotencyRecord> findByScopeAndIdempotencyKey(String scope, String idempotencyKey);
+
+    /**
+     * Αποδεσμεύει ένα κλειδί που δεν ολοκληρώθηκε (αποτυχία ή εγκαταλελειμμένη εκτέλεση), ώστε να μπορεί να
+     * ξαναχρησιμοποιηθεί. Μια ολοκληρωμένη εγγραφή δεν αγγίζεται.
+     *
+     * @param id το ID της εγγραφής.
+     * @return 1 αν αποδεσμεύτηκε, 0 αν ολοκληρώθηκε ή αποδεσμεύτηκε ήδη από άλλον.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r " +
+            "WHERE r.id = :id AND r.status = com.example.demo.model.IdempotencyStatus.IN_PROGRESS")
+    int deleteInProgress(@Param("id") Long id);
+
+    /**
+     * Διαγράφει τις εγγραφές που ξεπέρασαν τον χρόνο διατήρησης (ευρετήριο στο created_at).
+     *
+     * @return το πλήθος των εγγραφών που διαγράφηκαν.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
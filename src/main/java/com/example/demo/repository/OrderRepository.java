@@ -1,14 +1,26 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository για τη διαχείριση των δεδομένων παραγγελιών.
  * Παρέχει μεθόδους για την αλληλεπίδραση με τη βάση δεδομένων.
+ *
+ * <p>Οι μέθοδοι που επιστρέφουν παραγγελίες προς μετατροπή σε DTO φορτώνουν το προϊόν, την κατηγορία και τους
+ * προμηθευτές μέσω του {@link Order#WITH_REFERENCES}, ώστε μια λίστα N παραγγελιών να κοστίζει ένα SELECT
+ * αντί για 1 + N (και να μη χρειάζεται ανοιχτό session κατά τη μετατροπή).</p>
  */
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Integer> {
@@ -19,24 +31,133 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
      * @param productName το όνομα ή μέρος του ονόματος του προϊόντος.
      * @return λίστα παραγγελιών που ταιριάζουν με το όνομα.
      */
+    @EntityGraph(Order.WITH_REFERENCES)
     List<Order> findByProductProductNameContainingIgnoreCase(String productName);
 
+    /**
+     * Αναζητά τις παραγγελίες ενός συνόλου προϊόντων.
+     *
+     * @param productIds τα IDs των προϊόντων.
+     * @return λίστα παραγγελιών για αυτά τα προϊόντα.
+     */
+    @EntityGraph(Order.WITH_REFERENCES)
+    List<Order> findByProductIdIn(Collection<Integer> productIds);
+
     /**
      * Επιστρέφει όλες τις παραγγελίες.
      *
      * @return λίστα όλων των παραγγελιών.
      */
+    @EntityGraph(Order.WITH_REFERENCES)
     List<Order> findAll();
 
+    /**
+     * Επιστρέφει μια παραγγελία μαζί με το προϊόν και τους προμηθευτές της.
+     *
+     * @param id το ID της παραγγελίας.
+     * @return η παραγγελία, αν υπάρχει.
+     */
+    @Override
+    @EntityGraph(Order.WITH_REFERENCES)
+    Optional<Order> findById(Integer id);
+
     /**
      * Αναζητά παραγγελίες που ανήκουν σε έναν συγκεκριμένο προμηθευτή.
      *
      * @param supplierId το ID του προμηθευτή.
      * @return λίστα παραγγελιών που συνδέονται με τον συγκεκριμένο προμηθευτή.
      */
+    @EntityGraph(Order.WITH_REFERENCES)
     List<Order> findBySupplierId(Integer supplierId);
 
-    // Αναζήτηση παραγγελιών για συγκεκριμένο προμηθευτή και ημερομηνιακό εύρος
-    List<Order> findBySupplierIdAndCreatedAtBetween(Integer supplierId, LocalDate startDate, LocalDate endDate);
+    // Αναζήτηση παραγγελιών για συγκεκριμένο προμηθευτή και ημερομηνιακό εύρος (και οι δύο ημέρες περιλαμβάνονται).
+    // Το created_at είναι LocalDateTime, οπότε οι ημερομηνίες γίνονται το διάστημα [αρχή, επόμενη της λήξης)
+    default List<Order> findBySupplierIdAndCreatedAtBetween(Integer supplierId, LocalDate startDate, LocalDate endDate) {
+        return findBySupplierIdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(supplierId, startDate.atStartOfDay(),
+                endDate.plusDays(1).atStartOfDay());
+    }
+
+    @EntityGraph(Order.WITH_REFERENCES)
+    List<Order> findBySupplierIdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(Integer supplierId,
+                                                                                 LocalDateTime from,
+                                                                                 LocalDateTime to);
 
+    /**
+     * Υπολογίζει στη βάση δεδομένων το πλήθος, την ποσότητα και τον τζίρο των παραγγελιών ενός προμηθευτή ανά ημέρα.
+     * Το φίλτρο καλύπτεται από το index (supplier_id, created_at).
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @param from       η αρχή του διαστήματος (συμπεριλαμβάνεται).
+     * @param to         το τέλος του διαστήματος (δεν συμπεριλαμβάνεται).
+     * @return μία γραμμή ανά ημέρα με παραγγελίες, ταξινομημένες κατά ημερομηνία.
+     */
+    @Query("SELECT CAST(o.createdAt AS LocalDate) AS orderDate, COUNT(o) AS orderCount, " +
+            "SUM(o.quantity) AS quantity, SUM(o.totalPrice) AS turnover " +
+            "FROM Order o " +
+            "WHERE o.supplier.id = :supplierId AND o.createdAt >= :from AND o.createdAt < :to " +
+            "GROUP BY CAST(o.createdAt AS LocalDate) " +
+            "ORDER BY CAST(o.createdAt AS LocalDate)")
+    List<SupplierDailyTurnoverView> findDailyTurnover(@Param("supplierId") Integer supplierId,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    /**
+     * Επιστρέφει το μεγαλύτερο ID παραγγελίας ή null αν δεν υπάρχουν παραγγελίες.
+     */
+    @Query("SELECT MAX(o.id) FROM Order o")
+    Integer findMaxId();
+
+    /**
+     * Επιστρέφει το επόμενο τμήμα παραγγελιών για την ανακατασκευή των συνόλων (keyset στο ID).
+     *
+     * @param afterId  το τελευταίο ID του προηγούμενου τμήματος.
+     * @param pageable το μέγεθος του τμήματος.
+     * @return οι παραγγελίες με ID μεγαλύτερο από το afterId, ταξινομημένες κατά ID.
+     */
+    @Query("SELECT o.id AS id, o.createdAt AS createdAt, p.id AS productId, o.supplier.id AS supplierId, " +
+            "p.category.id AS categoryId, o.quantity AS quantity, o.totalPrice AS totalPrice " +
+            "FROM Order o JOIN o.product p " +
+            "WHERE o.id > :afterId ORDER BY o.id ASC")
+    List<OrderRollupSourceView> findRollupSourceChunk(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * Επιστρέφει το επόμενο τμήμα παραγγελιών ενός προμηθευτή προς διαγραφή (keyset στο ID), με τα πεδία που
+     * χρειάζονται για την αφαίρεσή τους από τα σύνολα.
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @param afterId    το τελευταίο ID του προηγούμενου τμήματος.
+     * @param pageable   το μέγεθος του τμήματος.
+     * @return οι παραγγελίες του προμηθευτή με ID μεγαλύτερο από afterId, ταξινομημένες κατά ID.
+     */
+    @Query("SELECT o.id AS id, o.createdAt AS createdAt, p.id AS productId, o.supplier.id AS supplierId, " +
+            "p.category.id AS categoryId, o.quantity AS quantity, o.totalPrice AS totalPrice " +
+            "FROM Order o JOIN o.product p " +
+            "WHERE o.supplier.id = :supplierId AND o.id > :afterId ORDER BY o.id ASC")
+    List<OrderRollupSourceView> findRollupSourceBySupplier(@Param("supplierId") Integer supplierId,
+                                                           @Param("afterId") Integer afterId,
+                                                           Pageable pageable);
+
+    /**
+     * Μετρά τις παραγγελίες ενός προμηθευτή.
+     */
+    long countBySupplierId(Integer supplierId);
+
+    /**
+     * Μετρά τις παραγγελίες άλλων προμηθευτών σε προϊόντα του προμηθευτή, οι οποίες εμποδίζουν τη διαγραφή των
+     * προϊόντων του.
+     */
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.product.supplier.id = :supplierId AND o.supplier.id <> :supplierId")
+    long countOtherSupplierOrdersForProductsOf(@Param("supplierId") Integer supplierId);
+
+    /**
+     * Διαγράφει με μία εντολή τις παραγγελίες ενός προμηθευτή με ID στο διάστημα (afterId, upToId].
+     * Πρέπει να καλείται μέσα σε transaction.
+     *
+     * @return το πλήθος των παραγγελιών που διαγράφηκαν.
+     */
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.supplier.id = :supplierId AND o.id > :afterId AND o.id <= :upToId")
+    int deleteBySupplierIdInRange(@Param("supplierId") Integer supplierId,
+                                  @Param("afterId") Integer afterId,
+                                  @Param("upToId") Integer upToId);
 }
@@ -0,0 +1,106 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.OrderRollup;
+import com.example.demo.model.RollupDimension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository για τα προ-υπολογισμένα σύνολα παραγγελιών.
+ */
+@Repository
+public interface OrderRollupRepository extends JpaRepository<OrderRollup, Long> {
+
+    /**
+     * Προσθέτει (ή αφαιρεί, με αρνητικές τιμές) ποσά σε ένα σύνολο με ένα μόνο ατομικό statement.
+     * Αν η γραμμή δεν υπάρχει δημιουργείται, οπότε ταυτόχρονες παραγγελίες της ίδιας ημέρας
+     * δεν συγκρούονται στο unique key.
+     *
+     * @return το πλήθος των γραμμών που επηρεάστηκαν.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO order_rollups (dimension, dimension_id, bucket_date, order_count, quantity, turnover) " +
+            "VALUES (:dimension, :dimensionId, :bucketDate, :orderCount, :quantity, :turnover) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + :orderCount, " +
+            "quantity = quantity + :quantity, turnover = turnover + :turnover",
+            nativeQuery = true)
+    int upsert(@Param("dimension") String dimension,
+               @Param("dimensionId") Integer dimensionId,
+               @Param("bucketDate") LocalDate bucketDate,
+               @Param("orderCount") long orderCount,
+               @Param("quantity") long quantity,
+               @Param("turnover") double turnover);
+
+    /**
+     * Όπως το {@link #upsert}, στον σκιώδη πίνακα όπου χτίζει τα σύνολα η ανακατασκευή.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO order_rollups_rebuild (dimension, dimension_id, bucket_date, order_count, quantity, turnover) " +
+            "VALUES (:dimension, :dimensionId, :bucketDate, :orderCount, :quantity, :turnover) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + :orderCount, " +
+            "quantity = quantity + :quantity, turnover = turnover + :turnover",
+            nativeQuery = true)
+    int upsertRebuild(@Param("dimension") String dimension,
+                      @Param("dimensionId") Integer dimensionId,
+                      @Param("bucketDate") LocalDate bucketDate,
+                      @Param("orderCount") long orderCount,
+                      @Param("quantity") long quantity,
+                      @Param("turnover") double turnover);
+
+    /**
+     * Αδειάζει τον σκιώδη πίνακα της ανακατασκευής.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM order_rollups_rebuild", nativeQuery = true)
+    int clearRebuild();
+
+    /**
+     * Αντιγράφει στον πίνακα των συνόλων τα σύνολα της ανακατασκευής. Καλείται στο ίδιο transaction με τη διαγραφή
+     * των παλιών συνόλων, ώστε οι αναφορές να βλέπουν τα παλιά σύνολα μέχρι το commit.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO order_rollups (dimension, dimension_id, bucket_date, order_count, quantity, turnover) " +
+            "SELECT dimension, dimension_id, bucket_date, order_count, quantity, turnover " +
+            "FROM order_rollups_rebuild WHERE order_count <> 0",
+            nativeQuery = true)
+    int copyFromRebuild();
+
+    /**
+     * Επιστρέφει τα ημερήσια σύνολα μιας διάστασης για ένα διάστημα, προαιρετικά για ένα μόνο ID.
+     */
+    @Query("SELECT r FROM OrderRollup r " +
+            "WHERE r.dimension = :dimension AND r.bucketDate BETWEEN :from AND :to " +
+            "AND (:dimensionId IS NULL OR r.dimensionId = :dimensionId) AND r.orderCount <> 0 " +
+            "ORDER BY r.bucketDate ASC, r.dimensionId ASC")
+    List<OrderRollup> findDaily(@Param("dimension") RollupDimension dimension,
+                                @Param("dimensionId") Integer dimensionId,
+                                @Param("from") LocalDate from,
+                                @Param("to") LocalDate to);
+
+    /**
+     * Αθροίζει τα ημερήσια σύνολα ανά ID της διάστασης, με φθίνουσα σειρά τζίρου.
+     */
+    @Query("SELECT r.dimensionId AS dimensionId, SUM(r.orderCount) AS orderCount, " +
+            "SUM(r.quantity) AS quantity, SUM(r.turnover) AS turnover " +
+            "FROM OrderRollup r " +
+            "WHERE r.dimension = :dimension AND r.bucketDate BETWEEN :from AND :to " +
+            "GROUP BY r.dimensionId " +
+            "HAVING SUM(r.orderCount) <> 0 " +
+            "ORDER BY SUM(r.turnover) DESC, r.dimensionId ASC")
+    List<RollupTotalView> findTotals(@Param("dimension") RollupDimension dimension,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection με τα πεδία μιας παραγγελίας που χρειάζονται για την ανακατασκευή των συνόλων.
+ */
+public interface OrderRollupSourceView {
+
+    Integer getId();
+
+    LocalDateTime getCreatedAt();
+
+    Integer getProductId();
+
+    Integer getSupplierId();
+
+    Integer getCategoryId();
+
+    Integer getQuantity();
+
+    Double getTotalPrice();
+}
@@ -1,14 +1,25 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.ProductCategory; // Εισαγωγή της οντότητας
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository για τη διαχείριση των οντοτήτων ProductCategory στη βάση δεδομένων.
  * Παρέχει έτοιμες CRUD λειτουργίες μέσω του JpaRepository.
  */
 @Repository
 public interface ProductCategoryRepository extends JpaRepository<ProductCategory, Integer> {
-    // Μπορείτε να προσθέσετε custom queries αν χρειαστεί
+
+    /**
+     * Όλες οι κατηγορίες, από την cache queries όσο δεν έχει αλλάξει ο πίνακας categories.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ProductCategory> findAll();
 }
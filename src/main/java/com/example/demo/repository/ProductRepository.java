@@ -1,9 +1,21 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.Product;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository για τη διαχείριση των οντοτήτων Product στη βάση δεδομένων.
@@ -20,6 +32,25 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
      */
     List<Product> findByProductNameContainingIgnoreCase(String productName);
 
+    /**
+     * Επιστρέφει το όνομα και την κατηγορία όλων των προϊόντων, για το χτίσιμο του ευρετηρίου αναζήτησης.
+     *
+     * @return Λίστα με τα πεδία αναζήτησης κάθε προϊόντος.
+     */
+    @Query("SELECT p.id AS id, p.productName AS productName, c.id AS categoryId, c.name AS categoryName " +
+            "FROM Product p LEFT JOIN p.category c")
+    List<ProductSearchView> findAllSearchViews();
+
+    /**
+     * Τα πεδία ενός προϊόντος για το ευρετήριο αναζήτησης, μαζί με το όνομα της κατηγορίας του.
+     *
+     * @param id το ID του προϊόντος.
+     * @return το projection, αν το προϊόν υπάρχει.
+     */
+    @Query("SELECT p.id AS id, p.productName AS productName, c.id AS categoryId, c.name AS categoryName " +
+            "FROM Product p LEFT JOIN p.category c WHERE p.id = :id")
+    Optional<ProductSearchView> findSearchViewById(@Param("id") Integer id);
+
     /**
      * Βρίσκει προϊόντα με βάση την κατηγορία τους.
      *
@@ -28,6 +59,117 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
      */
     List<Product> findByCategoryId(int categoryId);
 
+    /**
+     * Επιστρέφει την επόμενη σελίδα προϊόντων (keyset pagination στο ID).
+     * Η κατηγορία και ο προμηθευτής φορτώνονται στο ίδιο query ώστε η μετατροπή σε DTO
+     * να μην προκαλεί επιπλέον ερωτήματα.
+     *
+     * @param afterId  το τελευταίο ID της προηγούμενης σελίδας (0 για την πρώτη σελίδα).
+     * @param pageable το μέγεθος της σελίδας (χρησιμοποιείται μόνο το limit).
+     * @return Λίστα με τα προϊόντα της σελίδας, ταξινομημένα κατά ID.
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category LEFT JOIN FETCH p.supplier " +
+            "WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Product> findPageAfterId(@Param("afterId") Integer afterId, Pageable pageable);
 
+    /**
+     * Επιστρέφει όλα τα προϊόντα ως Stream, ώστε να διαβάζονται σταδιακά από τη βάση
+     * χωρίς να φορτώνεται ολόκληρος ο πίνακας στη μνήμη.
+     * Πρέπει να καλείται μέσα σε transaction και το Stream να κλείνει μετά τη χρήση.
+     *
+     * @return Stream με όλα τα προϊόντα, ταξινομημένα κατά ID.
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category LEFT JOIN FETCH p.supplier ORDER BY p.id ASC")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Product> streamAllBy();
+
+    /**
+     * Επιστρέφει μόνο το ID της κατηγορίας ενός προϊόντος, χωρίς φόρτωση της οντότητας.
+     *
+     * @param productId το ID του προϊόντος.
+     * @return το ID της κατηγορίας ή null αν το προϊόν δεν υπάρχει.
+     */
+    @Query("SELECT p.category.id FROM Product p WHERE p.id = :productId")
+    Integer findCategoryIdById(@Param("productId") Integer productId);
+
+    /**
+     * Βρίσκει τα προϊόντα με τα δοσμένα IDs σε ένα ερώτημα, μαζί με την κατηγορία και τον προμηθευτή τους.
+     *
+     * @param ids τα IDs των προϊόντων.
+     * @return Λίστα με τα προϊόντα που υπάρχουν (τα άγνωστα IDs παραλείπονται).
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category LEFT JOIN FETCH p.supplier WHERE p.id IN :ids")
+    List<Product> findAllWithReferencesByIdIn(@Param("ids") Collection<Integer> ids);
 
+    /**
+     * Επιστρέφει μόνο το διαθέσιμο απόθεμα ενός προϊόντος, χωρίς φόρτωση της οντότητας.
+     *
+     * @param productId το ID του προϊόντος.
+     * @return η ποσότητα ή null αν το προϊόν δεν υπάρχει.
+     */
+    @Query("SELECT p.quantity FROM Product p WHERE p.id = :productId")
+    Integer findQuantityById(@Param("productId") Integer productId);
+
+    /**
+     * Μειώνει ατομικά το απόθεμα ενός προϊόντος, μόνο αν επαρκεί.
+     * Ο έλεγχος και η μείωση γίνονται στην ίδια εντολή UPDATE, οπότε ταυτόχρονες παραγγελίες δεν μπορούν
+     * να οδηγήσουν σε αρνητικό απόθεμα. Πρέπει να καλείται μέσα σε transaction.
+     *
+     * @param productId το ID του προϊόντος.
+     * @param quantity  η ποσότητα προς δέσμευση.
+     * @return 1 αν το απόθεμα μειώθηκε, 0 αν δεν επαρκούσε ή το προϊόν δεν υπάρχει.
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :quantity " +
+            "WHERE p.id = :productId AND p.quantity >= :quantity")
+    int decrementStock(@Param("productId") Integer productId, @Param("quantity") int quantity);
+
+    /**
+     * Αυξάνει ατομικά το απόθεμα ενός προϊόντος (επιστροφή δεσμευμένης ποσότητας).
+     * Πρέπει να καλείται μέσα σε transaction.
+     *
+     * @param productId το ID του προϊόντος.
+     * @param quantity  η ποσότητα που επιστρέφεται.
+     * @return το πλήθος των γραμμών που ενημερώθηκαν.
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :quantity WHERE p.id = :productId")
+    int incrementStock(@Param("productId") Integer productId, @Param("quantity") int quantity);
+
+    /**
+     * Επιστρέφει στο απόθεμα των προϊόντων, με μία εντολή, τις δεσμευμένες ποσότητες των παραγγελιών ενός
+     * προμηθευτή με ID στο διάστημα (afterId, upToId]. Πρέπει να καλείται μέσα σε transaction, πριν από τη
+     * διαγραφή των παραγγελιών.
+     *
+     * @return το πλήθος των προϊόντων που ενημερώθηκαν.
+     */
+    @Modifying
+    @Query(value = "UPDATE products p SET p.quantity = p.quantity + (" +
+            "SELECT SUM(o.quantity) FROM orders o WHERE o.product_id = p.id AND o.supplier_id = :supplierId " +
+            "AND o.id > :afterId AND o.id <= :upToId AND o.stock_reserved = TRUE) " +
+            "WHERE p.id IN (SELECT o.product_id FROM orders o WHERE o.supplier_id = :supplierId " +
+            "AND o.id > :afterId AND o.id <= :upToId AND o.stock_reserved = TRUE)",
+            nativeQuery = true)
+    int releaseReservedStockOfSupplierOrders(@Param("supplierId") Integer supplierId,
+                                             @Param("afterId") Integer afterId,
+                                             @Param("upToId") Integer upToId);
+
+    /**
+     * Επιστρέφει τα IDs των προϊόντων ενός προμηθευτή.
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.supplier.id = :supplierId")
+    List<Integer> findIdsBySupplierId(@Param("supplierId") Integer supplierId);
+
+    /**
+     * Διαγράφει με μία εντολή τα προϊόντα ενός προμηθευτή. Πρέπει να καλείται μέσα σε transaction, αφού
+     * διαγραφούν οι παραγγελίες και οι συνδέσεις προμηθευτών που αναφέρονται σε αυτά.
+     *
+     * @return το πλήθος των προϊόντων που διαγράφηκαν.
+     */
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.supplier.id = :supplierId")
+    int deleteBySupplierId(@Param("supplierId") Integer supplierId);
 }
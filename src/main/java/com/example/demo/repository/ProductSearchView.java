@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+/**
+ * Projection με τα πεδία ενός προϊόντος που χρειάζεται το ευρετήριο αναζήτησης.
+ */
+public interface ProductSearchView {
+
+    Integer getId();
+
+    String getProductName();
+
+    Integer getCategoryId();
+
+    String getCategoryName();
+}
@@ -2,7 +2,10 @@ package com.example.demo.repository;
 
 import com.example.demo.model.Role;
 import com.example.demo.model.ERole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,6 +13,8 @@ import java.util.Optional;
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Integer> {
 
-    // Μέθοδος για εύρεση ρόλου με βάση το όνομα του ρόλου (ERole)
+    // Μέθοδος για εύρεση ρόλου με βάση το όνομα του ρόλου (ERole).
+    // Το αποτέλεσμα αποθηκεύεται στην cache queries και ο ρόλος στην περιοχή "roles"
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(ERole name);
 }
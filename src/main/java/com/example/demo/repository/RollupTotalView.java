@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+/**
+ * Projection με τα σύνολα μιας διάστασης (προϊόν, προμηθευτής ή κατηγορία) για ένα διάστημα ημερών.
+ */
+public interface RollupTotalView {
+
+    Integer getDimensionId();
+
+    Long getOrderCount();
+
+    Long getQuantity();
+
+    Double getTurnover();
+}
@@ -0,0 +1,17 @@
+package com.example.demo.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection με τα αθροίσματα των παραγγελιών ενός προμηθευτή για μία ημέρα.
+ */
+public interface SupplierDailyTurnoverView {
+
+    LocalDate getOrderDate();
+
+    Long getOrderCount();
+
+    Long getQuantity();
+
+    Double getTurnover();
+}
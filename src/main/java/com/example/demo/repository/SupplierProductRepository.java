@@ -2,14 +2,77 @@ package com.example.demo.repository;
 
 import com.example.demo.model.SupplierProduct; // Εισαγωγή της σωστής οντότητας
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repository για τη διαχείριση των οντότητων SupplierProduct στη βάση δεδομένων.
- * Παρέχει έτοιμες CRUD λειτουργίες μέσω του JpaRepository.
+ * Παρέχει έτοιμες CRUD λειτουργίες μέσω του JpaRepository και ατομικές ενημερώσεις του αποθέματος.
  */
 @Repository
 public interface SupplierProductRepository extends JpaRepository<SupplierProduct, Integer> {
 
-    // Μπορείτε να προσθέσετε custom queries αν χρειάζονται
+    /**
+     * Ελέγχει αν υπάρχει σύνδεση του προμηθευτή με το προϊόν.
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @param productId  το ID του προϊόντος.
+     * @return true αν υπάρχει η σύνδεση.
+     */
+    boolean existsBySupplierIdAndProductId(Integer supplierId, Integer productId);
+
+    /**
+     * Επιστρέφει το απόθεμα του προμηθευτή για ένα προϊόν.
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @param productId  το ID του προϊόντος.
+     * @return η ποσότητα ή null αν δεν υπάρχει η σύνδεση.
+     */
+    @Query("SELECT sp.quantity FROM SupplierProduct sp WHERE sp.supplier.id = :supplierId AND sp.product.id = :productId")
+    Integer findQuantityBySupplierIdAndProductId(@Param("supplierId") Integer supplierId,
+                                                 @Param("productId") Integer productId);
+
+    /**
+     * Μειώνει ατομικά το απόθεμα του προμηθευτή για ένα προϊόν, μόνο αν επαρκεί.
+     * Πρέπει να καλείται μέσα σε transaction.
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @param productId  το ID του προϊόντος.
+     * @param quantity   η ποσότητα προς δέσμευση.
+     * @return 1 αν το απόθεμα μειώθηκε, 0 αν δεν επαρκούσε ή δεν υπάρχει η σύνδεση.
+     */
+    @Modifying
+    @Query("UPDATE SupplierProduct sp SET sp.quantity = sp.quantity - :quantity " +
+            "WHERE sp.supplier.id = :supplierId AND sp.product.id = :productId AND sp.quantity >= :quantity")
+    int decrementStock(@Param("supplierId") Integer supplierId, @Param("productId") Integer productId,
+                       @Param("quantity") int quantity);
+
+    /**
+     * Αυξάνει ατομικά το απόθεμα του προμηθευτή για ένα προϊόν. Αν δεν υπάρχει η σύνδεση δεν αλλάζει τίποτα.
+     * Πρέπει να καλείται μέσα σε transaction.
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @param productId  το ID του προϊόντος.
+     * @param quantity   η ποσότητα που επιστρέφεται.
+     * @return το πλήθος των γραμμών που ενημερώθηκαν.
+     */
+    @Modifying
+    @Query("UPDATE SupplierProduct sp SET sp.quantity = sp.quantity + :quantity " +
+            "WHERE sp.supplier.id = :supplierId AND sp.product.id = :productId")
+    int incrementStock(@Param("supplierId") Integer supplierId, @Param("productId") Integer productId,
+                       @Param("quantity") int quantity);
+
+    /**
+     * Διαγράφει με μία εντολή τις συνδέσεις του προμηθευτή, καθώς και τις συνδέσεις άλλων προμηθευτών με
+     * προϊόντα του. Πρέπει να καλείται μέσα σε transaction.
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @return το πλήθος των συνδέσεων που διαγράφηκαν.
+     */
+    @Modifying
+    @Query("DELETE FROM SupplierProduct sp WHERE sp.supplier.id = :supplierId " +
+            "OR sp.product.id IN (SELECT p.id FROM Product p WHERE p.supplier.id = :supplierId)")
+    int deleteBySupplierOrItsProducts(@Param("supplierId") Integer supplierId);
 }
@@ -2,6 +2,9 @@ package com.example.demo.repository;
 
 import com.example.demo.model.Supplier;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -37,4 +40,15 @@ public interface SupplierRepository extends JpaRepository<Supplier, Integer> {
      * @return Λίστα με τους προμηθευτές που ταιριάζουν με την τοποθεσία.
      */
     List<Supplier> findByLocationContainingIgnoreCase(String location);
+
+    /**
+     * Διαγράφει τον προμηθευτή με μία εντολή, χωρίς φόρτωση και διαδοχική διαγραφή των προϊόντων του.
+     * Πρέπει να καλείται μέσα σε transaction, αφού διαγραφούν οι παραγγελίες και τα προϊόντα του.
+     *
+     * @param id το ID του προμηθευτή.
+     * @return 1 αν ο προμηθευτής διαγράφηκε, 0 αν δεν υπάρχει.
+     */
+    @Modifying
+    @Query("DELETE FROM Supplier s WHERE s.id = :id")
+    int deleteInBulkById(@Param("id") Integer id);
 }
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+/**
+ * Projection με το ID και τον αποθηκευμένο κωδικό ενός χρήστη, για τη μετάπτωση των κωδικών χωρίς φόρτωση της οντότητας.
+ */
+public interface UserPasswordView {
+
+    Integer getId();
+
+    String getPassword();
+}
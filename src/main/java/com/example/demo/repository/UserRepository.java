@@ -1,15 +1,23 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
 
-    // Μέθοδος για εύρεση χρήστη με βάση το username
+    // Μέθοδος για εύρεση χρήστη με βάση το username (οι ρόλοι φορτώνονται στο ίδιο query)
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findByUsername(String username);
 
     // Μέθοδος για έλεγχο αν υπάρχει χρήστης με συγκεκριμένο email
@@ -17,4 +25,22 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     // Μέθοδος για έλεγχο αν υπάρχει χρήστης με συγκεκριμένο username
     Boolean existsByUsername(String username);
+
+    /**
+     * Αντικαθιστά τον κωδικό ενός χρήστη μόνο αν δεν έχει αλλάξει στο μεταξύ (π.χ. από τη μετάπτωση στο
+     * παρασκήνιο ή από ταυτόχρονη σύνδεση).
+     *
+     * @return το πλήθος των γραμμών που ενημερώθηκαν (0 ή 1).
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :hash WHERE u.id = :id AND u.password = :current")
+    int replacePassword(@Param("id") Integer id, @Param("current") String current, @Param("hash") String hash);
+
+    /**
+     * Επόμενο τμήμα χρηστών με κωδικό AES (ό,τι δεν είναι hash BCrypt), με keyset στο ID.
+     */
+    @Query("SELECT u.id AS id, u.password AS password FROM User u " +
+            "WHERE u.id > :afterId AND u.password NOT LIKE '$2%' ORDER BY u.id")
+    List<UserPasswordView> findLegacyPasswords(@Param("afterId") Integer afterId, Pageable pageable);
 }
@@ -0,0 +1,325 @@
+package com.example.demo.search;
+
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.repository.ProductSearchView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ευρετήριο αναζήτησης προϊόντων στη μνήμη, πάνω στα ονόματα των προϊόντων και των κατηγοριών τους.
+ *
+ * <p>Κάθε λέξη (μετά από {@link TextFolding}) αναλύεται σε όλα τα τμήματά της μήκους 1 έως 3 χαρακτήρων (n-grams),
+ * και για κάθε τμήμα κρατιούνται τα IDs των προϊόντων που το περιέχουν. Μια λέξη της αναζήτησης βρίσκει τους
+ * υποψηφίους από την τομή των λιστών των τμημάτων της, και κάθε υποψήφιος επιβεβαιώνεται και βαθμολογείται πάνω
+ * στο πλήρες όνομα. Όλες οι λέξεις της αναζήτησης πρέπει να υπάρχουν στο όνομα ή στην κατηγορία.</p>
+ *
+ * <p>Το ευρετήριο χτίζεται κατά την εκκίνηση και ενημερώνεται από τις αλλαγές προϊόντων και κατηγοριών αυτού του
+ * κόμβου. Οι αναγνώσεις δεν κλειδώνουν, ενώ οι ενημερώσεις εκτελούνται σειριακά.</p>
+ */
+@Component
+public class ProductSearchIndex implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    private static final int MAX_GRAM = 3;
+
+    // Καλύτερη βαθμολογία πρώτα, μετά τα πιο σύντομα ονόματα (πιο κοντά στην αναζήτηση) και αλφαβητικά
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::score).reversed()
+            .thenComparingInt(match -> match.entry().foldedName().length())
+            .thenComparing(match -> match.entry().foldedName())
+            .thenComparing(match -> match.entry().id());
+
+    private final ProductRepository productRepository;
+
+    private volatile Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // Σειριοποιεί τις ενημερώσεις. Lock αντί για synchronized, επειδή το rebuild διαβάζει από τη βάση και ένα
+    // virtual thread δεν πρέπει να μένει pinned όσο περιμένει το JDBC
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    /**
+     * Ξαναχτίζει ολόκληρο το ευρετήριο από τη βάση. Οι αναζητήσεις συνεχίζουν στο παλιό ευρετήριο έως την αντικατάστασή του.
+     */
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            Map<Integer, Entry> newEntries = new ConcurrentHashMap<>();
+            Map<String, Set<Integer>> newPostings = new ConcurrentHashMap<>();
+            for (ProductSearchView view : productRepository.findAllSearchViews()) {
+                add(newEntries, newPostings,
+                        Entry.of(view.getId(), view.getProductName(), view.getCategoryId(), view.getCategoryName()));
+            }
+            entries = newEntries;
+            postings = newPostings;
+            ready = true;
+            logger.info("Το ευρετήριο αναζήτησης δημιουργήθηκε: {} προϊόντα, {} όροι σε {} ms.",
+                    newEntries.size(), newPostings.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(ProductSearchView view) {
+        if (view == null || view.getId() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            removeEntry(view.getId());
+            add(entries, postings,
+                    Entry.of(view.getId(), view.getProductName(), view.getCategoryId(), view.getCategoryName()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Ξαναδιαβάζει το προϊόν από τη βάση (μαζί με το όνομα της κατηγορίας του) και ενημερώνει το ευρετήριο.
+     * Καλείται μέσα στο transaction της αλλαγής, ώστε η ανάγνωση να βλέπει τα δεδομένα που μόλις γράφτηκαν.
+     *
+     * @param productId το ID του προϊόντος που δημιουργήθηκε ή άλλαξε.
+     */
+    public void refresh(Integer productId) {
+        if (productId == null) {
+            return;
+        }
+        productRepository.findSearchViewById(productId)
+                .ifPresentOrElse(this::put, () -> remove(productId));
+    }
+
+    public void remove(Integer productId) {
+        if (productId == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            removeEntry(productId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void renameCategory(Integer categoryId, String categoryName) {
+        if (categoryId == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            for (Entry entry : List.copyOf(entries.values())) {
+                if (categoryId.equals(entry.categoryId())) {
+                    removeEntry(entry.id());
+                    add(entries, postings, Entry.of(entry.id(), entry.name(), categoryId, categoryName));
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Επιστρέφει τα IDs των προϊόντων που ταιριάζουν, ταξινομημένα κατά συνάφεια.
+     *
+     * @param query η αναζήτηση του χρήστη.
+     * @param limit το μέγιστο πλήθος αποτελεσμάτων.
+     * @return τα IDs, το πιο σχετικό πρώτο.
+     */
+    public List<Integer> search(String query, int limit) {
+        String[] tokens = tokens(query);
+        if (tokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        for (Integer id : candidates(tokens)) {
+            Entry entry = entries.get(id);
+            int score = entry != null ? score(entry, tokens) : 0;
+            if (score > 0) {
+                matches.add(new Match(entry, score));
+            }
+        }
+        matches.sort(RANKING);
+        return matches.stream()
+                .limit(limit)
+                .map(match -> match.entry().id())
+                .toList();
+    }
+
+    /**
+     * Επιστρέφει τα IDs των προϊόντων που έχουν στο όνομά τους όλες τις λέξεις της αναζήτησης, χωρίς ταξινόμηση.
+     * Η κατηγορία δε λαμβάνεται υπόψη. Η αναζήτηση σταματά μόλις βρεθούν περισσότερα από {@code limit} προϊόντα,
+     * οπότε ένα αποτέλεσμα μεγαλύτερο από {@code limit} σημαίνει ότι η αναζήτηση είναι πολύ γενική.
+     *
+     * @param query η αναζήτηση του χρήστη.
+     * @param limit το μέγιστο πλήθος αποτελεσμάτων που χρειάζεται ο καλών.
+     * @return τα IDs των προϊόντων, το πολύ {@code limit + 1}.
+     */
+    public Set<Integer> matchingProductIds(String query, int limit) {
+        String[] tokens = tokens(query);
+        if (tokens.length == 0 || limit < 0) {
+            return Set.of();
+        }
+        Set<Integer> matching = new HashSet<>();
+        for (Integer id : candidates(tokens)) {
+            Entry entry = entries.get(id);
+            if (entry != null && nameMatches(entry, tokens)) {
+                matching.add(id);
+                if (matching.size() > limit) {
+                    break;
+                }
+            }
+        }
+        return matching;
+    }
+
+    private static String[] tokens(String query) {
+        return Arrays.stream(TextFolding.fold(query).split(" "))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    // Οι υποψήφιοι προκύπτουν από τη μεγαλύτερη λέξη, που έχει και τις πιο σύντομες λίστες
+    private Set<Integer> candidates(String[] tokens) {
+        String longest = tokens[0];
+        for (String token : tokens) {
+            if (token.length() > longest.length()) {
+                longest = token;
+            }
+        }
+        Map<String, Set<Integer>> current = postings;
+        if (longest.length() <= MAX_GRAM) {
+            return current.getOrDefault(longest, Set.of());
+        }
+
+        List<Set<Integer>> lists = new ArrayList<>();
+        for (int i = 0; i + MAX_GRAM <= longest.length(); i++) {
+            Set<Integer> list = current.get(longest.substring(i, i + MAX_GRAM));
+            if (list == null) {
+                return Set.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Integer> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    // 0 αν κάποια λέξη δεν υπάρχει ούτε στο όνομα ούτε στην κατηγορία
+    private static int score(Entry entry, String[] tokens) {
+        int total = 0;
+        for (String token : tokens) {
+            int score = fieldScore(entry.foldedName(), token, 30, 20, 10);
+            if (score == 0) {
+                score = fieldScore(entry.foldedCategory(), token, 5, 5, 2);
+            }
+            if (score == 0) {
+                return 0;
+            }
+            total += score;
+        }
+        if (entry.foldedName().equals(String.join(" ", tokens))) {
+            total += 100;
+        }
+        return total;
+    }
+
+    private static boolean nameMatches(Entry entry, String[] tokens) {
+        for (String token : tokens) {
+            if (!entry.foldedName().contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int fieldScore(String field, String token, int prefix, int wordPrefix, int contains) {
+        if (field.startsWith(token)) {
+            return prefix;
+        }
+        if (field.contains(" " + token)) {
+            return wordPrefix;
+        }
+        return field.contains(token) ? contains : 0;
+    }
+
+    private static void add(Map<Integer, Entry> entries, Map<String, Set<Integer>> postings, Entry entry) {
+        entries.put(entry.id(), entry);
+        for (String gram : grams(entry)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(entry.id());
+        }
+    }
+
+    private void removeEntry(Integer productId) {
+        Entry entry = entries.remove(productId);
+        if (entry == null) {
+            return;
+        }
+        for (String gram : grams(entry)) {
+            Set<Integer> list = postings.get(gram);
+            if (list != null) {
+                list.remove(productId);
+                if (list.isEmpty()) {
+                    postings.remove(gram, list);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(Entry entry) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, entry.foldedName());
+        addGrams(grams, entry.foldedCategory());
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (String word : text.split(" ")) {
+            for (int length = 1; length <= MAX_GRAM; length++) {
+                for (int i = 0; i + length <= word.length(); i++) {
+                    grams.add(word.substring(i, i + length));
+                }
+            }
+        }
+    }
+
+    private record Entry(Integer id, String name, Integer categoryId, String categoryName,
+                         String foldedName, String foldedCategory) {
+
+        static Entry of(Integer id, String name, Integer categoryId, String categoryName) {
+            return new Entry(id, name, categoryId, categoryName, TextFolding.fold(name), TextFolding.fold(categoryName));
+        }
+    }
+
+    private record Match(Entry entry, int score) {
+    }
+}
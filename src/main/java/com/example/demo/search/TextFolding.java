@@ -0,0 +1,42 @@
+package com.example.demo.search;
+
+import java.text.Normalizer;
+
+/**
+ * Κανονικοποίηση κειμένου για την αναζήτηση: πεζά, χωρίς τόνους και διαλυτικά, τελικό σίγμα ως σ και
+ * κάθε ακολουθία από σημεία στίξης ή κενά ως ένα κενό. Έτσι τα "Κινητό", "ΚΙΝΗΤΟ" και "κινητο" ταιριάζουν.
+ */
+public final class TextFolding {
+
+    private TextFolding() {
+    }
+
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        // Στη μορφή NFD οι τόνοι γίνονται ξεχωριστοί χαρακτήρες (combining marks) και παραλείπονται
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int type = Character.getType(c);
+            if (type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK
+                    || type == Character.COMBINING_SPACING_MARK) {
+                continue;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                pendingSpace = folded.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                folded.append(' ');
+                pendingSpace = false;
+            }
+            c = Character.toLowerCase(c);
+            folded.append(c == 'ς' ? 'σ' : c);
+        }
+        return folded.toString();
+    }
+}
@@ -3,27 +3,61 @@ package com.example.demo.security;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
 import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+/**
+ * Κρυπτογράφηση AES των κωδικών.
+ *
+ * <p>Το κλειδί δημιουργείται μία φορά και τα έτοιμα {@link Cipher} (κρυπτογράφηση και αποκρυπτογράφηση) κρατιούνται
+ * σε δύο μικρά pools, ώστε να μη γίνεται {@code Cipher.getInstance} (αναζήτηση provider) σε κάθε κλήση. Τα pools
+ * δεν είναι ανά νήμα, οπότε με virtual threads (ένα νήμα ανά αίτημα) δε δημιουργείται ένα Cipher για κάθε αίτημα.
+ * Όταν το pool είναι άδειο η κλήση δημιουργεί δικό της Cipher, και όταν είναι γεμάτο το Cipher δεν επιστρέφεται.
+ * Το {@code doFinal} επαναφέρει το Cipher στην κατάσταση μετά το {@code init}· μετά από σφάλμα το Cipher
+ * απορρίπτεται.</p>
+ */
 public class AESEncryptionUtil {
 
     private static final String ALGORITHM = "AES";
     private static final String SECRET_KEY = "@!3a5k8?0$2*456%"; // Προσαρμοσμένο κλειδί
 
+    private static final SecretKey KEY = new SecretKeySpec(SECRET_KEY.getBytes(), ALGORITHM);
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+    // ArrayBlockingQueue: κλειδαριά του java.util.concurrent, όχι synchronized, οπότε δεν κρατά pinned τα virtual threads
+    private static final BlockingQueue<Cipher> ENCRYPT = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final BlockingQueue<Cipher> DECRYPT = new ArrayBlockingQueue<>(POOL_SIZE);
+
     public static String encrypt(String data) throws Exception {
-        SecretKey secretKey = new SecretKeySpec(SECRET_KEY.getBytes(), ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-        byte[] encryptedData = cipher.doFinal(data.getBytes());
+        byte[] encryptedData = doFinal(ENCRYPT, Cipher.ENCRYPT_MODE, data.getBytes());
         return Base64.getEncoder().encodeToString(encryptedData);
     }
 
     public static String decrypt(String encryptedData) throws Exception {
-        SecretKey secretKey = new SecretKeySpec(SECRET_KEY.getBytes(), ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, secretKey);
         byte[] decodedData = Base64.getDecoder().decode(encryptedData);
-        byte[] decryptedData = cipher.doFinal(decodedData);
+        byte[] decryptedData = doFinal(DECRYPT, Cipher.DECRYPT_MODE, decodedData);
         return new String(decryptedData);
     }
+
+    private static byte[] doFinal(BlockingQueue<Cipher> pool, int mode, byte[] input) throws GeneralSecurityException {
+        Cipher cipher = pool.poll();
+        if (cipher == null) {
+            cipher = cipher(mode);
+        }
+        byte[] output = cipher.doFinal(input);
+        pool.offer(cipher);
+        return output;
+    }
+
+    private static Cipher cipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(mode, KEY);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ο αλγόριθμος " + ALGORITHM + " δεν είναι διαθέσιμος.", e);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.example.demo.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Ρυθμίσεις για τις caches της αυθεντικοποίησης (επαληθευμένα JWT και φορτωμένοι χρήστες).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security.cache")
+@Getter
+@Setter
+public class AuthCacheProperties {
+
+    // Μέγιστος αριθμός επαληθευμένων tokens στη μνήμη
+    private long tokenMaxSize = 10_000;
+
+    // Ανώτατος χρόνος παραμονής ενός token στην cache (ποτέ μετά τη λήξη του token)
+    private Duration tokenMaxTtl = Duration.ofMinutes(10);
+
+    // Μέγιστος αριθμός χρηστών (principals) στη μνήμη
+    private long principalMaxSize = 10_000;
+
+    // Χρόνος ζωής ενός principal στην cache
+    private Duration principalTtl = Duration.ofSeconds(60);
+}
@@ -0,0 +1,25 @@
+package com.example.demo.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ρυθμίσεις για την αποθήκευση των κωδικών (BCrypt) και τη μετάπτωση των παλιών κωδικών AES.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security.password")
+@Getter
+@Setter
+public class PasswordProperties {
+
+    // Συντελεστής κόστους του BCrypt (2^strength γύροι), επιλέγεται με το PasswordEncoderBenchmark
+    private int bcryptStrength = 10;
+
+    // Εκκίνηση της μετάπτωσης των κωδικών AES στο παρασκήνιο κατά την εκκίνηση της εφαρμογής
+    private boolean migrateOnStartup = true;
+
+    // Πλήθος χρηστών ανά ανάγνωση κατά τη μετάπτωση
+    private int migrationBatchSize = 100;
+}
@@ -27,14 +27,19 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   DaoAuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(csrf -> csrf.disable()) // Απενεργοποίηση CSRF
                 .authorizeHttpRequests(auth -> auth
                         // Δημόσια endpoints
                         .requestMatchers("/api/login","/api/register").permitAll()
                         .requestMatchers("/error").permitAll()
+                        // Health check και scrape του Prometheus (τα υπόλοιπα endpoints του actuator δεν εκτίθενται)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/api/customers/**").authenticated()
+                        // Η εναλλαγή των κλειδιών υπογραφής των JWT μόνο από διαχειριστές
+                        .requestMatchers("/api/security/jwt-keys/**").hasRole("ADMIN")
                         // Όλα τα υπόλοιπα endpoints απαιτούν αυθεντικοποίηση
                         .anyRequest().authenticated()
 
@@ -42,7 +47,7 @@ public class SecurityConfiguration {
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // Προσθήκη JwtAuthenticationFilter
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // Stateless
-                .authenticationProvider(authenticationProvider());
+                .authenticationProvider(authenticationProvider);
 
         return http.build();
     }
@@ -50,16 +55,18 @@ public class SecurityConfiguration {
 
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
+    // Static, ώστε οι υπηρεσίες που τον χρειάζονται (UserService, PasswordService) να μην εξαρτώνται από
+    // αυτή την κλάση, που με τη σειρά της εξαρτάται από το CustomUserDetailsService
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(PasswordProperties properties) {
+        return new BCryptPasswordEncoder(properties.getBcryptStrength());
     }
 
     @Bean
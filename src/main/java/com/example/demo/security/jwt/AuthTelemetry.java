@@ -0,0 +1,121 @@
+package com.example.demo.security.jwt;
+
+import com.example.demo.exception.ResourceNotFoundException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Καταγραφή και metrics της αυθεντικοποίησης με JWT.
+ *
+ * <p>Κάθε αποτέλεσμα ({@link Outcome}) μετράει στο timer {@value #METRIC} με tag {@code outcome}, οπότε το
+ * {@code _count} του είναι και ο μετρητής του αποτελέσματος. Οι timers δημιουργούνται μία φορά, και τα μηνύματα
+ * είναι παραμετρικά με έως δύο ορίσματα, ώστε όταν το επίπεδο είναι απενεργοποιημένο να μη δημιουργείται κανένα
+ * String. Το token και το header Authorization δεν καταγράφονται ποτέ.</p>
+ */
+@Component
+public class AuthTelemetry {
+
+    public static final String METRIC = "app.security.jwt.filter";
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthTelemetry.class);
+
+    /**
+     * Το αποτέλεσμα της αυθεντικοποίησης ενός αιτήματος με Bearer token.
+     */
+    public enum Outcome {
+        /** Το token βρέθηκε στην cache των επαληθευμένων tokens. */
+        CACHED("cached"),
+        /** Η υπογραφή και η λήξη του token ελέγχθηκαν τώρα. */
+        PARSED("parsed"),
+        EXPIRED("expired"),
+        BAD_SIGNATURE("bad_signature"),
+        MALFORMED("malformed"),
+        USER_NOT_FOUND("user_not_found"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    public AuthTelemetry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder(METRIC)
+                    .description("Διάρκεια και αποτέλεσμα της αυθεντικοποίησης με JWT")
+                    .tag("outcome", outcome.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Καταγράφει το αποτέλεσμα ενός αιτήματος.
+     *
+     * @param sample   η χρονομέτρηση από το {@link #start()}.
+     * @param outcome  το αποτέλεσμα.
+     * @param username ο χρήστης του token, αν είναι γνωστός.
+     * @param path     το URI του αιτήματος.
+     * @param error    η εξαίρεση, για τα αποτελέσματα αποτυχίας.
+     */
+    public void record(Timer.Sample sample, Outcome outcome, String username, String path, Throwable error) {
+        sample.stop(timers.get(outcome));
+        switch (outcome) {
+            case CACHED, PARSED -> logger.debug("Αυθεντικοποίηση του χρήστη {} για {}.", username, path);
+            case EXPIRED -> logger.debug("Απόρριψη ληγμένου token για {}.", path);
+            case MALFORMED -> logger.info("Απόρριψη μη έγκυρου token για {}.", path);
+            case BAD_SIGNATURE -> logger.warn("Απόρριψη token με λάθος υπογραφή για {}.", path);
+            case USER_NOT_FOUND -> logger.warn("Ο χρήστης {} του token δεν υπάρχει ({}).", username, path);
+            case ERROR -> logger.error("Σφάλμα κατά την αυθεντικοποίηση για {}.", path, error);
+        }
+    }
+
+    /**
+     * Κατατάσσει μια εξαίρεση της αυθεντικοποίησης, εξετάζοντας και τις αιτίες της
+     * (το JwtTokenUtil τυλίγει τις εξαιρέσεις του jjwt).
+     *
+     * @param e η εξαίρεση.
+     * @return το αντίστοιχο αποτέλεσμα.
+     */
+    public static Outcome classify(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ExpiredJwtException) {
+                return Outcome.EXPIRED;
+            }
+            // Τα tokens χωρίς υπογραφή ("none") απορρίπτονται από το jjwt ως UnsupportedJwtException
+            if (cause instanceof SignatureException || cause instanceof UnsupportedJwtException) {
+                return Outcome.BAD_SIGNATURE;
+            }
+            if (cause instanceof JwtException || cause instanceof IllegalArgumentException) {
+                return Outcome.MALFORMED;
+            }
+            if (cause instanceof UsernameNotFoundException || cause instanceof ResourceNotFoundException) {
+                return Outcome.USER_NOT_FOUND;
+            }
+        }
+        return Outcome.ERROR;
+    }
+}
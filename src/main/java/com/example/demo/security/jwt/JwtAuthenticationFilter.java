@@ -1,7 +1,11 @@
 package com.example.demo.security.jwt;
 
+import com.example.demo.security.jwt.AuthTelemetry.Outcome;
 import com.example.demo.service.CustomUserDetailsService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -13,57 +17,69 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Date;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
+    private final JwtTokenCache jwtTokenCache;
     private final CustomUserDetailsService customUserDetailsService;
+    private final AuthTelemetry authTelemetry;
 
-    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, CustomUserDetailsService customUserDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, JwtTokenCache jwtTokenCache,
+                                   CustomUserDetailsService customUserDetailsService, AuthTelemetry authTelemetry) {
         this.jwtTokenUtil = jwtTokenUtil;
+        this.jwtTokenCache = jwtTokenCache;
         this.customUserDetailsService = customUserDetailsService;
+        this.authTelemetry = authTelemetry;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
-        System.out.println("JwtAuthenticationFilter: Processing request...");
-        System.out.println("Request URI: " + request.getRequestURI());
-        System.out.println("Query String: " + request.getQueryString());
-        System.out.println("Authorization Header: " + request.getHeader("Authorization"));
-
         String authHeader = request.getHeader("Authorization");
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            // Χρονομετρείται μόνο η αυθεντικοποίηση, όχι το υπόλοιπο αίτημα
+            Timer.Sample sample = authTelemetry.start();
+            Outcome outcome = Outcome.PARSED;
+            String username = null;
+            Exception error = null;
             String token = authHeader.substring(7);
-            System.out.println("Extracted Token: " + token);
 
             try {
-                Claims claims = jwtTokenUtil.extractClaims(token);
-                String username = claims.getSubject();
-                System.out.println("Extracted Username: " + username);
+                // Η υπογραφή ελέγχεται μόνο την πρώτη φορά· μετά το token εξυπηρετείται από την cache
+                username = jwtTokenCache.getVerifiedSubject(token);
+                if (username != null) {
+                    outcome = Outcome.CACHED;
+                } else {
+                    // Τα ληγμένα tokens απορρίπτονται πριν από τον έλεγχο της υπογραφής, που είναι το ακριβό βήμα
+                    Date expiration = jwtTokenUtil.peekExpiration(token);
+                    if (expiration != null && expiration.getTime() <= System.currentTimeMillis()) {
+                        throw new ExpiredJwtException(null, null, "Το token έληξε στις " + expiration.toInstant());
+                    }
+                    Jws<Claims> verified = jwtTokenUtil.verifyToken(token);
+                    username = verified.getPayload().getSubject();
+                    jwtTokenCache.put(token, verified.getHeader().getKeyId(), verified.getPayload());
+                }
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     var userDetails = customUserDetailsService.loadUserByUsername(username);
-                    System.out.println("Loaded UserDetails for: " + username);
 
-                    if (jwtTokenUtil.validateToken(token)) {
-                        System.out.println("Token is valid for user: " + username);
-
-                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    } else {
-                        System.out.println("Token is invalid for user: " + username);
-                    }
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             } catch (Exception e) {
-                System.out.println("Error in JwtAuthenticationFilter: " + e.getMessage());
+                error = e;
+                outcome = AuthTelemetry.classify(e);
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.getWriter().write("Invalid JWT token.");
                 return;
+            } finally {
+                authTelemetry.record(sample, outcome, username, request.getRequestURI(), error);
             }
         }
 
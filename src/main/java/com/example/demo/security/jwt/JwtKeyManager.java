@@ -0,0 +1,86 @@
+package com.example.demo.security.jwt;
+
+import com.example.demo.dto.JwtKeysDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Αλλαγές των κλειδιών υπογραφής των JWT κατά τη λειτουργία της εφαρμογής, χωρίς επανεκκίνηση.
+ * Ελέγχει τα αιτήματα πριν τα περάσει στο {@link JwtKeyRing} και, όταν αφαιρείται ένα κλειδί, αφαιρεί από το
+ * {@link JwtTokenCache} και τα tokens που υπογράφηκαν με αυτό.
+ *
+ * <p>Οι αλλαγές κρατιούνται στη μνήμη, οπότε αφορούν μία εφαρμογή: με περισσότερες πρέπει να γίνονται σε καθεμία
+ * και μετά από επανεκκίνηση ισχύουν ξανά τα κλειδιά του {@code bezkoder.app}.</p>
+ */
+@Component
+public class JwtKeyManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyManager.class);
+
+    // Το ελάχιστο μήκος μυστικού για HS512
+    private static final int MIN_SECRET_BYTES = 64;
+
+    private final JwtKeyRing keyRing;
+    private final JwtTokenCache jwtTokenCache;
+
+    public JwtKeyManager(JwtKeyRing keyRing, JwtTokenCache jwtTokenCache) {
+        this.keyRing = keyRing;
+        this.jwtTokenCache = jwtTokenCache;
+    }
+
+    /**
+     * @return το ενεργό κλειδί και όλα τα κλειδιά που γίνονται δεκτά (μόνο τα αναγνωριστικά, όχι τα μυστικά).
+     */
+    public JwtKeysDTO getKeys() {
+        return new JwtKeysDTO(keyRing.activeKeyId(), keyRing.keyIds().stream().sorted().toList());
+    }
+
+    /**
+     * Προσθέτει ένα νέο κλειδί και το κάνει ενεργό. Τα tokens των προηγούμενων κλειδιών ισχύουν μέχρι να λήξουν ή να
+     * αφαιρεθεί το κλειδί τους.
+     *
+     * @param keyId  το αναγνωριστικό του νέου κλειδιού.
+     * @param secret το μυστικό, τουλάχιστον 64 bytes σε UTF-8.
+     * @throws InvalidRequestException αν το αναγνωριστικό είναι κενό, το μυστικό μικρό ή το κλειδί υπάρχει ήδη.
+     */
+    public JwtKeysDTO rotate(String keyId, String secret) {
+        if (keyId == null || keyId.isBlank() || secret == null
+                || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new InvalidRequestException(ErrorCode.INVALID_JWT_KEY, keyId);
+        }
+        // Ένα υπάρχον kid με άλλο μυστικό θα άλλαζε σιωπηλά το κλειδί των tokens που έχουν ήδη επαληθευτεί
+        if (keyRing.contains(keyId)) {
+            throw new InvalidRequestException(ErrorCode.JWT_KEY_ALREADY_EXISTS, keyId);
+        }
+        keyRing.rotate(keyId, secret.getBytes(StandardCharsets.UTF_8));
+        logger.info("Νέο ενεργό κλειδί υπογραφής JWT: {}", keyId);
+        return getKeys();
+    }
+
+    /**
+     * Αφαιρεί ένα κλειδί: τα tokens που υπογράφηκαν με αυτό απορρίπτονται από την επόμενη χρήση τους.
+     *
+     * @param keyId το αναγνωριστικό του κλειδιού.
+     * @throws ResourceNotFoundException αν το κλειδί δεν υπάρχει.
+     * @throws InvalidRequestException   αν το κλειδί είναι το ενεργό.
+     */
+    public JwtKeysDTO retire(String keyId) {
+        if (!keyRing.contains(keyId)) {
+            throw new ResourceNotFoundException(ErrorCode.JWT_KEY_NOT_FOUND, keyId);
+        }
+        try {
+            keyRing.retire(keyId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(ErrorCode.ACTIVE_JWT_KEY_CANNOT_BE_RETIRED, keyId);
+        }
+        jwtTokenCache.invalidateKey(keyId);
+        logger.info("Αφαιρέθηκε το κλειδί υπογραφής JWT: {}", keyId);
+        return getKeys();
+    }
+}
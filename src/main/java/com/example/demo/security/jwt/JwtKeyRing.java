@@ -0,0 +1,120 @@
+package com.example.demo.security.jwt;
+
+import com.example.demo.security.JwtProperties;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Τα κλειδιά υπογραφής των JWT (HS512), με αναγνωριστικό ({@code kid}) το καθένα.
+ *
+ * <p>Τα κλειδιά διαβάζονται από το {@link JwtProperties}: το ενεργό ({@code jwtSecret}, {@code jwtKeyId}) και τα
+ * προηγούμενα ({@code jwtPreviousSecrets}). Τα νέα tokens υπογράφονται με το ενεργό κλειδί και φέρουν το {@code kid}
+ * του στο header. Η επαλήθευση δέχεται κάθε κλειδί του δακτυλίου, οπότε μετά από {@link #rotate} τα tokens που
+ * εκδόθηκαν με το προηγούμενο κλειδί ισχύουν μέχρι να λήξουν ή να γίνει {@link #retire}. Τα tokens χωρίς
+ * {@code kid} (πριν από τα κλειδιά με αναγνωριστικό) επαληθεύονται με το κλειδί {@link #DEFAULT_KEY_ID}.</p>
+ *
+ * <p>Ως {@link io.jsonwebtoken.Locator} δίνει στον parser του jjwt το κλειδί κάθε token από το {@code kid} του,
+ * οπότε ο parser χτίζεται μία φορά και οι αλλαγές κλειδιών ισχύουν χωρίς επανεκκίνηση.</p>
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    /** Το kid με το οποίο επαληθεύονται τα tokens χωρίς kid. */
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private volatile Map<String, SecretKey> keys;
+    private volatile SigningKey active;
+
+    public JwtKeyRing(JwtProperties properties) {
+        Map<String, SecretKey> initial = new HashMap<>();
+        properties.getJwtPreviousSecrets().forEach((keyId, secret) -> initial.put(keyId, secretKey(secret)));
+        this.active = new SigningKey(properties.getJwtKeyId(), secretKey(properties.getJwtSecret()));
+        initial.put(active.keyId(), active.secretKey());
+        this.keys = Map.copyOf(initial);
+    }
+
+    /**
+     * Προσθέτει ένα νέο κλειδί και το κάνει ενεργό για τα νέα tokens.
+     *
+     * @param keyId  το αναγνωριστικό του κλειδιού (kid).
+     * @param secret το μυστικό, τουλάχιστον 64 bytes για HS512.
+     */
+    public synchronized void rotate(String keyId, byte[] secret) {
+        SigningKey key = new SigningKey(keyId, Keys.hmacShaKeyFor(secret));
+        Map<String, SecretKey> updated = new HashMap<>(keys);
+        updated.put(keyId, key.secretKey());
+        keys = Map.copyOf(updated);
+        active = key;
+    }
+
+    /**
+     * Αφαιρεί ένα κλειδί: τα tokens που υπογράφηκαν με αυτό δεν γίνονται πλέον δεκτά.
+     *
+     * @param keyId το αναγνωριστικό του κλειδιού.
+     * @throws IllegalArgumentException αν το κλειδί είναι το ενεργό.
+     */
+    public synchronized void retire(String keyId) {
+        if (active.keyId().equals(keyId)) {
+            throw new IllegalArgumentException("Το ενεργό κλειδί δεν μπορεί να αφαιρεθεί: " + keyId);
+        }
+        Map<String, SecretKey> updated = new HashMap<>(keys);
+        updated.remove(keyId);
+        keys = Map.copyOf(updated);
+    }
+
+    public String activeKeyId() {
+        return active.keyId();
+    }
+
+    /**
+     * @param keyId το αναγνωριστικό του κλειδιού.
+     * @return true αν τα tokens με αυτό το kid γίνονται ακόμη δεκτά.
+     */
+    public boolean contains(String keyId) {
+        return keys.containsKey(keyId);
+    }
+
+    public Set<String> keyIds() {
+        return keys.keySet();
+    }
+
+    SigningKey active() {
+        return active;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        // Μόνο HS512: απορρίπτονται οι αλλαγές αλγορίθμου (τα "none" απορρίπτει ήδη ο parser)
+        if (!Jwts.SIG.HS512.getId().equals(header.getAlgorithm())) {
+            throw new SignatureException("Μη αποδεκτός αλγόριθμος υπογραφής: " + header.getAlgorithm());
+        }
+        String keyId = header.getKeyId();
+        SecretKey key = keys.get(keyId != null ? keyId : DEFAULT_KEY_ID);
+        if (key == null) {
+            throw new SignatureException("Άγνωστο κλειδί υπογραφής: " + keyId);
+        }
+        return key;
+    }
+
+    // Ελέγχει και το ελάχιστο μήκος του μυστικού για τον αλγόριθμο
+    private static SecretKey secretKey(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalStateException("Δεν έχει οριστεί μυστικό για την υπογραφή των JWT (bezkoder.app.jwtSecret).");
+        }
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    record SigningKey(String keyId, SecretKey secretKey) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.security.jwt;
+
+import com.example.demo.security.AuthCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache με τα JWT που έχουν ήδη επαληθευτεί (υπογραφή και λήξη).
+ * Το κλειδί είναι το SHA-256 digest του token, ώστε τα ίδια τα tokens να μην κρατούνται στη μνήμη.
+ * Κάθε εγγραφή λήγει το αργότερο όταν λήγει και το token.
+ * Κάθε εγγραφή κρατά και το {@code kid} του κλειδιού που την υπέγραψε: μετά από {@link JwtKeyRing#retire} τα tokens
+ * αυτού του κλειδιού δεν εξυπηρετούνται πλέον από την cache, ακόμη κι αν καταχωρήθηκαν ενώ γινόταν η αφαίρεση.
+ * Τα στατιστικά της δημοσιεύονται ως metrics {@code cache.*} με {@code cache=jwt-tokens}.
+ */
+@Component
+public class JwtTokenCache implements MeterBinder {
+
+    private final Cache<String, VerifiedToken> cache;
+    private final JwtKeyRing keyRing;
+
+    public JwtTokenCache(AuthCacheProperties properties, JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        long maxTtlNanos = properties.getTokenMaxTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getTokenMaxSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long untilExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                value.expiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Επιστρέφει το username ενός token που έχει ήδη επαληθευτεί.
+     *
+     * @param token το JWT.
+     * @return το subject του token ή null αν το token δεν υπάρχει στην cache, έχει λήξει ή το κλειδί του έχει
+     * αφαιρεθεί.
+     */
+    public String getVerifiedSubject(String token) {
+        String key = digest(token);
+        VerifiedToken verified = cache.getIfPresent(key);
+        if (verified == null || verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            return null;
+        }
+        if (!keyRing.contains(verified.keyId())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return verified.subject();
+    }
+
+    /**
+     * Καταχωρεί ένα token μετά από επιτυχή επαλήθευση της υπογραφής του.
+     *
+     * @param token  το JWT.
+     * @param keyId  το {@code kid} του header ή null αν το token δεν έχει.
+     * @param claims τα claims που επέστρεψε η επαλήθευση.
+     */
+    public void put(String token, String keyId, Claims claims) {
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return;
+        }
+        cache.put(digest(token), new VerifiedToken(claims.getSubject(),
+                keyId != null ? keyId : JwtKeyRing.DEFAULT_KEY_ID, claims.getExpiration().getTime()));
+    }
+
+    /**
+     * Αφαιρεί από την cache τα tokens που υπογράφηκαν με ένα κλειδί, μετά την αφαίρεσή του από το {@link JwtKeyRing}.
+     *
+     * @param keyId το αναγνωριστικό του κλειδιού.
+     */
+    public void invalidateKey(String keyId) {
+        cache.asMap().values().removeIf(verified -> verified.keyId().equals(keyId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt-tokens");
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Ο αλγόριθμος SHA-256 δεν είναι διαθέσιμος.", e);
+        }
+    }
+
+    private record VerifiedToken(String subject, String keyId, long expiresAtMillis) {
+    }
+}
@@ -1,44 +1,71 @@
 package com.example.demo.security.jwt;
 
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import com.example.demo.security.JwtProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.util.Base64;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 
+/**
+ * Έκδοση και επαλήθευση των JWT (HS512) με το jjwt.
+ *
+ * <p>Ο parser χτίζεται μία φορά στην κατασκευή: είναι immutable και thread-safe και παίρνει το κλειδί κάθε token
+ * από το {@link JwtKeyRing} με βάση το {@code kid} (μόνο για HS512), οπότε οι αλλαγές κλειδιών δεν χρειάζονται
+ * νέο parser. Η υπογραφή ελέγχεται πριν από τη λήξη και τα υπόλοιπα claims.</p>
+ */
 @Component
 public class JwtTokenUtil {
 
-    // Διορθωμένο σταθερό μυστικό κλειδί
-    private static final String SECRET_KEY_STRING = "12345678912akalhmera@kosmaspatraKK12345678912akalhmera@kosmaspatraKK";
-    private static final SecretKey SECRET_KEY = Keys.hmacShaKeyFor(SECRET_KEY_STRING.getBytes());
-    private static final long EXPIRATION_TIME = 86400000; // 1 ημέρα σε milliseconds
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JwtKeyRing keyRing;
+    private final long expirationMs;
+    private final JwtParser parser;
+
+    public JwtTokenUtil(JwtKeyRing keyRing, JwtProperties properties) {
+        this.keyRing = keyRing;
+        this.expirationMs = properties.getJwtExpirationMs();
+        this.parser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
+    }
 
     public String generateToken(String username, String email) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("email", email);
+        JwtKeyRing.SigningKey key = keyRing.active();
+        Date now = new Date();
 
         return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(SECRET_KEY, SignatureAlgorithm.HS512)
+                .header().keyId(key.keyId()).and()
+                .claim("email", email)
+                .subject(username)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + expirationMs))
+                .signWith(key.secretKey(), Jwts.SIG.HS512)
                 .compact();
     }
 
     public Claims extractClaims(String token) {
+        return verifyToken(token).getPayload();
+    }
+
+    /**
+     * Επαληθεύει το token και επιστρέφει και το header του, ώστε να είναι γνωστό το {@code kid} του κλειδιού.
+     *
+     * @param token το token.
+     * @return το επαληθευμένο token.
+     */
+    public Jws<Claims> verifyToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseSignedClaims(token);
         } catch (Exception e) {
             throw new RuntimeException("Invalid or expired token", e);
         }
@@ -52,4 +79,42 @@ public class JwtTokenUtil {
             return false;
         }
     }
+
+    /**
+     * Διαβάζει μόνο τη λήξη του token, χωρίς έλεγχο υπογραφής. Χρησιμεύει μόνο για να απορριφθεί νωρίς ένα
+     * ληγμένο token· ποτέ για να γίνει δεκτό.
+     *
+     * @param token το token.
+     * @return η λήξη ή null αν το token δεν έχει {@code exp}.
+     * @throws MalformedJwtException αν το token δεν είναι JWT.
+     */
+    public Date peekExpiration(String token) {
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first <= 0 || first == last) {
+            throw new MalformedJwtException("Το token δεν έχει τη μορφή header.payload.signature.");
+        }
+        byte[] payload;
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(first + 1, last));
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Το token δεν είναι έγκυρο Base64URL.", e);
+        }
+        try (JsonParser json = JSON.createParser(payload)) {
+            if (json.nextToken() != JsonToken.START_OBJECT) {
+                throw new MalformedJwtException("Το payload του token δεν είναι αντικείμενο JSON.");
+            }
+            while (json.nextToken() == JsonToken.FIELD_NAME) {
+                String field = json.currentName();
+                JsonToken value = json.nextToken();
+                if (Claims.EXPIRATION.equals(field) && value.isNumeric()) {
+                    return new Date(json.getLongValue() * 1000);
+                }
+                json.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new MalformedJwtException("Το payload του token δεν είναι έγκυρο JSON.", e);
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.SalesRollupDTO;
+import com.example.demo.dto.SalesTotalDTO;
+import com.example.demo.model.RollupDimension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Διεπαφή για τα αναλυτικά στοιχεία πωλήσεων, που διαβάζονται από τα προ-υπολογισμένα σύνολα.
+ */
+public interface AnalyticsService {
+
+    // Ημερήσια σύνολα μιας διάστασης, προαιρετικά για ένα μόνο προϊόν/προμηθευτή/κατηγορία
+    List<SalesRollupDTO> getDailySales(RollupDimension dimension, Integer dimensionId,
+                                       LocalDate startDate, LocalDate endDate);
+
+    // Σύνολα ανά προϊόν/προμηθευτή/κατηγορία για το διάστημα, με φθίνουσα σειρά τζίρου
+    List<SalesTotalDTO> getSalesTotals(RollupDimension dimension, LocalDate startDate, LocalDate endDate,
+                                       Integer limit);
+}
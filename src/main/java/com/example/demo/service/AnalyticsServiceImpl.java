@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import com.example.demo.config.AnalyticsProperties;
+import com.example.demo.dto.SalesRollupDTO;
+import com.example.demo.dto.SalesTotalDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.model.RollupDimension;
+import com.example.demo.repository.OrderRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+    private final OrderRollupRepository orderRollupRepository;
+    private final AnalyticsProperties properties;
+
+    public AnalyticsServiceImpl(OrderRollupRepository orderRollupRepository, AnalyticsProperties properties) {
+        this.orderRollupRepository = orderRollupRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SalesRollupDTO> getDailySales(RollupDimension dimension, Integer dimensionId,
+                                              LocalDate startDate, LocalDate endDate) {
+        logger.info("Ανάκτηση ημερήσιων πωλήσεων ανά {} από {} έως {}", dimension, startDate, endDate);
+        validateRange(startDate, endDate);
+
+        return orderRollupRepository.findDaily(dimension, dimensionId, startDate, endDate).stream()
+                .map(rollup -> new SalesRollupDTO(rollup.getBucketDate(), rollup.getDimension(),
+                        rollup.getDimensionId(), rollup.getOrderCount(), rollup.getQuantity(), rollup.getTurnover()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SalesTotalDTO> getSalesTotals(RollupDimension dimension, LocalDate startDate, LocalDate endDate,
+                                              Integer limit) {
+        logger.info("Ανάκτηση συνόλων πωλήσεων ανά {} από {} έως {}", dimension, startDate, endDate);
+        validateRange(startDate, endDate);
+
+        return orderRollupRepository.findTotals(dimension, startDate, endDate,
+                        PageRequest.ofSize(properties.resolveTopSize(limit))).stream()
+                .map(total -> new SalesTotalDTO(dimension, total.getDimensionId(), total.getOrderCount(),
+                        total.getQuantity(), total.getTurnover()))
+                .collect(Collectors.toList());
+    }
+
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidRequestException(ErrorCode.INVALID_DATE_RANGE, startDate, endDate);
+        }
+    }
+}
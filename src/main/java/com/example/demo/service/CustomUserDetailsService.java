@@ -2,47 +2,50 @@ package com.example.demo.service;
 
 import com.example.demo.mapper.CustomUserDetailsMapper;
 import com.example.demo.model.User;
-import com.example.demo.security.AESEncryptionUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Υλοποίηση του UserDetailsService για το Spring Security.
+ *
+ * <p>Οι χρήστες που μπαίνουν στην {@link UserPrincipalCache} διαβάζονται από την κύρια βάση (transaction ανάγνωσης
+ * και εγγραφής), όχι από το replica: μια ανάγνωση από replica που καθυστερεί θα κρατούσε στην cache, για όλη τη
+ * διάρκειά της, ρόλους που μόλις άλλαξαν.</p>
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserService userService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TransactionTemplate primaryTransaction;
 
     @Autowired
-    public CustomUserDetailsService(UserService userService) {
+    public CustomUserDetailsService(UserService userService, UserPrincipalCache userPrincipalCache,
+                                    PlatformTransactionManager transactionManager) {
         this.userService = userService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // Αναζήτηση χρήστη μέσω UserService
-        User user = userService.getUserByUsername(username);
-
-        // Αποκρυπτογράφηση του κωδικού πρόσβασης
-        String decryptedPassword = decryptPassword(user.getPassword());
-
-        // Χρήση του CustomUserDetailsMapper για τη δημιουργία του UserDetails
-        return CustomUserDetailsMapper.toCustomUserDetails(user, decryptedPassword);
+        // Ο χρήστης φορτώνεται από τη βάση μόνο αν δεν υπάρχει ήδη στην cache
+        return userPrincipalCache.get(username, this::loadFromDatabase);
     }
 
-    /**
-     * Μέθοδος αποκρυπτογράφησης του κωδικού πρόσβασης.
-     */
-    private String decryptPassword(String encryptedPassword) {
-        try {
-            return AESEncryptionUtil.decrypt(encryptedPassword);
-        } catch (Exception e) {
-            throw new RuntimeException("Σφάλμα κατά την αποκρυπτογράφηση του κωδικού: " + e.getMessage(), e);
-        }
+    private UserDetails loadFromDatabase(String username) {
+        return primaryTransaction.execute(status -> {
+            // Αναζήτηση χρήστη μέσω UserService
+            User user = userService.getUserByUsername(username);
+
+            // Χρήση του CustomUserDetailsMapper για τη δημιουργία του UserDetails (χωρίς τον κωδικό)
+            return CustomUserDetailsMapper.toCustomUserDetails(user);
+        });
     }
 }
 
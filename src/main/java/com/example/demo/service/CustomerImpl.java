@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Set;
@@ -45,6 +46,7 @@ public class CustomerImpl implements CustomerService {
     }
 
     @Override
+    @Transactional
     public CustomerDTO createCustomer(CustomerDTO customerDTO) {
         logger.info("Ξεκινάει η δημιουργία πελάτη με AFM: {}", customerDTO.getAfm());
 
@@ -68,11 +70,12 @@ public class CustomerImpl implements CustomerService {
 
         Customer savedCustomer = customerRepository.save(customer);
 
-        logger.info("Ο πελάτης δημιουργήθηκε με επιτυχία: {}", savedCustomer);
+        logger.info("Ο πελάτης δημιουργήθηκε με επιτυχία με ID: {}", savedCustomer.getId());
         return customerMapper.toDTO(savedCustomer);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerDTO> getAllCustomers() {
         logger.info("Αναζητούνται όλοι οι πελάτες...");
         List<Customer> customers = customerRepository.findAll();
@@ -82,6 +85,7 @@ public class CustomerImpl implements CustomerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CustomerDTO getCustomerById(int id) {
         logger.info("Αναζήτηση πελάτη με ID: {}", id);
 
@@ -124,6 +128,7 @@ public class CustomerImpl implements CustomerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerDTO> searchCustomers(String name) {
         logger.info("Αναζήτηση πελατών με όνομα ή τμήμα ονόματος: {}", name);
         List<Customer> customers = customerRepository
@@ -140,6 +145,7 @@ public class CustomerImpl implements CustomerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerDTO> getCustomersByUser(String username) {
         logger.info("Αναζήτηση πελατών για τον χρήστη: {}", username);
 
@@ -0,0 +1,369 @@
+package com.example.demo.service;
+
+import com.example.demo.config.IdempotencyProperties;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.model.IdempotencyRecord;
+import com.example.demo.model.IdempotencyStatus;
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Εκτελεί ένα αίτημα με Idempotency-Key το πολύ μία φορά και επιστρέφει την αποθηκευμένη απόκριση στις επαναλήψεις.
+ *
+ * <p>Τρία επίπεδα, από το φθηνότερο:</p>
+ * <ul>
+ *     <li>ολοκληρωμένες αποκρίσεις σε μια Caffeine cache με όριο μεγέθους και χρόνο ζωής·</li>
+ *     <li>εκτελέσεις σε εξέλιξη σε αυτόν τον κόμβο: τα ταυτόχρονα διπλά αιτήματα περιμένουν το ίδιο
+ *     {@link CompletableFuture} αντί να εκτελεστούν ξανά·</li>
+ *     <li>ο πίνακας {@code idempotency_keys}: η εκτέλεση ξεκινά μόνο αφού δεσμευτεί το κλειδί με εισαγωγή στο unique
+ *     constraint του, οπότε και διπλά αιτήματα σε διαφορετικούς κόμβους εκτελούνται μία φορά. Η ενέργεια και η
+ *     αποθήκευση της απόκρισης γίνονται στο ίδιο transaction.</li>
+ * </ul>
+ *
+ * <p>Αν η ενέργεια αποτύχει, το κλειδί αποδεσμεύεται και η εξαίρεση φτάνει και στα αιτήματα που περίμεναν· μια
+ * επόμενη επανάληψη εκτελείται κανονικά. Το ίδιο κλειδί με διαφορετικό σώμα αιτήματος απορρίπτεται (422).</p>
+ */
+@Component
+public class IdempotencyStore implements MeterBinder, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    // Το unique constraint του πίνακα (scope, idempotency_key)· ο driver μπορεί να το αναφέρει με πρόθεμα ή επίθημα
+    private static final String CLAIM_CONSTRAINT = "uk_idempotency_keys_scope_key";
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, StoredResponse> responses;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idempotency-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+
+    /**
+     * Το αποτέλεσμα μιας κλήσης.
+     *
+     * @param body     η απόκριση.
+     * @param replayed true αν επιστράφηκε αποθηκευμένη απόκριση χωρίς νέα εκτέλεση.
+     */
+    public record Result<T>(T body, boolean replayed) {
+    }
+
+    private record StoredResponse(String requestHash, String body) {
+    }
+
+    private record Claim(Long recordId, StoredResponse completed) {
+    }
+
+    private record Execution<T>(T body, StoredResponse stored) {
+    }
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyProperties properties,
+                            ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Εκτελεί την ενέργεια μία φορά για το κλειδί ή επιστρέφει την απόκριση της εκτέλεσης που έγινε ήδη.
+     * Καλείται εκτός transaction (από τον controller).
+     *
+     * @param scope        το endpoint και ο χρήστης· το ίδιο κλειδί σε διαφορετικό scope είναι άλλο αίτημα.
+     * @param key          η τιμή της κεφαλίδας Idempotency-Key.
+     * @param request      το σώμα του αιτήματος, για τον έλεγχο ότι οι επαναλήψεις είναι το ίδιο αίτημα.
+     * @param responseType ο τύπος της απόκρισης, για την ανάγνωσή της από το JSON.
+     * @param action       η ενέργεια (π.χ. η δημιουργία της παραγγελίας).
+     * @return η απόκριση και αν προήλθε από επανάληψη.
+     * @throws InvalidRequestException αν το κλειδί δεν είναι έγκυρο, αν χρησιμοποιήθηκε για διαφορετικό αίτημα ή αν
+     *                                 η εκτέλεση σε άλλον κόμβο δεν ολοκληρώθηκε εγκαίρως.
+     */
+    public <T> Result<T> execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key == null || key.isBlank() || key.length() > properties.getMaxKeyLength()) {
+            throw new InvalidRequestException(ErrorCode.INVALID_IDEMPOTENCY_KEY, properties.getMaxKeyLength());
+        }
+        String requestHash = hash(request);
+        String cacheKey = scope + '\n' + key;
+
+        StoredResponse stored = responses.getIfPresent(cacheKey);
+        if (stored != null) {
+            return replay(key, stored, requestHash, responseType);
+        }
+
+        CompletableFuture<StoredResponse> flight = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> leader = inFlight.putIfAbsent(cacheKey, flight);
+        if (leader != null) {
+            return replay(key, await(key, leader), requestHash, responseType);
+        }
+        try {
+            Result<T> result = lead(scope, key, cacheKey, requestHash, responseType, action, flight);
+            logger.debug("Idempotency-Key {} ({}): {}.", key, scope, result.replayed() ? "επανάληψη" : "εκτελέστηκε");
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, flight);
+        }
+    }
+
+    /**
+     * Διαγράφει από τον πίνακα τις εγγραφές που ξεπέρασαν τον χρόνο διατήρησης.
+     *
+     * @return το πλήθος των εγγραφών που διαγράφηκαν.
+     */
+    public int purge() {
+        int deleted = repository.deleteCreatedBefore(LocalDateTime.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            logger.info("Διαγράφηκαν {} παλιά αιτήματα με Idempotency-Key.", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * Αδειάζει την cache των αποκρίσεων· οι επόμενες επαναλήψεις διαβάζονται από τον πίνακα.
+     */
+    public void evictAll() {
+        responses.invalidateAll();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        long intervalMillis = Math.max(1, properties.getPurgeInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                purge();
+            } catch (DataAccessException e) {
+                logger.warn("Αποτυχία διαγραφής των παλιών αιτημάτων με Idempotency-Key: {}", e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responses, "idempotency-responses");
+        Gauge.builder("idempotency.in.flight", inFlight, ConcurrentHashMap::size)
+                .description("Αιτήματα με Idempotency-Key που εκτελούνται σε αυτόν τον κόμβο")
+                .register(registry);
+    }
+
+    private <T> Result<T> lead(String scope, String key, String cacheKey, String requestHash, Class<T> responseType,
+                               Supplier<T> action, CompletableFuture<StoredResponse> flight) {
+        // Μια προηγούμενη εκτέλεση μπορεί να ολοκληρώθηκε ανάμεσα στον έλεγχο της cache και στην καταχώρισή μας
+        StoredResponse stored = responses.getIfPresent(cacheKey);
+        Result<T> result = null;
+        if (stored == null) {
+            Claim claim = claimOrAwait(scope, key, requestHash);
+            if (claim.completed() == null) {
+                Execution<T> execution = run(claim.recordId(), requestHash, action);
+                stored = execution.stored();
+                result = new Result<>(execution.body(), false);
+            } else {
+                stored = claim.completed();
+            }
+        }
+        responses.put(cacheKey, stored);
+        flight.complete(stored);
+        return result != null ? result : replay(key, stored, requestHash, responseType);
+    }
+
+    /**
+     * Δεσμεύει το κλειδί στον πίνακα ή, αν το έχει ήδη άλλος κόμβος, περιμένει την απόκρισή του.
+     */
+    private Claim claimOrAwait(String scope, String key, String requestHash) {
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            // Σε transaction εγγραφής, ώστε η ανάγνωση να γίνει από την κύρια βάση και όχι από το replica
+            Optional<IdempotencyRecord> existing = transactionTemplate.execute(
+                    status -> repository.findByScopeAndIdempotencyKey(scope, key));
+            if (existing.isEmpty()) {
+                Long recordId = tryClaim(scope, key, requestHash);
+                if (recordId != null) {
+                    return new Claim(recordId, null);
+                }
+                // Το δέσμευσε ταυτόχρονα άλλος κόμβος· η επόμενη ανάγνωση βρίσκει την εγγραφή του, εκτός αν εκείνος
+                // την αποδέσμευσε στο μεταξύ
+                if (System.nanoTime() > deadline) {
+                    throw new InvalidRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, key);
+                }
+                continue;
+            }
+
+            IdempotencyRecord record = existing.get();
+            if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                return new Claim(null, new StoredResponse(record.getRequestHash(), record.getResponseBody()));
+            }
+            // Μια εγκαταλειμμένη εκτέλεση δεν άφησε απόκριση, οπότε το κλειδί αναλαμβάνεται από όποιο αίτημα
+            if (record.getCreatedAt().isBefore(LocalDateTime.now().minus(properties.getAbandonAfter()))) {
+                logger.warn("Η εκτέλεση του Idempotency-Key {} ({}) από {} δεν ολοκληρώθηκε· το κλειδί αποδεσμεύεται.",
+                        key, scope, record.getCreatedAt());
+                repository.deleteInProgress(record.getId());
+                continue;
+            }
+            if (!record.getRequestHash().equals(requestHash)) {
+                throw new InvalidRequestException(ErrorCode.IDEMPOTENCY_KEY_REUSED, key);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new InvalidRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, key);
+            }
+            try {
+                Thread.sleep(properties.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InvalidRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, key);
+            }
+        }
+    }
+
+    /**
+     * @return το ID της νέας εγγραφής ή null αν το κλειδί το δέσμευσε ήδη άλλος.
+     * @throws DataIntegrityViolationException για κάθε άλλη παραβίαση περιορισμού (π.χ. κενό πεδίο).
+     */
+    private Long tryClaim(String scope, String key, String requestHash) {
+        try {
+            return transactionTemplate.execute(status -> {
+                IdempotencyRecord record = new IdempotencyRecord();
+                record.setScope(scope);
+                record.setIdempotencyKey(key);
+                record.setRequestHash(requestHash);
+                record.setStatus(IdempotencyStatus.IN_PROGRESS);
+                record.setCreatedAt(LocalDateTime.now());
+                return repository.saveAndFlush(record).getId();
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isClaimConflict(e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isClaimConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null && constraintName.toLowerCase(Locale.ROOT).contains(CLAIM_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Εκτελεί την ενέργεια και αποθηκεύει την απόκρισή της στο ίδιο transaction· αν αποτύχει, αποδεσμεύει το κλειδί.
+     */
+    private <T> Execution<T> run(Long recordId, String requestHash, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> {
+                T body = action.get();
+                String json = write(body);
+                IdempotencyRecord record = repository.findById(recordId).orElseThrow();
+                record.setStatus(IdempotencyStatus.COMPLETED);
+                record.setResponseBody(json);
+                record.setCompletedAt(LocalDateTime.now());
+                return new Execution<>(body, new StoredResponse(requestHash, json));
+            });
+        } catch (RuntimeException e) {
+            repository.deleteInProgress(recordId);
+            throw e;
+        }
+    }
+
+    private StoredResponse await(String key, CompletableFuture<StoredResponse> leader) {
+        try {
+            return leader.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new InvalidRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, key);
+        }
+    }
+
+    private <T> Result<T> replay(String key, StoredResponse stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new InvalidRequestException(ErrorCode.IDEMPOTENCY_KEY_REUSED, key);
+        }
+        try {
+            return new Result<>(objectMapper.readValue(stored.body(), responseType), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Μη αναγνώσιμη αποθηκευμένη απόκριση για το κλειδί " + key, e);
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Η απόκριση δεν μετατρέπεται σε JSON", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Αποτυχία υπολογισμού του αποτυπώματος του αιτήματος", e);
+        }
+    }
+}
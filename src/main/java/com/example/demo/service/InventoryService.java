@@ -0,0 +1,20 @@
+package com.example.demo.service;
+
+import java.util.Collection;
+
+/**
+ * Δεσμεύσεις και επιστροφές αποθέματος για τις παραγγελίες.
+ * Οι μέθοδοι εκτελούνται στο transaction του καλούντος, ώστε η δέσμευση να ακυρώνεται μαζί με την παραγγελία.
+ */
+public interface InventoryService {
+
+    boolean tryReserve(Integer productId, Integer supplierId, int quantity); // Δέσμευση, false αν δεν επαρκεί το απόθεμα
+
+    void reserve(Integer productId, Integer supplierId, int quantity); // Δέσμευση ή σφάλμα INSUFFICIENT_STOCK
+
+    void release(Integer productId, Integer supplierId, int quantity); // Επιστροφή δεσμευμένης ποσότητας
+
+    void evict(Integer productId); // Ακύρωση της εικόνας αποθέματος στη μνήμη μετά από αλλαγή εκτός δεσμεύσεων
+
+    void evict(Collection<Integer> productIds); // Το ίδιο για πολλά προϊόντα
+}
@@ -0,0 +1,225 @@
+package com.example.demo.service;
+
+import com.example.demo.config.InventoryProperties;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.repository.SupplierProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Δεσμεύει απόθεμα με ατομικές εντολές {@code UPDATE ... WHERE quantity >= ?}, που αποτελούν και τη μοναδική
+ * εγγύηση ότι το απόθεμα δε γίνεται ποτέ αρνητικό.
+ *
+ * <p>Πριν από τη βάση, κάθε δέσμευση περνά από μια εικόνα του αποθέματος στη μνήμη (pre-reservation), που
+ * προστατεύεται από κλειδαριές ανά λωρίδα (striped locks) βάσει του ID του προϊόντος. Η εικόνα κρατιέται ανά ζεύγος
+ * προϊόντος-προμηθευτή και είναι το μικρότερο από τα δύο αποθέματα. Όταν ένα δημοφιλές προϊόν εξαντληθεί, τα επόμενα
+ * αιτήματα απορρίπτονται από τη μνήμη χωρίς να περιμένουν το κλείδωμα της γραμμής στη βάση.
+ * Οι εικόνες ενός προϊόντος κρατιούνται μαζί σε μία εγγραφή της cache με κλειδί το ID του, οπότε η ακύρωσή τους
+ * είναι μία αναζήτηση. Η εγγραφή λήγει μετά από {@code app.inventory.snapshot-ttl}, ώστε αλλαγές από άλλους κόμβους
+ * ή απευθείας στη βάση να εμφανίζονται σύντομα. Σε κάθε αμφιβολία η εικόνα ακυρώνεται και ξαναδιαβάζεται.</p>
+ *
+ * <p>Το hit ratio των εικόνων δημοσιεύεται ως metrics {@code cache.*} με {@code cache=inventory-snapshots}.</p>
+ */
+@Service
+public class InventoryServiceImpl implements InventoryService, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryServiceImpl.class);
+
+    private final ProductRepository productRepository;
+    private final SupplierProductRepository supplierProductRepository;
+    private final ReentrantLock[] stripes;
+    private final Cache<Integer, ProductSnapshots> snapshots;
+
+    public InventoryServiceImpl(ProductRepository productRepository,
+                                SupplierProductRepository supplierProductRepository,
+                                InventoryProperties properties) {
+        this.productRepository = productRepository;
+        this.supplierProductRepository = supplierProductRepository;
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, properties.getStripes()))];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(properties.getSnapshotMaxSize())
+                .expireAfterWrite(properties.getSnapshotTtl())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public boolean tryReserve(Integer productId, Integer supplierId, int quantity) {
+        if (quantity <= 0) {
+            throw new InvalidRequestException(ErrorCode.INVALID_ORDER_QUANTITY, quantity);
+        }
+        StockKey key = new StockKey(productId, supplierId);
+        if (!preReserve(key, quantity)) {
+            logger.debug("Το απόθεμα του προϊόντος {} δεν επαρκεί για ποσότητα {} (εικόνα μνήμης).", productId, quantity);
+            return false;
+        }
+
+        boolean reserved = false;
+        try {
+            if (productRepository.decrementStock(productId, quantity) == 0) {
+                logger.debug("Το απόθεμα του προϊόντος {} δεν επαρκεί για ποσότητα {}.", productId, quantity);
+                return false;
+            }
+            // Το απόθεμα του προμηθευτή ελέγχεται μόνο αν υπάρχει σύνδεση προμηθευτή-προϊόντος
+            if (supplierId != null && supplierProductRepository.decrementStock(supplierId, productId, quantity) == 0
+                    && supplierProductRepository.existsBySupplierIdAndProductId(supplierId, productId)) {
+                productRepository.incrementStock(productId, quantity);
+                logger.debug("Το απόθεμα του προμηθευτή {} για το προϊόν {} δεν επαρκεί.", supplierId, productId);
+                return false;
+            }
+            reserved = true;
+            return true;
+        } finally {
+            if (reserved) {
+                afterRollback(() -> evict(productId));
+            } else {
+                // Η εικόνα έδειχνε περισσότερο απόθεμα από τη βάση
+                snapshots.invalidate(productId);
+            }
+        }
+    }
+
+    @Override
+    public void reserve(Integer productId, Integer supplierId, int quantity) {
+        if (!tryReserve(productId, supplierId, quantity)) {
+            throw new InvalidRequestException(ErrorCode.INSUFFICIENT_STOCK, productId, quantity);
+        }
+    }
+
+    @Override
+    public void release(Integer productId, Integer supplierId, int quantity) {
+        if (productId == null || quantity <= 0) {
+            return;
+        }
+        productRepository.incrementStock(productId, quantity);
+        if (supplierId != null) {
+            supplierProductRepository.incrementStock(supplierId, productId, quantity);
+        }
+        // Το απόθεμα του προϊόντος αφορά όλους τους προμηθευτές του, οπότε οι εικόνες του ακυρώνονται αμέσως, ώστε
+        // μια δέσμευση στο ίδιο transaction να δει την επιστροφή, και ξανά στο τέλος του, ώστε να μη μείνει εικόνα
+        // που διαβάστηκε από δεδομένα που δεν έγιναν commit
+        evict(productId);
+        afterCompletion(() -> evict(productId));
+        logger.debug("Επιστροφή ποσότητας {} στο απόθεμα του προϊόντος {}.", quantity, productId);
+    }
+
+    @Override
+    public void evict(Integer productId) {
+        if (productId != null) {
+            snapshots.invalidate(productId);
+        }
+    }
+
+    @Override
+    public void evict(Collection<Integer> productIds) {
+        if (!productIds.isEmpty()) {
+            snapshots.invalidateAll(productIds);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, snapshots, "inventory-snapshots");
+    }
+
+    private boolean preReserve(StockKey key, int quantity) {
+        ReentrantLock lock = stripeFor(key.productId());
+        lock.lock();
+        try {
+            ProductSnapshots product = snapshots.get(key.productId(), id -> new ProductSnapshots());
+            StockSnapshot snapshot = product.bySupplier.get(key.supplierId());
+            if (snapshot == null) {
+                // Μόνο ένα νήμα ανά λωρίδα διαβάζει το απόθεμα όταν λείπει η εικόνα
+                Integer available = loadAvailable(key);
+                if (available == null) {
+                    return false;
+                }
+                snapshot = new StockSnapshot(available);
+                product.bySupplier.put(key.supplierId(), snapshot);
+            }
+            if (snapshot.available < quantity) {
+                return false;
+            }
+            snapshot.available -= quantity;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Integer loadAvailable(StockKey key) {
+        Integer available = productRepository.findQuantityById(key.productId());
+        if (available == null || key.supplierId() == null) {
+            return available;
+        }
+        Integer supplierAvailable = supplierProductRepository.findQuantityBySupplierIdAndProductId(
+                key.supplierId(), key.productId());
+        return supplierAvailable != null ? Math.min(available, supplierAvailable) : available;
+    }
+
+    private ReentrantLock stripeFor(Integer productId) {
+        int hash = productId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static void afterRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private record StockKey(Integer productId, Integer supplierId) {
+    }
+
+    // Οι εικόνες ενός προϊόντος ανά προμηθευτή (null χωρίς προμηθευτή).
+    // Αλλάζουν μόνο με κλειδωμένη τη λωρίδα του προϊόντος.
+    private static final class ProductSnapshots {
+        private final Map<Integer, StockSnapshot> bySupplier = new HashMap<>();
+    }
+
+    // Διαθέσιμο απόθεμα όπως το γνωρίζει ο κόμβος, μείον τις δεσμεύσεις που έγιναν από τότε.
+    // Αλλάζει μόνο με κλειδωμένη τη λωρίδα του προϊόντος.
+    private static final class StockSnapshot {
+        private int available;
+
+        private StockSnapshot(int available) {
+            this.available = available;
+        }
+    }
+}
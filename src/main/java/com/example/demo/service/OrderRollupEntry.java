@@ -0,0 +1,30 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.OrderRollupSourceView;
+
+import java.time.LocalDate;
+
+/**
+ * Τα στοιχεία μιας παραγγελίας που συμμετέχουν στα προ-υπολογισμένα σύνολα.
+ * Κρατείται πριν από μια ενημέρωση ή διαγραφή ώστε να αφαιρεθεί η παλιά συνεισφορά της παραγγελίας.
+ *
+ * @param orderId    το ID της παραγγελίας (καθορίζει αν την έχει ήδη μετρήσει μια ανακατασκευή σε εξέλιξη).
+ * @param day        η ημέρα δημιουργίας της παραγγελίας.
+ * @param productId  το ID του προϊόντος.
+ * @param supplierId το ID του προμηθευτή.
+ * @param categoryId το ID της κατηγορίας του προϊόντος.
+ * @param quantity   η ποσότητα.
+ * @param totalPrice το συνολικό ποσό.
+ */
+public record OrderRollupEntry(Integer orderId, LocalDate day, Integer productId, Integer supplierId,
+                               Integer categoryId, int quantity, double totalPrice) {
+
+    /**
+     * Δημιουργεί το στιγμιότυπο από τα πεδία μιας παραγγελίας που διαβάστηκαν χωρίς φόρτωση της οντότητας.
+     */
+    public static OrderRollupEntry of(OrderRollupSourceView row) {
+        return new OrderRollupEntry(row.getId(), row.getCreatedAt().toLocalDate(), row.getProductId(),
+                row.getSupplierId(), row.getCategoryId(), row.getQuantity(),
+                row.getTotalPrice() != null ? row.getTotalPrice() : 0);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Συντονίζει τη σταδιακή ενημέρωση των συνόλων με την ανακατασκευή τους ({@link OrderRollupRebuildJob}).
+ * Η ανακατασκευή γράφει στον σκιώδη πίνακα order_rollups_rebuild, ενώ οι αναφορές διαβάζουν τον order_rollups
+ * που συνεχίζει να ενημερώνεται κανονικά. Στον σκιώδη πίνακα κάθε παραγγελία πρέπει να μετρηθεί ακριβώς μία φορά:
+ * όσες έχουν ID έως το τελευταίο που διάβασε η ανακατασκευή ενημερώνουν και αυτόν, οι υπόλοιπες θα διαβαστούν
+ * από την ανακατασκευή σε επόμενο τμήμα.
+ *
+ * <p>Επειδή τα IDs δεσμεύονται σε μπλοκ, μια παραγγελία με μικρό ID μπορεί να γίνει commit αφού η ανακατασκευή
+ * περάσει το ID της. Γι' αυτό κάθε transaction που ενημερώνει τα σύνολα κρατά το κοινό lock μέχρι να ολοκληρωθεί
+ * και η ανακατασκευή διαβάζει κάθε τμήμα με το αποκλειστικό lock: ένα τμήμα δεν διαβάζεται όσο κάποιο transaction
+ * έχει δει την πρόοδο χωρίς να έχει γίνει commit. Το αποκλειστικό lock ζητείται με όριο αναμονής και ξαναζητείται,
+ * ώστε ένα transaction που περιμένει row lock από άλλο, μπλοκαρισμένο στο κοινό lock, να μη μένει κολλημένο.</p>
+ *
+ * <p>Ο συντονισμός γίνεται στη μνήμη, όπως και η κατάσταση της ανακατασκευής, οπότε αφορά μία εφαρμογή.</p>
+ */
+@Component
+public class OrderRollupRebuildGate {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderRollupRebuildGate.class);
+
+    private static final long EXCLUSIVE_WAIT_MILLIS = 200;
+
+    private final ReentrantReadWriteLock locks = new ReentrantReadWriteLock();
+
+    // Το μεγαλύτερο ID που έχει διαβάσει η ανακατασκευή ή null όταν δεν εκτελείται (αλλάζει μόνο με το αποκλειστικό lock)
+    private Integer rebuiltUpToId;
+
+    /**
+     * Εκτελεί μια ενημέρωση των συνόλων με το κοινό lock. Αν υπάρχει transaction, το lock κρατιέται μέχρι να
+     * ολοκληρωθεί, ώστε η ανακατασκευή να δει την αλλαγή είτε ως ήδη καταγεγραμμένη είτε ως μη ορατή ακόμη.
+     *
+     * @param action δέχεται το μεγαλύτερο ID που έχει διαβάσει η ανακατασκευή, ή -1 αν δεν εκτελείται.
+     */
+    public void runShared(IntConsumer action) {
+        Lock lock = locks.readLock();
+        lock.lock();
+        boolean heldUntilCompletion = false;
+        try {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        lock.unlock();
+                    }
+                });
+                heldUntilCompletion = true;
+            }
+            action.accept(rebuiltUpToId != null ? rebuiltUpToId : -1);
+        } finally {
+            if (!heldUntilCompletion) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Εκτελεί ένα βήμα της ανακατασκευής με το αποκλειστικό lock, αφού ολοκληρωθούν τα transactions που κρατούν
+     * το κοινό. Το βήμα πρέπει να ανοίγει και να ολοκληρώνει το δικό του transaction.
+     */
+    public <T> T runExclusive(Supplier<T> action) {
+        Lock lock = locks.writeLock();
+        try {
+            // Κάθε αποτυχημένη αναμονή βγάζει το αίτημα από την ουρά και αφήνει όσους περιμένουν το κοινό lock
+            while (!lock.tryLock(EXCLUSIVE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.debug("Αναμονή για τις ενημερώσεις συνόλων που εκτελούνται, πριν από το επόμενο τμήμα.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Η ανακατασκευή των συνόλων διακόπηκε.", e);
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ορίζει την πρόοδο της ανακατασκευής· null όταν ολοκληρώνεται ή αποτυγχάνει. Καλείται μέσα στο
+     * {@link #runExclusive(Supplier)}, αφού γίνει commit το αντίστοιχο transaction.
+     */
+    public void setRebuiltUpToId(Integer rebuiltUpToId) {
+        if (!locks.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("Η πρόοδος της ανακατασκευής αλλάζει μόνο με το αποκλειστικό lock.");
+        }
+        this.rebuiltUpToId = rebuiltUpToId;
+    }
+}
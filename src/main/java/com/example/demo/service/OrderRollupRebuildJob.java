@@ -0,0 +1,174 @@
+package com.example.demo.service;
+
+import com.example.demo.config.AnalyticsProperties;
+import com.example.demo.dto.RollupRebuildStatusDTO;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderRollupRepository;
+import com.example.demo.repository.OrderRollupSourceView;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Ανακατασκευάζει τα σύνολα παραγγελιών από τον πίνακα orders στο παρασκήνιο.
+ * Τα σύνολα χτίζονται στον σκιώδη πίνακα order_rollups_rebuild και αντιγράφονται στον order_rollups μόνο στο
+ * τέλος, μέσα σε ένα transaction, οπότε οι αναφορές βλέπουν τα παλιά σύνολα μέχρι τότε και όχι μηδενικά.
+ * Οι παραγγελίες διαβάζονται σε τμήματα σταθερού μεγέθους (keyset στο ID) και κάθε τμήμα γράφεται στο δικό του
+ * transaction, ώστε η μνήμη και τα locks να μένουν περιορισμένα. Η ανάγνωση συνεχίζει μέχρι να μη βρεθούν άλλες
+ * παραγγελίες, και οι παραγγελίες που δημιουργούνται, αλλάζουν ή διαγράφονται στο μεταξύ καταγράφονται ακριβώς μία
+ * φορά στον σκιώδη πίνακα ({@link OrderRollupRebuildGate}).
+ */
+@Component
+public class OrderRollupRebuildJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderRollupRebuildJob.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderRollupService orderRollupService;
+    private final OrderRollupRebuildGate rebuildGate;
+    private final AnalyticsProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-rollup-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RollupRebuildStatusDTO status = new RollupRebuildStatusDTO("IDLE", 0, 0, null, null, null, null, null);
+
+    public OrderRollupRebuildJob(OrderRepository orderRepository, OrderRollupRepository orderRollupRepository,
+                                 OrderRollupService orderRollupService, OrderRollupRebuildGate rebuildGate,
+                                 AnalyticsProperties properties, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderRollupRepository = orderRollupRepository;
+        this.orderRollupService = orderRollupService;
+        this.rebuildGate = rebuildGate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Ξεκινά την ανακατασκευή στο παρασκήνιο, αν δεν εκτελείται ήδη.
+     *
+     * @return true αν ξεκίνησε, false αν εκτελείται ήδη μια ανακατασκευή.
+     */
+    public synchronized boolean start() {
+        if ("RUNNING".equals(status.getState())) {
+            return false;
+        }
+        status = new RollupRebuildStatusDTO("RUNNING", 0, 0, null, null, LocalDateTime.now(), null, null);
+        executor.submit(this::run);
+        return true;
+    }
+
+    /**
+     * Επιστρέφει ένα αντίγραφο της τρέχουσας προόδου.
+     */
+    public synchronized RollupRebuildStatusDTO getStatus() {
+        return new RollupRebuildStatusDTO(status.getState(), status.getProcessedOrders(), status.getChunks(),
+                status.getLastOrderId(), status.getMaxOrderId(), status.getStartedAt(), status.getFinishedAt(),
+                status.getError());
+    }
+
+    /**
+     * Εκτελεί την ανακατασκευή στο τρέχον thread.
+     */
+    public void run() {
+        try {
+            Integer maxId = rebuildGate.runExclusive(() -> {
+                Integer currentMaxId = transactionTemplate.execute(tx -> {
+                    orderRollupRepository.clearRebuild();
+                    return orderRepository.findMaxId();
+                });
+                rebuildGate.setRebuiltUpToId(0);
+                return currentMaxId;
+            });
+            updateStatus(0, 0, null, maxId);
+            logger.info("Ξεκίνησε η ανακατασκευή των συνόλων παραγγελιών ({} έως την έναρξη).", maxId);
+
+            int chunkSize = Math.max(1, properties.getRebuildChunkSize());
+            int lastId = 0;
+            long processed = 0;
+            long chunks = 0;
+
+            while (true) {
+                int afterId = lastId;
+                List<OrderRollupSourceView> chunk = rebuildGate.runExclusive(() -> nextChunk(afterId, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+                processed += chunk.size();
+                chunks++;
+                updateStatus(processed, chunks, lastId, maxId);
+            }
+
+            finish("COMPLETED", null);
+            logger.info("Η ανακατασκευή των συνόλων ολοκληρώθηκε: {} παραγγελίες σε {} τμήματα.", processed, chunks);
+        } catch (RuntimeException e) {
+            rebuildGate.runExclusive(() -> {
+                rebuildGate.setRebuiltUpToId(null);
+                return null;
+            });
+            finish("FAILED", e.getMessage());
+            logger.error("Η ανακατασκευή των συνόλων παραγγελιών απέτυχε.", e);
+        }
+    }
+
+    // Διαβάζει και καταγράφει το επόμενο τμήμα. Όταν δεν υπάρχουν άλλες παραγγελίες, τα σύνολα του σκιώδους πίνακα
+    // αντικαθιστούν τα τρέχοντα στο ίδιο transaction και η ανακατασκευή τελειώνει
+    private List<OrderRollupSourceView> nextChunk(int afterId, int chunkSize) {
+        List<OrderRollupSourceView> chunk = transactionTemplate.execute(tx -> {
+            List<OrderRollupSourceView> rows = orderRepository.findRollupSourceChunk(
+                    afterId, PageRequest.ofSize(chunkSize));
+            if (rows.isEmpty()) {
+                orderRollupRepository.deleteAllInBatch();
+                orderRollupRepository.copyFromRebuild();
+                orderRollupRepository.clearRebuild();
+            } else {
+                orderRollupService.addAllToRebuild(toEntries(rows));
+            }
+            return rows;
+        });
+        List<OrderRollupSourceView> rows = chunk != null ? chunk : List.of();
+        rebuildGate.setRebuiltUpToId(rows.isEmpty() ? null : rows.get(rows.size() - 1).getId());
+        return rows;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static List<OrderRollupEntry> toEntries(List<OrderRollupSourceView> rows) {
+        List<OrderRollupEntry> entries = new ArrayList<>(rows.size());
+        for (OrderRollupSourceView row : rows) {
+            entries.add(OrderRollupEntry.of(row));
+        }
+        return entries;
+    }
+
+    private synchronized void updateStatus(long processed, long chunks, Integer lastId, Integer maxId) {
+        status.setProcessedOrders(processed);
+        status.setChunks(chunks);
+        status.setLastOrderId(lastId);
+        status.setMaxOrderId(maxId);
+    }
+
+    private synchronized void finish(String state, String error) {
+        status.setState(state);
+        status.setFinishedAt(LocalDateTime.now());
+        status.setError(error);
+    }
+}
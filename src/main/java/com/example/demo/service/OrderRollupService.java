@@ -0,0 +1,27 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Order;
+
+import java.util.List;
+
+/**
+ * Διεπαφή για τη σταδιακή ενημέρωση των συνόλων παραγγελιών ανά προϊόν, προμηθευτή και κατηγορία.
+ * Οι μέθοδοι καλούνται μέσα στο transaction που αλλάζει την παραγγελία. Όσο τρέχει μια ανακατασκευή, οι αλλαγές
+ * σε παραγγελίες που έχει ήδη διαβάσει καταγράφονται και στον σκιώδη πίνακά της.
+ */
+public interface OrderRollupService {
+
+    OrderRollupEntry capture(Order order); // Στιγμιότυπο της παραγγελίας πριν από αλλαγή
+
+    void recordCreated(Order order); // Προσθήκη νέας παραγγελίας στα σύνολα
+
+    void recordUpdated(OrderRollupEntry before, Order after); // Αντικατάσταση της παλιάς συνεισφοράς με τη νέα
+
+    void recordDeleted(OrderRollupEntry before); // Αφαίρεση διαγραμμένης παραγγελίας από τα σύνολα
+
+    void addAll(List<OrderRollupEntry> entries); // Μαζική προσθήκη (μαζική δημιουργία παραγγελιών)
+
+    void removeAll(List<OrderRollupEntry> entries); // Μαζική αφαίρεση (διαγραφή παραγγελιών με μία εντολή)
+
+    void addAllToRebuild(List<OrderRollupEntry> entries); // Προσθήκη στον σκιώδη πίνακα της ανακατασκευής
+}
@@ -0,0 +1,187 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Order;
+import com.example.demo.model.Product;
+import com.example.demo.model.RollupDimension;
+import com.example.demo.repository.OrderRollupRepository;
+import com.example.demo.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class OrderRollupServiceImpl implements OrderRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderRollupServiceImpl.class);
+
+    private final OrderRollupRepository orderRollupRepository;
+    private final ProductRepository productRepository;
+    private final OrderRollupRebuildGate rebuildGate;
+
+    public OrderRollupServiceImpl(OrderRollupRepository orderRollupRepository, ProductRepository productRepository,
+                                  OrderRollupRebuildGate rebuildGate) {
+        this.orderRollupRepository = orderRollupRepository;
+        this.productRepository = productRepository;
+        this.rebuildGate = rebuildGate;
+    }
+
+    @Override
+    public OrderRollupEntry capture(Order order) {
+        if (order == null || order.getProduct() == null || order.getCreatedAt() == null) {
+            return null;
+        }
+        Integer productId = order.getProduct().getId();
+        Integer supplierId = order.getSupplier() != null ? order.getSupplier().getId() : null;
+        Integer categoryId = categoryIdOf(order.getProduct());
+        double totalPrice = order.getTotalPrice() != null ? order.getTotalPrice() : 0;
+
+        return new OrderRollupEntry(order.getId(), order.getCreatedAt().toLocalDate(), productId, supplierId,
+                categoryId, order.getQuantity(), totalPrice);
+    }
+
+    // Αν η κατηγορία έχει ήδη φορτωθεί με το προϊόν αποφεύγεται το επιπλέον ερώτημα.
+    // Τα προϊόντα που προέρχονται από DTO έχουν κατηγορία μόνο με όνομα, οπότε το ID διαβάζεται από τη βάση.
+    private Integer categoryIdOf(Product product) {
+        if (product.getCategory() != null && product.getCategory().getId() != null) {
+            return product.getCategory().getId();
+        }
+        return product.getId() != null ? productRepository.findCategoryIdById(product.getId()) : null;
+    }
+
+    @Override
+    public void recordCreated(Order order) {
+        apply(List.of(), entries(capture(order)));
+    }
+
+    @Override
+    public void recordUpdated(OrderRollupEntry before, Order after) {
+        apply(entries(before), entries(capture(after)));
+    }
+
+    @Override
+    public void recordDeleted(OrderRollupEntry before) {
+        apply(entries(before), List.of());
+    }
+
+    @Override
+    public void addAll(List<OrderRollupEntry> entries) {
+        apply(List.of(), entries);
+    }
+
+    @Override
+    public void removeAll(List<OrderRollupEntry> entries) {
+        apply(entries, List.of());
+    }
+
+    @Override
+    public void addAllToRebuild(List<OrderRollupEntry> entries) {
+        Map<RollupKey, Delta> deltas = new TreeMap<>();
+        for (OrderRollupEntry entry : entries) {
+            accumulate(deltas, entry, 1);
+        }
+        upsert(deltas, orderRollupRepository::upsertRebuild);
+    }
+
+    private static List<OrderRollupEntry> entries(OrderRollupEntry entry) {
+        return entry != null ? List.of(entry) : List.of();
+    }
+
+    // Οι παραγγελίες που έχει ήδη διαβάσει μια ανακατασκευή σε εξέλιξη ενημερώνουν και τον σκιώδη πίνακα της,
+    // οι υπόλοιπες θα διαβαστούν από την ίδια την ανακατασκευή (OrderRollupRebuildGate)
+    private void apply(List<OrderRollupEntry> removed, List<OrderRollupEntry> added) {
+        rebuildGate.runShared(rebuiltUpToId -> {
+            Map<RollupKey, Delta> deltas = new TreeMap<>();
+            Map<RollupKey, Delta> rebuildDeltas = new TreeMap<>();
+            accumulate(deltas, rebuildDeltas, rebuiltUpToId, removed, -1);
+            accumulate(deltas, rebuildDeltas, rebuiltUpToId, added, 1);
+            upsert(deltas, orderRollupRepository::upsert);
+            upsert(rebuildDeltas, orderRollupRepository::upsertRebuild);
+        });
+    }
+
+    private static void accumulate(Map<RollupKey, Delta> deltas, Map<RollupKey, Delta> rebuildDeltas,
+                                   int rebuiltUpToId, List<OrderRollupEntry> entries, int sign) {
+        for (OrderRollupEntry entry : entries) {
+            accumulate(deltas, entry, sign);
+            if (entry != null && entry.orderId() != null && entry.orderId() <= rebuiltUpToId) {
+                accumulate(rebuildDeltas, entry, sign);
+            }
+        }
+    }
+
+    private static void accumulate(Map<RollupKey, Delta> deltas, OrderRollupEntry entry, int sign) {
+        if (entry == null) {
+            return;
+        }
+        add(deltas, RollupDimension.PRODUCT, entry.productId(), entry, sign);
+        add(deltas, RollupDimension.SUPPLIER, entry.supplierId(), entry, sign);
+        add(deltas, RollupDimension.CATEGORY, entry.categoryId(), entry, sign);
+    }
+
+    private static void add(Map<RollupKey, Delta> deltas, RollupDimension dimension, Integer dimensionId,
+                            OrderRollupEntry entry, int sign) {
+        if (dimensionId == null) {
+            return;
+        }
+        Delta delta = deltas.computeIfAbsent(new RollupKey(dimension, dimensionId, entry.day()), key -> new Delta());
+        delta.orderCount += sign;
+        delta.quantity += (long) sign * entry.quantity();
+        delta.turnover += sign * entry.totalPrice();
+    }
+
+    // Οι γραμμές ενημερώνονται πάντα με την ίδια σειρά (TreeMap), ώστε ταυτόχρονα transactions να μην
+    // κλειδώνουν τις ίδιες γραμμές με αντίθετη σειρά
+    private void upsert(Map<RollupKey, Delta> deltas, RollupUpsert upsert) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<RollupKey, Delta> entry : deltas.entrySet()) {
+            Delta delta = entry.getValue();
+            if (delta.isEmpty()) {
+                continue;
+            }
+            RollupKey key = entry.getKey();
+            upsert.apply(key.dimension().name(), key.dimensionId(), key.day(),
+                    delta.orderCount, delta.quantity, delta.turnover);
+        }
+        logger.debug("Ενημερώθηκαν {} σύνολα παραγγελιών.", deltas.size());
+    }
+
+    // Το upsert του πίνακα των συνόλων ή του σκιώδους πίνακα της ανακατασκευής
+    @FunctionalInterface
+    private interface RollupUpsert {
+        int apply(String dimension, Integer dimensionId, LocalDate day, long orderCount, long quantity,
+                  double turnover);
+    }
+
+    private record RollupKey(RollupDimension dimension, Integer dimensionId, LocalDate day)
+            implements Comparable<RollupKey> {
+
+        private static final Comparator<RollupKey> ORDER = Comparator
+                .comparing(RollupKey::dimension)
+                .thenComparing(RollupKey::dimensionId)
+                .thenComparing(RollupKey::day);
+
+        @Override
+        public int compareTo(RollupKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private static final class Delta {
+        private long orderCount;
+        private long quantity;
+        private double turnover;
+
+        // Μια ενημέρωση που δεν αλλάζει την ημέρα ή το προϊόν αφήνει μηδενικές διαφορές
+        private boolean isEmpty() {
+            return orderCount == 0 && quantity == 0 && turnover == 0;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.OrderBatchResultDTO;
 import com.example.demo.dto.OrderDTO;
+import com.example.demo.dto.OrderLineDTO;
 import java.time.LocalDate;
 import java.util.List;
 
 public interface OrderService {
     OrderDTO createOrderWithProductAndQuantity(int productId, int quantity);  // Δημιουργία παραγγελίας
+    OrderBatchResultDTO createOrdersBatch(List<OrderLineDTO> lines);  // Μαζική δημιουργία παραγγελιών
     OrderDTO getOrderById(int id);  // Εύρεση παραγγελίας με βάση το ID
     OrderDTO updateOrder(int id, OrderDTO orderDTO);  // Ενημέρωση παραγγελίας
     void deleteOrder(int id);  // Διαγραφή παραγγελίας
@@ -1,8 +1,14 @@
 package com.example.demo.service;
 
+import com.example.demo.config.OrderBatchProperties;
+import com.example.demo.config.SearchProperties;
+import com.example.demo.dto.OrderBatchResultDTO;
 import com.example.demo.dto.OrderDTO;
+import com.example.demo.dto.OrderLineDTO;
+import com.example.demo.dto.OrderLineResultDTO;
 import com.example.demo.dto.ProductDTO;
 import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.mapper.OrderMapper;
 import com.example.demo.mapper.ProductMapper;
@@ -11,15 +17,24 @@ import com.example.demo.model.Order;
 import com.example.demo.model.Product;
 import com.example.demo.model.Supplier;
 import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.search.ProductSearchIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,12 +48,21 @@ public class OrderServiceImpl implements OrderService {
     private final OrderMapper orderMapper;
     private final ProductMapper productMapper;
     private final SupplierMapper supplierMapper;
+    private final OrderRollupService orderRollupService;
+    private final ProductRepository productRepository;
+    private final OrderBatchProperties batchProperties;
+    private final InventoryService inventoryService;
+    private final ProductSearchIndex productSearchIndex;
+    private final SearchProperties searchProperties;
     private final MessageSource messageSource;
 
     @Autowired
     public OrderServiceImpl(OrderRepository orderRepository, ProductService productService,
                             SupplierService supplierService, OrderMapper orderMapper,
                             ProductMapper productMapper, SupplierMapper supplierMapper,
+                            OrderRollupService orderRollupService, ProductRepository productRepository,
+                            OrderBatchProperties batchProperties, InventoryService inventoryService,
+                            ProductSearchIndex productSearchIndex, SearchProperties searchProperties,
                             MessageSource messageSource) {
         this.orderRepository = orderRepository;
         this.productService = productService;
@@ -46,10 +70,17 @@ public class OrderServiceImpl implements OrderService {
         this.orderMapper = orderMapper;
         this.productMapper = productMapper;
         this.supplierMapper = supplierMapper;
+        this.orderRollupService = orderRollupService;
+        this.productRepository = productRepository;
+        this.batchProperties = batchProperties;
+        this.inventoryService = inventoryService;
+        this.productSearchIndex = productSearchIndex;
+        this.searchProperties = searchProperties;
         this.messageSource = messageSource;
     }
 
     @Override
+    @Transactional
     public OrderDTO createOrderWithProductAndQuantity(int productId, int quantity) {
         logger.info("Δημιουργία παραγγελίας για προϊόν με ID: {} και ποσότητα: {}", productId, quantity);
 
@@ -59,13 +90,113 @@ public class OrderServiceImpl implements OrderService {
         }
 
         Order order = orderMapper.createOrderFromProductDTO(productDTO, quantity);
+        inventoryService.reserve(productId, supplierIdOf(order), quantity);
+        order.setStockReserved(true);
         Order savedOrder = orderRepository.save(order);
+        orderRollupService.recordCreated(savedOrder);
 
-        logger.info("Η παραγγελία δημιουργήθηκε με επιτυχία: {}", savedOrder);
+        logger.info("Η παραγγελία δημιουργήθηκε με επιτυχία με ID: {}", savedOrder.getId());
         return orderMapper.toDTO(savedOrder);
     }
 
     @Override
+    @Transactional
+    public OrderBatchResultDTO createOrdersBatch(List<OrderLineDTO> lines) {
+        int size = lines != null ? lines.size() : 0;
+        if (size == 0 || size > batchProperties.getMaxLines()) {
+            throw new InvalidRequestException(ErrorCode.INVALID_BATCH_SIZE, size, batchProperties.getMaxLines());
+        }
+        logger.info("Μαζική δημιουργία παραγγελιών: {} γραμμές.", size);
+
+        // Όλα τα προϊόντα της παρτίδας φορτώνονται με ένα ερώτημα IN
+        Set<Integer> productIds = lines.stream()
+                .map(OrderLineDTO::getProductId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Product> products = productIds.isEmpty() ? Map.of()
+                : productRepository.findAllWithReferencesByIdIn(productIds).stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<OrderLineResultDTO> results = new ArrayList<>(size);
+        List<OrderLineResultDTO> valid = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            OrderLineDTO line = lines.get(i);
+            OrderLineResultDTO result = new OrderLineResultDTO(i, line.getProductId(), line.getQuantity());
+            results.add(result);
+
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                reject(result, ErrorCode.INVALID_ORDER_QUANTITY, line.getQuantity());
+            } else if (line.getProductId() == null || !products.containsKey(line.getProductId())) {
+                reject(result, ErrorCode.PRODUCT_NOT_FOUND, line.getProductId());
+            } else {
+                valid.add(result);
+            }
+        }
+
+        // Οι δεσμεύσεις αποθέματος γίνονται με αύξουσα σειρά προϊόντος, ώστε ταυτόχρονες παρτίδες
+        // να κλειδώνουν τις γραμμές των προϊόντων με την ίδια σειρά
+        List<OrderLineResultDTO> byProduct = new ArrayList<>(valid);
+        byProduct.sort(Comparator.comparing(OrderLineResultDTO::getProductId));
+        for (OrderLineResultDTO result : byProduct) {
+            Product product = products.get(result.getProductId());
+            if (!inventoryService.tryReserve(product.getId(), supplierIdOf(product), result.getQuantity())) {
+                reject(result, ErrorCode.INSUFFICIENT_STOCK, result.getProductId(), result.getQuantity());
+            }
+        }
+
+        List<OrderLineResultDTO> accepted = new ArrayList<>(valid.size());
+        List<Order> orders = new ArrayList<>(valid.size());
+        for (OrderLineResultDTO result : valid) {
+            if (result.getStatus() == null) {
+                Order order = orderMapper.createOrderFromProduct(products.get(result.getProductId()), result.getQuantity());
+                order.setStockReserved(true);
+                accepted.add(result);
+                orders.add(order);
+            }
+        }
+        // Τα IDs δεσμεύονται εκ των προτέρων, οπότε τα INSERT γράφονται σε JDBC batches κατά το flush
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+
+        List<OrderRollupEntry> rollupEntries = new ArrayList<>(savedOrders.size());
+        for (int i = 0; i < savedOrders.size(); i++) {
+            Order order = savedOrders.get(i);
+            OrderLineResultDTO result = accepted.get(i);
+            result.setStatus(OrderLineResultDTO.CREATED);
+            result.setOrderId(order.getId());
+            result.setPrice(order.getPrice());
+            result.setTotalPrice(order.getTotalPrice());
+            rollupEntries.add(orderRollupService.capture(order));
+        }
+        orderRollupService.addAll(rollupEntries);
+
+        int rejected = size - savedOrders.size();
+        logger.info("Η μαζική παραγγελία ολοκληρώθηκε: {} δημιουργήθηκαν, {} απορρίφθηκαν.", savedOrders.size(), rejected);
+        return new OrderBatchResultDTO(savedOrders.size(), rejected, results);
+    }
+
+    private void reject(OrderLineResultDTO result, ErrorCode errorCode, Object... params) {
+        result.setStatus(OrderLineResultDTO.REJECTED);
+        result.setErrorCode(errorCode.getCode());
+        result.setMessage(messageSource.getMessage(errorCode.getCode(), params, LocaleContextHolder.getLocale()));
+    }
+
+    private static Integer supplierIdOf(Order order) {
+        return order.getSupplier() != null ? order.getSupplier().getId() : null;
+    }
+
+    private static Integer supplierIdOf(Product product) {
+        return product.getSupplier() != null ? product.getSupplier().getId() : null;
+    }
+
+    // Επιστρέφει στο απόθεμα την ποσότητα μιας παραγγελίας, αν είχε δεσμευτεί κατά τη δημιουργία της
+    private void releaseStock(Order order) {
+        if (Boolean.TRUE.equals(order.getStockReserved()) && order.getProduct() != null) {
+            inventoryService.release(order.getProduct().getId(), supplierIdOf(order), order.getQuantity());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public OrderDTO getOrderById(int id) {
         logger.info("Ανάκτηση παραγγελίας με ID: {}", id);
         return orderRepository.findById(id)
@@ -74,6 +205,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @Transactional
     public OrderDTO updateOrder(int id, OrderDTO orderDTO) {
         logger.info("Ενημέρωση παραγγελίας με ID: {}", id);
 
@@ -94,18 +226,28 @@ public class OrderServiceImpl implements OrderService {
         Product product = productMapper.toEntity(productService.getProductById(orderDTO.getProductId()));
         Supplier supplier = supplierMapper.toEntity(supplierService.getSupplierById(orderDTO.getSupplierId()));
 
+        // Η συνεισφορά της παραγγελίας στα σύνολα πριν από την αλλαγή
+        OrderRollupEntry before = orderRollupService.capture(existingOrder);
+
+        // Η προηγούμενη ποσότητα επιστρέφεται στο απόθεμα και δεσμεύεται η νέα
+        releaseStock(existingOrder);
+        inventoryService.reserve(orderDTO.getProductId(), orderDTO.getSupplierId(), orderDTO.getQuantity());
+
         // Ενημέρωση παραγγελίας με τα νέα δεδομένα
         orderMapper.updateOrderFromDTO(existingOrder, product, supplier, orderDTO);
+        existingOrder.setStockReserved(true);
 
         // Αποθήκευση της ενημερωμένης παραγγελίας
         Order updatedOrder = orderRepository.save(existingOrder);
+        orderRollupService.recordUpdated(before, updatedOrder);
 
-        logger.info("Η παραγγελία ενημερώθηκε με επιτυχία: {}", updatedOrder);
+        logger.info("Η παραγγελία με ID {} ενημερώθηκε με επιτυχία.", updatedOrder.getId());
         return orderMapper.toDTO(updatedOrder);  // Επιστροφή του DTO της ενημερωμένης παραγγελίας
     }
 
 
     @Override
+    @Transactional
     public void deleteOrder(int id) {
         logger.info("Διαγραφή παραγγελίας με ID: {}", id);
         Order order = orderRepository.findById(id)
@@ -119,20 +261,40 @@ public class OrderServiceImpl implements OrderService {
                     return new ResourceNotFoundException(ErrorCode.ORDER_NOT_FOUND, localizedMessage);
                 });
 
+        OrderRollupEntry before = orderRollupService.capture(order);
+        releaseStock(order);
         orderRepository.delete(order);  // Διαγραφή της παραγγελίας
+        orderRollupService.recordDeleted(before);
         logger.info("Η παραγγελία διαγράφηκε με επιτυχία.");
     }
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDTO> searchOrders(String productName) {
         logger.info("Αναζήτηση παραγγελιών με όνομα προϊόντος: {}", productName);
-        return orderRepository.findByProductProductNameContainingIgnoreCase(productName).stream()
+        int maxProducts = searchProperties.getMaxOrderSearchProducts();
+        Set<Integer> productIds = productSearchIndex.isReady()
+                ? productSearchIndex.matchingProductIds(productName, maxProducts)
+                : null;
+        if (productIds == null || productIds.size() > maxProducts) {
+            // Χωρίς ευρετήριο ή για πολύ γενικές αναζητήσεις, ένα IN με χιλιάδες IDs θα ήταν χειρότερο από το LIKE
+            return orderRepository.findByProductProductNameContainingIgnoreCase(productName).stream()
+                    .map(orderMapper::toDTO)
+                    .collect(Collectors.toList());
+        }
+
+        // Τα προϊόντα βρίσκονται από το ευρετήριο και οι παραγγελίες τους από το ευρετήριο του product_id
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return orderRepository.findByProductIdIn(productIds).stream()
                 .map(orderMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDTO> getAllOrders() {
         logger.info("Ανάκτηση όλων των παραγγελιών...");
         return orderRepository.findAll().stream()
@@ -141,6 +303,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDTO> searchOrdersBySupplierId(Integer supplierId) {
         logger.info("Αναζήτηση παραγγελιών για προμηθευτή με ID: {}", supplierId);
         return orderRepository.findBySupplierId(supplierId).stream()
@@ -149,6 +312,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDTO> getOrdersBySupplierAndDate(Integer supplierId, LocalDate startDate, LocalDate endDate) {
         logger.info("Ανάκτηση παραγγελιών για προμηθευτή με ID: {} από {} έως {}", supplierId, startDate, endDate);
         return orderRepository.findBySupplierIdAndCreatedAtBetween(supplierId, startDate, endDate).stream()
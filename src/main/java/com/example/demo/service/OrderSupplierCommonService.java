@@ -1,6 +1,7 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.OrderDTO;
+import com.example.demo.repository.SupplierDailyTurnoverView;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -8,6 +9,9 @@ import java.util.List;
 public interface OrderSupplierCommonService {
     List<OrderDTO> getOrdersBySupplierAndDate(Integer supplierId, LocalDate startDate, LocalDate endDate);
 
+    // Αθροίσματα παραγγελιών ανά ημέρα για τις ημερομηνίες startDate έως και endDate
+    List<SupplierDailyTurnoverView> getDailyTurnover(Integer supplierId, LocalDate startDate, LocalDate endDate);
+
     List<OrderDTO> searchOrdersBySupplierId(Integer supplierId);
 
     void deleteOrder(Integer orderId);
@@ -3,7 +3,9 @@ package com.example.demo.service;
 import com.example.demo.dto.OrderDTO;
 import com.example.demo.mapper.OrderMapper;
 import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.SupplierDailyTurnoverView;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -14,13 +16,19 @@ public class OrderSupplierCommonServiceImpl implements OrderSupplierCommonServic
 
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final OrderRollupService orderRollupService;
+    private final InventoryService inventoryService;
 
-    public OrderSupplierCommonServiceImpl(OrderRepository orderRepository, OrderMapper orderMapper) {
+    public OrderSupplierCommonServiceImpl(OrderRepository orderRepository, OrderMapper orderMapper,
+                                          OrderRollupService orderRollupService, InventoryService inventoryService) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
+        this.orderRollupService = orderRollupService;
+        this.inventoryService = inventoryService;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDTO> searchOrdersBySupplierId(Integer supplierId) {
         return orderRepository.findBySupplierId(supplierId)
                 .stream()
@@ -29,6 +37,7 @@ public class OrderSupplierCommonServiceImpl implements OrderSupplierCommonServic
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDTO> getOrdersBySupplierAndDate(Integer supplierId, LocalDate startDate, LocalDate endDate) {
         return orderRepository.findBySupplierIdAndCreatedAtBetween(supplierId, startDate, endDate)
                 .stream()
@@ -37,7 +46,23 @@ public class OrderSupplierCommonServiceImpl implements OrderSupplierCommonServic
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<SupplierDailyTurnoverView> getDailyTurnover(Integer supplierId, LocalDate startDate, LocalDate endDate) {
+        return orderRepository.findDailyTurnover(supplierId, startDate.atStartOfDay(),
+                endDate.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    @Transactional
     public void deleteOrder(Integer orderId) {
+        // Η παραγγελία αφαιρείται και από τα προ-υπολογισμένα σύνολα και η ποσότητά της επιστρέφει στο απόθεμα
+        orderRepository.findById(orderId).ifPresent(order -> {
+            orderRollupService.recordDeleted(orderRollupService.capture(order));
+            if (Boolean.TRUE.equals(order.getStockReserved()) && order.getProduct() != null) {
+                inventoryService.release(order.getProduct().getId(),
+                        order.getSupplier() != null ? order.getSupplier().getId() : null, order.getQuantity());
+            }
+        });
         orderRepository.deleteById(orderId);
     }
 }
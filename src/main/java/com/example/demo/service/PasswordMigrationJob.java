@@ -0,0 +1,112 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.UserPasswordView;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.PasswordProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Μετατρέπει στο παρασκήνιο τους κωδικούς AES σε hash BCrypt.
+ * Οι χρήστες διαβάζονται σε τμήματα (keyset στο ID) και κάθε κωδικός γράφεται με ξεχωριστό UPDATE, που
+ * εφαρμόζεται μόνο αν ο κωδικός δεν έχει ήδη αλλάξει από σύνδεση του χρήστη. Οι κωδικοί που δεν
+ * αποκρυπτογραφούνται παραλείπονται και καταγράφονται.
+ */
+@Component
+public class PasswordMigrationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordMigrationJob.class);
+
+    private final UserRepository userRepository;
+    private final PasswordService passwordService;
+    private final PasswordProperties properties;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "password-migration");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PasswordMigrationJob(UserRepository userRepository, PasswordService passwordService,
+                                PasswordProperties properties) {
+        this.userRepository = userRepository;
+        this.passwordService = passwordService;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isMigrateOnStartup()) {
+            start();
+        }
+    }
+
+    /**
+     * Ξεκινά τη μετάπτωση στο παρασκήνιο, αν δεν εκτελείται ήδη.
+     *
+     * @return true αν ξεκίνησε, false αν εκτελείται ήδη.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(() -> {
+            try {
+                run();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Εκτελεί τη μετάπτωση στο τρέχον thread.
+     *
+     * @return το πλήθος των κωδικών που μετατράπηκαν.
+     */
+    public int run() {
+        int batchSize = Math.max(1, properties.getMigrationBatchSize());
+        int lastId = 0;
+        int migrated = 0;
+        int skipped = 0;
+
+        try {
+            List<UserPasswordView> batch;
+            while (!(batch = userRepository.findLegacyPasswords(lastId, PageRequest.ofSize(batchSize))).isEmpty()) {
+                for (UserPasswordView row : batch) {
+                    lastId = row.getId();
+                    try {
+                        String hash = passwordService.rehashLegacy(row.getPassword());
+                        migrated += userRepository.replacePassword(row.getId(), row.getPassword(), hash);
+                    } catch (IllegalStateException e) {
+                        skipped++;
+                        logger.warn("Ο κωδικός του χρήστη με ID {} δεν μετατράπηκε: {}", row.getId(), e.getMessage());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Η μετάπτωση των κωδικών διακόπηκε μετά τον χρήστη με ID {}.", lastId, e);
+        }
+
+        if (migrated > 0 || skipped > 0) {
+            logger.info("Μετάπτωση κωδικών σε BCrypt: {} μετατράπηκαν, {} παραλείφθηκαν.", migrated, skipped);
+        }
+        return migrated;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.service;
+
+import com.example.demo.model.User;
+
+/**
+ * Διεπαφή για την αποθήκευση και τον έλεγχο των κωδικών πρόσβασης.
+ */
+public interface PasswordService {
+
+    /**
+     * Δημιουργεί το hash ενός νέου κωδικού για αποθήκευση.
+     *
+     * @param rawPassword ο κωδικός όπως τον έδωσε ο χρήστης.
+     * @return το hash του κωδικού.
+     */
+    String encode(String rawPassword);
+
+    /**
+     * Ελέγχει τον κωδικό ενός χρήστη κατά τη σύνδεση. Αν ο αποθηκευμένος κωδικός είναι παλιός (AES ή BCrypt με
+     * μικρότερο κόστος), αντικαθίσταται με νέο hash μετά από επιτυχή έλεγχο.
+     *
+     * @param user        ο χρήστης, με τον αποθηκευμένο κωδικό.
+     * @param rawPassword ο κωδικός που δόθηκε.
+     * @return true αν ο κωδικός είναι σωστός.
+     */
+    boolean authenticate(User user, String rawPassword);
+
+    /**
+     * Μετατρέπει έναν κωδικό AES σε hash, χωρίς τη συμμετοχή του χρήστη (μετάπτωση στο παρασκήνιο).
+     *
+     * @param storedPassword ο κωδικός AES όπως είναι αποθηκευμένος.
+     * @return το hash του κωδικού.
+     */
+    String rehashLegacy(String storedPassword);
+}
@@ -0,0 +1,104 @@
+package com.example.demo.service;
+
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.AESEncryptionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Υλοποίηση της διεπαφής PasswordService με τον PasswordEncoder (BCrypt) της εφαρμογής.
+ *
+ * <p>Οι κωδικοί ελέγχονται μόνο κατά τη σύνδεση· τα αιτήματα με JWT δεν χρησιμοποιούν τον κωδικό. Οι παλιοί
+ * κωδικοί AES αναγνωρίζονται επειδή δεν έχουν τη μορφή {@code $2a$...} του BCrypt και αντικαθίστανται με hash
+ * στην πρώτη επιτυχή σύνδεση ή από το {@link PasswordMigrationJob}.</p>
+ */
+@Service
+public class PasswordServiceImpl implements PasswordService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordServiceImpl.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+
+    public PasswordServiceImpl(PasswordEncoder passwordEncoder, UserRepository userRepository) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean authenticate(User user, String rawPassword) {
+        String stored = user.getPassword();
+        if (stored == null || rawPassword == null) {
+            return false;
+        }
+
+        boolean upgrade;
+        if (isLegacy(stored)) {
+            if (!legacyMatches(stored, rawPassword)) {
+                return false;
+            }
+            upgrade = true;
+        } else {
+            if (!passwordEncoder.matches(rawPassword, stored)) {
+                return false;
+            }
+            upgrade = passwordEncoder.upgradeEncoding(stored);
+        }
+
+        if (upgrade) {
+            rehash(user, stored, rawPassword);
+        }
+        return true;
+    }
+
+    @Override
+    public String rehashLegacy(String storedPassword) {
+        try {
+            return passwordEncoder.encode(AESEncryptionUtil.decrypt(storedPassword));
+        } catch (Exception e) {
+            throw new IllegalStateException("Ο κωδικός δεν μπορεί να αποκρυπτογραφηθεί: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return true αν ο αποθηκευμένος κωδικός είναι κρυπτογραφημένος με AES και όχι hash BCrypt.
+     */
+    public static boolean isLegacy(String storedPassword) {
+        return !storedPassword.startsWith("$2");
+    }
+
+    private static boolean legacyMatches(String stored, String rawPassword) {
+        try {
+            String decrypted = AESEncryptionUtil.decrypt(stored);
+            return MessageDigest.isEqual(decrypted.getBytes(StandardCharsets.UTF_8),
+                    rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            logger.warn("Ο κωδικός του χρήστη δεν μπορεί να αποκρυπτογραφηθεί: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // Η αποτυχία της αντικατάστασης δεν εμποδίζει τη σύνδεση: θα επαναληφθεί στην επόμενη
+    private void rehash(User user, String stored, String rawPassword) {
+        try {
+            String hash = passwordEncoder.encode(rawPassword);
+            if (userRepository.replacePassword(user.getId(), stored, hash) == 1) {
+                user.setPassword(hash);
+                logger.info("Ο κωδικός του χρήστη με ID {} αποθηκεύτηκε ξανά με BCrypt.", user.getId());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Αποτυχία αντικατάστασης του κωδικού του χρήστη με ID {}.", user.getId(), e);
+        }
+    }
+}
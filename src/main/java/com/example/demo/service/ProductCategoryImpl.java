@@ -6,11 +6,13 @@ import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.ProductCategory;
 import com.example.demo.repository.ProductCategoryRepository;
 import com.example.demo.mapper.ProductCategoryMapper;
+import com.example.demo.search.ProductSearchIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,6 +29,8 @@ public class ProductCategoryImpl implements ProductCategoryService {
     private final ProductCategoryRepository productCategoryRepository;
     private final ProductCategoryMapper productCategoryMapper;
     private final MessageSource messageSource;
+    private final ProductSearchIndex productSearchIndex;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Κατασκευαστής με dependency injection.
@@ -34,14 +38,20 @@ public class ProductCategoryImpl implements ProductCategoryService {
      * @param productCategoryRepository το repository για τις κατηγορίες προϊόντων.
      * @param productCategoryMapper το mapper για μετατροπές DTO <-> Entity.
      * @param messageSource το MessageSource για διεθνοποίηση.
+     * @param productSearchIndex το ευρετήριο αναζήτησης προϊόντων, που περιέχει και τα ονόματα των κατηγοριών.
+     * @param referenceDataCache η cache δεύτερου επιπέδου των δεδομένων αναφοράς.
      */
     @Autowired
     public ProductCategoryImpl(ProductCategoryRepository productCategoryRepository,
                                ProductCategoryMapper productCategoryMapper,
-                               MessageSource messageSource) {
+                               MessageSource messageSource,
+                               ProductSearchIndex productSearchIndex,
+                               ReferenceDataCache referenceDataCache) {
         this.productCategoryRepository = productCategoryRepository;
         this.productCategoryMapper = productCategoryMapper;
         this.messageSource = messageSource;
+        this.productSearchIndex = productSearchIndex;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -56,6 +66,7 @@ public class ProductCategoryImpl implements ProductCategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProductCategoryDTO> getAllProductCategories() {
         logger.info("Αναζητούνται όλες οι κατηγορίες προϊόντων...");
 
@@ -67,7 +78,11 @@ public class ProductCategoryImpl implements ProductCategoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Διαβάζεται από την κύρια βάση και όχι από το replica, γιατί γεμίζει την cache δεύτερου επιπέδου.
+     */
     @Override
+    @Transactional
     public ProductCategoryDTO getProductCategoryById(int id) {
         logger.info("Αναζήτηση κατηγορίας προϊόντος με ID: {}", id);
 
@@ -95,6 +110,8 @@ public class ProductCategoryImpl implements ProductCategoryService {
 
         existingCategory.setName(productCategoryDTO.getName());
         ProductCategory updatedCategory = productCategoryRepository.save(existingCategory);
+        productSearchIndex.renameCategory(id, updatedCategory.getName());
+        referenceDataCache.evictCategory(id);
 
         logger.info("Η κατηγορία προϊόντος με ID {} ενημερώθηκε με επιτυχία.", id);
         return productCategoryMapper.toDTO(updatedCategory);
@@ -110,6 +127,7 @@ public class ProductCategoryImpl implements ProductCategoryService {
         }
 
         productCategoryRepository.deleteById(id);
+        referenceDataCache.evictCategory(id);
         logger.info("Η κατηγορία προϊόντος με ID {} διαγράφηκε με επιτυχία.", id);
     }
 }
@@ -1,14 +1,30 @@
 package com.example.demo.service;
 
+import com.example.demo.config.PaginationProperties;
+import com.example.demo.config.SearchProperties;
 import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.ProductPageDTO;
 import com.example.demo.model.Product;
+import com.example.demo.pagination.KeysetCursor;
 import com.example.demo.repository.ProductRepository;
 import com.example.demo.mapper.ProductMapper;
+import com.example.demo.search.ProductSearchIndex;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ProductImpl implements ProductService {
@@ -17,41 +33,76 @@ public class ProductImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final PaginationProperties paginationProperties;
+    private final EntityManager entityManager;
+    private final InventoryService inventoryService;
+    private final ProductSearchIndex productSearchIndex;
+    private final SearchProperties searchProperties;
+    private final SingleFlight<Integer, ProductDTO> productLookups;
+    private final TransactionTemplate readOnlyTransaction;
 
     @Autowired
-    public ProductImpl(ProductRepository productRepository, ProductMapper productMapper) {
+    public ProductImpl(ProductRepository productRepository, ProductMapper productMapper,
+                       PaginationProperties paginationProperties, EntityManager entityManager,
+                       InventoryService inventoryService, ProductSearchIndex productSearchIndex,
+                       SearchProperties searchProperties, SingleFlight<Integer, ProductDTO> productLookups,
+                       PlatformTransactionManager transactionManager) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.paginationProperties = paginationProperties;
+        this.entityManager = entityManager;
+        this.inventoryService = inventoryService;
+        this.productSearchIndex = productSearchIndex;
+        this.searchProperties = searchProperties;
+        this.productLookups = productLookups;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
+    /**
+     * Οι ταυτόχρονες αναζητήσεις του ίδιου προϊόντος εκτός transaction μοιράζονται ένα query (SingleFlight), και
+     * μόνο η κλήση που το εκτελεί ανοίγει transaction και δεσμεύει σύνδεση. Μέσα σε transaction (π.χ. στη δημιουργία
+     * παραγγελίας) η ανάγνωση γίνεται ξεχωριστά, ώστε να βλέπει τα δεδομένα του.
+     */
     @Override
     public ProductDTO getProductById(Integer productId) {
         logger.info("Αναζήτηση προϊόντος με ID: {}", productId);
 
-        // Ανάκτηση του προϊόντος από το repository
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> {
-                    logger.error("Το προϊόν με ID {} δεν βρέθηκε.", productId);
-                    return new RuntimeException("Το προϊόν με ID " + productId + " δεν βρέθηκε.");
-                });
-
-        // Μετατροπή του Product σε ProductDTO χρησιμοποιώντας τον ProductMapper
-        ProductDTO productDTO = productMapper.toDTO(product);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loadProduct(productId);
+        }
+        return productLookups.load(productId, this::loadProduct);
+    }
 
-        return productDTO; // Επιστροφή του ProductDTO
+    private ProductDTO loadProduct(Integer productId) {
+        return readOnlyTransaction.execute(status -> {
+            // Ανάκτηση του προϊόντος από το repository
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> {
+                        logger.error("Το προϊόν με ID {} δεν βρέθηκε.", productId);
+                        return new RuntimeException("Το προϊόν με ID " + productId + " δεν βρέθηκε.");
+                    });
+
+            // Μετατροπή του Product σε ProductDTO χρησιμοποιώντας τον ProductMapper
+            return productMapper.toDTO(product);
+        });
     }
 
     @Override
+    @Transactional
     public ProductDTO createProduct(ProductDTO productDTO) {
         logger.info("Ξεκινάει η δημιουργία προϊόντος: {}", productDTO);
 
         Product product = productMapper.toEntity(productDTO); // Μετατροπή σε Entity
         Product savedProduct = productRepository.save(product);
+        // Η οντότητα του mapper έχει μόνο το ID της κατηγορίας, οπότε το ευρετήριο ξαναδιαβάζει το προϊόν
+        productSearchIndex.refresh(savedProduct.getId());
 
         return productMapper.toDTO(savedProduct); // Επιστροφή του DTO
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDTO> getAllProducts() {
         logger.info("Αναζητούνται όλα τα προϊόντα...");
         List<Product> products = productRepository.findAll();
@@ -61,6 +112,7 @@ public class ProductImpl implements ProductService {
     }
 
     @Override
+    @Transactional
     public ProductDTO updateProduct(int id, ProductDTO productDTO) {
         logger.info("Αίτημα ενημέρωσης προϊόντος με ID: {}", id);
 
@@ -72,6 +124,8 @@ public class ProductImpl implements ProductService {
 
         productMapper.updateEntityFromDTO(productDTO, existingProduct); // Ενημέρωση Entity με τα δεδομένα του DTO
         Product updatedProduct = productRepository.save(existingProduct);
+        inventoryService.evict(id); // Η ποσότητα μπορεί να άλλαξε εκτός των δεσμεύσεων αποθέματος
+        productSearchIndex.refresh(id);
 
         return productMapper.toDTO(updatedProduct); // Επιστροφή του DTO
     }
@@ -86,15 +140,69 @@ public class ProductImpl implements ProductService {
         }
 
         productRepository.deleteById(id);
+        inventoryService.evict(id);
+        productSearchIndex.remove(id);
         logger.info("Το προϊόν με ID {} διαγράφηκε με επιτυχία.", id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDTO> searchProductsByName(String name) {
         logger.info("Αναζητούνται προϊόντα με όνομα: {}", name);
-        List<Product> products = productRepository.findByProductNameContainingIgnoreCase(name);
-        return products.stream()
+        if (!productSearchIndex.isReady()) {
+            // Μόνο πριν ολοκληρωθεί το χτίσιμο του ευρετηρίου κατά την εκκίνηση
+            return productRepository.findByProductNameContainingIgnoreCase(name).stream()
+                    .map(productMapper::toDTO)
+                    .collect(Collectors.toList());
+        }
+
+        // Το ευρετήριο δίνει τα IDs με σειρά συνάφειας. Τα προϊόντα διαβάζονται με ένα ερώτημα στο πρωτεύον κλειδί,
+        // ώστε τιμή και απόθεμα να είναι πάντα τα τρέχοντα
+        List<Integer> ids = productSearchIndex.search(name, searchProperties.getMaxResults());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Product> products = productRepository.findAllWithReferencesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
                 .map(productMapper::toDTO)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductPageDTO getProductsPage(String cursor, Integer limit) {
+        int afterId = KeysetCursor.decode(cursor);
+        int size = paginationProperties.resolveSize(limit);
+        logger.info("Ανάκτηση σελίδας προϊόντων μετά το ID {} με μέγεθος {}", afterId, size);
+
+        // Ζητάμε μία εγγραφή παραπάνω για να ξέρουμε αν υπάρχει επόμενη σελίδα
+        List<Product> products = productRepository.findPageAfterId(afterId, PageRequest.of(0, size + 1));
+        boolean hasMore = products.size() > size;
+        if (hasMore) {
+            products = products.subList(0, size);
+        }
+
+        List<ProductDTO> items = products.stream()
+                .map(productMapper::toDTO)
+                .collect(Collectors.toList());
+        String nextCursor = hasMore ? KeysetCursor.encode(products.get(products.size() - 1).getId()) : null;
+
+        return new ProductPageDTO(items, nextCursor, items.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllProducts(Consumer<ProductDTO> consumer) {
+        logger.info("Σταδιακή ανάγνωση όλων των προϊόντων...");
+        try (Stream<Product> products = productRepository.streamAllBy()) {
+            products.forEach(product -> {
+                consumer.accept(productMapper.toDTO(product));
+                // Αποσύνδεση από το persistence context ώστε η μνήμη να μένει σταθερή
+                entityManager.detach(product);
+            });
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.ProductPageDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProductService {
     ProductDTO createProduct(ProductDTO productDTO);
@@ -11,5 +13,7 @@ public interface ProductService {
     ProductDTO updateProduct(int id, ProductDTO productDTO);
     void deleteProduct(int id);
     List<ProductDTO> searchProductsByName(String name);
+    ProductPageDTO getProductsPage(String cursor, Integer limit); // Σελίδα προϊόντων με keyset pagination
+    void streamAllProducts(Consumer<ProductDTO> consumer); // Σταδιακή ανάγνωση όλων των προϊόντων
 
 }
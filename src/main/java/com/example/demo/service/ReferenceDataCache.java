@@ -0,0 +1,103 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CacheStatsDTO;
+import com.example.demo.model.ProductCategory;
+import com.example.demo.model.Role;
+import com.example.demo.model.Supplier;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Πρόσβαση στην cache δεύτερου επιπέδου του Hibernate για τα δεδομένα αναφοράς (κατηγορίες, ρόλοι, προμηθευτές).
+ *
+ * <p>Το Hibernate ενημερώνει μόνο του την cache για τις αλλαγές που γίνονται μέσω JPA. Οι μέθοδοι ενημέρωσης και
+ * διαγραφής των υπηρεσιών αφαιρούν επιπλέον ρητά την εγγραφή και τα αποθηκευμένα αποτελέσματα queries, ώστε η
+ * επόμενη ανάγνωση να πηγαίνει πάντα στη βάση. Αλλαγές εκτός Hibernate (JDBC, μαζικές εισαγωγές) πρέπει να
+ * καλούν το {@link #evictAll()}.</p>
+ *
+ * <p>Τα στατιστικά κάθε περιοχής δημοσιεύονται ως metrics {@code cache.*} με {@code cache=<περιοχή>} και
+ * {@code cacheManager=hibernate}.</p>
+ */
+@Component
+public class ReferenceDataCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory, CacheManager secondLevelCacheManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = secondLevelCacheManager;
+    }
+
+    public void evictCategory(Integer id) {
+        evict(ProductCategory.class, id);
+    }
+
+    public void evictRole(Integer id) {
+        evict(Role.class, id);
+    }
+
+    public void evictSupplier(Integer id) {
+        evict(Supplier.class, id);
+    }
+
+    /**
+     * Αδειάζει όλες τις περιοχές, μετά από αλλαγές που έγιναν εκτός Hibernate.
+     */
+    public void evictAll() {
+        hibernateCache().evictAllRegions();
+        logger.debug("Η cache δεύτερου επιπέδου αδειάστηκε.");
+    }
+
+    /**
+     * Hits, misses, hit ratio, evictions και μέγεθος κάθε περιοχής.
+     */
+    public List<CacheStatsDTO> stats() {
+        List<CacheStatsDTO> stats = new ArrayList<>();
+        for (String region : cacheManager.getCacheNames()) {
+            Cache<?, ?> cache = nativeCache(region);
+            stats.add(CacheStatsDTO.of(region, cache.stats(), cache.estimatedSize()));
+        }
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : cacheManager.getCacheNames()) {
+            CaffeineCacheMetrics.monitor(registry, nativeCache(region), region, Tags.of("cacheManager", "hibernate"));
+        }
+    }
+
+    private void evict(Class<?> entityType, Integer id) {
+        if (id == null) {
+            return;
+        }
+        org.hibernate.Cache cache = hibernateCache();
+        cache.evictEntityData(entityType, id);
+        cache.evictDefaultQueryRegion();
+        logger.debug("Η εγγραφή {} με ID {} αφαιρέθηκε από την cache δεύτερου επιπέδου.",
+                entityType.getSimpleName(), id);
+    }
+
+    private org.hibernate.Cache hibernateCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private Cache<?, ?> nativeCache(String region) {
+        return cacheManager.getCache(region).unwrap(Cache.class);
+    }
+}
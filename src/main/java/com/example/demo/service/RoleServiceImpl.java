@@ -7,6 +7,7 @@ import com.example.demo.model.Role;
 import com.example.demo.repository.RoleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,10 +19,12 @@ import java.util.stream.Collectors;
 public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Autowired
-    public RoleServiceImpl(RoleRepository roleRepository) {
+    public RoleServiceImpl(RoleRepository roleRepository, ReferenceDataCache referenceDataCache) {
         this.roleRepository = roleRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -43,6 +46,7 @@ public class RoleServiceImpl implements RoleService {
      * @return Λίστα από RoleDTO.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<RoleDTO> getAllRoles() {
         return roleRepository.findAll().stream()
                 .map(RoleMapper::toDTO)
@@ -50,12 +54,13 @@ public class RoleServiceImpl implements RoleService {
     }
 
     /**
-     * Επιστροφή ρόλου με βάση το ID.
+     * Επιστροφή ρόλου με βάση το ID. Διαβάζεται από την κύρια βάση, γιατί γεμίζει την cache δεύτερου επιπέδου.
      *
      * @param id Το ID του ρόλου.
      * @return Το RoleDTO.
      */
     @Override
+    @Transactional
     public RoleDTO getRoleById(Integer id) {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Ο ρόλος με ID " + id + " δεν βρέθηκε."));
@@ -76,6 +81,7 @@ public class RoleServiceImpl implements RoleService {
 
         role.setName(Enum.valueOf(ERole.class, roleDTO.getName())); // Ενημέρωση ονόματος
         Role updatedRole = roleRepository.save(role);
+        referenceDataCache.evictRole(id);
         return RoleMapper.toDTO(updatedRole);
     }
 
@@ -89,15 +95,18 @@ public class RoleServiceImpl implements RoleService {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Ο ρόλος με ID " + id + " δεν βρέθηκε."));
         roleRepository.delete(role);
+        referenceDataCache.evictRole(id);
     }
 
     /**
-     * Επιστροφή ρόλου με βάση το όνομα του ρόλου.
+     * Επιστροφή ρόλου με βάση το όνομα του ρόλου. Διαβάζεται από την κύρια βάση, γιατί γεμίζει την cache δεύτερου
+     * επιπέδου και την cache του query.
      *
      * @param roleName Το όνομα του ρόλου (ERole).
      * @return Η οντότητα Role.
      */
     @Override
+    @Transactional
     public Role getRoleByName(ERole roleName) {
         return roleRepository.findByName(roleName)
                 .orElseThrow(() -> new RuntimeException("Ο ρόλος " + roleName + " δεν βρέθηκε."));
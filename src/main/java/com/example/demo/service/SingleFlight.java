@@ -0,0 +1,206 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SingleFlightProperties;
+import com.example.demo.dto.SingleFlightKeyStatsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Συνενώνει τις ταυτόχρονες φορτώσεις του ίδιου κλειδιού: η πρώτη κλήση εκτελεί τη φόρτωση στο δικό της νήμα και
+ * όσες φτάσουν όσο αυτή εκτελείται περιμένουν και παίρνουν το ίδιο αποτέλεσμα (ή την ίδια εξαίρεση). Μόλις η
+ * φόρτωση ολοκληρωθεί το κλειδί αποδεσμεύεται, οπότε δεν κρατιέται κανένα αποτέλεσμα: δεν είναι cache.
+ *
+ * <p>Δεν χρησιμοποιεί synchronized ούτε δικά του νήματα, οπότε λειτουργεί το ίδιο με νήματα του pool και με
+ * virtual threads: όσες κλήσεις περιμένουν σταθμεύουν στο {@link CompletableFuture} χωρίς να δεσμεύουν νήμα
+ * φορέα. Αν η φόρτωση δεν ολοκληρωθεί μέσα στο {@code app.single-flight.wait-timeout}, η κλήση φορτώνει μόνη της.</p>
+ *
+ * <p>Τα metrics δημοσιεύονται με {@code name=<όνομα>}: {@code singleflight.calls} ανά αποτέλεσμα (loaded, shared,
+ * failed, timeout), {@code singleflight.in.flight} και {@code singleflight.callers} (κλήσεις ανά φόρτωση). Τα
+ * στατιστικά ανά κλειδί κρατιούνται για τα πιο πρόσφατα κλειδιά και επιστρέφονται από το {@link #hotKeys(int)},
+ * ώστε το πλήθος των metrics να μην εξαρτάται από το πλήθος των IDs.</p>
+ *
+ * @param <K> ο τύπος του κλειδιού (π.χ. το ID).
+ * @param <V> ο τύπος του αποτελέσματος· το ίδιο αντικείμενο επιστρέφεται σε όλες τις κλήσεις που το μοιράστηκαν.
+ */
+public class SingleFlight<K, V> implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final String name;
+    private final SingleFlightProperties properties;
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<K, KeyStats> keyStats;
+
+    private final LongAdder loaded = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private volatile DistributionSummary callers;
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+    }
+
+    private static final class KeyStats {
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder shared = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+
+    public SingleFlight(String name, SingleFlightProperties properties) {
+        this.name = name;
+        this.properties = properties;
+        this.keyStats = Caffeine.newBuilder()
+                .maximumSize(properties.getTrackedKeys())
+                .expireAfterAccess(properties.getKeyStatsTtl())
+                .build();
+    }
+
+    /**
+     * Επιστρέφει το αποτέλεσμα της φόρτωσης του κλειδιού, μοιράζοντας τη φόρτωση που ήδη εκτελείται αν υπάρχει.
+     * Οι εξαιρέσεις του loader (π.χ. εγγραφή που δεν βρέθηκε) φτάνουν σε όλες τις κλήσεις που περίμεναν.
+     *
+     * @param key    το κλειδί.
+     * @param loader η φόρτωση από τη βάση δεδομένων· εκτελείται στο νήμα της πρώτης κλήσης.
+     * @return το αποτέλεσμα της φόρτωσης.
+     */
+    public V load(K key, Function<? super K, ? extends V> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(key);
+        }
+        KeyStats stats = keyStats.get(key, k -> new KeyStats());
+        Flight<V> flight = new Flight<>();
+        Flight<V> running = inFlight.putIfAbsent(key, flight);
+        if (running == null) {
+            return lead(key, flight, loader, stats);
+        }
+        running.callers.incrementAndGet();
+        return await(key, running, loader, stats);
+    }
+
+    private V lead(K key, Flight<V> flight, Function<? super K, ? extends V> loader, KeyStats stats) {
+        try {
+            V value = loader.apply(key);
+            flight.result.complete(value);
+            loaded.increment();
+            stats.loads.increment();
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            failed.increment();
+            stats.failures.increment();
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+            DistributionSummary summary = callers;
+            if (summary != null) {
+                summary.record(flight.callers.get());
+            }
+        }
+    }
+
+    private V await(K key, Flight<V> flight, Function<? super K, ? extends V> loader, KeyStats stats) {
+        try {
+            V value = flight.result.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            shared.increment();
+            stats.shared.increment();
+            return value;
+        } catch (ExecutionException e) {
+            shared.increment();
+            stats.shared.increment();
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            stats.loads.increment();
+            logger.warn("Η φόρτωση του κλειδιού {} ({}) δεν ολοκληρώθηκε σε {}· η κλήση φορτώνει μόνη της.",
+                    key, name, properties.getWaitTimeout());
+            return loader.apply(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Η αναμονή της φόρτωσης του κλειδιού " + key + " διακόπηκε.", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * Τα κλειδιά με τις περισσότερες κλήσεις, από τα στατιστικά που κρατιούνται στη μνήμη.
+     *
+     * @param limit το μέγιστο πλήθος κλειδιών.
+     * @return τα στατιστικά των κλειδιών, με τις περισσότερες κλήσεις πρώτα.
+     */
+    public List<SingleFlightKeyStatsDTO> hotKeys(int limit) {
+        return keyStats.asMap().entrySet().stream()
+                .map(entry -> new SingleFlightKeyStatsDTO(name, String.valueOf(entry.getKey()),
+                        entry.getValue().loads.sum(), entry.getValue().shared.sum(), entry.getValue().failures.sum()))
+                .sorted(Comparator.comparingLong((SingleFlightKeyStatsDTO stats) -> stats.getLoads() + stats.getShared())
+                        .reversed()
+                        .thenComparing(SingleFlightKeyStatsDTO::getKey))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * @return το πλήθος των κλειδιών που φορτώνονται αυτή τη στιγμή.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("name", name);
+        counter(registry, tags, "loaded", loaded, "Φορτώσεις από τη βάση");
+        counter(registry, tags, "shared", shared, "Κλήσεις που πήραν το αποτέλεσμα φόρτωσης σε εξέλιξη");
+        counter(registry, tags, "failed", failed, "Φορτώσεις που απέτυχαν");
+        counter(registry, tags, "timeout", timedOut, "Κλήσεις που δεν περίμεναν άλλο και φόρτωσαν μόνες τους");
+        Gauge.builder("singleflight.in.flight", inFlight, ConcurrentHashMap::size)
+                .tags(tags)
+                .description("Κλειδιά που φορτώνονται αυτή τη στιγμή")
+                .register(registry);
+        callers = DistributionSummary.builder("singleflight.callers")
+                .tags(tags)
+                .description("Κλήσεις που εξυπηρετήθηκαν από μία φόρτωση")
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, Tags tags, String result, LongAdder count, String description) {
+        FunctionCounter.builder("singleflight.calls", count, LongAdder::sum)
+                .tags(tags)
+                .tag("result", result)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SupplierDeletionProperties;
+import com.example.demo.dto.SupplierDeletionStatusDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderRollupSourceView;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.repository.SupplierProductRepository;
+import com.example.demo.repository.SupplierRepository;
+import com.example.demo.search.ProductSearchIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Διαγράφει έναν προμηθευτή μαζί με τις παραγγελίες, τις συνδέσεις προμηθευτών-προϊόντων και τα προϊόντα του,
+ * με εντολές DELETE ανά σύνολο γραμμών αντί για φόρτωση και διαγραφή κάθε παραγγελίας χωριστά.
+ *
+ * <p>Πριν από τη διαγραφή, οι παραγγελίες αφαιρούνται από τα σύνολα (διαβάζονται σε τμήματα, keyset στο ID) και
+ * οι δεσμευμένες ποσότητές τους επιστρέφουν στο απόθεμα των προϊόντων με μία εντολή UPDATE. Το απόθεμα του ίδιου
+ * του προμηθευτή δεν επιστρέφεται, αφού οι συνδέσεις του διαγράφονται. Αν παραγγελίες άλλων προμηθευτών
+ * αναφέρονται σε προϊόντα του, η διαγραφή απορρίπτεται πριν αλλάξει οτιδήποτε.</p>
+ *
+ * <p>Η {@link #deleteNow(Integer)} τα εκτελεί όλα σε ένα transaction. Για προμηθευτές με πολλές παραγγελίες η
+ * {@link #start(Integer)} διαγράφει τις παραγγελίες στο παρασκήνιο, ένα τμήμα ανά transaction, και στο τέλος τον
+ * κατάλογο και τον προμηθευτή. Αν διακοπεί, οι παραγγελίες που διαγράφηκαν δεν επανέρχονται, αλλά τα σύνολα και
+ * το απόθεμα μένουν συνεπή με αυτές και η διαγραφή μπορεί απλώς να ξεκινήσει ξανά.</p>
+ */
+@Component
+public class SupplierDeletionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(SupplierDeletionJob.class);
+
+    private final SupplierRepository supplierRepository;
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final SupplierProductRepository supplierProductRepository;
+    private final OrderRollupService orderRollupService;
+    private final InventoryService inventoryService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ReferenceDataCache referenceDataCache;
+    private final SupplierDeletionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "supplier-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Integer, SupplierDeletionStatusDTO> statuses = new HashMap<>();
+
+    public SupplierDeletionJob(SupplierRepository supplierRepository, OrderRepository orderRepository,
+                               ProductRepository productRepository,
+                               SupplierProductRepository supplierProductRepository,
+                               OrderRollupService orderRollupService, InventoryService inventoryService,
+                               ProductSearchIndex productSearchIndex, ReferenceDataCache referenceDataCache,
+                               SupplierDeletionProperties properties, PlatformTransactionManager transactionManager) {
+        this.supplierRepository = supplierRepository;
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.supplierProductRepository = supplierProductRepository;
+        this.orderRollupService = orderRollupService;
+        this.inventoryService = inventoryService;
+        this.productSearchIndex = productSearchIndex;
+        this.referenceDataCache = referenceDataCache;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Διαγράφει τον προμηθευτή, τις παραγγελίες και τα προϊόντα του σε ένα transaction.
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @return το πλήθος των παραγγελιών που διαγράφηκαν.
+     * @throws ResourceNotFoundException αν ο προμηθευτής δεν υπάρχει.
+     * @throws InvalidRequestException   αν παραγγελίες άλλων προμηθευτών αναφέρονται σε προϊόντα του.
+     */
+    public long deleteNow(Integer supplierId) {
+        Set<Integer> touchedProductIds = new HashSet<>();
+        List<Integer> deletedProductIds = new ArrayList<>();
+        Long deletedOrders = transactionTemplate.execute(tx -> {
+            checkDeletable(supplierId);
+            long deleted = deleteRemainingOrders(supplierId, 0, touchedProductIds);
+            deletedProductIds.addAll(deleteCatalog(supplierId));
+            return deleted;
+        });
+        afterCatalogDeleted(supplierId, touchedProductIds, deletedProductIds);
+        logger.info("Ο προμηθευτής με ID {} διαγράφηκε μαζί με {} παραγγελίες και {} προϊόντα.",
+                supplierId, deletedOrders, deletedProductIds.size());
+        return deletedOrders != null ? deletedOrders : 0;
+    }
+
+    /**
+     * Ξεκινά τη διαγραφή του προμηθευτή στο παρασκήνιο, αν δεν εκτελείται ήδη.
+     *
+     * @param supplierId το ID του προμηθευτή.
+     * @return true αν ξεκίνησε, false αν εκτελείται ήδη διαγραφή του ίδιου προμηθευτή.
+     * @throws ResourceNotFoundException αν ο προμηθευτής δεν υπάρχει.
+     * @throws InvalidRequestException   αν παραγγελίες άλλων προμηθευτών αναφέρονται σε προϊόντα του.
+     */
+    public boolean start(Integer supplierId) {
+        checkDeletable(supplierId);
+        long totalOrders = orderRepository.countBySupplierId(supplierId);
+        synchronized (this) {
+            SupplierDeletionStatusDTO current = statuses.get(supplierId);
+            if (current != null && ("QUEUED".equals(current.getState()) || "RUNNING".equals(current.getState()))) {
+                return false;
+            }
+            statuses.put(supplierId, new SupplierDeletionStatusDTO(supplierId, "QUEUED", totalOrders, 0, 0,
+                    null, null, LocalDateTime.now(), null, null));
+        }
+        executor.submit(() -> run(supplierId));
+        return true;
+    }
+
+    /**
+     * Επιστρέφει ένα αντίγραφο της προόδου της τελευταίας διαγραφής του προμηθευτή στο παρασκήνιο.
+     *
+     * @return η πρόοδος ή null αν δεν έχει ζητηθεί διαγραφή του προμηθευτή.
+     */
+    public synchronized SupplierDeletionStatusDTO getStatus(Integer supplierId) {
+        SupplierDeletionStatusDTO status = statuses.get(supplierId);
+        if (status == null) {
+            return null;
+        }
+        return new SupplierDeletionStatusDTO(status.getSupplierId(), status.getState(), status.getTotalOrders(),
+                status.getDeletedOrders(), status.getChunks(), status.getLastOrderId(), status.getDeletedProducts(),
+                status.getStartedAt(), status.getFinishedAt(), status.getError());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Integer supplierId) {
+        try {
+            updateState(supplierId, "RUNNING");
+            logger.info("Ξεκίνησε η διαγραφή του προμηθευτή με ID {} στο παρασκήνιο.", supplierId);
+
+            int lastId = 0;
+            long deleted = 0;
+            long chunks = 0;
+            while (true) {
+                int afterId = lastId;
+                Set<Integer> chunkProductIds = new HashSet<>();
+                Chunk chunk = transactionTemplate.execute(tx -> {
+                    Integer upToId = removeNextChunkFromRollups(supplierId, afterId, chunkProductIds);
+                    return upToId == null ? null : new Chunk(upToId, deleteOrders(supplierId, afterId, upToId));
+                });
+                if (chunk == null) {
+                    break;
+                }
+                inventoryService.evict(chunkProductIds);
+                lastId = chunk.lastOrderId();
+                deleted += chunk.deletedOrders();
+                chunks++;
+                updateProgress(supplierId, deleted, chunks, lastId);
+            }
+
+            // Παραγγελίες που δημιουργήθηκαν στο μεταξύ διαγράφονται μαζί με τον κατάλογο
+            int afterId = lastId;
+            Set<Integer> touchedProductIds = new HashSet<>();
+            List<Integer> deletedProductIds = new ArrayList<>();
+            Long remaining = transactionTemplate.execute(tx -> {
+                long count = deleteRemainingOrders(supplierId, afterId, touchedProductIds);
+                deletedProductIds.addAll(deleteCatalog(supplierId));
+                return count;
+            });
+            afterCatalogDeleted(supplierId, touchedProductIds, deletedProductIds);
+
+            finish(supplierId, deleted + (remaining != null ? remaining : 0), deletedProductIds.size(), null);
+            logger.info("Η διαγραφή του προμηθευτή με ID {} ολοκληρώθηκε: {} παραγγελίες σε {} τμήματα, {} προϊόντα.",
+                    supplierId, deleted, chunks, deletedProductIds.size());
+        } catch (RuntimeException e) {
+            finish(supplierId, -1, null, e.getMessage());
+            logger.error("Η διαγραφή του προμηθευτή με ID {} στο παρασκήνιο απέτυχε.", supplierId, e);
+        }
+    }
+
+    private void checkDeletable(Integer supplierId) {
+        if (!supplierRepository.existsById(supplierId)) {
+            throw new ResourceNotFoundException(ErrorCode.SUPPLIER_NOT_FOUND, supplierId);
+        }
+        long blocking = orderRepository.countOtherSupplierOrdersForProductsOf(supplierId);
+        if (blocking > 0) {
+            logger.warn("Ο προμηθευτής με ID {} δεν μπορεί να διαγραφεί: {} παραγγελίες άλλων προμηθευτών " +
+                    "αφορούν προϊόντα του.", supplierId, blocking);
+            throw new InvalidRequestException(ErrorCode.RECORD_CANNOT_BE_DELETED);
+        }
+    }
+
+    // Αφαιρεί από τα σύνολα όλες τις παραγγελίες του προμηθευτή μετά το afterId, τμήμα προς τμήμα, και τις
+    // διαγράφει με μία εντολή έως το τελευταίο ID που διαβάστηκε, ώστε να μη διαγραφεί καμία που δεν αφαιρέθηκε
+    private long deleteRemainingOrders(Integer supplierId, int afterId, Set<Integer> productIds) {
+        int lastId = afterId;
+        Integer chunkLastId;
+        while ((chunkLastId = removeNextChunkFromRollups(supplierId, lastId, productIds)) != null) {
+            lastId = chunkLastId;
+        }
+        return lastId > afterId ? deleteOrders(supplierId, afterId, lastId) : 0;
+    }
+
+    // Επιστρέφει το τελευταίο ID του τμήματος ή null αν δεν έμειναν παραγγελίες
+    private Integer removeNextChunkFromRollups(Integer supplierId, int afterId, Set<Integer> productIds) {
+        List<OrderRollupSourceView> rows = orderRepository.findRollupSourceBySupplier(
+                supplierId, afterId, PageRequest.ofSize(Math.max(1, properties.getChunkSize())));
+        if (rows.isEmpty()) {
+            return null;
+        }
+        List<OrderRollupEntry> entries = new ArrayList<>(rows.size());
+        for (OrderRollupSourceView row : rows) {
+            entries.add(OrderRollupEntry.of(row));
+            productIds.add(row.getProductId());
+        }
+        orderRollupService.removeAll(entries);
+        return rows.get(rows.size() - 1).getId();
+    }
+
+    private int deleteOrders(Integer supplierId, int afterId, int upToId) {
+        productRepository.releaseReservedStockOfSupplierOrders(supplierId, afterId, upToId);
+        return orderRepository.deleteBySupplierIdInRange(supplierId, afterId, upToId);
+    }
+
+    private List<Integer> deleteCatalog(Integer supplierId) {
+        List<Integer> productIds = productRepository.findIdsBySupplierId(supplierId);
+        supplierProductRepository.deleteBySupplierOrItsProducts(supplierId);
+        productRepository.deleteBySupplierId(supplierId);
+        if (supplierRepository.deleteInBulkById(supplierId) == 0) {
+            throw new ResourceNotFoundException(ErrorCode.SUPPLIER_NOT_FOUND, supplierId);
+        }
+        return productIds;
+    }
+
+    // Εκτελείται μετά το commit, ώστε οι caches να ξαναδιαβάζουν τη νέα κατάσταση
+    private void afterCatalogDeleted(Integer supplierId, Set<Integer> touchedProductIds,
+                                     List<Integer> deletedProductIds) {
+        deletedProductIds.forEach(productSearchIndex::remove);
+        touchedProductIds.addAll(deletedProductIds);
+        inventoryService.evict(touchedProductIds);
+        referenceDataCache.evictSupplier(supplierId);
+    }
+
+    private synchronized void updateState(Integer supplierId, String state) {
+        statuses.get(supplierId).setState(state);
+    }
+
+    private synchronized void updateProgress(Integer supplierId, long deleted, long chunks, Integer lastId) {
+        SupplierDeletionStatusDTO status = statuses.get(supplierId);
+        status.setDeletedOrders(deleted);
+        status.setChunks(chunks);
+        status.setLastOrderId(lastId);
+    }
+
+    private synchronized void finish(Integer supplierId, long deleted, Integer deletedProducts, String error) {
+        SupplierDeletionStatusDTO status = statuses.get(supplierId);
+        status.setState(error == null ? "COMPLETED" : "FAILED");
+        if (deleted >= 0) {
+            status.setDeletedOrders(deleted);
+        }
+        status.setDeletedProducts(deletedProducts);
+        status.setFinishedAt(LocalDateTime.now());
+        status.setError(error);
+    }
+
+    private record Chunk(int lastOrderId, int deletedOrders) {
+    }
+}
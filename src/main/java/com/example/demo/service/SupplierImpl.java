@@ -1,11 +1,14 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.SupplierDTO;
-import com.example.demo.dto.OrderDTO;
+import com.example.demo.dto.SupplierTurnoverDTO;
+import com.example.demo.dto.TurnoverBucketDTO;
 import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.mapper.SupplierMapper;
 import com.example.demo.model.Supplier;
+import com.example.demo.repository.SupplierDailyTurnoverView;
 import com.example.demo.repository.SupplierRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,9 +16,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,33 +38,58 @@ public class SupplierImpl implements SupplierService {
     private final SupplierMapper supplierMapper;
     private final OrderSupplierCommonService orderSupplierCommonService;
     private final MessageSource messageSource;
+    private final ReferenceDataCache referenceDataCache;
+    private final SupplierDeletionJob supplierDeletionJob;
+    private final SingleFlight<Integer, SupplierDTO> supplierLookups;
+    private final TransactionTemplate primaryTransaction;
 
     @Autowired
     public SupplierImpl(SupplierRepository supplierRepository, SupplierMapper supplierMapper,
-                        OrderSupplierCommonService orderSupplierCommonService, MessageSource messageSource) {
+                        OrderSupplierCommonService orderSupplierCommonService, MessageSource messageSource,
+                        ReferenceDataCache referenceDataCache, SupplierDeletionJob supplierDeletionJob,
+                        SingleFlight<Integer, SupplierDTO> supplierLookups, PlatformTransactionManager transactionManager) {
         this.supplierRepository = supplierRepository;
         this.supplierMapper = supplierMapper;
         this.orderSupplierCommonService = orderSupplierCommonService;
         this.messageSource = messageSource;
+        this.referenceDataCache = referenceDataCache;
+        this.supplierDeletionJob = supplierDeletionJob;
+        this.supplierLookups = supplierLookups;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Οι ταυτόχρονες αναζητήσεις του ίδιου προμηθευτή εκτός transaction μοιράζονται ένα query (SingleFlight), όπως
+     * στο {@link ProductImpl#getProductById(Integer)}· καλύπτει τις αστοχίες της cache δεύτερου επιπέδου. Η φόρτωση
+     * γεμίζει την cache, γι' αυτό γίνεται σε transaction ανάγνωσης και εγγραφής στην κύρια βάση και όχι στο replica.
+     */
     @Override
     public SupplierDTO getSupplierById(Integer id) {
         logger.info("Αναζήτηση προμηθευτή με ID: {}", id);
-        Supplier supplier = supplierRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("Ο προμηθευτής με ID {} δεν βρέθηκε.", id);
-                    String localizedMessage = messageSource.getMessage(
-                            ErrorCode.SUPPLIER_NOT_FOUND.getCode(),
-                            new Object[]{id},
-                            LocaleContextHolder.getLocale()
-                    );
-                    return new ResourceNotFoundException(ErrorCode.SUPPLIER_NOT_FOUND, id);
-                });
-        return supplierMapper.toDTO(supplier);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loadSupplier(id);
+        }
+        return supplierLookups.load(id, this::loadSupplier);
+    }
+
+    private SupplierDTO loadSupplier(Integer id) {
+        return primaryTransaction.execute(status -> {
+            Supplier supplier = supplierRepository.findById(id)
+                    .orElseThrow(() -> {
+                        logger.error("Ο προμηθευτής με ID {} δεν βρέθηκε.", id);
+                        String localizedMessage = messageSource.getMessage(
+                                ErrorCode.SUPPLIER_NOT_FOUND.getCode(),
+                                new Object[]{id},
+                                LocaleContextHolder.getLocale()
+                        );
+                        return new ResourceNotFoundException(ErrorCode.SUPPLIER_NOT_FOUND, id);
+                    });
+            return supplierMapper.toDTO(supplier);
+        });
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SupplierDTO> getAllSuppliers() {
         logger.info("Ανάκτηση όλων των προμηθευτών...");
         return supplierRepository.findAll().stream()
@@ -85,6 +121,7 @@ public class SupplierImpl implements SupplierService {
 
         supplierMapper.updateEntityFromDTO(supplierDTO, existingSupplier);
         Supplier updatedSupplier = supplierRepository.save(existingSupplier);
+        referenceDataCache.evictSupplier(id);
 
         return supplierMapper.toDTO(updatedSupplier);
     }
@@ -93,18 +130,16 @@ public class SupplierImpl implements SupplierService {
     public void deleteSupplier(Integer id) {
         logger.info("Διαγραφή προμηθευτή με ID: {}", id);
 
-        List<OrderDTO> orders = orderSupplierCommonService.searchOrdersBySupplierId(id);
-
-        if (!orders.isEmpty()) {
-            logger.warn("Ο προμηθευτής με ID {} έχει σχετικές παραγγελίες που θα διαγραφούν.", id);
-            orders.forEach(order -> orderSupplierCommonService.deleteOrder(order.getId()));
+        // Παραγγελίες, συνδέσεις και προϊόντα διαγράφονται με μία εντολή το καθένα, σε ένα transaction
+        long deletedOrders = supplierDeletionJob.deleteNow(id);
+        if (deletedOrders > 0) {
+            logger.warn("Μαζί με τον προμηθευτή με ID {} διαγράφηκαν {} παραγγελίες.", id, deletedOrders);
         }
-
-        supplierRepository.deleteById(id);
         logger.info("Ο προμηθευτής με ID {} διαγράφηκε με επιτυχία.", id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SupplierDTO> findSuppliersByName(String name) {
         logger.info("Αναζήτηση προμηθευτών με όνομα: {}", name);
         return supplierRepository.findByFirstNameContainingIgnoreCase(name).stream()
@@ -113,6 +148,7 @@ public class SupplierImpl implements SupplierService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SupplierDTO> findSuppliersByLocation(String location) {
         logger.info("Αναζήτηση προμηθευτών με τοποθεσία: {}", location);
         return supplierRepository.findByLocationContainingIgnoreCase(location)
@@ -122,16 +158,46 @@ public class SupplierImpl implements SupplierService {
     }
 
     @Override
-    public Double calculateTurnover(Integer supplierId, LocalDate startDate, LocalDate endDate) {
+    @Transactional(readOnly = true)
+    public SupplierTurnoverDTO calculateTurnover(Integer supplierId, LocalDate startDate, LocalDate endDate) {
         logger.info("Υπολογισμός τζίρου για τον προμηθευτή με ID: {}", supplierId);
 
-        List<OrderDTO> orders = orderSupplierCommonService.getOrdersBySupplierAndDate(supplierId, startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidRequestException(ErrorCode.INVALID_DATE_RANGE, startDate, endDate);
+        }
+
+        // Ένα μόνο aggregate query· τα μηνιαία και τα συνολικά ποσά προκύπτουν από τις ημερήσιες γραμμές
+        List<SupplierDailyTurnoverView> days =
+                orderSupplierCommonService.getDailyTurnover(supplierId, startDate, endDate);
+
+        List<TurnoverBucketDTO> daily = new ArrayList<>(days.size());
+        Map<YearMonth, TurnoverBucketDTO> monthly = new LinkedHashMap<>();
+        SupplierTurnoverDTO result = new SupplierTurnoverDTO();
+
+        for (SupplierDailyTurnoverView day : days) {
+            TurnoverBucketDTO bucket = new TurnoverBucketDTO(day.getOrderDate().toString(),
+                    day.getOrderCount(), day.getQuantity(), day.getTurnover());
+            daily.add(bucket);
+
+            YearMonth month = YearMonth.from(day.getOrderDate());
+            TurnoverBucketDTO monthBucket = monthly.computeIfAbsent(month,
+                    key -> new TurnoverBucketDTO(key.toString(), 0, 0, 0));
+            monthBucket.setOrderCount(monthBucket.getOrderCount() + bucket.getOrderCount());
+            monthBucket.setQuantity(monthBucket.getQuantity() + bucket.getQuantity());
+            monthBucket.setTurnover(monthBucket.getTurnover() + bucket.getTurnover());
+
+            result.setOrderCount(result.getOrderCount() + bucket.getOrderCount());
+            result.setQuantity(result.getQuantity() + bucket.getQuantity());
+            result.setTurnover(result.getTurnover() + bucket.getTurnover());
+        }
 
-        double turnover = orders.stream()
-                .mapToDouble(OrderDTO::getTotalPrice)
-                .sum();
+        result.setSupplierId(supplierId);
+        result.setStartDate(startDate);
+        result.setEndDate(endDate);
+        result.setDaily(daily);
+        result.setMonthly(new ArrayList<>(monthly.values()));
 
-        logger.info("Ο συνολικός τζίρος είναι: {}", turnover);
-        return turnover;
+        logger.info("Ο συνολικός τζίρος είναι: {} ({} παραγγελίες)", result.getTurnover(), result.getOrderCount());
+        return result;
     }
 }
@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -59,6 +60,7 @@ public class SupplierProductImpl implements SupplierProductService {
      * @return λίστα με όλες τις σχέσεις.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<SupplierProductDTO> getAllSupplierProducts() {
         logger.info("Αναζητούνται όλες οι συνδέσεις προμηθευτών-προϊόντων...");
 
@@ -77,6 +79,7 @@ public class SupplierProductImpl implements SupplierProductService {
      * @return το DTO της σχέσης.
      */
     @Override
+    @Transactional(readOnly = true)
     public SupplierProductDTO getSupplierProductById(Integer id) {
         logger.info("Αναζήτηση σύνδεσης προμηθευτή-προϊόντος με ID: {}", id);
 
@@ -1,6 +1,7 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.SupplierDTO;
+import com.example.demo.dto.SupplierTurnoverDTO;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -23,5 +24,5 @@ public interface SupplierService {
 
     List<SupplierDTO> findSuppliersByLocation(String location); // Αναζήτηση με βάση την τοποθεσία
 
-    Double calculateTurnover(Integer supplierId, LocalDate startDate, LocalDate endDate); // Υπολογισμός τζίρου
+    SupplierTurnoverDTO calculateTurnover(Integer supplierId, LocalDate startDate, LocalDate endDate); // Υπολογισμός τζίρου
 }
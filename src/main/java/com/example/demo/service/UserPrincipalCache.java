@@ -0,0 +1,77 @@
+package com.example.demo.service;
+
+import com.example.demo.security.AuthCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Cache μικρής διάρκειας για τους χρήστες (UserDetails) που φορτώνονται σε κάθε αυθεντικοποιημένο αίτημα.
+ * Οι εγγραφές αφαιρούνται άμεσα όταν ο χρήστης ενημερώνεται ή διαγράφεται.
+ * Τα στατιστικά της δημοσιεύονται ως metrics {@code cache.*} με {@code cache=user-principals}.
+ */
+@Component
+public class UserPrincipalCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPrincipalCache.class);
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserPrincipalCache(AuthCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getPrincipalMaxSize())
+                .expireAfterWrite(properties.getPrincipalTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Επιστρέφει τον χρήστη από την cache ή τον φορτώνει μέσω του loader.
+     * Οι εξαιρέσεις του loader (π.χ. χρήστης που δεν βρέθηκε) δεν αποθηκεύονται.
+     *
+     * @param username το όνομα χρήστη.
+     * @param loader   η συνάρτηση φόρτωσης από τη βάση δεδομένων.
+     * @return τα UserDetails του χρήστη.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * Αφαιρεί έναν χρήστη από την cache.
+     *
+     * @param username το όνομα χρήστη.
+     */
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+            logger.debug("Ο χρήστης {} αφαιρέθηκε από την cache.", username);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user-principals");
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
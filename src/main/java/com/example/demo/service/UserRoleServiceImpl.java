@@ -12,6 +12,7 @@ import com.example.demo.model.UserRoleKey;
 import com.example.demo.repository.UserRoleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -34,6 +35,7 @@ public class UserRoleServiceImpl implements UserRoleService {
     }
 
     @Override
+    @Transactional
     public UserRoleDTO assignRoleToUser(UserRoleDTO userRoleDTO) {
         if (userRoleDTO.getRoleName() == null || userRoleDTO.getRoleName().isBlank()) {
             throw new IllegalArgumentException("Το όνομα του ρόλου δεν μπορεί να είναι null ή κενό.");
@@ -54,6 +56,7 @@ public class UserRoleServiceImpl implements UserRoleService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserRoleDTO> getAllUserRoles() {
         return userRoleRepository.findAll().stream()
                 .map(UserRoleMapper::toDTO)
@@ -61,6 +64,7 @@ public class UserRoleServiceImpl implements UserRoleService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserRoleDTO getUserRoleById(UserRoleKey userRoleKey) {
         UserRole userRole = userRoleRepository.findById(userRoleKey)
                 .orElseThrow(() -> new ResourceNotFoundException(
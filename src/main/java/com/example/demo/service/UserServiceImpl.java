@@ -8,9 +8,9 @@ import com.example.demo.model.ERole;
 import com.example.demo.model.Role;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
-import com.example.demo.security.AESEncryptionUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Set;
@@ -25,25 +25,25 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final RoleService roleService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final PasswordService passwordService;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, RoleService roleService) {
+    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, RoleService roleService,
+                           UserPrincipalCache userPrincipalCache, PasswordService passwordService) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.roleService = roleService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.passwordService = passwordService;
     }
 
     @Override
     public UserDTO createUser(UserDTO userDTO) {
         User user = userMapper.toEntity(userDTO);
 
-        // Κρυπτογράφηση του κωδικού πρόσβασης
-        try {
-            String encryptedPassword = AESEncryptionUtil.encrypt(user.getPassword());
-            user.setPassword(encryptedPassword);
-        } catch (Exception e) {
-            throw new RuntimeException("Σφάλμα κατά την κρυπτογράφηση του κωδικού: " + e.getMessage(), e);
-        }
+        // Hash του κωδικού πρόσβασης
+        user.setPassword(passwordService.encode(user.getPassword()));
 
         // Προσθήκη προεπιλεγμένου ρόλου ROLE_USER αν δε δοθούν ρόλοι
         if (userDTO.getRoles() == null || userDTO.getRoles().isEmpty()) {
@@ -58,6 +58,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(user -> userMapper.toDTO(user, false))
@@ -65,6 +66,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDTO getUserById(Integer id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -81,9 +83,13 @@ public class UserServiceImpl implements UserService {
                         ErrorCode.USER_NOT_FOUND,
                         new Object[]{id} // Αλλαγή στην παράμετρο του exception
                 ));
+        String previousUsername = user.getUsername();
 
         // Ενημέρωση των πεδίων του User μέσω του UserMapper
         userMapper.updateEntityFromDTO(userDTO, user);
+        if (userDTO.getPassword() != null) {
+            user.setPassword(passwordService.encode(userDTO.getPassword()));
+        }
 
         // Ενημέρωση ρόλων αν υπάρχουν
         if (userDTO.getRoles() != null) {
@@ -91,6 +97,10 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(user);
+
+        // Αφαίρεση από την cache τόσο με το παλιό όσο και με το νέο username
+        userPrincipalCache.evict(previousUsername);
+        userPrincipalCache.evict(updatedUser.getUsername());
         return userMapper.toDTO(updatedUser, false);
     }
 
@@ -102,6 +112,7 @@ public class UserServiceImpl implements UserService {
                         new Object[]{id} // Αλλαγή στην παράμετρο του exception
                 ));
         userRepository.delete(user);
+        userPrincipalCache.evict(user.getUsername());
     }
 
     @Override
@@ -116,10 +127,12 @@ public class UserServiceImpl implements UserService {
         user.setRoles(roleEntities);
 
         userRepository.save(user);
+        userPrincipalCache.evict(user.getUsername());
         return userMapper.toDTO(user, false);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getUserByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException(
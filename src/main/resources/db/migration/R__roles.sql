@@ -0,0 +1,5 @@
+-- Οι ρόλοι του ERole. Επαναλαμβανόμενη μετάπτωση: εκτελείται ξανά όποτε αλλάξει το αρχείο (π.χ. με νέο ρόλο)
+-- και προσθέτει μόνο όσους λείπουν.
+insert into roles (name) select 'ROLE_USER' from dual where not exists (select 1 from roles where name = 'ROLE_USER');
+insert into roles (name) select 'ROLE_MODERATOR' from dual where not exists (select 1 from roles where name = 'ROLE_MODERATOR');
+insert into roles (name) select 'ROLE_ADMIN' from dual where not exists (select 1 from roles where name = 'ROLE_ADMIN');
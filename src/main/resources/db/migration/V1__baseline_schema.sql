@@ -0,0 +1,100 @@
+-- Αρχικό σχήμα: οι πίνακες όπως τους δημιουργούσε το Hibernate με ddl-auto=update (MySQL, InnoDB) πριν από τις
+-- μεταπτώσεις. Σε βάσεις που υπάρχουν ήδη η έκδοση αυτή δεν εκτελείται (spring.flyway.baseline-version=1) και
+-- εφαρμόζονται μόνο οι επόμενες, οπότε κάθε νέος πίνακας, στήλη ή ευρετήριο μπαίνει σε νέα έκδοση και όχι εδώ.
+
+create table categories (
+    id integer not null auto_increment,
+    name varchar(50) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table customers (
+    balance float(53) not null,
+    id integer not null auto_increment,
+    user_id integer not null,
+    wholesale bit not null,
+    afm varchar(9) not null,
+    telephone varchar(13) not null,
+    first_name varchar(15) not null,
+    last_name varchar(15) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table orders (
+    id integer not null auto_increment,
+    price float(53) not null,
+    product_id integer not null,
+    quantity integer not null,
+    supplier_id integer not null,
+    total_price float(53) not null,
+    created_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table products (
+    category_id integer not null,
+    id integer not null auto_increment,
+    price float(53) not null,
+    quantity integer not null,
+    supplier_id integer not null,
+    uuid varchar(36) not null,
+    product_name varchar(50) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table roles (
+    id integer not null auto_increment,
+    name enum ('ROLE_ADMIN','ROLE_MODERATOR','ROLE_USER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table suppliers (
+    id integer not null auto_increment,
+    afm varchar(9) not null,
+    telephone varchar(13) not null,
+    first_name varchar(15) not null,
+    last_name varchar(15) not null,
+    location varchar(100) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table suppliers_products (
+    id integer not null auto_increment,
+    product_id integer not null,
+    quantity integer not null,
+    supplier_id integer not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_roles (
+    role_id integer not null,
+    user_id integer not null,
+    primary key (role_id, user_id)
+) engine=InnoDB;
+
+create table users (
+    id integer not null auto_increment,
+    created_at datetime(6) not null,
+    email varchar(50) not null,
+    username varchar(50) not null,
+    password varchar(64) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table customers add constraint UKeuat1oase6eqv195jvb71a93s unique (user_id);
+alter table customers add constraint UKq5dxsrb5cbum1lnapo9nkejs0 unique (afm);
+alter table roles add constraint UKofx66keruapi6vyqpv6f2or37 unique (name);
+alter table suppliers add constraint UK8r3xsqigqk781xo372okn6xse unique (afm);
+alter table suppliers_products add constraint UK7h1ejxw6og13ukqqy3nipkgye unique (supplier_id, product_id);
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table users add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table customers add constraint FKrh1g1a20omjmn6kurd35o3eit foreign key (user_id) references users (id);
+alter table orders add constraint FKkp5k52qtiygd8jkag4hayd0qg foreign key (product_id) references products (id);
+alter table orders add constraint FKg2540vs5sg5b0uov81t6p0229 foreign key (supplier_id) references suppliers (id);
+alter table products add constraint FKog2rp4qthbtt2lfyhfo32lsw9 foreign key (category_id) references categories (id);
+alter table products add constraint FK6i174ixi9087gcvvut45em7fd foreign key (supplier_id) references suppliers (id);
+alter table suppliers_products add constraint FKlbph1a19ss69wvvdm0gq18rl6 foreign key (product_id) references products (id);
+alter table suppliers_products add constraint FKdpy1wg96qkljeo1xh1cox05r9 foreign key (supplier_id) references suppliers (id);
+alter table user_roles add constraint FKh8ciramu9cc9q3qcqiv4ue8a6 foreign key (role_id) references roles (id);
+alter table user_roles add constraint FKhfh9dx7w3ubf1co1vdev94g3f foreign key (user_id) references users (id);
@@ -0,0 +1,15 @@
+-- Ευρετήρια για τα queries των repositories (ελέγχονται με EXPLAIN στο RepositoryQueryPlanTest).
+-- Το orders(supplier_id, created_at) δημιουργείται στην V5 και το customers(user_id) καλύπτεται από το unique
+-- constraint του.
+-- Το InnoDB δημιουργεί μόνο του ένα ευρετήριο για κάθε foreign key που δεν έχει· όταν δημιουργηθεί ένα ρητό
+-- ευρετήριο στην ίδια στήλη, το αυτόματο αφαιρείται, οπότε δεν μένουν διπλά.
+
+-- Παραγγελίες ανά προϊόν (findByProductIdIn και ο έλεγχος πριν από τη διαγραφή προμηθευτή)
+create index idx_orders_product_id on orders (product_id);
+
+-- Προϊόντα ανά κατηγορία (findByCategoryId) και ανά προμηθευτή (findIdsBySupplierId, deleteBySupplierId)
+create index idx_products_category_id on products (category_id);
+create index idx_products_supplier_id on products (supplier_id);
+
+-- Το uuid είναι το σταθερό αναγνωριστικό του προϊόντος προς τα έξω (ProductDTO)
+create index idx_products_uuid on products (uuid);
@@ -0,0 +1,7 @@
+-- Παλμός αναπαραγωγής (ReplicaLagGuard): μία γραμμή που ενημερώνεται στην κύρια βάση και διαβάζεται από το replica.
+-- Σε βάσεις όπου τον είχε ήδη δημιουργήσει ο ReplicaLagGuard ο πίνακας μένει ως έχει.
+create table if not exists replication_heartbeat (
+    id integer not null,
+    beat_at timestamp(3) not null,
+    primary key (id)
+) engine=InnoDB;
@@ -0,0 +1,16 @@
+-- Αιτήματα με Idempotency-Key (IdempotencyStore). Το unique constraint δεσμεύει το κλειδί για ένα μόνο αίτημα και
+-- το ευρετήριο στο created_at εξυπηρετεί τη διαγραφή των παλιών εγγραφών.
+create table idempotency_keys (
+    id bigint not null auto_increment,
+    scope varchar(100) not null,
+    idempotency_key varchar(100) not null,
+    request_hash varchar(64) not null,
+    status enum ('COMPLETED','IN_PROGRESS') not null,
+    response_body text,
+    created_at datetime(6) not null,
+    completed_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+alter table idempotency_keys add constraint uk_idempotency_keys_scope_key unique (scope, idempotency_key);
+create index idx_idempotency_keys_created_at on idempotency_keys (created_at);
@@ -0,0 +1,3 @@
+-- Παραγγελίες και τζίρος ενός προμηθευτή ανά διάστημα ημερομηνιών (OrderRepository.findDailyTurnover και
+-- findBySupplierIdAndCreatedAtBetween).
+create index idx_orders_supplier_created_at on orders (supplier_id, created_at);
@@ -0,0 +1,15 @@
+-- Σύνολα παραγγελιών ανά ημέρα και προϊόν, προμηθευτή ή κατηγορία (OrderRollupService). Ο πίνακας ξεκινά κενός·
+-- για τις παραγγελίες που υπάρχουν ήδη γεμίζει με την ανακατασκευή (OrderRollupRebuildJob).
+create table order_rollups (
+    bucket_date date not null,
+    dimension_id integer not null,
+    turnover float(53) not null,
+    id bigint not null auto_increment,
+    order_count bigint not null,
+    quantity bigint not null,
+    dimension enum ('CATEGORY','PRODUCT','SUPPLIER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table order_rollups add constraint uk_order_rollups_bucket unique (dimension, dimension_id, bucket_date);
+create index idx_order_rollups_dimension_date on order_rollups (dimension, bucket_date);
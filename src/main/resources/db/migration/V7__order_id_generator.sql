@@ -0,0 +1,11 @@
+-- Τα IDs των παραγγελιών δεσμεύονται σε μπλοκ από τον πίνακα id_generators (OrderIdAllocator) αντί για το
+-- auto_increment. Η ακολουθία ξεκινά μετά την τελευταία υπάρχουσα παραγγελία.
+create table id_generators (
+    next_val bigint not null,
+    sequence_name varchar(255) not null,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+insert into id_generators (sequence_name, next_val) select 'orders', coalesce(max(id), 0) + 1 from orders;
+
+alter table orders modify id integer not null;
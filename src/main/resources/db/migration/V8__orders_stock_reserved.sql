@@ -0,0 +1,3 @@
+-- Αν η ποσότητα της παραγγελίας έχει αφαιρεθεί από το απόθεμα. Οι υπάρχουσες παραγγελίες μένουν null: δημιουργήθηκαν
+-- πριν από τις δεσμεύσεις αποθέματος, οπότε η διαγραφή τους δεν επιστρέφει ποσότητα.
+alter table orders add column stock_reserved bit;
@@ -0,0 +1,11 @@
+-- Σκιώδης πίνακας όπου η ανακατασκευή (OrderRollupRebuildJob) χτίζει τα σύνολα από την αρχή. Οι αναφορές
+-- διαβάζουν τον order_rollups μέχρι να ολοκληρωθεί η ανακατασκευή και τα νέα σύνολα να αντιγραφούν σε αυτόν.
+create table order_rollups_rebuild (
+    bucket_date date not null,
+    dimension_id integer not null,
+    turnover float(53) not null,
+    order_count bigint not null,
+    quantity bigint not null,
+    dimension enum ('CATEGORY','PRODUCT','SUPPLIER') not null,
+    primary key (dimension, dimension_id, bucket_date)
+) engine=InnoDB;
@@ -0,0 +1,76 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.AESEncryptionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Αποκρυπτογραφήσεις ανά δευτερόλεπτο και ανά πυρήνα: ο προηγούμενος τρόπος ({@code perCall}: νέο κλειδί και
+ * {@code Cipher.getInstance} σε κάθε κλήση) και το AESEncryptionUtil ({@code pooled}: έτοιμα Cipher από pool).
+ * Η κύρια μέθοδος εκτελεί τη σύγκριση με ένα νήμα και με ένα νήμα ανά πυρήνα.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.AesBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AesBenchmark {
+
+    private static final String SECRET_KEY = "@!3a5k8?0$2*456%";
+
+    private String encrypted;
+
+    @Setup
+    public void setUp() throws Exception {
+        encrypted = AESEncryptionUtil.encrypt("password123");
+    }
+
+    @Benchmark
+    public String perCall() throws Exception {
+        SecretKey secretKey = new SecretKeySpec(SECRET_KEY.getBytes(), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(encrypted)));
+    }
+
+    @Benchmark
+    public String pooled() throws Exception {
+        return AESEncryptionUtil.decrypt(encrypted);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[]{1, cores}) {
+            for (RunResult result : new Runner(new OptionsBuilder()
+                    .include(AesBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run()) {
+                System.out.printf("%s, %d νήματα: %.0f αποκρυπτογραφήσεις/s ανά πυρήνα%n",
+                        result.getParams().getBenchmark(), threads,
+                        result.getPrimaryResult().getScore() / Math.min(threads, cores));
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.demo.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Φόρτος με πολλούς ταυτόχρονους πελάτες στα endpoints προϊόντων και παραγγελιών μιας εφαρμογής που ήδη εκτελείται,
+ * για τη σύγκριση της εκτέλεσης των αιτημάτων σε virtual threads ({@code spring.threads.virtual.enabled=true},
+ * Java 21) με το pool νημάτων του Tomcat.
+ *
+ * <p>Κάθε πελάτης στέλνει ένα αίτημα, περιμένει την απόκριση και στέλνει το επόμενο (κλειστός βρόχος), με τυχαία
+ * επιλογή ανάμεσα σε σελίδα προϊόντων, προϊόν, παραγγελία και νέα παραγγελία. Τα αιτήματα στέλνονται ασύγχρονα,
+ * οπότε ο driver δεν χρειάζεται ένα νήμα ανά πελάτη. Για κάθε πλήθος πελατών ({@code -Dloadtest.clients}) γίνεται
+ * προθέρμανση και μέτρηση, και αναφέρονται αιτήματα/s και percentiles καθυστέρησης ανά endpoint.</p>
+ *
+ * <p>Για 10k πελάτες χρειάζονται αντίστοιχα όρια ανοιχτών αρχείων ({@code ulimit -n}) στον driver και στον server.
+ * Τα pinned virtual threads εμφανίζονται με {@code -Djdk.tracePinnedThreads=short} στον server.</p>
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.ConcurrentClientsLoadTest
+ * -Dloadtest.base-url=http://localhost:9090 -Dloadtest.username=... -Dloadtest.password=...}</p>
+ */
+public class ConcurrentClientsLoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String token;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private int totalWeight;
+
+    private volatile boolean recording;
+    private volatile long deadline;
+
+    /**
+     * Driver χωρίς endpoints· το μείγμα ορίζεται με {@link #endpoint}.
+     */
+    public ConcurrentClientsLoadTest(HttpClient client, String baseUrl, String token) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.token = token;
+    }
+
+    public ConcurrentClientsLoadTest(HttpClient client, String baseUrl, String token, int products, int orders) {
+        this(client, baseUrl, token);
+        endpoint("GET /api/products?limit=20", 30, () -> get("/api/products?limit=20"));
+        endpoint("GET /api/products/{id}", 30, () -> get("/api/products/" + random(products)));
+        endpoint("GET /api/orders/{id}", 30, () -> get("/api/orders/" + random(orders)));
+        endpoint("POST /api/orders", 10, () -> post("/api/orders",
+                "{\"productId\":" + random(products) + ",\"quantity\":1}"));
+    }
+
+    /**
+     * Προσθέτει ένα endpoint στο μείγμα. Κάθε αίτημα επιλέγει endpoint με πιθανότητα ανάλογη του βάρους του.
+     */
+    public ConcurrentClientsLoadTest endpoint(String name, int weight, Supplier<HttpRequest> request) {
+        if (weight > 0) {
+            endpoints.add(new Endpoint(name, weight, request));
+            totalWeight += weight;
+        }
+        return this;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:9090");
+        int[] clientCounts = parseInts(System.getProperty("loadtest.clients", "1000,5000,10000"));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+        int products = Integer.getInteger("loadtest.products", 100);
+        int orders = Integer.getInteger("loadtest.orders", 100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(executor)
+                    .build();
+            String token = login(client, baseUrl);
+            ConcurrentClientsLoadTest loadTest = new ConcurrentClientsLoadTest(client, baseUrl, token, products, orders);
+            for (int clients : clientCounts) {
+                loadTest.run(clients, warmup, duration);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Εκτελεί μία μέτρηση με το δεδομένο πλήθος πελατών και τυπώνει τα αποτελέσματα.
+     */
+    public void run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        if (endpoints.isEmpty()) {
+            throw new IllegalStateException("Δεν έχει οριστεί κανένα endpoint");
+        }
+        endpoints.forEach(Endpoint::reset);
+        recording = false;
+        long start = System.nanoTime();
+        deadline = start + warmup.toNanos() + duration.toNanos();
+
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            next(finished);
+        }
+        TimeUnit.NANOSECONDS.sleep(warmup.toNanos());
+        recording = true;
+        finished.await();
+
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("%n%d πελάτες, %d s:%n", clients, duration.toSeconds());
+        System.out.printf("%-30s %10s %8s %10s %8s %8s %8s %8s%n",
+                "endpoint", "αιτήματα", "σφάλματα", "αιτ./s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Endpoint endpoint : endpoints) {
+            Histogram latencies = endpoint.latencies;
+            System.out.printf("%-30s %10d %8d %10.0f %8.1f %8.1f %8.1f %8.1f%n",
+                    endpoint.name, latencies.getTotalCount(), endpoint.errors.sum(),
+                    latencies.getTotalCount() / seconds, millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(95)), millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getMaxValue()));
+        }
+    }
+
+    // Στέλνει το επόμενο αίτημα του πελάτη μόλις ολοκληρωθεί το προηγούμενο, έως τη λήξη της μέτρησης
+    private void next(CountDownLatch finished) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+        Endpoint endpoint = pick();
+        long startedAt = System.nanoTime();
+        client.sendAsync(endpoint.request.get(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (recording) {
+                        endpoint.latencies.recordValue(System.nanoTime() - startedAt);
+                        if (error != null || response.statusCode() >= 400) {
+                            endpoint.errors.increment();
+                        }
+                    }
+                    next(finished);
+                });
+    }
+
+    private Endpoint pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            roll -= endpoint.weight;
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        String token = System.getProperty("loadtest.token");
+        if (token != null) {
+            return token;
+        }
+        return login(client, baseUrl, System.getProperty("loadtest.username", "loadtest"),
+                System.getProperty("loadtest.password", "Loadtest1!"));
+    }
+
+    /**
+     * Συνδέεται με τα δεδομένα στοιχεία και επιστρέφει το JWT.
+     */
+    static String login(HttpClient client, String baseUrl, String username, String password) throws Exception {
+        HttpResponse<String> response = client.send(loginRequest(baseUrl, username, password),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Αποτυχία σύνδεσης (" + response.statusCode() + "): " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    static HttpRequest loginRequest(String baseUrl, String username, String password) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .build();
+    }
+
+    static int random(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound) + 1;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    static int[] parseInts(String csv) {
+        String[] parts = csv.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+
+    private static final class Endpoint {
+
+        private final String name;
+        private final int weight;
+        private final Supplier<HttpRequest> request;
+        private final Histogram latencies = new ConcurrentHistogram(2);
+        private final LongAdder errors = new LongAdder();
+
+        private Endpoint(String name, int weight, Supplier<HttpRequest> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+
+        private void reset() {
+            latencies.reset();
+            errors.reset();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.datagen.DataGeneratorProperties;
+import com.example.demo.datagen.SyntheticDataGenerator;
+import com.example.demo.search.ProductSearchIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Αναπαραγώγιμη μέτρηση φόρτου από άκρη σε άκρη χωρίς εξωτερική βάση: εκκινεί την εφαρμογή με το profile
+ * {@code loadtest} (H2 στη μνήμη, {@code application-loadtest.properties}), τη γεμίζει με συνθετικά δεδομένα
+ * μέσω του {@link SyntheticDataGenerator} (πάντα τα ίδια για τον ίδιο σπόρο) και εκτελεί
+ * τα μείγματα αιτημάτων του {@code loadtest.mixes} με τον {@link ConcurrentClientsLoadTest}. Για κάθε μείγμα και
+ * πλήθος πελατών αναφέρονται αιτήματα/s και percentiles καθυστέρησης ανά endpoint.
+ *
+ * <p>Όλες οι ρυθμίσεις ({@code app.datagen.products}, {@code loadtest.clients}, {@code loadtest.mix.*} κ.λπ.)
+ * αλλάζουν με {@code -D}.</p>
+ *
+ * <p>Ο driver και ο server τρέχουν στην ίδια JVM, οπότε κάθε πελάτης κρατά δύο ανοιχτά αρχεία (ένα socket σε κάθε
+ * άκρη): για 10k πελάτες χρειάζεται {@code ulimit -n} πάνω από 20000. Οι μετρήσεις σε μεγάλα πλήθη γίνονται καλύτερα
+ * με ένα πλήθος ανά εκτέλεση, ώστε οι συνδέσεις που έμειναν ανοιχτές από το προηγούμενο να μην επηρεάζουν το επόμενο.</p>
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.EmbeddedLoadTest -Dapp.datagen.orders=1000000}</p>
+ */
+public class EmbeddedLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            Environment environment = context.getEnvironment();
+            // Σε άδεια βάση τα IDs ξεκινούν από το 1, οπότε τα αιτήματα επιλέγουν IDs έως το πλήθος κάθε πίνακα
+            DataGeneratorProperties data = context.getBean(DataGeneratorProperties.class);
+            int products = data.getProducts();
+            int orders = Math.toIntExact(data.getOrders());
+            int users = data.getUsers();
+            String password = data.getUserPassword();
+            context.getBean(SyntheticDataGenerator.class).generate();
+            context.getBean(ProductSearchIndex.class).rebuild();
+
+            String baseUrl = "http://localhost:" + environment.getRequiredProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(executor)
+                    .build();
+            String token = ConcurrentClientsLoadTest.login(client, baseUrl, username(1), password);
+
+            int[] clientCounts = ConcurrentClientsLoadTest.parseInts(environment.getRequiredProperty("loadtest.clients"));
+            Duration warmup = Duration.ofSeconds(environment.getRequiredProperty("loadtest.warmup-seconds", Long.class));
+            Duration duration = Duration.ofSeconds(environment.getRequiredProperty("loadtest.duration-seconds", Long.class));
+            for (String mix : environment.getRequiredProperty("loadtest.mixes").split(",")) {
+                ConcurrentClientsLoadTest loadTest = new ConcurrentClientsLoadTest(client, baseUrl, token);
+                for (String weighted : environment.getRequiredProperty("loadtest.mix." + mix.trim()).split(",")) {
+                    String[] parts = weighted.trim().split(":");
+                    addEndpoint(loadTest, baseUrl, parts[0], Integer.parseInt(parts[1]), products, orders, users,
+                            password);
+                }
+                System.out.printf("%n=== Μείγμα %s: %s%n", mix.trim(), environment.getProperty("loadtest.mix." + mix.trim()));
+                for (int clients : clientCounts) {
+                    loadTest.run(clients, warmup, duration);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            context.close();
+        }
+    }
+
+    private static void addEndpoint(ConcurrentClientsLoadTest loadTest, String baseUrl, String name, int weight,
+                                    int products, int orders, int users, String password) {
+        switch (name) {
+            case "login" -> loadTest.endpoint("POST /api/login", weight, () -> ConcurrentClientsLoadTest.loginRequest(
+                    baseUrl, username(ConcurrentClientsLoadTest.random(users)), password));
+            case "browse" -> loadTest.endpoint("GET /api/products?limit=20", weight,
+                    () -> loadTest.get("/api/products?limit=20"));
+            case "product" -> loadTest.endpoint("GET /api/products/{id}", weight,
+                    () -> loadTest.get("/api/products/" + ConcurrentClientsLoadTest.random(products)));
+            case "search" -> loadTest.endpoint("GET /api/products/search", weight,
+                    () -> loadTest.get("/api/products/search?name=" + URLEncoder.encode(
+                            SyntheticDataGenerator.PRODUCT_NOUNS.get(
+                                    ConcurrentClientsLoadTest.random(SyntheticDataGenerator.PRODUCT_NOUNS.size()) - 1),
+                            StandardCharsets.UTF_8)));
+            case "order" -> loadTest.endpoint("GET /api/orders/{id}", weight,
+                    () -> loadTest.get("/api/orders/" + ConcurrentClientsLoadTest.random(orders)));
+            case "create-order" -> loadTest.endpoint("POST /api/orders", weight, () -> loadTest.post("/api/orders",
+                    "{\"productId\":" + ConcurrentClientsLoadTest.random(products) + ",\"quantity\":1}"));
+            default -> throw new IllegalArgumentException("Άγνωστο endpoint στο μείγμα: " + name);
+        }
+    }
+
+    private static String username(int index) {
+        return SyntheticDataGenerator.username(index);
+    }
+}
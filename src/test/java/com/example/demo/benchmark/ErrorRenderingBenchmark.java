@@ -0,0 +1,97 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.MessageSourceConfig;
+import com.example.demo.dto.ErrorResponseDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.GlobalExceptionHandler;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Απόδοση σφαλμάτων από το GlobalExceptionHandler: δημιουργία του ErrorResponseDTO (με το μήνυμα από το
+ * MessageSource) και σειριοποίησή του σε JSON, για πόρο που δεν βρέθηκε, μη έγκυρο αίτημα και αποτυχία
+ * επικύρωσης με δύο πεδία.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.ErrorRenderingBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorRenderingBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler(new MessageSourceConfig().messageSource());
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        request = new MockHttpServletRequest("GET", "/api/products/42");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "registerRequestDTO");
+        bindingResult.addError(new FieldError("registerRequestDTO", "username", "ab", false,
+                new String[]{"Size.registerRequestDTO.username", "Size"}, new Object[]{50, 5},
+                "{validation.username.size}"));
+        bindingResult.addError(new FieldError("registerRequestDTO", "email", "x", false,
+                new String[]{"Email.registerRequestDTO.email", "Email"}, null, "{validation.email.invalid}"));
+        validationException = new MethodArgumentNotValidException(new MethodParameter(
+                ErrorRenderingBenchmark.class.getDeclaredMethod("setUp"), -1), bindingResult);
+    }
+
+    @Benchmark
+    public String resourceNotFound() throws JsonProcessingException {
+        return render(handler.handleResourceNotFoundException(
+                new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND, 42), request));
+    }
+
+    @Benchmark
+    public String invalidRequest() throws JsonProcessingException {
+        return render(handler.handleInvalidRequestException(
+                new InvalidRequestException(ErrorCode.INVALID_BATCH_SIZE, 1200, 1000), request));
+    }
+
+    @Benchmark
+    public String validationFailed() throws JsonProcessingException {
+        return render(handler.handleValidationExceptions(validationException, request));
+    }
+
+    private String render(ResponseEntity<ErrorResponseDTO> response) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(response.getBody());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ErrorRenderingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Συγκρίνει δύο αποτελέσματα JMH σε JSON (από το profile {@code jmh}, π.χ. δύο commits) και τυπώνει τη μεταβολή
+ * κάθε benchmark. Μια μεταβολή θεωρείται χειροτέρευση όταν είναι προς τη λάθος κατεύθυνση (μικρότερο throughput ή
+ * μεγαλύτερος χρόνος), ξεπερνά το όριο ({@code -Djmh.threshold}, προεπιλογή 10%) και είναι μεγαλύτερη από τα
+ * περιθώρια σφάλματος των δύο μετρήσεων. Αν υπάρχει χειροτέρευση, η διεργασία τερματίζει με κωδικό 1.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.JmhResultComparison -Dexec.args="παλιό.json νέο.json"}</p>
+ */
+public class JmhResultComparison {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Χρήση: JmhResultComparison <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "10")) / 100;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "πριν", "μετά", "μεταβολή");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue().path("primaryMetric");
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", after.path("score").asDouble(), "νέο");
+                continue;
+            }
+            before = before.path("primaryMetric");
+            double oldScore = before.path("score").asDouble();
+            double newScore = after.path("score").asDouble();
+            double change = oldScore == 0 ? 0 : (newScore - oldScore) / oldScore;
+            // Για throughput καλύτερο είναι το μεγαλύτερο, για τις υπόλοιπες μετρήσεις (χρόνος) το μικρότερο
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().path("mode").asText());
+            double worse = higherIsBetter ? -change : change;
+            double noise = error(before) + error(after);
+            boolean regression = worse > threshold && Math.abs(newScore - oldScore) > noise;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), oldScore, newScore, change * 100,
+                    regression ? "  ΧΕΙΡΟΤΕΡΕΥΣΗ" : "");
+        }
+
+        System.out.printf("%nΧειροτερεύσεις: %d (όριο %.0f%%)%n", regressions, threshold * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Με λίγες επαναλήψεις το JMH δεν υπολογίζει περιθώριο σφάλματος και γράφει "NaN"
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isFinite(error) ? error : 0;
+    }
+
+    // Κλειδί: όνομα benchmark, mode και παράμετροι, ώστε κάθε συνδυασμός να συγκρίνεται με τον αντίστοιχο
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.example.demo.benchmark.", ""))
+                    .append(" [").append(result.path("mode").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.append(']').toString(), result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.AuthCacheProperties;
+import com.example.demo.security.JwtProperties;
+import com.example.demo.security.jwt.AuthTelemetry;
+import com.example.demo.security.jwt.JwtAuthenticationFilter;
+import com.example.demo.security.jwt.JwtKeyRing;
+import com.example.demo.security.jwt.JwtTokenCache;
+import com.example.demo.security.jwt.JwtTokenUtil;
+import com.example.demo.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Έλεγχος συμφόρησης του JwtAuthenticationFilter: το ίδιο αίτημα με Bearer token (από την cache των tokens)
+ * εκτελείται από 1, 2, 4 και 8 νήματα. Χωρίς κοινά κλειδώματα η συνολική απόδοση αυξάνεται γραμμικά μέχρι το
+ * πλήθος των πυρήνων και μένει σταθερή πέρα από αυτό.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.JwtFilterBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8};
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class, withSettings().stubOnly());
+        when(userDetailsService.loadUserByUsername("john_doe")).thenReturn(new User("john_doe", "secret", List.of()));
+
+        JwtProperties properties = new JwtProperties();
+        properties.setJwtSecret("12345678912akalhmera@kosmaspatraKK12345678912akalhmera@kosmaspatraKK");
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(keyRing, properties);
+        filter = new JwtAuthenticationFilter(jwtTokenUtil, new JwtTokenCache(new AuthCacheProperties(), keyRing),
+                userDetailsService, new AuthTelemetry(new SimpleMeterRegistry()));
+        authorization = "Bearer " + jwtTokenUtil.generateToken("john_doe", "john@example.com");
+    }
+
+    @Benchmark
+    public int authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        double single = 0;
+        for (int threads : THREADS) {
+            Collection<RunResult> results = new Runner(new OptionsBuilder()
+                    .include(JwtFilterBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+            double score = results.iterator().next().getPrimaryResult().getScore();
+            if (threads == 1) {
+                single = score;
+            }
+            System.out.printf("%d νήματα: %.0f αιτήματα/s (x%.2f), %d διαθέσιμοι πυρήνες%n",
+                    threads, score, score / single, Runtime.getRuntime().availableProcessors());
+        }
+    }
+}
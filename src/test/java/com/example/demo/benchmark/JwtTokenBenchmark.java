@@ -0,0 +1,93 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.JwtProperties;
+import com.example.demo.security.jwt.JwtKeyRing;
+import com.example.demo.security.jwt.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Σύγκριση της έκδοσης και της επαλήθευσης JWT: ο προηγούμενος τρόπος (νέος parser του jjwt σε κάθε κλήση,
+ * μέθοδοι {@code jjwt*}) με το JwtTokenUtil (ένας parser για όλες τις κλήσεις, κλειδί από το {@link JwtKeyRing}).
+ * Το αποτέλεσμα είναι σε tokens ανά δευτερόλεπτο.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.JwtTokenBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET = "12345678912akalhmera@kosmaspatraKK12345678912akalhmera@kosmaspatraKK";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private JwtTokenUtil jwtTokenUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setJwtSecret(SECRET);
+        jwtTokenUtil = new JwtTokenUtil(new JwtKeyRing(properties), properties);
+        token = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+    }
+
+    @Benchmark
+    public String jjwtGenerate() {
+        return Jwts.builder()
+                .claim("email", "john@example.com")
+                .subject("john_doe")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 86400000))
+                .signWith(KEY, Jwts.SIG.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims jjwtVerify() {
+        return Jwts.parser()
+                .verifyWith(KEY)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtTokenUtil.generateToken("john_doe", "john@example.com");
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtTokenUtil.extractClaims(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
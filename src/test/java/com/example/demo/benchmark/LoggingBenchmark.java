@@ -0,0 +1,133 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.example.demo.logging.LogSamplingTurboFilter;
+import com.example.demo.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Σύγκριση του κόστους της καταγραφής ανά αίτημα για το παλιό logback.xml (σύγχρονος appender, flush σε κάθε
+ * γραμμή) και για το logback-spring.xml (AsyncAppender, με και χωρίς το LogSamplingTurboFilter), με 8 νήματα.
+ * Κάθε "αίτημα" γράφει τις γραμμές INFO ενός τυπικού POST /api/orders: controller, υπηρεσία και την παραγγελία.
+ *
+ * <p>Οι appenders γράφουν σε προσωρινό αρχείο, ώστε η έξοδος να μην ανακατεύεται με την αναφορά του JMH.
+ * Το αποτέλεσμα είναι σε αιτήματα ανά δευτερόλεπτο.</p>
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.LoggingBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg "
+            + "[Method: %X{method:-}, Path: %X{path:-}, ControllerMethod: %X{controllerMethod:-}]%n";
+
+    @Param({"sync", "async", "async-sampled"})
+    private String pipeline;
+
+    private LoggerContext context;
+    private File logFile;
+    private Logger controllerLogger;
+    private Logger serviceLogger;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log").toFile();
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile(logFile.getAbsolutePath());
+        file.setEncoder(encoder);
+        file.setImmediateFlush("sync".equals(pipeline));
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!"sync".equals(pipeline)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        if ("async-sampled".equals(pipeline)) {
+            LogSamplingTurboFilter sampling = new LogSamplingTurboFilter();
+            sampling.setContext(context);
+            sampling.setMaxPerSecond(100);
+            sampling.setLoggers("com.example.demo.service,com.example.demo.controller");
+            sampling.start();
+            context.addTurboFilter(sampling);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        controllerLogger = context.getLogger("com.example.demo.controller.OrderController");
+        serviceLogger = context.getLogger("com.example.demo.service.OrderServiceImpl");
+
+        order = MappingFixtures.order(1, MappingFixtures.product(1, MappingFixtures.supplier(1),
+                MappingFixtures.category(1)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+        logFile.delete();
+    }
+
+    @Benchmark
+    public void request() {
+        controllerLogger.info("Δημιουργία παραγγελίας για το προϊόν {} με ποσότητα {}", 1, 2);
+        serviceLogger.info("Δημιουργία παραγγελίας για προϊόν με ID: {} και ποσότητα: {}", 1, 2);
+        serviceLogger.info("Η παραγγελία δημιουργήθηκε με επιτυχία: {}", order);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoggingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.OrderDTO;
+import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.SupplierDTO;
+import com.example.demo.model.Order;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductCategory;
+import com.example.demo.model.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Σύγκριση των μετατροπών toDTO του ModelMapper (reflection σε κάθε κλήση) με τους mappers του MapStruct
+ * για Order, Product και Supplier, σε μεμονωμένα αντικείμενα και σε λίστες όπως αυτές των list endpoints.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.MapperBenchmark}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"100"})
+    private int listSize;
+
+    private ModelMapperBaseline baseline;
+    private MappingFixtures mappers;
+
+    private Supplier supplier;
+    private Product product;
+    private Order order;
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        baseline = new ModelMapperBaseline();
+        mappers = new MappingFixtures();
+
+        ProductCategory category = MappingFixtures.category(1);
+        supplier = MappingFixtures.supplier(1);
+        product = MappingFixtures.product(1, supplier, category);
+        order = MappingFixtures.order(1, product);
+
+        orders = new ArrayList<>(listSize);
+        for (int i = 1; i <= listSize; i++) {
+            Supplier orderSupplier = MappingFixtures.supplier(i);
+            orders.add(MappingFixtures.order(i, MappingFixtures.product(i, orderSupplier, category)));
+        }
+    }
+
+    @Benchmark
+    public SupplierDTO supplierModelMapper() {
+        return baseline.toDTO(supplier);
+    }
+
+    @Benchmark
+    public SupplierDTO supplierMapStruct() {
+        return mappers.supplierMapper.toDTO(supplier);
+    }
+
+    @Benchmark
+    public ProductDTO productModelMapper() {
+        return baseline.toDTO(product);
+    }
+
+    @Benchmark
+    public ProductDTO productMapStruct() {
+        return mappers.productMapper.toDTO(product);
+    }
+
+    @Benchmark
+    public OrderDTO orderModelMapper() {
+        return baseline.toDTO(order);
+    }
+
+    @Benchmark
+    public OrderDTO orderMapStruct() {
+        return mappers.orderMapper.toDTO(order);
+    }
+
+    @Benchmark
+    public List<OrderDTO> orderListModelMapper() {
+        List<OrderDTO> result = new ArrayList<>(orders.size());
+        for (Order item : orders) {
+            result.add(baseline.toDTO(item));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<OrderDTO> orderListMapStruct() {
+        List<OrderDTO> result = new ArrayList<>(orders.size());
+        for (Order item : orders) {
+            result.add(mappers.orderMapper.toDTO(item));
+        }
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.mapper.CustomerMapper;
+import com.example.demo.mapper.CustomerMapperImpl;
+import com.example.demo.mapper.OrderMapper;
+import com.example.demo.mapper.OrderMapperImpl;
+import com.example.demo.mapper.ProductCategoryMapper;
+import com.example.demo.mapper.ProductCategoryMapperImpl;
+import com.example.demo.mapper.ProductMapper;
+import com.example.demo.mapper.ProductMapperImpl;
+import com.example.demo.mapper.SupplierMapper;
+import com.example.demo.mapper.SupplierMapperImpl;
+import com.example.demo.mapper.SupplierProductMapper;
+import com.example.demo.mapper.SupplierProductMapperImpl;
+import com.example.demo.model.Customer;
+import com.example.demo.model.ERole;
+import com.example.demo.model.Order;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductCategory;
+import com.example.demo.model.Role;
+import com.example.demo.model.Supplier;
+import com.example.demo.model.SupplierProduct;
+import com.example.demo.model.User;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Δεδομένα και mappers για τα benchmarks και τους ελέγχους των mappers, χωρίς Spring context.
+ */
+public final class MappingFixtures {
+
+    public final SupplierMapper supplierMapper = new SupplierMapperImpl();
+    public final ProductMapper productMapper = new ProductMapperImpl(supplierMapper);
+    public final OrderMapper orderMapper = new OrderMapperImpl(productMapper, supplierMapper);
+    public final CustomerMapper customerMapper = new CustomerMapperImpl();
+    public final ProductCategoryMapper productCategoryMapper = new ProductCategoryMapperImpl();
+    public final SupplierProductMapper supplierProductMapper = new SupplierProductMapperImpl();
+
+    public MappingFixtures() {
+        orderMapper.setProductMapper(productMapper);
+    }
+
+    public static Supplier supplier(int id) {
+        Supplier supplier = new Supplier();
+        supplier.setId(id);
+        supplier.setFirstName("Γιώργος");
+        supplier.setLastName("Παπαδόπουλος");
+        supplier.setTelephone("2101234567");
+        supplier.setAfm(String.format("%09d", id));
+        supplier.setLocation("Αθήνα");
+        return supplier;
+    }
+
+    public static ProductCategory category(int id) {
+        ProductCategory category = new ProductCategory();
+        category.setId(id);
+        category.setName("Ηλεκτρονικά");
+        return category;
+    }
+
+    public static Product product(int id, Supplier supplier, ProductCategory category) {
+        Product product = new Product();
+        product.setId(id);
+        product.setProductName("Προϊόν " + id);
+        product.setCategory(category);
+        product.setPrice(19.99 + id);
+        product.setSupplier(supplier);
+        product.setQuantity(100 + id);
+        product.setUuid(String.format("00000000-0000-0000-0000-%012d", id));
+        return product;
+    }
+
+    public static Order order(int id, Product product) {
+        Order order = new Order();
+        order.setId(id);
+        order.setSupplier(product.getSupplier());
+        order.setProduct(product);
+        order.setQuantity(3);
+        order.setPrice(product.getPrice());
+        order.setTotalPrice(3 * product.getPrice());
+        order.setCreatedAt(LocalDateTime.of(2024, 5, 17, 10, 30, 15));
+        return order;
+    }
+
+    public static Customer customer(int id) {
+        Role role = new Role();
+        role.setId(1);
+        role.setName(ERole.ROLE_USER);
+
+        User user = new User();
+        user.setId(id);
+        user.setUsername("customer" + id);
+        user.setEmail("customer" + id + "@example.com");
+        user.setPassword("encrypted");
+        user.setRoles(new HashSet<>(Set.of(role)));
+
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setFirstName("Μαρία");
+        customer.setLastName("Νικολάου");
+        customer.setTelephone("6971234567");
+        customer.setAfm(String.format("%09d", id));
+        customer.setWholesale(true);
+        customer.setBalance(150.5);
+        customer.setUser(user);
+        return customer;
+    }
+
+    public static SupplierProduct supplierProduct(int id, Supplier supplier, Product product) {
+        SupplierProduct supplierProduct = new SupplierProduct();
+        supplierProduct.setId(id);
+        supplierProduct.setSupplier(supplier);
+        supplierProduct.setProduct(product);
+        supplierProduct.setQuantity(25);
+        return supplierProduct;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.MessageSourceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.MessageSource;
+import org.springframework.validation.FieldError;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Αναζητήσεις μηνυμάτων στο MessageSource της εφαρμογής ({@link MessageSourceConfig}), όπως γίνονται στην απόδοση
+ * των σφαλμάτων: μήνυμα με παραμέτρους, μήνυμα χωρίς παραμέτρους, μήνυμα επικύρωσης πεδίου (FieldError) και
+ * κωδικός που δεν υπάρχει (με προεπιλεγμένο μήνυμα), στα αγγλικά και στα ελληνικά.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.MessageSourceBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageSourceBenchmark {
+
+    @Param({"en", "el"})
+    private String language;
+
+    private MessageSource messageSource;
+    private Locale locale;
+    private FieldError fieldError;
+
+    @Setup
+    public void setUp() {
+        messageSource = new MessageSourceConfig().messageSource();
+        locale = Locale.forLanguageTag(language);
+        fieldError = new FieldError("registerRequestDTO", "username", "ab", false,
+                new String[]{"Size.registerRequestDTO.username", "Size.username", "Size"},
+                new Object[]{50, 5}, "{validation.username.size}");
+    }
+
+    @Benchmark
+    public String withArguments() {
+        return messageSource.getMessage("IND-006", new Object[]{42}, locale);
+    }
+
+    @Benchmark
+    public String withoutArguments() {
+        return messageSource.getMessage("IND-001", null, locale);
+    }
+
+    @Benchmark
+    public String fieldError() {
+        return messageSource.getMessage(fieldError, locale);
+    }
+
+    @Benchmark
+    public String missingWithDefault() {
+        return messageSource.getMessage("validation.missing", null, "default", locale);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessageSourceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
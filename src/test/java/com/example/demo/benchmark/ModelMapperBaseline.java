@@ -0,0 +1,60 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.CustomerDTO;
+import com.example.demo.dto.OrderDTO;
+import com.example.demo.dto.ProductCategoryDTO;
+import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.SupplierDTO;
+import com.example.demo.dto.SupplierProductDTO;
+import com.example.demo.model.Customer;
+import com.example.demo.model.Order;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductCategory;
+import com.example.demo.model.Supplier;
+import com.example.demo.model.SupplierProduct;
+import org.modelmapper.ModelMapper;
+
+/**
+ * Οι προηγούμενες μετατροπές toDTO μέσω του κοινόχρηστου ModelMapper, όπως ήταν πριν τη μετάβαση στο MapStruct.
+ * Χρησιμοποιούνται ως σημείο αναφοράς στα benchmarks και στον έλεγχο ότι το JSON παραμένει ίδιο.
+ */
+public class ModelMapperBaseline {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    // Οι ProductCategoryMapper και SupplierProductMapper είχαν δικό τους ModelMapper χωρίς το typeMap του Product
+    private final ModelMapper standaloneModelMapper = new ModelMapper();
+
+    public ModelMapperBaseline() {
+        modelMapper.typeMap(Product.class, ProductDTO.class).addMappings(mapper ->
+                mapper.map(src -> src.getCategory().getName(), ProductDTO::setType)
+        );
+    }
+
+    public SupplierDTO toDTO(Supplier supplier) {
+        return modelMapper.map(supplier, SupplierDTO.class);
+    }
+
+    public ProductDTO toDTO(Product product) {
+        return modelMapper.map(product, ProductDTO.class);
+    }
+
+    public OrderDTO toDTO(Order order) {
+        OrderDTO dto = modelMapper.map(order, OrderDTO.class);
+        dto.setProductId(order.getProduct().getId());
+        dto.setSupplier(toDTO(order.getSupplier()));
+        return dto;
+    }
+
+    public CustomerDTO toDTO(Customer customer) {
+        return modelMapper.map(customer, CustomerDTO.class);
+    }
+
+    public ProductCategoryDTO toDTO(ProductCategory productCategory) {
+        return standaloneModelMapper.map(productCategory, ProductCategoryDTO.class);
+    }
+
+    public SupplierProductDTO toDTO(SupplierProduct supplierProduct) {
+        return standaloneModelMapper.map(supplierProduct, SupplierProductDTO.class);
+    }
+}
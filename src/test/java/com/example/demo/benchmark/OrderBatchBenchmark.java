@@ -0,0 +1,101 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.OrderBatchResultDTO;
+import com.example.demo.dto.OrderLineDTO;
+import com.example.demo.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Σύγκριση της δημιουργίας παραγγελιών μία-μία (όπως το POST /api/orders) με τη μαζική δημιουργία
+ * (POST /api/orders/batch) πάνω σε πραγματική βάση H2 στη μνήμη. Το αποτέλεσμα είναι σε παραγγελίες ανά δευτερόλεπτο.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.OrderBatchBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderBatchBenchmark {
+
+    private static final int LINES = 100;
+    private static final int PRODUCTS = 20;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private List<OrderLineDTO> lines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Βάση H2 στη μνήμη από το profile h2 (src/test/resources/application-h2.properties)
+        context = new SpringApplicationBuilder(DemoApplication.class).profiles("h2").run("--h2.database=order-batch");
+        orderService = context.getBean(OrderService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO suppliers (first_name, last_name, telephone, afm, location) " +
+                "VALUES ('Benchmark', 'Supplier', '2100000000', '123456789', 'Αθήνα')");
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Benchmark')");
+        for (int i = 1; i <= PRODUCTS; i++) {
+            jdbcTemplate.update("INSERT INTO products (product_name, category_id, price, supplier_id, quantity, uuid) " +
+                    "VALUES (?, 1, ?, 1, 1000000, ?)", "Προϊόν " + i, 10.0 + i, "uuid-" + i);
+        }
+
+        lines = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            lines.add(new OrderLineDTO(i % PRODUCTS + 1, i % 5 + 1));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public int oneAtATime() {
+        int created = 0;
+        for (OrderLineDTO line : lines) {
+            orderService.createOrderWithProductAndQuantity(line.getProductId(), line.getQuantity());
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public OrderBatchResultDTO batch() {
+        return orderService.createOrdersBatch(lines);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderBatchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
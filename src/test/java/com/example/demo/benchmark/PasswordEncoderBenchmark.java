@@ -0,0 +1,71 @@
+package com.example.demo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Διάρκεια ενός ελέγχου κωδικού (BCrypt {@code matches}, δηλαδή μίας σύνδεσης) ανά συντελεστή κόστους.
+ * Η κύρια μέθοδος προτείνει τον μεγαλύτερο συντελεστή που μένει κάτω από τον στόχο
+ * ({@code -Dtarget.ms}, προεπιλογή 100 ms), για τη ρύθμιση {@code app.security.password.bcrypt-strength}.
+ * Ο στόχος πρέπει να μετρηθεί στο μηχάνημα της παραγωγής.
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.PasswordEncoderBenchmark -Dtarget.ms=100}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"8", "9", "10", "11", "12", "13"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("password123");
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches("password123", hash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        double target = Double.parseDouble(System.getProperty("target.ms", "100"));
+        int recommended = 4;
+        for (RunResult result : new Runner(new OptionsBuilder()
+                .include(PasswordEncoderBenchmark.class.getSimpleName())
+                .build()).run()) {
+            int strength = Integer.parseInt(result.getParams().getParam("strength"));
+            double millis = result.getPrimaryResult().getScore();
+            System.out.printf("strength %d: %.1f ms ανά σύνδεση%n", strength, millis);
+            if (millis <= target) {
+                recommended = Math.max(recommended, strength);
+            }
+        }
+        System.out.printf("Προτεινόμενο app.security.password.bcrypt-strength=%d (στόχος %.0f ms)%n", recommended, target);
+    }
+}
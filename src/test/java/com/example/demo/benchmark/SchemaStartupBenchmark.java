@@ -0,0 +1,98 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+/**
+ * Σύγκριση του χρόνου εκκίνησης με το παλιό {@code ddl-auto=update} (το Hibernate διαβάζει όλο το σχήμα της βάσης
+ * σε κάθε εκκίνηση) και με τις μεταπτώσεις του Flyway ακολουθούμενες από {@code validate} ή από καμία ενέργεια
+ * του Hibernate. Όλες οι εκκινήσεις βρίσκουν το σχήμα ήδη δημιουργημένο, όπως στην παραγωγή· η πρώτη, εκτός
+ * μέτρησης, το δημιουργεί με το Flyway.
+ *
+ * <p>Για κάθε τρόπο αναφέρονται ο διάμεσος και ο ελάχιστος χρόνος ολόκληρης της εκκίνησης και της δημιουργίας του
+ * {@code entityManagerFactory} (περιλαμβάνει το Flyway, που εκτελείται πριν από αυτό).</p>
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.SchemaStartupBenchmark -Dstartup.runs=10}</p>
+ */
+public class SchemaStartupBenchmark {
+
+    private static final Map<String, String[]> MODES = new LinkedHashMap<>();
+
+    static {
+        MODES.put("ddl-auto=update", new String[]{
+                "--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=update"});
+        MODES.put("Flyway + validate", new String[]{"--spring.jpa.hibernate.ddl-auto=validate"});
+        MODES.put("Flyway + none", new String[]{"--spring.jpa.hibernate.ddl-auto=none"});
+    }
+
+    public static void main(String[] args) {
+        int warmup = Integer.getInteger("startup.warmup", 2);
+        int runs = Integer.getInteger("startup.runs", 5);
+
+        new SpringApplicationBuilder(DemoApplication.class).profiles("startup")
+                .run(MODES.get("Flyway + validate"))
+                .close();
+
+        Map<String, List<Duration>> totals = new LinkedHashMap<>();
+        Map<String, List<Duration>> jpa = new LinkedHashMap<>();
+        for (int round = 0; round < warmup + runs; round++) {
+            // Οι τρόποι εναλλάσσονται σε κάθε γύρο, ώστε η προθέρμανση της JVM να μην ευνοεί κανέναν
+            for (Map.Entry<String, String[]> mode : MODES.entrySet()) {
+                BufferingApplicationStartup startup = new BufferingApplicationStartup(20_000);
+                long begin = System.nanoTime();
+                ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                        .profiles("startup")
+                        .applicationStartup(startup)
+                        .run(mode.getValue());
+                Duration total = Duration.ofNanos(System.nanoTime() - begin);
+                context.close();
+                if (round >= warmup) {
+                    totals.computeIfAbsent(mode.getKey(), key -> new ArrayList<>()).add(total);
+                    jpa.computeIfAbsent(mode.getKey(), key -> new ArrayList<>()).add(entityManagerFactoryTime(startup));
+                }
+            }
+        }
+
+        System.out.printf("%n%-20s %14s %14s %14s %14s%n", "Τρόπος", "εκκίνηση (δ.)", "εκκίνηση (ελ.)",
+                "JPA (δ.)", "JPA (ελ.)");
+        for (String mode : MODES.keySet()) {
+            System.out.printf("%-20s %11d ms %11d ms %11d ms %11d ms%n", mode,
+                    median(totals.get(mode)).toMillis(), min(totals.get(mode)).toMillis(),
+                    median(jpa.get(mode)).toMillis(), min(jpa.get(mode)).toMillis());
+        }
+    }
+
+    private static Duration entityManagerFactoryTime(BufferingApplicationStartup startup) {
+        return startup.getBufferedTimeline().getEvents().stream()
+                .filter(event -> event.getStartupStep().getName().equals("spring.beans.instantiate"))
+                .filter(event -> StreamSupport.stream(event.getStartupStep().getTags().spliterator(), false)
+                        .anyMatch(SchemaStartupBenchmark::isEntityManagerFactory))
+                .map(StartupTimeline.TimelineEvent::getDuration)
+                .findFirst()
+                .orElse(Duration.ZERO);
+    }
+
+    private static boolean isEntityManagerFactory(StartupStep.Tag tag) {
+        return tag.getKey().equals("beanName") && tag.getValue().equals("entityManagerFactory");
+    }
+
+    private static Duration median(List<Duration> durations) {
+        return durations.stream().sorted().toList().get(durations.size() / 2);
+    }
+
+    private static Duration min(List<Duration> durations) {
+        return durations.stream().min(Duration::compareTo).orElseThrow();
+    }
+}
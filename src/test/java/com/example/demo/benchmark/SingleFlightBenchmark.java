@@ -0,0 +1,189 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.config.SingleFlightProperties;
+import com.example.demo.service.ProductService;
+import com.example.demo.service.ReferenceDataCache;
+import com.example.demo.service.SupplierService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Πλήθος queries των αναζητήσεων προϊόντος και προμηθευτή με ID ({@code getProductById}, {@code getSupplierById})
+ * όταν πολλές ταυτόχρονες κλήσεις ζητούν τα ίδια λίγα IDs, με και χωρίς τη συνένωση τους (SingleFlight), σε
+ * πραγματική βάση H2 στη μνήμη. Σε κάθε γύρο όλες οι κλήσεις ξεκινούν μαζί, με την cache δεύτερου επιπέδου άδεια,
+ * και τα queries μετρώνται από τα statistics του Hibernate. Επειδή η H2 στη μνήμη απαντά σε μικροδευτερόλεπτα, κάθε
+ * query καθυστερεί τεχνητά όσο ένα ταξίδι μέχρι μια απομακρυσμένη βάση ({@code -Dsingleflight.query-latency-ms},
+ * 2 ms), ώστε οι ταυτόχρονες κλήσεις να βρίσκουν τη φόρτωση σε εξέλιξη όπως στην παραγωγή.
+ *
+ * <p>Για κάθε πλήθος ταυτόχρονων κλήσεων ({@code -Dsingleflight.concurrency}) αναφέρονται τα queries ανά γύρο και οι
+ * κλήσεις ανά δευτερόλεπτο, με νήματα του pool και, σε Java 21, με virtual threads. Με το SingleFlight τα queries
+ * ανά γύρο μένουν σταθερά όσο αυξάνεται η ταυτοχρονία, ενώ χωρίς αυτό αυξάνονται μαζί της.</p>
+ *
+ * <p>Εκτέλεση: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.demo.benchmark.SingleFlightBenchmark -Dsingleflight.concurrency=1,16,64,256,1024}</p>
+ */
+public class SingleFlightBenchmark {
+
+    private static final int HOT_KEYS = 4;
+
+    private final ProductService productService;
+    private final SupplierService supplierService;
+    private final ReferenceDataCache referenceDataCache;
+    private final SingleFlightProperties properties;
+    private final Statistics statistics;
+    private final List<Integer> productIds = new ArrayList<>();
+    private final List<Integer> supplierIds = new ArrayList<>();
+
+    private SingleFlightBenchmark(ConfigurableApplicationContext context) {
+        this.productService = context.getBean(ProductService.class);
+        this.supplierService = context.getBean(SupplierService.class);
+        this.referenceDataCache = context.getBean(ReferenceDataCache.class);
+        this.properties = context.getBean(SingleFlightProperties.class);
+        this.statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Benchmark')");
+        int categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Integer.class);
+        for (int i = 1; i <= HOT_KEYS; i++) {
+            jdbcTemplate.update("INSERT INTO suppliers (first_name, last_name, telephone, afm, location) " +
+                    "VALUES (?, 'Supplier', '2100000000', ?, 'Αθήνα')", "Benchmark" + i, String.format("%09d", i));
+            int supplierId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM suppliers", Integer.class);
+            jdbcTemplate.update("INSERT INTO products (product_name, category_id, price, supplier_id, quantity, uuid) " +
+                    "VALUES (?, ?, ?, ?, 1000, ?)", "Προϊόν " + i, categoryId, 10.0 + i, supplierId, "uuid-" + i);
+            supplierIds.add(supplierId);
+            productIds.add(jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Integer.class));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rounds = Integer.getInteger("singleflight.rounds", 20);
+        int[] concurrency = parse(System.getProperty("singleflight.concurrency", "1,16,64,256,1024"));
+
+        // Η βάση από το h2 profile· ως ορίσματα γραμμής εντολών οι ρυθμίσεις του benchmark υπερισχύουν των αρχείων
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("h2")
+                .run("--h2.database=single-flight",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                                + LatencyInspector.class.getName())) {
+            SingleFlightBenchmark benchmark = new SingleFlightBenchmark(context);
+
+            Map<String, IntFunction<ExecutorService>> executors = new LinkedHashMap<>();
+            executors.put("platform", Executors::newFixedThreadPool);
+            try {
+                // Σε Java 21, χωρίς εξάρτηση της μεταγλώττισης από αυτή
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                executors.put("virtual", threads -> invoke(factory));
+            } catch (NoSuchMethodException e) {
+                System.out.println("Χωρίς virtual threads (απαιτούν Java 21)");
+            }
+
+            System.out.printf("%-9s %-14s %8s %14s %14s%n", "threads", "single-flight", "callers", "queries/round",
+                    "calls/s");
+            for (Map.Entry<String, IntFunction<ExecutorService>> executor : executors.entrySet()) {
+                for (int callers : concurrency) {
+                    for (boolean enabled : new boolean[]{false, true}) {
+                        benchmark.properties.setEnabled(enabled);
+                        // Προθέρμανση εκτός μέτρησης
+                        benchmark.run(executor.getValue(), callers, Math.max(1, rounds / 4));
+                        Result result = benchmark.run(executor.getValue(), callers, rounds);
+                        System.out.printf("%-9s %-14s %8d %14.1f %14.0f%n", executor.getKey(), enabled ? "on" : "off",
+                                callers, result.queriesPerRound(), result.callsPerSecond());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Εκτελεί τους γύρους: σε κάθε γύρο κάθε κλήση ζητά ένα από τα {@value #HOT_KEYS} προϊόντα και τον προμηθευτή του.
+     */
+    private Result run(IntFunction<ExecutorService> executors, int callers, int rounds) throws Exception {
+        long queries = 0;
+        long elapsed = 0;
+        ExecutorService executor = executors.apply(callers);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                referenceDataCache.evictAll();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>(callers);
+                for (int i = 0; i < callers; i++) {
+                    int key = i % HOT_KEYS;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        productService.getProductById(productIds.get(key));
+                        supplierService.getSupplierById(supplierIds.get(key));
+                        return null;
+                    }));
+                }
+                long before = statistics.getPrepareStatementCount();
+                long startedAt = System.nanoTime();
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(2, TimeUnit.MINUTES);
+                }
+                elapsed += System.nanoTime() - startedAt;
+                queries += statistics.getPrepareStatementCount() - before;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result((double) queries / rounds, 2.0 * callers * rounds / (elapsed / 1e9));
+    }
+
+    private static ExecutorService invoke(Method factory) {
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int[] parse(String values) {
+        String[] parts = values.split(",");
+        int[] result = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Integer.parseInt(parts[i].trim());
+        }
+        return result;
+    }
+
+    private record Result(double queriesPerRound, double callsPerSecond) {
+    }
+
+    /**
+     * Καθυστερεί κάθε εντολή SQL κατά {@code singleflight.query-latency-ms}, στο νήμα που την εκτελεί.
+     */
+    public static class LatencyInspector implements StatementInspector {
+
+        private static final long LATENCY_MILLIS = Long.getLong("singleflight.query-latency-ms", 2);
+
+        @Override
+        public String inspect(String sql) {
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return sql;
+        }
+    }
+}
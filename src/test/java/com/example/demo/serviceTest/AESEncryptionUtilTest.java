@@ -0,0 +1,61 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.security.AESEncryptionUtil;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AESEncryptionUtilTest {
+
+    @Test
+    void encrypt_ShouldMatchPerCallCipher() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec("@!3a5k8?0$2*456%".getBytes(), "AES"));
+        String expected = Base64.getEncoder().encodeToString(cipher.doFinal("password123".getBytes()));
+
+        assertEquals(expected, AESEncryptionUtil.encrypt("password123"));
+        assertEquals("password123", AESEncryptionUtil.decrypt(expected));
+    }
+
+    @Test
+    void decrypt_ShouldRecoverAfterInvalidInput() throws Exception {
+        String encrypted = AESEncryptionUtil.encrypt("password123");
+
+        assertThrows(Exception.class, () -> AESEncryptionUtil.decrypt(Base64.getEncoder().encodeToString(new byte[7])));
+        assertEquals("password123", AESEncryptionUtil.decrypt(encrypted));
+    }
+
+    @Test
+    void encryptAndDecrypt_ShouldBeSafeAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        String plain = "user-" + thread + "-" + i;
+                        if (!plain.equals(AESEncryptionUtil.decrypt(AESEncryptionUtil.encrypt(plain)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
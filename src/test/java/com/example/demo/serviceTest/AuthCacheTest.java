@@ -0,0 +1,157 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.security.AuthCacheProperties;
+import com.example.demo.security.JwtProperties;
+import com.example.demo.security.jwt.JwtKeyRing;
+import com.example.demo.security.jwt.JwtTokenCache;
+import com.example.demo.security.jwt.JwtTokenUtil;
+import com.example.demo.service.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthCacheTest {
+
+    private static final String SECRET = "12345678912akalhmera@kosmaspatraKK12345678912akalhmera@kosmaspatraKK";
+    private static final byte[] NEW_SECRET = "a-new-signing-secret-that-is-long-enough-for-hs512-0123456789abcdef"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private AuthCacheProperties properties;
+    private JwtKeyRing keyRing;
+    private JwtTokenUtil jwtTokenUtil;
+    private JwtTokenCache jwtTokenCache;
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuthCacheProperties();
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setJwtSecret(SECRET);
+        keyRing = new JwtKeyRing(jwtProperties);
+        jwtTokenUtil = new JwtTokenUtil(keyRing, jwtProperties);
+        jwtTokenCache = new JwtTokenCache(properties, keyRing);
+        userPrincipalCache = new UserPrincipalCache(properties);
+    }
+
+    @Test
+    void jwtTokenCache_ShouldReturnSubjectOfVerifiedToken() {
+        String token = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+
+        assertNull(jwtTokenCache.getVerifiedSubject(token));
+
+        put(token);
+
+        assertEquals("john_doe", jwtTokenCache.getVerifiedSubject(token));
+        assertEquals(1, jwtTokenCache.stats().hitCount());
+        assertEquals(1, jwtTokenCache.stats().missCount());
+    }
+
+    @Test
+    void jwtTokenCache_ShouldNotServeExpiredTokens() {
+        Claims claims = Jwts.claims()
+                .subject("john_doe")
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .build();
+
+        jwtTokenCache.put("expired-token", JwtKeyRing.DEFAULT_KEY_ID, claims);
+
+        assertNull(jwtTokenCache.getVerifiedSubject("expired-token"));
+    }
+
+    @Test
+    void jwtTokenCache_ShouldNotMatchDifferentToken() {
+        Claims claims = Jwts.claims()
+                .subject("john_doe")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .build();
+
+        jwtTokenCache.put("token-a", JwtKeyRing.DEFAULT_KEY_ID, claims);
+
+        assertNull(jwtTokenCache.getVerifiedSubject("token-b"));
+    }
+
+    @Test
+    void jwtTokenCache_ShouldNotServeTokensOfRetiredKey() {
+        String oldToken = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+        put(oldToken);
+        keyRing.rotate("2026-10", NEW_SECRET);
+        String newToken = jwtTokenUtil.generateToken("jane_doe", "jane@example.com");
+        put(newToken);
+
+        keyRing.retire(JwtKeyRing.DEFAULT_KEY_ID);
+
+        assertNull(jwtTokenCache.getVerifiedSubject(oldToken));
+        assertEquals("jane_doe", jwtTokenCache.getVerifiedSubject(newToken));
+        assertEquals(1, jwtTokenCache.size());
+    }
+
+    @Test
+    void jwtTokenCache_InvalidateKey_ShouldRemoveOnlyTokensOfThatKey() {
+        String oldToken = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+        put(oldToken);
+        keyRing.rotate("2026-10", NEW_SECRET);
+        String newToken = jwtTokenUtil.generateToken("jane_doe", "jane@example.com");
+        put(newToken);
+
+        jwtTokenCache.invalidateKey(JwtKeyRing.DEFAULT_KEY_ID);
+
+        assertTrue(keyRing.contains(JwtKeyRing.DEFAULT_KEY_ID));
+        assertNull(jwtTokenCache.getVerifiedSubject(oldToken));
+        assertEquals("jane_doe", jwtTokenCache.getVerifiedSubject(newToken));
+    }
+
+    @Test
+    void userPrincipalCache_ShouldLoadOnceUntilEvicted() {
+        properties.setPrincipalTtl(Duration.ofMinutes(1));
+        userPrincipalCache = new UserPrincipalCache(properties);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            userPrincipalCache.get("john_doe", username -> {
+                loads.incrementAndGet();
+                return principal(username);
+            });
+        }
+        assertEquals(1, loads.get());
+
+        userPrincipalCache.evict("john_doe");
+        UserDetails reloaded = userPrincipalCache.get("john_doe", username -> {
+            loads.incrementAndGet();
+            return principal(username);
+        });
+
+        assertEquals("john_doe", reloaded.getUsername());
+        assertEquals(2, loads.get());
+        assertEquals(4, userPrincipalCache.stats().hitCount());
+    }
+
+    @Test
+    void userPrincipalCache_ShouldNotCacheLoaderFailures() {
+        assertThrows(IllegalStateException.class, () -> userPrincipalCache.get("ghost", username -> {
+            throw new IllegalStateException("not found");
+        }));
+
+        assertEquals(0, userPrincipalCache.size());
+    }
+
+    private void put(String token) {
+        Jws<Claims> verified = jwtTokenUtil.verifyToken(token);
+        jwtTokenCache.put(token, verified.getHeader().getKeyId(), verified.getPayload());
+    }
+
+    private static UserDetails principal(String username) {
+        return new User(username, "secret", List.of());
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.config.IdempotencyProperties;
+import com.example.demo.controller.OrderController;
+import com.example.demo.dto.OrderDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.example.demo.service.IdempotencyStore;
+import com.example.demo.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ελέγχει σε πραγματική βάση (H2 στη μνήμη) ότι οι επαναλήψεις του POST /api/orders με το ίδιο Idempotency-Key
+ * δημιουργούν μία μόνο παραγγελία, ακόμη και όταν φτάνουν ταυτόχρονα σε δύο κόμβους με ξεχωριστή μνήμη που
+ * μοιράζονται μόνο τον πίνακα idempotency_keys.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=idempotency"
+})
+@ActiveProfiles("h2")
+class IdempotentOrderTest {
+
+    private static final int THREADS = 32;
+    private static final int SUBMISSIONS = 4000;
+    private static final int KEYS = 40;
+    private static final int STOCK = 1_000_000;
+    private static final Principal ALICE = () -> "alice";
+
+    @Autowired
+    private OrderController orderController;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private IdempotencyProperties idempotencyProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int productId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+        jdbcTemplate.update("DELETE FROM order_rollups");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM suppliers_products");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM suppliers");
+        idempotencyStore.evictAll();
+
+        jdbcTemplate.update("INSERT INTO suppliers (first_name, last_name, telephone, afm, location) " +
+                "VALUES ('Γιώργος', 'Παπαδόπουλος', '2100000000', '123456789', 'Αθήνα')");
+        int supplierId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM suppliers", Integer.class);
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Ηλεκτρονικά')");
+        int categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Integer.class);
+        jdbcTemplate.update("INSERT INTO products (product_name, category_id, price, supplier_id, quantity, uuid) " +
+                "VALUES ('Κινητό', ?, 10.0, ?, ?, RANDOM_UUID())", categoryId, supplierId, STOCK);
+        productId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Integer.class);
+    }
+
+    @Test
+    void duplicateSubmissions_ShouldCreateOneOrderPerKey_AcrossNodes() throws Exception {
+        // Δεύτερος κόμβος: δική του cache και δικές του εκτελέσεις σε εξέλιξη, ίδια βάση
+        OrderController otherNode = new OrderController(orderService,
+                new IdempotencyStore(idempotencyRecordRepository, idempotencyProperties, objectMapper, transactionManager));
+        Map<String, Set<Integer>> orderIdsByKey = new ConcurrentHashMap<>();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>(SUBMISSIONS);
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            String key = "order-" + (i % KEYS);
+            OrderController node = i % 2 == 0 ? orderController : otherNode;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    ResponseEntity<OrderDTO> response = node.createOrder(key, order(2), ALICE);
+                    orderIdsByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(response.getBody().getId());
+                    if ("false".equals(response.getHeaders().getFirst(OrderController.IDEMPOTENT_REPLAYED_HEADER))) {
+                        executed.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertTrue(failures.isEmpty(), () -> "Αποτυχίες: " + failures);
+        assertEquals(KEYS, executed.get());
+        assertEquals(KEYS, orderIdsByKey.size());
+        orderIdsByKey.forEach((key, ids) -> assertEquals(1, ids.size(), key + ": " + ids));
+        assertEquals(KEYS, count("SELECT COUNT(*) FROM orders"));
+        assertEquals(KEYS, count("SELECT COUNT(*) FROM idempotency_keys WHERE status = 'COMPLETED'"));
+        assertEquals(KEYS, count("SELECT COUNT(*) FROM idempotency_keys"));
+        assertEquals(STOCK - KEYS * 2, count("SELECT quantity FROM products WHERE id = ?", productId));
+    }
+
+    @Test
+    void replay_ShouldReturnStoredResponse_FromTable_AfterMemoryEviction() {
+        ResponseEntity<OrderDTO> first = orderController.createOrder("replay", order(3), ALICE);
+        idempotencyStore.evictAll();
+
+        ResponseEntity<OrderDTO> replay = orderController.createOrder("replay", order(3), ALICE);
+
+        assertEquals(201, replay.getStatusCode().value());
+        assertEquals("true", replay.getHeaders().getFirst(OrderController.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(first.getBody().getId(), replay.getBody().getId());
+        assertEquals(first.getBody().getTotalPrice(), replay.getBody().getTotalPrice());
+        assertEquals(1, count("SELECT COUNT(*) FROM orders"));
+    }
+
+    @Test
+    void sameKey_ShouldBeRejected_ForDifferentRequest() {
+        orderController.createOrder("reused", order(1), ALICE);
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> orderController.createOrder("reused", order(5), ALICE));
+
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+        // Το ίδιο κλειδί άλλου χρήστη είναι άλλο αίτημα
+        assertEquals("false", orderController.createOrder("reused", order(5), () -> "bob")
+                .getHeaders().getFirst(OrderController.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(2, count("SELECT COUNT(*) FROM orders"));
+    }
+
+    @Test
+    void failedExecution_ShouldReleaseKey() {
+        assertThrows(IllegalStateException.class, () -> idempotencyStore.execute("test", "failing", "request",
+                OrderDTO.class, () -> {
+                    throw new IllegalStateException("αποτυχία");
+                }));
+        assertEquals(0, count("SELECT COUNT(*) FROM idempotency_keys"));
+
+        IdempotencyStore.Result<OrderDTO> retry = idempotencyStore.execute("test", "failing", "request",
+                OrderDTO.class, () -> orderService.createOrderWithProductAndQuantity(productId, 1));
+
+        assertFalse(retry.replayed());
+        assertEquals(1, count("SELECT COUNT(*) FROM orders"));
+    }
+
+    @Test
+    void abandonedExecution_ShouldBeTakenOver() {
+        jdbcTemplate.update("INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, status, created_at) " +
+                "VALUES ('test', 'abandoned', 'x', 'IN_PROGRESS', ?)", LocalDateTime.now().minusHours(1));
+
+        IdempotencyStore.Result<OrderDTO> result = idempotencyStore.execute("test", "abandoned", "request",
+                OrderDTO.class, () -> orderService.createOrderWithProductAndQuantity(productId, 1));
+
+        assertFalse(result.replayed());
+        assertEquals(1, count("SELECT COUNT(*) FROM idempotency_keys WHERE status = 'COMPLETED'"));
+    }
+
+    @Test
+    void claimConflict_ShouldReplayResponse_OfNodeThatClaimedKey() {
+        IdempotencyStore.Result<OrderDTO> first = idempotencyStore.execute("test", "raced", "request",
+                OrderDTO.class, () -> orderService.createOrderWithProductAndQuantity(productId, 1));
+        // Ο δεύτερος κόμβος διαβάζει τον πίνακα πριν από τη δέσμευση του πρώτου, οπότε η εισαγωγή του αποτυγχάνει
+        IdempotencyRecordRepository racingRepository = mock(IdempotencyRecordRepository.class,
+                delegatesTo(idempotencyRecordRepository));
+        when(racingRepository.findByScopeAndIdempotencyKey("test", "raced"))
+                .thenReturn(Optional.empty())
+                .thenAnswer(invocation -> idempotencyRecordRepository.findByScopeAndIdempotencyKey("test", "raced"));
+        IdempotencyStore otherNode = new IdempotencyStore(racingRepository, idempotencyProperties, objectMapper,
+                transactionManager);
+
+        IdempotencyStore.Result<OrderDTO> replay = otherNode.execute("test", "raced", "request", OrderDTO.class,
+                () -> orderService.createOrderWithProductAndQuantity(productId, 1));
+
+        assertTrue(replay.replayed());
+        assertEquals(first.body().getId(), replay.body().getId());
+        assertEquals(1, count("SELECT COUNT(*) FROM orders"));
+    }
+
+    @Test
+    void otherConstraintViolation_ShouldNotBeTreatedAsClaimedKey() {
+        // Μόνο η παραβίαση του unique (scope, idempotency_key) σημαίνει ότι το κλειδί το δέσμευσε άλλος κόμβος
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> assertThrows(DataIntegrityViolationException.class,
+                () -> idempotencyStore.execute(null, "no-scope", "request", OrderDTO.class,
+                        () -> orderService.createOrderWithProductAndQuantity(productId, 1))));
+
+        assertEquals(0, count("SELECT COUNT(*) FROM orders"));
+    }
+
+    @Test
+    void invalidKey_ShouldBeRejected() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> orderController.createOrder("x".repeat(101), order(1), ALICE));
+
+        assertEquals(ErrorCode.INVALID_IDEMPOTENCY_KEY, exception.getErrorCode());
+        assertEquals(0, count("SELECT COUNT(*) FROM orders"));
+    }
+
+    private OrderDTO order(int quantity) {
+        OrderDTO order = new OrderDTO();
+        order.setProductId(productId);
+        order.setQuantity(quantity);
+        return order;
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.OrderDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει σε πραγματική βάση (H2 στη μνήμη) ότι πολλές ταυτόχρονες παραγγελίες στα ίδια προϊόντα
+ * δεν ξεπερνούν ποτέ το διαθέσιμο απόθεμα και ότι η διαγραφή επιστρέφει την ποσότητα.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=inventory",
+        "spring.datasource.hikari.maximum-pool-size=16"
+})
+@ActiveProfiles("h2")
+class InventoryConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS = 1000;
+    private static final int HOT_STOCK = 60;
+    private static final int HOT_SUPPLIER_STOCK = 50;
+    private static final int SECOND_STOCK = 40;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int hotProductId;
+    private int secondProductId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_rollups");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM suppliers_products");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM suppliers");
+
+        jdbcTemplate.update("INSERT INTO suppliers (first_name, last_name, telephone, afm, location) " +
+                "VALUES ('Γιώργος', 'Παπαδόπουλος', '2100000000', '123456789', 'Αθήνα')");
+        int supplierId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM suppliers", Integer.class);
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Ηλεκτρονικά')");
+        int categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Integer.class);
+
+        hotProductId = insertProduct("Κινητό", categoryId, supplierId, HOT_STOCK);
+        secondProductId = insertProduct("Ακουστικά", categoryId, supplierId, SECOND_STOCK);
+        // Για το δημοφιλές προϊόν ο προμηθευτής έχει λιγότερο απόθεμα από το προϊόν
+        jdbcTemplate.update("INSERT INTO suppliers_products (supplier_id, product_id, quantity) VALUES (?, ?, ?)",
+                supplierId, hotProductId, HOT_SUPPLIER_STOCK);
+    }
+
+    @Test
+    void concurrentOrders_ShouldNeverOversell() throws Exception {
+        Queue<OrderDTO> created = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>(ATTEMPTS);
+        for (int i = 0; i < ATTEMPTS; i++) {
+            int productId = i % 4 == 0 ? secondProductId : hotProductId;
+            int quantity = i % 3 + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    created.add(orderService.createOrderWithProductAndQuantity(productId, quantity));
+                } catch (InvalidRequestException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_STOCK) {
+                        rejected.incrementAndGet();
+                    } else {
+                        unexpected.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    unexpected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        int hotSold = soldQuantity(created, hotProductId);
+        int secondSold = soldQuantity(created, secondProductId);
+
+        assertEquals(0, unexpected.get());
+        assertEquals(ATTEMPTS, created.size() + rejected.get());
+        assertTrue(hotSold <= HOT_SUPPLIER_STOCK, "Υπερπώληση: " + hotSold);
+        assertTrue(secondSold <= SECOND_STOCK, "Υπερπώληση: " + secondSold);
+
+        // Τα αποθέματα στη βάση συμφωνούν ακριβώς με τις παραγγελίες που αποθηκεύτηκαν
+        assertEquals(HOT_STOCK - hotSold, productQuantity(hotProductId));
+        assertEquals(HOT_SUPPLIER_STOCK - hotSold, supplierProductQuantity(hotProductId));
+        assertEquals(SECOND_STOCK - secondSold, productQuantity(secondProductId));
+        assertEquals(hotSold, orderedQuantity(hotProductId));
+        assertEquals(secondSold, orderedQuantity(secondProductId));
+        // Με τόσες περισσότερες αιτήσεις από το απόθεμα, τα αποθέματα πρέπει να εξαντλούνται σχεδόν πλήρως
+        assertTrue(HOT_SUPPLIER_STOCK - hotSold < 3);
+        assertTrue(SECOND_STOCK - secondSold < 3);
+    }
+
+    @Test
+    void deleteOrder_ShouldReturnStockForNewOrders() {
+        OrderDTO order = orderService.createOrderWithProductAndQuantity(hotProductId, 5);
+        assertEquals(HOT_STOCK - 5, productQuantity(hotProductId));
+        assertEquals(HOT_SUPPLIER_STOCK - 5, supplierProductQuantity(hotProductId));
+
+        orderService.deleteOrder(order.getId());
+
+        assertEquals(HOT_STOCK, productQuantity(hotProductId));
+        assertEquals(HOT_SUPPLIER_STOCK, supplierProductQuantity(hotProductId));
+        // Η εικόνα στη μνήμη ενημερώθηκε, οπότε όλο το απόθεμα είναι ξανά διαθέσιμο
+        assertNotNull(orderService.createOrderWithProductAndQuantity(hotProductId, HOT_SUPPLIER_STOCK));
+        assertEquals(0, supplierProductQuantity(hotProductId));
+    }
+
+    private int insertProduct(String name, int categoryId, int supplierId, int quantity) {
+        jdbcTemplate.update("INSERT INTO products (product_name, category_id, price, supplier_id, quantity, uuid) " +
+                "VALUES (?, ?, 10.0, ?, ?, ?)", name, categoryId, supplierId, quantity, name);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Integer.class);
+    }
+
+    private int productQuantity(int productId) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM products WHERE id = ?", Integer.class, productId);
+    }
+
+    private int supplierProductQuantity(int productId) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM suppliers_products WHERE product_id = ?",
+                Integer.class, productId);
+    }
+
+    private int orderedQuantity(int productId) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(quantity), 0) FROM orders WHERE product_id = ?",
+                Integer.class, productId);
+    }
+
+    private static int soldQuantity(Queue<OrderDTO> orders, int productId) {
+        return orders.stream()
+                .filter(order -> order.getProductId() == productId)
+                .mapToInt(OrderDTO::getQuantity)
+                .sum();
+    }
+}
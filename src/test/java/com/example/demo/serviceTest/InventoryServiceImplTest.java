@@ -0,0 +1,165 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.config.InventoryProperties;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.repository.SupplierProductRepository;
+import com.example.demo.service.InventoryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private SupplierProductRepository supplierProductRepository;
+
+    @Spy
+    private InventoryProperties properties = new InventoryProperties();
+
+    @InjectMocks
+    private InventoryServiceImpl inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void tryReserve_ShouldDecrementProductAndSupplierStock() {
+        when(productRepository.findQuantityById(1)).thenReturn(10);
+        when(supplierProductRepository.findQuantityBySupplierIdAndProductId(2, 1)).thenReturn(10);
+        when(productRepository.decrementStock(1, 3)).thenReturn(1);
+        when(supplierProductRepository.decrementStock(2, 1, 3)).thenReturn(1);
+
+        assertTrue(inventoryService.tryReserve(1, 2, 3));
+
+        verify(productRepository).decrementStock(1, 3);
+        verify(supplierProductRepository).decrementStock(2, 1, 3);
+        verify(productRepository, never()).incrementStock(anyInt(), anyInt());
+    }
+
+    @Test
+    void tryReserve_ShouldRejectFromMemoryOnceSnapshotIsExhausted() {
+        when(productRepository.findQuantityById(1)).thenReturn(5);
+        when(productRepository.decrementStock(eq(1), anyInt())).thenReturn(1);
+
+        assertTrue(inventoryService.tryReserve(1, null, 3));
+        assertTrue(inventoryService.tryReserve(1, null, 2));
+        assertFalse(inventoryService.tryReserve(1, null, 1));
+
+        // Η τρίτη δέσμευση απορρίπτεται χωρίς εντολή UPDATE και το απόθεμα διαβάζεται μία φορά
+        verify(productRepository, times(2)).decrementStock(eq(1), anyInt());
+        verify(productRepository, times(1)).findQuantityById(1);
+    }
+
+    @Test
+    void tryReserve_ShouldReloadSnapshotWhenDatabaseHasLessStock() {
+        when(productRepository.findQuantityById(1)).thenReturn(10, 0);
+        when(productRepository.decrementStock(1, 4)).thenReturn(0);
+
+        assertFalse(inventoryService.tryReserve(1, null, 4));
+        assertFalse(inventoryService.tryReserve(1, null, 4));
+
+        verify(productRepository, times(2)).findQuantityById(1);
+        verify(productRepository, times(1)).decrementStock(1, 4);
+    }
+
+    @Test
+    void tryReserve_ShouldUndoProductDecrementWhenSupplierStockIsInsufficient() {
+        when(productRepository.findQuantityById(1)).thenReturn(10);
+        when(supplierProductRepository.findQuantityBySupplierIdAndProductId(2, 1)).thenReturn(5);
+        when(productRepository.decrementStock(1, 3)).thenReturn(1);
+        when(supplierProductRepository.decrementStock(2, 1, 3)).thenReturn(0);
+        when(supplierProductRepository.existsBySupplierIdAndProductId(2, 1)).thenReturn(true);
+
+        assertFalse(inventoryService.tryReserve(1, 2, 3));
+
+        verify(productRepository).incrementStock(1, 3);
+    }
+
+    @Test
+    void tryReserve_ShouldIgnoreSupplierWithoutSupplierProductLink() {
+        when(productRepository.findQuantityById(1)).thenReturn(10);
+        when(supplierProductRepository.findQuantityBySupplierIdAndProductId(2, 1)).thenReturn(null);
+        when(productRepository.decrementStock(1, 3)).thenReturn(1);
+        when(supplierProductRepository.decrementStock(2, 1, 3)).thenReturn(0);
+        when(supplierProductRepository.existsBySupplierIdAndProductId(2, 1)).thenReturn(false);
+
+        assertTrue(inventoryService.tryReserve(1, 2, 3));
+
+        verify(productRepository, never()).incrementStock(anyInt(), anyInt());
+    }
+
+    @Test
+    void reserve_ShouldThrowInsufficientStock() {
+        when(productRepository.findQuantityById(1)).thenReturn(1);
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> inventoryService.reserve(1, null, 2));
+
+        assertEquals(ErrorCode.INSUFFICIENT_STOCK, exception.getErrorCode());
+        assertArrayEquals(new Object[]{1, 2}, exception.getParams());
+    }
+
+    @Test
+    void tryReserve_ShouldRejectFromMemoryWhenSupplierStockIsLower() {
+        when(productRepository.findQuantityById(1)).thenReturn(10);
+        when(supplierProductRepository.findQuantityBySupplierIdAndProductId(2, 1)).thenReturn(3);
+        when(productRepository.decrementStock(1, 3)).thenReturn(1);
+        when(supplierProductRepository.decrementStock(2, 1, 3)).thenReturn(1);
+
+        assertTrue(inventoryService.tryReserve(1, 2, 3));
+        assertFalse(inventoryService.tryReserve(1, 2, 1));
+
+        verify(productRepository, times(1)).decrementStock(anyInt(), anyInt());
+    }
+
+    @Test
+    void release_ShouldIncrementStockAndReloadSnapshot() {
+        when(productRepository.findQuantityById(1)).thenReturn(2, 2);
+        when(productRepository.decrementStock(eq(1), anyInt())).thenReturn(1);
+
+        assertTrue(inventoryService.tryReserve(1, null, 2));
+        inventoryService.release(1, 2, 2);
+        assertTrue(inventoryService.tryReserve(1, null, 2));
+
+        verify(productRepository).incrementStock(1, 2);
+        verify(supplierProductRepository).incrementStock(2, 1, 2);
+        verify(productRepository, times(2)).findQuantityById(1);
+    }
+
+    @Test
+    void release_ShouldMakeReturnedStockVisible_ToReserveInSameTransaction() {
+        when(productRepository.findQuantityById(1)).thenReturn(2, 4, 4);
+        when(productRepository.decrementStock(eq(1), anyInt())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(inventoryService.tryReserve(1, null, 2));
+            inventoryService.release(1, null, 2);
+            // Η εικόνα δεν περιμένει το commit: η νέα δέσμευση διαβάζει το απόθεμα μαζί με την επιστροφή
+            assertTrue(inventoryService.tryReserve(1, null, 4));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertFalse(inventoryService.tryReserve(1, null, 5));
+
+        verify(productRepository, times(3)).findQuantityById(1);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.security.AuthCacheProperties;
+import com.example.demo.security.JwtProperties;
+import com.example.demo.security.jwt.AuthTelemetry;
+import com.example.demo.security.jwt.AuthTelemetry.Outcome;
+import com.example.demo.security.jwt.JwtAuthenticationFilter;
+import com.example.demo.security.jwt.JwtKeyRing;
+import com.example.demo.security.jwt.JwtTokenCache;
+import com.example.demo.security.jwt.JwtTokenUtil;
+import com.example.demo.service.CustomUserDetailsService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    private SimpleMeterRegistry registry;
+    private JwtKeyRing keyRing;
+    private JwtTokenUtil jwtTokenUtil;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        JwtProperties properties = new JwtProperties();
+        properties.setJwtSecret("12345678912akalhmera@kosmaspatraKK12345678912akalhmera@kosmaspatraKK");
+        keyRing = new JwtKeyRing(properties);
+        jwtTokenUtil = new JwtTokenUtil(keyRing, properties);
+        filter = new JwtAuthenticationFilter(jwtTokenUtil, new JwtTokenCache(new AuthCacheProperties(), keyRing),
+                customUserDetailsService, new AuthTelemetry(registry));
+        when(customUserDetailsService.loadUserByUsername("john_doe"))
+                .thenReturn(new User("john_doe", "secret", List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validToken_ShouldAuthenticateAndCountParsedThenCached() throws Exception {
+        String token = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+
+        MockHttpServletResponse first = filter(token);
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse second = filter(token);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals("john_doe", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertEquals(1, count(Outcome.PARSED));
+        assertEquals(1, count(Outcome.CACHED));
+    }
+
+    @Test
+    void cachedTokenOfRetiredKey_ShouldBeRejected() throws Exception {
+        String token = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+        assertEquals(200, filter(token).getStatus());
+        SecurityContextHolder.clearContext();
+
+        keyRing.rotate("2026-10", "a-new-signing-secret-that-is-long-enough-for-hs512-0123456789abcdef"
+                .getBytes(StandardCharsets.UTF_8));
+        keyRing.retire(JwtKeyRing.DEFAULT_KEY_ID);
+
+        assertEquals(401, filter(token).getStatus());
+        assertEquals(1, count(Outcome.BAD_SIGNATURE));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void tokenWithForeignSignature_ShouldBeRejectedAsBadSignature() throws Exception {
+        String token = Jwts.builder()
+                .subject("john_doe")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Jwts.SIG.HS512.key().build())
+                .compact();
+
+        assertEquals(401, filter(token).getStatus());
+        assertEquals(1, count(Outcome.BAD_SIGNATURE));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void expiredToken_ShouldBeRejectedBeforeSignatureCheck() throws Exception {
+        // Με ξένη υπογραφή: αν ελεγχόταν πρώτα η υπογραφή, το αποτέλεσμα θα ήταν BAD_SIGNATURE
+        String token = Jwts.builder()
+                .subject("john_doe")
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Jwts.SIG.HS512.key().build())
+                .compact();
+
+        assertEquals(401, filter(token).getStatus());
+        assertEquals(1, count(Outcome.EXPIRED));
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    @Test
+    void malformedToken_ShouldBeRejected() throws Exception {
+        assertEquals(401, filter("not-a-jwt").getStatus());
+        assertEquals(1, count(Outcome.MALFORMED));
+    }
+
+    @Test
+    void unknownUser_ShouldBeRejectedAsUserNotFound() throws Exception {
+        when(customUserDetailsService.loadUserByUsername("ghost"))
+                .thenThrow(new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND_BY_USERNAME, new Object[]{"ghost"}));
+
+        assertEquals(401, filter(jwtTokenUtil.generateToken("ghost", "ghost@example.com")).getStatus());
+        assertEquals(1, count(Outcome.USER_NOT_FOUND));
+    }
+
+    @Test
+    void requestWithoutToken_ShouldPassWithoutTelemetry() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(0, registry.get(AuthTelemetry.METRIC).timers().stream().mapToLong(t -> t.count()).sum());
+    }
+
+    @Test
+    void classify_ShouldUnwrapExpiredToken() {
+        RuntimeException wrapped = new RuntimeException("Invalid or expired token",
+                new ExpiredJwtException(null, null, "expired"));
+
+        assertEquals(Outcome.EXPIRED, AuthTelemetry.classify(wrapped));
+        assertEquals(Outcome.ERROR, AuthTelemetry.classify(new IllegalStateException("κάτι άλλο")));
+    }
+
+    private MockHttpServletResponse filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private long count(Outcome outcome) {
+        return registry.get(AuthTelemetry.METRIC).tag("outcome", outcome.tag()).timer().count();
+    }
+}
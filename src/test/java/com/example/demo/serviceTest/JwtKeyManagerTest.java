@@ -0,0 +1,83 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.dto.JwtKeysDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.security.AuthCacheProperties;
+import com.example.demo.security.JwtProperties;
+import com.example.demo.security.jwt.JwtKeyManager;
+import com.example.demo.security.jwt.JwtKeyRing;
+import com.example.demo.security.jwt.JwtTokenCache;
+import com.example.demo.security.jwt.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyManagerTest {
+
+    private static final String NEW_SECRET = "a-new-signing-secret-that-is-long-enough-for-hs512-0123456789abcdef";
+
+    private JwtKeyRing keyRing;
+    private JwtTokenUtil jwtTokenUtil;
+    private JwtTokenCache jwtTokenCache;
+    private JwtKeyManager jwtKeyManager;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setJwtSecret("12345678912akalhmera@kosmaspatraKK12345678912akalhmera@kosmaspatraKK");
+        keyRing = new JwtKeyRing(properties);
+        jwtTokenUtil = new JwtTokenUtil(keyRing, properties);
+        jwtTokenCache = new JwtTokenCache(new AuthCacheProperties(), keyRing);
+        jwtKeyManager = new JwtKeyManager(keyRing, jwtTokenCache);
+    }
+
+    @Test
+    void rotate_ShouldActivateNewKeyAndKeepPreviousKey() {
+        JwtKeysDTO keys = jwtKeyManager.rotate("2026-10", NEW_SECRET);
+
+        assertEquals("2026-10", keys.getActiveKeyId());
+        assertEquals(List.of("2026-10", JwtKeyRing.DEFAULT_KEY_ID), keys.getKeyIds());
+        Jws<Claims> verified = jwtTokenUtil.verifyToken(jwtTokenUtil.generateToken("john_doe", "john@example.com"));
+        assertEquals("2026-10", verified.getHeader().getKeyId());
+    }
+
+    @Test
+    void rotate_ShouldRejectShortSecretBlankIdAndExistingKey() {
+        assertEquals(ErrorCode.INVALID_JWT_KEY, assertThrows(InvalidRequestException.class,
+                () -> jwtKeyManager.rotate("2026-10", "too-short")).getErrorCode());
+        assertEquals(ErrorCode.INVALID_JWT_KEY, assertThrows(InvalidRequestException.class,
+                () -> jwtKeyManager.rotate(" ", NEW_SECRET)).getErrorCode());
+        assertEquals(ErrorCode.JWT_KEY_ALREADY_EXISTS, assertThrows(InvalidRequestException.class,
+                () -> jwtKeyManager.rotate(JwtKeyRing.DEFAULT_KEY_ID, NEW_SECRET)).getErrorCode());
+        assertEquals(JwtKeyRing.DEFAULT_KEY_ID, keyRing.activeKeyId());
+    }
+
+    @Test
+    void retire_ShouldRemoveKeyAndItsCachedTokens() {
+        String oldToken = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+        Jws<Claims> verified = jwtTokenUtil.verifyToken(oldToken);
+        jwtTokenCache.put(oldToken, verified.getHeader().getKeyId(), verified.getPayload());
+        jwtKeyManager.rotate("2026-10", NEW_SECRET);
+
+        JwtKeysDTO keys = jwtKeyManager.retire(JwtKeyRing.DEFAULT_KEY_ID);
+
+        assertEquals(List.of("2026-10"), keys.getKeyIds());
+        assertEquals(0, jwtTokenCache.size());
+        assertThrows(RuntimeException.class, () -> jwtTokenUtil.extractClaims(oldToken));
+    }
+
+    @Test
+    void retire_ShouldRejectActiveAndUnknownKeys() {
+        assertEquals(ErrorCode.ACTIVE_JWT_KEY_CANNOT_BE_RETIRED, assertThrows(InvalidRequestException.class,
+                () -> jwtKeyManager.retire(JwtKeyRing.DEFAULT_KEY_ID)).getErrorCode());
+        assertEquals(ErrorCode.JWT_KEY_NOT_FOUND, assertThrows(ResourceNotFoundException.class,
+                () -> jwtKeyManager.retire("missing")).getErrorCode());
+    }
+}
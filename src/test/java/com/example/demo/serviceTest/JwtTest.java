@@ -1,11 +1,15 @@
 package com.example.demo.serviceTest;
+import com.example.demo.security.JwtProperties;
+import com.example.demo.security.jwt.JwtKeyRing;
 import com.example.demo.security.jwt.JwtTokenUtil;
 import io.jsonwebtoken.Claims;
 
 
 public class JwtTest {
     public static void main(String[] args) {
-        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+        JwtProperties properties = new JwtProperties();
+        properties.setJwtSecret("12345678912akalhmera@kosmaspatraKK12345678912akalhmera@kosmaspatraKK");
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(new JwtKeyRing(properties), properties);
 
         // Δημιουργία token
         String username = "testuser";
@@ -0,0 +1,169 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.security.JwtProperties;
+import com.example.demo.security.jwt.AuthTelemetry;
+import com.example.demo.security.jwt.AuthTelemetry.Outcome;
+import com.example.demo.security.jwt.JwtKeyRing;
+import com.example.demo.security.jwt.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenUtilTest {
+
+    private static final String LEGACY_SECRET = "12345678912akalhmera@kosmaspatraKK12345678912akalhmera@kosmaspatraKK";
+    private static final byte[] NEW_SECRET = "a-new-signing-secret-that-is-long-enough-for-hs512-0123456789abcdef"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private JwtKeyRing keyRing;
+    private JwtTokenUtil jwtTokenUtil;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setJwtSecret(LEGACY_SECRET);
+        keyRing = new JwtKeyRing(properties);
+        jwtTokenUtil = new JwtTokenUtil(keyRing, properties);
+    }
+
+    @Test
+    void generateToken_ShouldBeReadableByJjwt() {
+        String token = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+
+        Claims claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        assertEquals("john_doe", claims.getSubject());
+        assertEquals("john@example.com", claims.get("email"));
+        assertTrue(claims.getExpiration().after(claims.getIssuedAt()));
+    }
+
+    @Test
+    void extractClaims_ShouldReadOwnTokens() {
+        Claims claims = jwtTokenUtil.extractClaims(jwtTokenUtil.generateToken("john_doe", "john@example.com"));
+
+        assertEquals("john_doe", claims.getSubject());
+        assertEquals("john@example.com", claims.get("email", String.class));
+        assertNotNull(claims.getExpiration());
+    }
+
+    @Test
+    void extractClaims_ShouldAcceptTokenWithoutKeyId() {
+        String token = Jwts.builder()
+                .subject("john_doe")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS512)
+                .compact();
+
+        assertEquals("john_doe", jwtTokenUtil.extractClaims(token).getSubject());
+    }
+
+    @Test
+    void rotate_ShouldSignWithNewKeyAndKeepOldTokensValid() {
+        String oldToken = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+
+        keyRing.rotate("2026-10", NEW_SECRET);
+        String newToken = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+
+        assertTrue(header(newToken).contains("\"kid\":\"2026-10\""));
+        assertTrue(jwtTokenUtil.validateToken(oldToken));
+        assertTrue(jwtTokenUtil.validateToken(newToken));
+    }
+
+    @Test
+    void retire_ShouldRejectTokensOfRetiredKey() {
+        String oldToken = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+        keyRing.rotate("2026-10", NEW_SECRET);
+
+        keyRing.retire(JwtKeyRing.DEFAULT_KEY_ID);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> jwtTokenUtil.extractClaims(oldToken));
+        assertEquals(Outcome.BAD_SIGNATURE, AuthTelemetry.classify(e));
+        assertThrows(IllegalArgumentException.class, () -> keyRing.retire("2026-10"));
+    }
+
+    @Test
+    void extractClaims_ShouldRejectTamperedPayload() {
+        String token = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+        String[] parts = token.split("\\.");
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                        .replace("john_doe", "admin").getBytes(StandardCharsets.UTF_8));
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> jwtTokenUtil.extractClaims(parts[0] + "." + forged + "." + parts[2]));
+        assertEquals(Outcome.BAD_SIGNATURE, AuthTelemetry.classify(e));
+    }
+
+    @Test
+    void extractClaims_ShouldRejectUnsignedToken() {
+        String token = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+        String none = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = token.split("\\.")[1];
+
+        assertFalse(jwtTokenUtil.validateToken(none + "." + payload + "."));
+        assertEquals(Outcome.BAD_SIGNATURE, AuthTelemetry.classify(assertThrows(RuntimeException.class,
+                () -> jwtTokenUtil.extractClaims(none + "." + payload + "." + token.split("\\.")[2]))));
+    }
+
+    @Test
+    void expiredToken_ShouldBePeekedAndRejectedAsExpired() {
+        Date expiration = new Date(System.currentTimeMillis() - 1_000);
+        String token = Jwts.builder()
+                .subject("john_doe")
+                .expiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS512)
+                .compact();
+
+        assertEquals(expiration.getTime() / 1000, jwtTokenUtil.peekExpiration(token).getTime() / 1000);
+        assertEquals(Outcome.EXPIRED, AuthTelemetry.classify(
+                assertThrows(RuntimeException.class, () -> jwtTokenUtil.extractClaims(token))));
+    }
+
+    @Test
+    void expiredToken_WithForeignSignature_ShouldBeRejectedAsBadSignature() {
+        String token = Jwts.builder()
+                .subject("john_doe")
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(NEW_SECRET), Jwts.SIG.HS512)
+                .compact();
+
+        // Η υπογραφή ελέγχεται πριν από τη λήξη
+        assertEquals(Outcome.BAD_SIGNATURE, AuthTelemetry.classify(
+                assertThrows(RuntimeException.class, () -> jwtTokenUtil.extractClaims(token))));
+    }
+
+    @Test
+    void rotate_ShouldEscapeKeyIdInHeader() {
+        keyRing.rotate("2026\"-10", NEW_SECRET);
+
+        String token = jwtTokenUtil.generateToken("john_doe", "john@example.com");
+
+        assertTrue(header(token).contains("\"kid\":\"2026\\\"-10\""));
+        assertEquals("john_doe", jwtTokenUtil.extractClaims(token).getSubject());
+    }
+
+    @Test
+    void malformedToken_ShouldBeRejectedAsMalformed() {
+        assertEquals(Outcome.MALFORMED, AuthTelemetry.classify(
+                assertThrows(RuntimeException.class, () -> jwtTokenUtil.extractClaims("not-a-jwt"))));
+        assertEquals(Outcome.MALFORMED, AuthTelemetry.classify(
+                assertThrows(RuntimeException.class, () -> jwtTokenUtil.extractClaims("a.b!.c"))));
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+}
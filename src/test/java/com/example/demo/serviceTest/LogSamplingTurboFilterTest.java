@@ -0,0 +1,71 @@
+package com.example.demo.serviceTest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.example.demo.logging.LogSamplingTurboFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private LogSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter = new LogSamplingTurboFilter();
+        filter.setMaxPerSecond(3);
+        filter.setLoggers("com.example.demo.service, com.example.demo.controller");
+    }
+
+    @Test
+    void decide_ShouldDenyInfoLinesAboveLimitPerLogger() {
+        Logger service = context.getLogger("com.example.demo.service.OrderServiceImpl");
+        Logger controller = context.getLogger("com.example.demo.controller.OrderController");
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (decide(service, Level.INFO) == FilterReply.NEUTRAL) {
+                allowed++;
+            }
+        }
+
+        // Το ίδιο δευτερόλεπτο μπορεί να αλλάξει στη μέση του βρόχου, οπότε επιτρέπονται έως δύο παράθυρα
+        assertTrue(allowed >= 3 && allowed <= 6, "Επιτράπηκαν " + allowed);
+        assertEquals(FilterReply.NEUTRAL, decide(controller, Level.INFO));
+    }
+
+    @Test
+    void decide_ShouldAlwaysPassWarningsAndErrors() {
+        Logger service = context.getLogger("com.example.demo.service.OrderServiceImpl");
+        for (int i = 0; i < 10; i++) {
+            decide(service, Level.INFO);
+        }
+
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.ERROR));
+    }
+
+    @Test
+    void decide_ShouldIgnoreOtherLoggersAndDisabledLevels() {
+        Logger other = context.getLogger("org.hibernate.SQL");
+        Logger service = context.getLogger("com.example.demo.service.OrderServiceImpl");
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO));
+            // Τα DEBUG είναι απενεργοποιημένα και δεν καταναλώνουν το όριο
+            assertEquals(FilterReply.NEUTRAL, decide(service, Level.DEBUG));
+        }
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.INFO));
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "Μήνυμα {}", new Object[]{1}, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.benchmark.MappingFixtures;
+import com.example.demo.benchmark.ModelMapperBaseline;
+import com.example.demo.dto.CustomerDTO;
+import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.SupplierDTO;
+import com.example.demo.model.Customer;
+import com.example.demo.model.Order;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductCategory;
+import com.example.demo.model.Supplier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει ότι οι mappers του MapStruct παράγουν το ίδιο JSON με την προηγούμενη υλοποίηση μέσω ModelMapper.
+ */
+class MapperJsonParityTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ModelMapperBaseline baseline;
+    private MappingFixtures mappers;
+
+    private Supplier supplier;
+    private ProductCategory category;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        baseline = new ModelMapperBaseline();
+        mappers = new MappingFixtures();
+        supplier = MappingFixtures.supplier(7);
+        category = MappingFixtures.category(3);
+        product = MappingFixtures.product(11, supplier, category);
+    }
+
+    @Test
+    void supplierToDTO_ShouldMatchModelMapper() throws Exception {
+        assertSameJson(baseline.toDTO(supplier), mappers.supplierMapper.toDTO(supplier));
+    }
+
+    @Test
+    void productToDTO_ShouldMatchModelMapper() throws Exception {
+        ProductDTO productDTO = mappers.productMapper.toDTO(product);
+
+        assertEquals("Ηλεκτρονικά", productDTO.getType());
+        assertSameJson(baseline.toDTO(product), productDTO);
+    }
+
+    @Test
+    void orderToDTO_ShouldMatchModelMapper() throws Exception {
+        Order order = MappingFixtures.order(21, product);
+
+        assertSameJson(baseline.toDTO(order), mappers.orderMapper.toDTO(order));
+    }
+
+    @Test
+    void customerToDTO_ShouldMatchModelMapper() throws Exception {
+        Customer customer = MappingFixtures.customer(5);
+
+        assertSameJson(baseline.toDTO(customer), mappers.customerMapper.toDTO(customer));
+    }
+
+    @Test
+    void categoryAndSupplierProductToDTO_ShouldMatchModelMapper() throws Exception {
+        ProductCategory unsavedCategory = new ProductCategory();
+        unsavedCategory.setName("Χωρίς ID");
+
+        assertSameJson(baseline.toDTO(category), mappers.productCategoryMapper.toDTO(category));
+        assertSameJson(baseline.toDTO(unsavedCategory), mappers.productCategoryMapper.toDTO(unsavedCategory));
+
+        var supplierProduct = MappingFixtures.supplierProduct(4, supplier, product);
+        assertSameJson(baseline.toDTO(supplierProduct), mappers.supplierProductMapper.toDTO(supplierProduct));
+    }
+
+    @Test
+    void updateEntityFromDTO_ShouldKeepIdAndUserOfExistingEntity() {
+        SupplierDTO supplierDTO = mappers.supplierMapper.toDTO(supplier);
+        supplierDTO.setId(null);
+        supplierDTO.setLocation("Πάτρα");
+
+        mappers.supplierMapper.updateEntityFromDTO(supplierDTO, supplier);
+
+        assertEquals(7, supplier.getId());
+        assertEquals("Πάτρα", supplier.getLocation());
+
+        Customer customer = MappingFixtures.customer(5);
+        CustomerDTO customerDTO = mappers.customerMapper.toDTO(customer);
+        customerDTO.setId(null);
+        customerDTO.setUser(null);
+        customerDTO.setBalance(10);
+
+        mappers.customerMapper.updateEntityFromDTO(customerDTO, customer);
+
+        assertEquals(5, customer.getId());
+        assertEquals("customer5", customer.getUser().getUsername());
+        assertEquals(10, customer.getBalance());
+    }
+
+    @Test
+    void productToEntity_ShouldLinkSupplierAndCategoryByReference() {
+        ProductDTO productDTO = mappers.productMapper.toDTO(product);
+
+        Product mapped = mappers.productMapper.toEntity(productDTO);
+
+        assertEquals(11, mapped.getId());
+        assertEquals(7, mapped.getSupplier().getId());
+        assertNull(mapped.getSupplier().getFirstName());
+        assertEquals("Ηλεκτρονικά", mapped.getCategory().getName());
+        assertNull(mapped.getCategory().getId());
+    }
+
+    private void assertSameJson(Object expected, Object actual) throws Exception {
+        assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(actual));
+    }
+}
@@ -1,8 +1,15 @@
 package com.example.demo.serviceTest;
 
+import com.example.demo.config.OrderBatchProperties;
+import com.example.demo.config.SearchProperties;
+import com.example.demo.dto.OrderBatchResultDTO;
 import com.example.demo.dto.OrderDTO;
+import com.example.demo.dto.OrderLineDTO;
+import com.example.demo.dto.OrderLineResultDTO;
 import com.example.demo.dto.ProductDTO;
 import com.example.demo.dto.SupplierDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.mapper.OrderMapper;
 import com.example.demo.mapper.ProductMapper;
@@ -11,6 +18,11 @@ import com.example.demo.model.Order;
 import com.example.demo.model.Product;
 import com.example.demo.model.Supplier;
 import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.search.ProductSearchIndex;
+import com.example.demo.service.InventoryService;
+import com.example.demo.service.OrderRollupEntry;
+import com.example.demo.service.OrderRollupService;
 import com.example.demo.service.OrderServiceImpl;
 import com.example.demo.service.ProductService;
 import com.example.demo.service.SupplierService;
@@ -19,12 +31,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.MessageSource;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class OrderImplTest {
@@ -50,6 +68,27 @@ class OrderImplTest {
     @Mock
     private SupplierMapper supplierMapper;
 
+    @Mock
+    private OrderRollupService orderRollupService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private OrderBatchProperties batchProperties = new OrderBatchProperties();
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties();
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -112,6 +151,7 @@ class OrderImplTest {
         OrderDTO orderDTO = new OrderDTO();
         orderDTO.setProductId(2);
         orderDTO.setSupplierId(3);
+        orderDTO.setQuantity(4);
 
         ProductDTO productDTO = new ProductDTO();
         SupplierDTO supplierDTO = new SupplierDTO();
@@ -151,6 +191,212 @@ class OrderImplTest {
         verify(orderRepository).delete(order);
     }
 
+    @Test
+    void createOrder_ShouldAddOrderToRollups() {
+        ProductDTO productDTO = new ProductDTO();
+        Order order = new Order();
+        Order savedOrder = new Order();
+
+        when(productService.getProductById(1)).thenReturn(productDTO);
+        when(orderMapper.createOrderFromProductDTO(productDTO, 2)).thenReturn(order);
+        when(orderRepository.save(order)).thenReturn(savedOrder);
+
+        orderService.createOrderWithProductAndQuantity(1, 2);
+
+        verify(orderRollupService).recordCreated(savedOrder);
+    }
+
+    @Test
+    void updateOrder_ShouldReplacePreviousRollupContribution() {
+        OrderDTO orderDTO = new OrderDTO();
+        orderDTO.setProductId(2);
+        orderDTO.setSupplierId(3);
+        orderDTO.setQuantity(4);
+        Order existingOrder = new Order();
+        Order updatedOrder = new Order();
+        OrderRollupEntry before = new OrderRollupEntry(1, LocalDate.of(2024, 1, 1), 1, 1, 1, 2, 20.0);
+
+        when(orderRepository.findById(1)).thenReturn(Optional.of(existingOrder));
+        when(orderRollupService.capture(existingOrder)).thenReturn(before);
+        when(orderRepository.save(existingOrder)).thenReturn(updatedOrder);
+
+        orderService.updateOrder(1, orderDTO);
+
+        var inOrder = inOrder(orderRollupService, orderMapper, orderRepository);
+        inOrder.verify(orderRollupService).capture(existingOrder);
+        inOrder.verify(orderMapper).updateOrderFromDTO(eq(existingOrder), any(), any(), eq(orderDTO));
+        inOrder.verify(orderRepository).save(existingOrder);
+        inOrder.verify(orderRollupService).recordUpdated(before, updatedOrder);
+    }
+
+    @Test
+    void deleteOrder_ShouldRemoveOrderFromRollups() {
+        Order order = new Order();
+        OrderRollupEntry before = new OrderRollupEntry(1, LocalDate.of(2024, 1, 1), 1, 1, 1, 2, 20.0);
+
+        when(orderRepository.findById(1)).thenReturn(Optional.of(order));
+        when(orderRollupService.capture(order)).thenReturn(before);
+
+        orderService.deleteOrder(1);
+
+        verify(orderRollupService).recordDeleted(before);
+    }
+
+    @Test
+    void createOrdersBatch_ShouldLoadProductsOnceAndRejectInvalidLines() {
+        Product product = new Product();
+        product.setId(1);
+        product.setPrice(10.0);
+
+        List<OrderLineDTO> lines = List.of(
+                new OrderLineDTO(1, 2),
+                new OrderLineDTO(99, 1),
+                new OrderLineDTO(1, 0),
+                new OrderLineDTO(1, 3));
+
+        when(productRepository.findAllWithReferencesByIdIn(any())).thenReturn(List.of(product));
+        when(orderMapper.createOrderFromProduct(eq(product), anyInt())).thenAnswer(invocation -> {
+            Order order = new Order();
+            order.setProduct(product);
+            order.setQuantity(invocation.getArgument(1));
+            order.setPrice(product.getPrice());
+            order.setTotalPrice(product.getPrice() * (int) invocation.getArgument(1));
+            return order;
+        });
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            for (int i = 0; i < orders.size(); i++) {
+                orders.get(i).setId(100 + i);
+                orders.get(i).setCreatedAt(LocalDateTime.now());
+            }
+            return orders;
+        });
+        when(messageSource.getMessage(anyString(), any(), any())).thenReturn("σφάλμα");
+        when(inventoryService.tryReserve(eq(1), any(), anyInt())).thenReturn(true);
+
+        OrderBatchResultDTO result = orderService.createOrdersBatch(lines);
+
+        assertEquals(2, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(List.of(OrderLineResultDTO.CREATED, OrderLineResultDTO.REJECTED,
+                        OrderLineResultDTO.REJECTED, OrderLineResultDTO.CREATED),
+                result.getLines().stream().map(OrderLineResultDTO::getStatus).toList());
+
+        OrderLineResultDTO last = result.getLines().get(3);
+        assertEquals(3, last.getLine());
+        assertEquals(101, last.getOrderId());
+        assertEquals(30.0, last.getTotalPrice());
+        assertEquals(ErrorCode.PRODUCT_NOT_FOUND.getCode(), result.getLines().get(1).getErrorCode());
+        assertEquals(ErrorCode.INVALID_ORDER_QUANTITY.getCode(), result.getLines().get(2).getErrorCode());
+
+        verify(productRepository, times(1)).findAllWithReferencesByIdIn(argThat(ids -> ids.size() == 2));
+        verify(orderRepository, times(1)).saveAll(anyList());
+        verify(orderRepository, never()).save(any());
+        verify(orderRollupService).addAll(argThat(entries -> entries.size() == 2));
+    }
+
+    @Test
+    void createOrdersBatch_ShouldRejectLinesWithoutStockInProductOrder() {
+        Product first = new Product();
+        first.setId(1);
+        first.setPrice(10.0);
+        Product second = new Product();
+        second.setId(2);
+        second.setPrice(5.0);
+
+        List<OrderLineDTO> lines = List.of(new OrderLineDTO(2, 1), new OrderLineDTO(1, 50), new OrderLineDTO(2, 3));
+
+        when(productRepository.findAllWithReferencesByIdIn(any())).thenReturn(List.of(first, second));
+        when(orderMapper.createOrderFromProduct(any(), anyInt())).thenAnswer(invocation -> new Order());
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inventoryService.tryReserve(eq(2), any(), anyInt())).thenReturn(true);
+        when(inventoryService.tryReserve(eq(1), any(), eq(50))).thenReturn(false);
+
+        OrderBatchResultDTO result = orderService.createOrdersBatch(lines);
+
+        assertEquals(2, result.getCreated());
+        assertEquals(ErrorCode.INSUFFICIENT_STOCK.getCode(), result.getLines().get(1).getErrorCode());
+        var inOrder = inOrder(inventoryService);
+        inOrder.verify(inventoryService).tryReserve(1, null, 50);
+        inOrder.verify(inventoryService).tryReserve(2, null, 1);
+        inOrder.verify(inventoryService).tryReserve(2, null, 3);
+        verify(orderRepository).saveAll(argThat(orders -> {
+            List<Order> saved = new ArrayList<>();
+            orders.forEach(saved::add);
+            return saved.size() == 2 && saved.stream().allMatch(order -> Boolean.TRUE.equals(order.getStockReserved()));
+        }));
+    }
+
+    @Test
+    void createOrder_ShouldReserveStockBeforeSaving() {
+        ProductDTO productDTO = new ProductDTO();
+        Supplier supplier = new Supplier();
+        supplier.setId(7);
+        Order order = new Order();
+        order.setSupplier(supplier);
+
+        when(productService.getProductById(1)).thenReturn(productDTO);
+        when(orderMapper.createOrderFromProductDTO(productDTO, 2)).thenReturn(order);
+        when(orderRepository.save(order)).thenReturn(order);
+
+        orderService.createOrderWithProductAndQuantity(1, 2);
+
+        var inOrder = inOrder(inventoryService, orderRepository);
+        inOrder.verify(inventoryService).reserve(1, 7, 2);
+        inOrder.verify(orderRepository).save(order);
+        assertTrue(order.getStockReserved());
+    }
+
+    @Test
+    void createOrder_ShouldNotSaveWhenStockIsInsufficient() {
+        ProductDTO productDTO = new ProductDTO();
+
+        when(productService.getProductById(1)).thenReturn(productDTO);
+        when(orderMapper.createOrderFromProductDTO(productDTO, 2)).thenReturn(new Order());
+        doThrow(new InvalidRequestException(ErrorCode.INSUFFICIENT_STOCK, 1, 2))
+                .when(inventoryService).reserve(1, null, 2);
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> orderService.createOrderWithProductAndQuantity(1, 2));
+        assertEquals(ErrorCode.INSUFFICIENT_STOCK, exception.getErrorCode());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteOrder_ShouldReleaseReservedStockOnly() {
+        Product product = new Product();
+        product.setId(5);
+        Order reserved = new Order();
+        reserved.setProduct(product);
+        reserved.setQuantity(3);
+        reserved.setStockReserved(true);
+        Order legacy = new Order();
+        legacy.setProduct(product);
+        legacy.setQuantity(4);
+
+        when(orderRepository.findById(1)).thenReturn(Optional.of(reserved));
+        when(orderRepository.findById(2)).thenReturn(Optional.of(legacy));
+
+        orderService.deleteOrder(1);
+        orderService.deleteOrder(2);
+
+        verify(inventoryService).release(5, null, 3);
+        verify(inventoryService, never()).release(5, null, 4);
+    }
+
+    @Test
+    void createOrdersBatch_ShouldRejectEmptyOrOversizedBatch() {
+        batchProperties.setMaxLines(2);
+        List<OrderLineDTO> lines = new ArrayList<>(List.of(new OrderLineDTO(1, 1), new OrderLineDTO(1, 1),
+                new OrderLineDTO(1, 1)));
+
+        InvalidRequestException tooLarge = assertThrows(InvalidRequestException.class,
+                () -> orderService.createOrdersBatch(lines));
+        assertEquals(ErrorCode.INVALID_BATCH_SIZE, tooLarge.getErrorCode());
+        assertThrows(InvalidRequestException.class, () -> orderService.createOrdersBatch(List.of()));
+        verifyNoInteractions(productRepository, orderRepository);
+    }
+
     @Test
     void searchOrders_ShouldReturnOrders() {
         String productName = "TestProduct";
@@ -167,6 +413,30 @@ class OrderImplTest {
         verify(orderRepository).findByProductProductNameContainingIgnoreCase(productName);
     }
 
+    @Test
+    void searchOrders_ShouldLoadOrdersOfProductsFoundInIndex() {
+        List<Order> orders = List.of(new Order());
+
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.matchingProductIds("κινητο", 500)).thenReturn(Set.of(1, 2));
+        when(orderRepository.findByProductIdIn(Set.of(1, 2))).thenReturn(orders);
+        when(orderMapper.toDTO(orders.get(0))).thenReturn(new OrderDTO());
+
+        assertEquals(1, orderService.searchOrders("κινητο").size());
+        verify(orderRepository, never()).findByProductProductNameContainingIgnoreCase(anyString());
+    }
+
+    @Test
+    void searchOrders_ShouldFallBackToDatabaseSearch_WhenTooManyProductsMatch() {
+        searchProperties.setMaxOrderSearchProducts(1);
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.matchingProductIds("κινητο", 1)).thenReturn(Set.of(1, 2));
+        when(orderRepository.findByProductProductNameContainingIgnoreCase("κινητο")).thenReturn(List.of());
+
+        assertTrue(orderService.searchOrders("κινητο").isEmpty());
+        verify(orderRepository, never()).findByProductIdIn(any());
+    }
+
     @Test
     void getAllOrders_ShouldReturnAllOrders() {
         List<Order> orders = List.of(new Order());
@@ -0,0 +1,133 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.OrderDTO;
+import com.example.demo.search.ProductSearchIndex;
+import com.example.demo.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει με τα statistics του Hibernate ότι οι λίστες παραγγελιών εκτελούν ένα μόνο SELECT,
+ * ανεξάρτητα από το πλήθος των παραγγελιών, των προϊόντων και των προμηθευτών.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=order-queries",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("h2")
+class OrderQueryStatementCountTest {
+
+    private static final int SUPPLIERS = 3;
+    private static final int PRODUCTS = 6;
+    private static final int ORDERS = 30;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int firstSupplierId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_rollups");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM suppliers_products");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM suppliers");
+
+        int[] supplierIds = new int[SUPPLIERS];
+        for (int i = 0; i < SUPPLIERS; i++) {
+            jdbcTemplate.update("INSERT INTO suppliers (first_name, last_name, telephone, afm, location) " +
+                    "VALUES (?, 'Παπαδόπουλος', '2100000000', ?, 'Αθήνα')", "Προμηθευτής " + i, "12345678" + i);
+            supplierIds[i] = jdbcTemplate.queryForObject("SELECT MAX(id) FROM suppliers", Integer.class);
+        }
+        firstSupplierId = supplierIds[0];
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Ηλεκτρονικά')");
+        int categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Integer.class);
+
+        int[] productIds = new int[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            jdbcTemplate.update("INSERT INTO products (product_name, category_id, price, supplier_id, quantity, uuid) " +
+                    "VALUES (?, ?, 10.0, ?, 100, ?)", "Κινητό " + i, categoryId, supplierIds[i % SUPPLIERS], "uuid-" + i);
+            productIds[i] = jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Integer.class);
+        }
+        for (int i = 0; i < ORDERS; i++) {
+            jdbcTemplate.update("INSERT INTO orders (id, supplier_id, product_id, quantity, price, total_price, created_at) " +
+                    "VALUES (?, ?, ?, 1, 10.0, 10.0, CURRENT_TIMESTAMP)",
+                    i + 1, supplierIds[i % SUPPLIERS], productIds[i % PRODUCTS]);
+        }
+        productSearchIndex.rebuild();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllOrders_ShouldUseSingleStatement() {
+        List<OrderDTO> orders = countStatements(orderService::getAllOrders);
+
+        assertEquals(ORDERS, orders.size());
+        assertAllReferencesLoaded(orders);
+    }
+
+    @Test
+    void searchOrdersBySupplierId_ShouldUseSingleStatement() {
+        List<OrderDTO> orders = countStatements(() -> orderService.searchOrdersBySupplierId(firstSupplierId));
+
+        assertEquals(ORDERS / SUPPLIERS, orders.size());
+        assertAllReferencesLoaded(orders);
+    }
+
+    @Test
+    void searchOrders_ShouldUseSingleStatement() {
+        List<OrderDTO> orders = countStatements(() -> orderService.searchOrders("κινητο"));
+
+        assertEquals(ORDERS, orders.size());
+        assertAllReferencesLoaded(orders);
+    }
+
+    @Test
+    void getOrderById_ShouldUseSingleStatement() {
+        OrderDTO order = countStatements(() -> orderService.getOrderById(1));
+
+        assertAllReferencesLoaded(List.of(order));
+    }
+
+    private <T> T countStatements(Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        assertEquals(1, statistics.getPrepareStatementCount(), "Πλήθος εντολών SQL");
+        return result;
+    }
+
+    private static void assertAllReferencesLoaded(List<OrderDTO> orders) {
+        for (OrderDTO order : orders) {
+            assertNotNull(order.getSupplier().getFirstName());
+            assertNotNull(order.getProduct().getProductName());
+            assertEquals("Ηλεκτρονικά", order.getProduct().getType());
+            assertNotNull(order.getProduct().getSupplier().getFirstName());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.OrderDTO;
+import com.example.demo.service.OrderRollupRebuildJob;
+import com.example.demo.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει σε πραγματική βάση (H2 στη μνήμη) την ανακατασκευή των συνόλων ενώ άλλα νήματα δημιουργούν, αλλάζουν και
+ * διαγράφουν παραγγελίες: στο τέλος τα σύνολα πρέπει να συμφωνούν ακριβώς με τον πίνακα orders και κατά τη διάρκειά
+ * της οι αναφορές δεν πρέπει να διαβάζουν μηδενικά σύνολα.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=rollup-rebuild",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "app.analytics.rebuild-chunk-size=3"
+})
+@ActiveProfiles("h2")
+class OrderRollupRebuildConcurrencyTest {
+
+    private static final int WRITERS = 4;
+    private static final int INITIAL_ORDERS = 60;
+    private static final int ROUNDS = 2;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRollupRebuildJob orderRollupRebuildJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int supplierId;
+    private final List<Integer> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_rollups");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM suppliers_products");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM suppliers");
+
+        jdbcTemplate.update("INSERT INTO suppliers (first_name, last_name, telephone, afm, location) " +
+                "VALUES ('Γιώργος', 'Παπαδόπουλος', '2100000000', '123456789', 'Αθήνα')");
+        supplierId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM suppliers", Integer.class);
+        productIds.clear();
+        for (String category : List.of("Ηλεκτρονικά", "Βιβλία")) {
+            jdbcTemplate.update("INSERT INTO categories (name) VALUES (?)", category);
+            int categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Integer.class);
+            for (int i = 0; i < 2; i++) {
+                String name = category + " " + i;
+                jdbcTemplate.update("INSERT INTO products (product_name, category_id, price, supplier_id, quantity, uuid) " +
+                        "VALUES (?, ?, 10.0, ?, 1000000, ?)", name, categoryId, supplierId, name);
+                productIds.add(jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Integer.class));
+            }
+        }
+        for (int i = 0; i < INITIAL_ORDERS; i++) {
+            orderService.createOrderWithProductAndQuantity(productIds.get(i % productIds.size()), i % 3 + 1);
+        }
+    }
+
+    @Test
+    void rebuild_ShouldMatchOrdersWhileOrdersAreWritten() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // Σύνολα που έχουν αποκλίνει από τις παραγγελίες, όπως αυτά που διορθώνει η ανακατασκευή
+            jdbcTemplate.update("UPDATE order_rollups SET order_count = order_count + 1000, quantity = quantity + 7");
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger writes = new AtomicInteger();
+            AtomicInteger emptyReads = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                futures.add(executor.submit(() -> writeOrders(running, writes)));
+            }
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    Long total = jdbcTemplate.queryForObject(
+                            "SELECT COALESCE(SUM(order_count), 0) FROM order_rollups WHERE dimension = 'PRODUCT'",
+                            Long.class);
+                    if (total == null || total == 0) {
+                        emptyReads.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+
+            while (writes.get() < WRITERS * 5) {
+                Thread.sleep(5);
+            }
+            int writesBefore = writes.get();
+            orderRollupRebuildJob.run();
+            int writesDuringRebuild = writes.get() - writesBefore;
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+            executor.shutdown();
+
+            assertEquals("COMPLETED", orderRollupRebuildJob.getStatus().getState(),
+                    orderRollupRebuildJob.getStatus().getError());
+            assertTrue(writesDuringRebuild > 0, "Καμία αλλαγή παραγγελίας κατά την ανακατασκευή");
+            assertEquals(0, emptyReads.get(), "Οι αναφορές διάβασαν μηδενικά σύνολα");
+            assertEquals(expectedRollups("product_id", "o.product_id"), actualRollups("PRODUCT"));
+            assertEquals(expectedRollups("supplier_id", "o.supplier_id"), actualRollups("SUPPLIER"));
+            assertEquals(expectedRollups("category_id", "p.category_id"), actualRollups("CATEGORY"));
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_rollups_rebuild", Integer.class));
+        }
+    }
+
+    // Κάθε νήμα δημιουργεί παραγγελίες και αλλάζει ή διαγράφει μόνο τις δικές του, ώστε να μη συγκρούονται.
+    // Η ενημέρωση κρατά το προϊόν, γιατί η αλλαγή προϊόντος κλειδώνει δύο αποθέματα με σειρά που εξαρτάται από την
+    // παραγγελία
+    private Void writeOrders(AtomicBoolean running, AtomicInteger writes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<OrderDTO> own = new ArrayList<>();
+        while (running.get()) {
+            int action = random.nextInt(4);
+            if (own.isEmpty() || action < 2) {
+                int productId = productIds.get(random.nextInt(productIds.size()));
+                own.add(orderService.createOrderWithProductAndQuantity(productId, random.nextInt(1, 4)));
+            } else if (action == 2) {
+                OrderDTO order = own.get(random.nextInt(own.size()));
+                OrderDTO update = new OrderDTO();
+                update.setProductId(order.getProductId());
+                update.setSupplierId(supplierId);
+                update.setQuantity(random.nextInt(1, 4));
+                orderService.updateOrder(order.getId(), update);
+            } else {
+                orderService.deleteOrder(own.remove(random.nextInt(own.size())).getId());
+            }
+            writes.incrementAndGet();
+        }
+        return null;
+    }
+
+    private Map<String, String> expectedRollups(String column, String expression) {
+        Map<String, String> rollups = new TreeMap<>();
+        jdbcTemplate.query("SELECT " + expression + " AS " + column + ", CAST(o.created_at AS DATE) AS bucket_date, " +
+                        "COUNT(*) AS order_count, SUM(o.quantity) AS quantity " +
+                        "FROM orders o JOIN products p ON p.id = o.product_id " +
+                        "GROUP BY " + expression + ", CAST(o.created_at AS DATE)",
+                rs -> {
+                    rollups.put(rs.getInt(column) + "/" + rs.getDate("bucket_date"),
+                            rs.getLong("order_count") + "/" + rs.getLong("quantity"));
+                });
+        return rollups;
+    }
+
+    private Map<String, String> actualRollups(String dimension) {
+        Map<String, String> rollups = new TreeMap<>();
+        jdbcTemplate.query("SELECT dimension_id, bucket_date, order_count, quantity FROM order_rollups " +
+                        "WHERE dimension = ? AND order_count <> 0",
+                rs -> {
+                    rollups.put(rs.getInt("dimension_id") + "/" + rs.getDate("bucket_date"),
+                            rs.getLong("order_count") + "/" + rs.getLong("quantity"));
+                }, dimension);
+        return rollups;
+    }
+}
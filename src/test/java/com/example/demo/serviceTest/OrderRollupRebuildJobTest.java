@@ -0,0 +1,195 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.config.AnalyticsProperties;
+import com.example.demo.dto.RollupRebuildStatusDTO;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderRollupRepository;
+import com.example.demo.repository.OrderRollupSourceView;
+import com.example.demo.service.OrderRollupEntry;
+import com.example.demo.service.OrderRollupRebuildGate;
+import com.example.demo.service.OrderRollupRebuildJob;
+import com.example.demo.service.OrderRollupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderRollupRebuildJobTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+
+    @Mock
+    private OrderRollupService orderRollupService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OrderRollupRebuildGate rebuildGate = new OrderRollupRebuildGate();
+    private AnalyticsProperties properties;
+    private OrderRollupRebuildJob job;
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+        properties = new AnalyticsProperties();
+        properties.setRebuildChunkSize(2);
+        job = new OrderRollupRebuildJob(orderRepository, orderRollupRepository, orderRollupService, rebuildGate,
+                properties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        job.shutdown();
+        mocks.close();
+    }
+
+    @Test
+    void run_ShouldBuildRebuildTableInChunksAndReplaceRollupsAtTheEnd() {
+        when(orderRepository.findMaxId()).thenReturn(5);
+        when(orderRepository.findRollupSourceChunk(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(row(1), row(2)));
+        when(orderRepository.findRollupSourceChunk(eq(2), any(Pageable.class)))
+                .thenReturn(List.of(row(4), row(5)));
+        when(orderRepository.findRollupSourceChunk(eq(5), any(Pageable.class))).thenReturn(List.of());
+
+        job.run();
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(orderRepository, times(3)).findRollupSourceChunk(anyInt(), pageable.capture());
+        assertEquals(2, pageable.getValue().getPageSize());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderRollupEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(orderRollupService, times(2)).addAllToRebuild(entries.capture());
+        verify(orderRollupService, never()).addAll(anyList());
+        List<OrderRollupEntry> all = new ArrayList<>();
+        entries.getAllValues().forEach(all::addAll);
+        assertEquals(4, all.size());
+        assertEquals(7, all.get(0).categoryId());
+        assertEquals(5, all.get(3).orderId());
+
+        // Τα σύνολα αντικαθίστανται μόνο αφού διαβαστούν όλες οι παραγγελίες
+        InOrder inOrder = inOrder(orderRollupRepository, orderRollupService);
+        inOrder.verify(orderRollupRepository).clearRebuild();
+        inOrder.verify(orderRollupService, times(2)).addAllToRebuild(anyList());
+        inOrder.verify(orderRollupRepository).deleteAllInBatch();
+        inOrder.verify(orderRollupRepository).copyFromRebuild();
+        inOrder.verify(orderRollupRepository).clearRebuild();
+
+        RollupRebuildStatusDTO status = job.getStatus();
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(4, status.getProcessedOrders());
+        assertEquals(2, status.getChunks());
+        assertEquals(5, status.getLastOrderId());
+        assertEquals(-1, rebuiltUpToId());
+    }
+
+    @Test
+    void run_ShouldReadOrdersCreatedAfterStart() {
+        when(orderRepository.findMaxId()).thenReturn(2);
+        when(orderRepository.findRollupSourceChunk(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(row(1), row(2)));
+        when(orderRepository.findRollupSourceChunk(eq(2), any(Pageable.class))).thenReturn(List.of(row(3)));
+
+        job.run();
+
+        assertEquals(3, job.getStatus().getProcessedOrders());
+        assertEquals(3, job.getStatus().getLastOrderId());
+        assertEquals(2, job.getStatus().getMaxOrderId());
+    }
+
+    @Test
+    void run_ShouldReplaceRollupsWithoutOrders() {
+        when(orderRepository.findMaxId()).thenReturn(null);
+
+        job.run();
+
+        verify(orderRollupRepository).deleteAllInBatch();
+        verify(orderRollupRepository).copyFromRebuild();
+        verify(orderRollupService, never()).addAllToRebuild(anyList());
+        assertEquals("COMPLETED", job.getStatus().getState());
+    }
+
+    @Test
+    void run_ShouldReportFailure() {
+        when(orderRepository.findMaxId()).thenReturn(5);
+        when(orderRepository.findRollupSourceChunk(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(row(1), row(2)));
+        when(orderRepository.findRollupSourceChunk(eq(2), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("db down"));
+
+        job.run();
+
+        RollupRebuildStatusDTO status = job.getStatus();
+        assertEquals("FAILED", status.getState());
+        assertEquals("db down", status.getError());
+        assertNotNull(status.getFinishedAt());
+        // Οι αλλαγές παραγγελιών σταματούν να γράφονται στον σκιώδη πίνακα και τα σύνολα μένουν ως είχαν
+        assertEquals(-1, rebuiltUpToId());
+        verify(orderRollupRepository, never()).deleteAllInBatch();
+    }
+
+    private int rebuiltUpToId() {
+        AtomicInteger rebuiltUpToId = new AtomicInteger();
+        rebuildGate.runShared(rebuiltUpToId::set);
+        return rebuiltUpToId.get();
+    }
+
+    private static OrderRollupSourceView row(int id) {
+        return new OrderRollupSourceView() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return LocalDateTime.of(2024, 1, id, 12, 0);
+            }
+
+            @Override
+            public Integer getProductId() {
+                return 3;
+            }
+
+            @Override
+            public Integer getSupplierId() {
+                return 5;
+            }
+
+            @Override
+            public Integer getCategoryId() {
+                return 7;
+            }
+
+            @Override
+            public Integer getQuantity() {
+                return 1;
+            }
+
+            @Override
+            public Double getTotalPrice() {
+                return 10.0;
+            }
+        };
+    }
+}
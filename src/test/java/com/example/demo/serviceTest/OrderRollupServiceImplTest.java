@@ -0,0 +1,203 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.model.Order;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductCategory;
+import com.example.demo.model.Supplier;
+import com.example.demo.repository.OrderRollupRepository;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.OrderRollupEntry;
+import com.example.demo.service.OrderRollupRebuildGate;
+import com.example.demo.service.OrderRollupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderRollupServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 15);
+    private static final int ORDER_ID = 7;
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private OrderRollupRebuildGate rebuildGate = new OrderRollupRebuildGate();
+
+    @InjectMocks
+    private OrderRollupServiceImpl orderRollupService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void capture_ShouldReadIdsAndCategoryOfOrder() {
+        when(productRepository.findCategoryIdById(10)).thenReturn(30);
+
+        OrderRollupEntry entry = orderRollupService.capture(order(10, 20, 3, 45.0));
+
+        assertEquals(new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 3, 45.0), entry);
+    }
+
+    @Test
+    void capture_ShouldUseLoadedCategoryWithoutQuery() {
+        Order order = order(10, 20, 3, 45.0);
+        ProductCategory category = new ProductCategory();
+        category.setId(31);
+        order.getProduct().setCategory(category);
+
+        OrderRollupEntry entry = orderRollupService.capture(order);
+
+        assertEquals(new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 31, 3, 45.0), entry);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void capture_ShouldReturnNullForOrderWithoutProduct() {
+        assertNull(orderRollupService.capture(new Order()));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void recordCreated_ShouldIncrementEveryDimensionInFixedOrder() {
+        when(productRepository.findCategoryIdById(10)).thenReturn(30);
+
+        orderRollupService.recordCreated(order(10, 20, 3, 45.0));
+
+        InOrder inOrder = inOrder(orderRollupRepository);
+        inOrder.verify(orderRollupRepository).upsert("PRODUCT", 10, DAY, 1, 3, 45.0);
+        inOrder.verify(orderRollupRepository).upsert("SUPPLIER", 20, DAY, 1, 3, 45.0);
+        inOrder.verify(orderRollupRepository).upsert("CATEGORY", 30, DAY, 1, 3, 45.0);
+        verifyNoMoreInteractions(orderRollupRepository);
+    }
+
+    @Test
+    void recordUpdated_ShouldApplyOnlyTheDifference() {
+        when(productRepository.findCategoryIdById(10)).thenReturn(30);
+        OrderRollupEntry before = new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 3, 45.0);
+
+        orderRollupService.recordUpdated(before, order(10, 20, 5, 75.0));
+
+        verify(orderRollupRepository).upsert("PRODUCT", 10, DAY, 0, 2, 30.0);
+        verify(orderRollupRepository).upsert("SUPPLIER", 20, DAY, 0, 2, 30.0);
+        verify(orderRollupRepository).upsert("CATEGORY", 30, DAY, 0, 2, 30.0);
+        verifyNoMoreInteractions(orderRollupRepository);
+    }
+
+    @Test
+    void recordUpdated_ShouldMoveContributionToNewProduct() {
+        when(productRepository.findCategoryIdById(11)).thenReturn(30);
+        OrderRollupEntry before = new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 3, 45.0);
+
+        orderRollupService.recordUpdated(before, order(11, 20, 3, 45.0));
+
+        verify(orderRollupRepository).upsert("PRODUCT", 10, DAY, -1, -3, -45.0);
+        verify(orderRollupRepository).upsert("PRODUCT", 11, DAY, 1, 3, 45.0);
+        // Ο προμηθευτής και η κατηγορία δεν αλλάζουν, οπότε δεν εκτελείται κανένα statement γι' αυτά
+        verify(orderRollupRepository, never()).upsert(eq("SUPPLIER"), anyInt(), any(), anyLong(), anyLong(), anyDouble());
+        verify(orderRollupRepository, never()).upsert(eq("CATEGORY"), anyInt(), any(), anyLong(), anyLong(), anyDouble());
+    }
+
+    @Test
+    void recordDeleted_ShouldDecrementEveryDimension() {
+        orderRollupService.recordDeleted(new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 3, 45.0));
+
+        verify(orderRollupRepository).upsert("PRODUCT", 10, DAY, -1, -3, -45.0);
+        verify(orderRollupRepository).upsert("SUPPLIER", 20, DAY, -1, -3, -45.0);
+        verify(orderRollupRepository).upsert("CATEGORY", 30, DAY, -1, -3, -45.0);
+    }
+
+    @Test
+    void addAll_ShouldMergeEntriesOfTheSameBucket() {
+        orderRollupService.addAll(List.of(
+                new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 1, 10.0),
+                new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 2, 20.0),
+                new OrderRollupEntry(ORDER_ID, DAY.plusDays(1), 10, 20, 30, 4, 40.0)));
+
+        verify(orderRollupRepository).upsert("PRODUCT", 10, DAY, 2, 3, 30.0);
+        verify(orderRollupRepository).upsert("PRODUCT", 10, DAY.plusDays(1), 1, 4, 40.0);
+        verify(orderRollupRepository, times(6)).upsert(anyString(), anyInt(), any(), anyLong(), anyLong(), anyDouble());
+    }
+
+    @Test
+    void recordCreated_ShouldNotTouchRebuildTableWithoutRebuild() {
+        orderRollupService.recordCreated(order(10, 20, 3, 45.0));
+
+        verify(orderRollupRepository, never()).upsertRebuild(anyString(), anyInt(), any(), anyLong(), anyLong(), anyDouble());
+    }
+
+    @Test
+    void recordUpdated_ShouldAlsoUpdateRebuildTableForOrdersAlreadyRebuilt() {
+        when(productRepository.findCategoryIdById(10)).thenReturn(30);
+        rebuiltUpTo(ORDER_ID);
+
+        orderRollupService.recordUpdated(new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 3, 45.0),
+                order(10, 20, 5, 75.0));
+
+        verify(orderRollupRepository).upsert("PRODUCT", 10, DAY, 0, 2, 30.0);
+        verify(orderRollupRepository).upsertRebuild("PRODUCT", 10, DAY, 0, 2, 30.0);
+        verify(orderRollupRepository).upsertRebuild("SUPPLIER", 20, DAY, 0, 2, 30.0);
+        verify(orderRollupRepository).upsertRebuild("CATEGORY", 30, DAY, 0, 2, 30.0);
+    }
+
+    @Test
+    void addAll_ShouldLeaveOrdersNotYetRebuiltToTheRebuild() {
+        rebuiltUpTo(ORDER_ID);
+
+        orderRollupService.addAll(List.of(
+                new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 1, 10.0),
+                new OrderRollupEntry(ORDER_ID + 1, DAY, 10, 20, 30, 2, 20.0)));
+
+        verify(orderRollupRepository).upsert("PRODUCT", 10, DAY, 2, 3, 30.0);
+        verify(orderRollupRepository).upsertRebuild("PRODUCT", 10, DAY, 1, 1, 10.0);
+        verify(orderRollupRepository, times(3)).upsertRebuild(anyString(), anyInt(), any(), anyLong(), anyLong(), anyDouble());
+    }
+
+    @Test
+    void addAllToRebuild_ShouldWriteOnlyTheRebuildTable() {
+        orderRollupService.addAllToRebuild(List.of(new OrderRollupEntry(ORDER_ID, DAY, 10, 20, 30, 1, 10.0)));
+
+        verify(orderRollupRepository).upsertRebuild("PRODUCT", 10, DAY, 1, 1, 10.0);
+        verify(orderRollupRepository, never()).upsert(anyString(), anyInt(), any(), anyLong(), anyLong(), anyDouble());
+    }
+
+    private void rebuiltUpTo(int orderId) {
+        rebuildGate.runExclusive(() -> {
+            rebuildGate.setRebuiltUpToId(orderId);
+            return null;
+        });
+    }
+
+    private static Order order(int productId, int supplierId, int quantity, double totalPrice) {
+        Product product = new Product();
+        product.setId(productId);
+        Supplier supplier = new Supplier();
+        supplier.setId(supplierId);
+
+        Order order = new Order();
+        order.setId(ORDER_ID);
+        order.setProduct(product);
+        order.setSupplier(supplier);
+        order.setQuantity(quantity);
+        order.setTotalPrice(totalPrice);
+        order.setCreatedAt(DAY.atTime(10, 30));
+        return order;
+    }
+}
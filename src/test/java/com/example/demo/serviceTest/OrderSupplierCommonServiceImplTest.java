@@ -3,7 +3,12 @@ package com.example.demo.serviceTest;
 import com.example.demo.dto.OrderDTO;
 import com.example.demo.mapper.OrderMapper;
 import com.example.demo.model.Order;
+import com.example.demo.model.Product;
+import com.example.demo.model.Supplier;
 import com.example.demo.repository.OrderRepository;
+import com.example.demo.service.InventoryService;
+import com.example.demo.service.OrderRollupEntry;
+import com.example.demo.service.OrderRollupService;
 import com.example.demo.service.OrderSupplierCommonServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -27,9 +33,15 @@ class OrderSupplierCommonServiceImplTest {
     @Mock
     private OrderMapper orderMapper;
 
+    @Mock
+    private OrderRollupService orderRollupService;
+
     @InjectMocks
     private OrderSupplierCommonServiceImpl orderSupplierCommonService;
 
+    @Mock
+    private InventoryService inventoryService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -82,6 +94,18 @@ class OrderSupplierCommonServiceImplTest {
         verify(orderMapper, times(2)).toDTO(any(Order.class));
     }
 
+    @Test
+    void getDailyTurnover_ShouldQueryWholeDaysOfTheRange() {
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 1, 31);
+
+        orderSupplierCommonService.getDailyTurnover(1, startDate, endDate);
+
+        verify(orderRepository, times(1)).findDailyTurnover(1,
+                LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 2, 1, 0, 0));
+        verifyNoInteractions(orderMapper);
+    }
+
     @Test
     void deleteOrder_ShouldDeleteOrderById() {
         // Εκτέλεση
@@ -90,4 +114,38 @@ class OrderSupplierCommonServiceImplTest {
         // Έλεγχοι
         verify(orderRepository, times(1)).deleteById(1);
     }
+
+    @Test
+    void deleteOrder_ShouldRemoveOrderFromRollups() {
+        Order order = new Order();
+        OrderRollupEntry entry = new OrderRollupEntry(1, LocalDate.of(2023, 1, 1), 1, 1, 1, 1, 10.0);
+
+        when(orderRepository.findById(1)).thenReturn(Optional.of(order));
+        when(orderRollupService.capture(order)).thenReturn(entry);
+
+        orderSupplierCommonService.deleteOrder(1);
+
+        verify(orderRollupService).recordDeleted(entry);
+        verify(orderRepository).deleteById(1);
+    }
+
+    @Test
+    void deleteOrder_ShouldReleaseReservedStock() {
+        Product product = new Product();
+        product.setId(4);
+        Supplier supplier = new Supplier();
+        supplier.setId(2);
+        Order order = new Order();
+        order.setProduct(product);
+        order.setSupplier(supplier);
+        order.setQuantity(6);
+        order.setStockReserved(true);
+
+        when(orderRepository.findById(1)).thenReturn(Optional.of(order));
+
+        orderSupplierCommonService.deleteOrder(1);
+
+        verify(inventoryService).release(4, 2, 6);
+        verify(orderRepository).deleteById(1);
+    }
 }
@@ -0,0 +1,95 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.repository.UserPasswordView;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.PasswordProperties;
+import com.example.demo.service.PasswordMigrationJob;
+import com.example.demo.service.PasswordService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PasswordMigrationJobTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordService passwordService;
+
+    @Spy
+    private PasswordProperties properties = new PasswordProperties();
+
+    @InjectMocks
+    private PasswordMigrationJob passwordMigrationJob;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        properties.setMigrationBatchSize(2);
+    }
+
+    @Test
+    void run_ShouldRehashLegacyPasswordsInBatches() {
+        when(userRepository.findLegacyPasswords(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(row(1, "aes-1"), row(2, "aes-2")));
+        when(userRepository.findLegacyPasswords(eq(2), any(Pageable.class)))
+                .thenReturn(List.of(row(5, "aes-5")));
+        when(userRepository.findLegacyPasswords(eq(5), any(Pageable.class))).thenReturn(List.of());
+        when(passwordService.rehashLegacy(anyString())).thenAnswer(invocation -> "$2a$10$" + invocation.getArgument(0));
+        when(userRepository.replacePassword(anyInt(), anyString(), anyString())).thenReturn(1);
+
+        assertEquals(3, passwordMigrationJob.run());
+
+        verify(userRepository).replacePassword(1, "aes-1", "$2a$10$aes-1");
+        verify(userRepository).replacePassword(2, "aes-2", "$2a$10$aes-2");
+        verify(userRepository).replacePassword(5, "aes-5", "$2a$10$aes-5");
+    }
+
+    @Test
+    void run_ShouldSkipUndecryptablePasswordsAndContinue() {
+        when(userRepository.findLegacyPasswords(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(row(1, "corrupt"), row(2, "aes-2")));
+        when(userRepository.findLegacyPasswords(eq(2), any(Pageable.class))).thenReturn(List.of());
+        when(passwordService.rehashLegacy("corrupt")).thenThrow(new IllegalStateException("bad padding"));
+        when(passwordService.rehashLegacy("aes-2")).thenReturn("$2a$10$hash");
+        when(userRepository.replacePassword(2, "aes-2", "$2a$10$hash")).thenReturn(1);
+
+        assertEquals(1, passwordMigrationJob.run());
+        verify(userRepository, never()).replacePassword(eq(1), anyString(), anyString());
+    }
+
+    @Test
+    void run_ShouldNotCountPasswordsChangedByConcurrentLogin() {
+        when(userRepository.findLegacyPasswords(eq(0), any(Pageable.class))).thenReturn(List.of(row(1, "aes-1")));
+        when(userRepository.findLegacyPasswords(eq(1), any(Pageable.class))).thenReturn(List.of());
+        when(passwordService.rehashLegacy("aes-1")).thenReturn("$2a$10$hash");
+        when(userRepository.replacePassword(1, "aes-1", "$2a$10$hash")).thenReturn(0);
+
+        assertEquals(0, passwordMigrationJob.run());
+    }
+
+    private static UserPasswordView row(Integer id, String password) {
+        return new UserPasswordView() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public String getPassword() {
+                return password;
+            }
+        };
+    }
+}
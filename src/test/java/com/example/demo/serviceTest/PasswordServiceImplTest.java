@@ -0,0 +1,94 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.AESEncryptionUtil;
+import com.example.demo.service.PasswordServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PasswordServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordServiceImpl passwordService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        passwordEncoder = new BCryptPasswordEncoder(5);
+        passwordService = new PasswordServiceImpl(passwordEncoder, userRepository);
+        when(userRepository.replacePassword(anyInt(), anyString(), anyString())).thenReturn(1);
+    }
+
+    @Test
+    void authenticate_ShouldAcceptLegacyPasswordAndRehashIt() throws Exception {
+        String legacy = AESEncryptionUtil.encrypt("password123");
+        User user = user(legacy);
+
+        assertTrue(passwordService.authenticate(user, "password123"));
+
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).replacePassword(eq(1), eq(legacy), hash.capture());
+        assertTrue(passwordEncoder.matches("password123", hash.getValue()));
+        assertEquals(hash.getValue(), user.getPassword());
+    }
+
+    @Test
+    void authenticate_ShouldRejectWrongLegacyPasswordWithoutRehash() throws Exception {
+        User user = user(AESEncryptionUtil.encrypt("password123"));
+
+        assertFalse(passwordService.authenticate(user, "wrong"));
+        verify(userRepository, never()).replacePassword(anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    void authenticate_ShouldAcceptCurrentHashWithoutRehash() {
+        User user = user(passwordEncoder.encode("password123"));
+
+        assertTrue(passwordService.authenticate(user, "password123"));
+        assertFalse(passwordService.authenticate(user, "wrong"));
+        verify(userRepository, never()).replacePassword(anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    void authenticate_ShouldRehashWhenStrengthWasRaised() {
+        String weak = new BCryptPasswordEncoder(4).encode("password123");
+        User user = user(weak);
+
+        assertTrue(passwordService.authenticate(user, "password123"));
+        verify(userRepository).replacePassword(eq(1), eq(weak), startsWith("$2a$05$"));
+    }
+
+    @Test
+    void authenticate_ShouldSucceedEvenIfRehashFails() throws Exception {
+        when(userRepository.replacePassword(anyInt(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException("db down"));
+        User user = user(AESEncryptionUtil.encrypt("password123"));
+
+        assertTrue(passwordService.authenticate(user, "password123"));
+    }
+
+    @Test
+    void rehashLegacy_ShouldFailForUndecryptablePassword() {
+        assertThrows(IllegalStateException.class, () -> passwordService.rehashLegacy("not-aes"));
+    }
+
+    private static User user(String password) {
+        User user = new User();
+        user.setId(1);
+        user.setUsername("john_doe");
+        user.setPassword(password);
+        return user;
+    }
+}
@@ -4,7 +4,9 @@ import com.example.demo.dto.ProductCategoryDTO;
 import com.example.demo.mapper.ProductCategoryMapper;
 import com.example.demo.model.ProductCategory;
 import com.example.demo.repository.ProductCategoryRepository;
+import com.example.demo.search.ProductSearchIndex;
 import com.example.demo.service.ProductCategoryImpl;
+import com.example.demo.service.ReferenceDataCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -27,6 +29,12 @@ class ProductCategoryImplTest {
     @Mock
     private ProductCategoryMapper productCategoryMapper;
 
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -141,6 +149,7 @@ class ProductCategoryImplTest {
         assertNotNull(result);
         assertEquals("Updated Category", result.getName());
         verify(productCategoryRepository).save(existingCategory);
+        verify(productSearchIndex).renameCategory(id, "Updated Category");
     }
 
     @Test
@@ -159,5 +168,6 @@ class ProductCategoryImplTest {
 
         // Έλεγχοι
         verify(productCategoryRepository).deleteById(id);
+        verify(referenceDataCache).evictCategory(id);
     }
 }
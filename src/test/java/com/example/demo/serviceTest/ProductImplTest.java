@@ -1,20 +1,35 @@
 package com.example.demo.serviceTest;
 
+import com.example.demo.config.PaginationProperties;
+import com.example.demo.config.SearchProperties;
+import com.example.demo.config.SingleFlightProperties;
 import com.example.demo.dto.ProductDTO;
+import com.example.demo.dto.ProductPageDTO;
 import com.example.demo.dto.SupplierDTO;
+import com.example.demo.exception.InvalidRequestException;
 import com.example.demo.mapper.ProductMapper;
 import com.example.demo.model.Product;
 import com.example.demo.model.ProductCategory;
 import com.example.demo.model.Supplier;
 import com.example.demo.repository.ProductRepository;
+import com.example.demo.pagination.KeysetCursor;
+import com.example.demo.search.ProductSearchIndex;
+import com.example.demo.service.InventoryService;
 import com.example.demo.service.ProductImpl;
+import com.example.demo.service.SingleFlight;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -29,6 +44,27 @@ class ProductImplTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties();
+
+    @Spy
+    private SingleFlight<Integer, ProductDTO> productLookups = new SingleFlight<>("products", new SingleFlightProperties());
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -85,6 +121,7 @@ class ProductImplTest {
         assertEquals(10, result.getQuantity());
         assertEquals("uuid-12345", result.getUuid());
         verify(productRepository).save(product);
+        verify(productSearchIndex).refresh(1);
     }
 
     @Test
@@ -143,12 +180,13 @@ class ProductImplTest {
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
         when(productMapper.toDTO(product)).thenReturn(productDTO);
 
-        //ProductDTO result = productService.getProductById(productId);
+        ProductDTO result = productService.getProductById(productId);
 
-        //assertNotNull(result);
-        //assertEquals("Tablet", result.getProductName());
-       // assertEquals("Category B", result.getType());
-       // verify(productRepository).findById(productId);
+        assertNotNull(result);
+        assertEquals("Tablet", result.getProductName());
+        assertEquals("Category B", result.getType());
+        verify(productRepository).findById(productId);
+        verify(productLookups).load(eq(productId), any());
     }
 
     @Test
@@ -193,6 +231,8 @@ class ProductImplTest {
         assertEquals(20, result.getQuantity());
         assertEquals("uuid-22222", result.getUuid());
         verify(productRepository).save(existingProduct);
+        verify(inventoryService).evict(productId);
+        verify(productSearchIndex).refresh(productId);
     }
 
     @Test
@@ -205,6 +245,7 @@ class ProductImplTest {
         productService.deleteProduct(productId);
 
         verify(productRepository).deleteById(productId);
+        verify(productSearchIndex).remove(productId);
     }
 
     @Test
@@ -239,4 +280,97 @@ class ProductImplTest {
         verify(productRepository).findByProductNameContainingIgnoreCase(name);
     }
 
+    @Test
+    void searchProductsByName_ShouldReturnIndexResultsInRankedOrder() {
+        Product first = new Product();
+        first.setId(7);
+        Product second = new Product();
+        second.setId(3);
+        ProductDTO firstDTO = new ProductDTO();
+        firstDTO.setId(7);
+        ProductDTO secondDTO = new ProductDTO();
+        secondDTO.setId(3);
+
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search("κινητο", 50)).thenReturn(List.of(7, 3));
+        when(productRepository.findAllWithReferencesByIdIn(List.of(7, 3))).thenReturn(List.of(second, first));
+        when(productMapper.toDTO(first)).thenReturn(firstDTO);
+        when(productMapper.toDTO(second)).thenReturn(secondDTO);
+
+        List<ProductDTO> result = productService.searchProductsByName("κινητο");
+
+        assertEquals(List.of(7, 3), result.stream().map(ProductDTO::getId).toList());
+        verify(productRepository, never()).findByProductNameContainingIgnoreCase(anyString());
+    }
+
+    @Test
+    void searchProductsByName_ShouldNotQueryDatabaseWhenIndexHasNoMatches() {
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search("xyz", 50)).thenReturn(List.of());
+
+        assertTrue(productService.searchProductsByName("xyz").isEmpty());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getProductsPage_ShouldReturnPageWithNextCursor() {
+        paginationProperties.setDefaultSize(2);
+        Product first = new Product();
+        first.setId(1);
+        Product second = new Product();
+        second.setId(2);
+        Product third = new Product();
+        third.setId(3);
+
+        // Ζητούνται size + 1 εγγραφές για να βρεθεί αν υπάρχει επόμενη σελίδα
+        when(productRepository.findPageAfterId(0, PageRequest.of(0, 3))).thenReturn(List.of(first, second, third));
+        when(productMapper.toDTO(any(Product.class))).thenReturn(new ProductDTO());
+
+        ProductPageDTO page = productService.getProductsPage(null, null);
+
+        assertEquals(2, page.getSize());
+        assertEquals(2, page.getItems().size());
+        assertEquals(2, KeysetCursor.decode(page.getNextCursor()));
+        verify(productMapper, times(2)).toDTO(any(Product.class));
+    }
+
+    @Test
+    void getProductsPage_ShouldContinueFromCursorAndClampLimit() {
+        paginationProperties.setMaxSize(10);
+        Product last = new Product();
+        last.setId(42);
+
+        when(productRepository.findPageAfterId(41, PageRequest.of(0, 11))).thenReturn(List.of(last));
+        when(productMapper.toDTO(last)).thenReturn(new ProductDTO());
+
+        ProductPageDTO page = productService.getProductsPage(KeysetCursor.encode(41), 1000);
+
+        assertEquals(1, page.getSize());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getProductsPage_ShouldRejectInvalidCursor() {
+        assertThrows(InvalidRequestException.class, () -> productService.getProductsPage("not-a-cursor", 10));
+        verify(productRepository, never()).findPageAfterId(anyInt(), any());
+    }
+
+    @Test
+    void streamAllProducts_ShouldMapAndDetachEveryProduct() {
+        Product first = new Product();
+        Product second = new Product();
+        ProductDTO firstDTO = new ProductDTO();
+        ProductDTO secondDTO = new ProductDTO();
+
+        when(productRepository.streamAllBy()).thenReturn(Stream.of(first, second));
+        when(productMapper.toDTO(first)).thenReturn(firstDTO);
+        when(productMapper.toDTO(second)).thenReturn(secondDTO);
+
+        List<ProductDTO> received = new ArrayList<>();
+        productService.streamAllProducts(received::add);
+
+        assertEquals(List.of(firstDTO, secondDTO), received);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
 }
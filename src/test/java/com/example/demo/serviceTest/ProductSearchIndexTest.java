@@ -0,0 +1,164 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.repository.ProductSearchView;
+import com.example.demo.search.ProductSearchIndex;
+import com.example.demo.search.TextFolding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(productRepository.findAllSearchViews()).thenReturn(List.of(
+                view(1, "Κινητό τηλέφωνο", 10, "Ηλεκτρονικά"),
+                view(2, "Θήκη κινητού", 20, "Αξεσουάρ"),
+                view(3, "Κινητό", 10, "Ηλεκτρονικά"),
+                view(4, "Ακουστικά", 10, "Ηλεκτρονικά"),
+                view(5, "Ψυγείο", null, null)));
+        index.rebuild();
+    }
+
+    @Test
+    void fold_ShouldIgnoreCaseAccentsAndFinalSigma() {
+        assertEquals("κινητοσ", TextFolding.fold("ΚΙΝΗΤΌΣ"));
+        assertEquals("κινητοσ", TextFolding.fold("κινητός"));
+        assertEquals("θηκη κινητου", TextFolding.fold("  Θήκη -- κινητού! "));
+        assertEquals("", TextFolding.fold(null));
+    }
+
+    @Test
+    void rebuild_ShouldLoadProductsFromRepository() {
+        assertTrue(index.isReady());
+        verify(productRepository).findAllSearchViews();
+    }
+
+    @Test
+    void search_ShouldRankExactMatchThenPrefixThenContains() {
+        assertEquals(List.of(3, 1, 2), index.search("ΚΙΝΗΤΟ", 10));
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertEquals(List.of(3, 1), index.search("κινητ", 2));
+    }
+
+    @Test
+    void search_ShouldMatchShortQueries() {
+        assertEquals(List.of(3, 1, 2), index.search("κι", 10));
+        assertEquals(List.of(5), index.search("ψ", 10));
+    }
+
+    @Test
+    void search_ShouldMatchCategoryNames() {
+        assertEquals(List.of(3, 4, 1), index.search("ηλεκτρονικα", 10));
+    }
+
+    @Test
+    void search_ShouldRequireEveryWord() {
+        assertEquals(List.of(1), index.search("κινητο τηλεφ", 10));
+        assertEquals(List.of(2), index.search("κινητου αξεσουαρ", 10));
+        assertTrue(index.search("κινητο ψυγειο", 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldReturnEmptyForBlankOrUnknownQuery() {
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertTrue(index.search("λάπτοπ", 10).isEmpty());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousNameOfProduct() {
+        index.put(view(4, "Ηχεία", 10, "Ηλεκτρονικά"));
+
+        assertTrue(index.search("ακουστικα", 10).isEmpty());
+        assertEquals(List.of(4), index.search("ηχεια", 10));
+    }
+
+    @Test
+    void remove_ShouldDropProductFromResults() {
+        index.remove(3);
+
+        assertEquals(List.of(1, 2), index.search("κινητο", 10));
+    }
+
+    @Test
+    void renameCategory_ShouldUpdateProductsOfCategory() {
+        index.renameCategory(10, "Συσκευές");
+
+        assertTrue(index.search("ηλεκτρονικα", 10).isEmpty());
+        assertEquals(Set.of(1, 3, 4), Set.copyOf(index.search("συσκευες", 10)));
+    }
+
+    @Test
+    void refresh_ShouldIndexProductWithCategoryNameFromRepository() {
+        when(productRepository.findSearchViewById(6)).thenReturn(Optional.of(view(6, "Ηχείο", 10, "Ηλεκτρονικά")));
+
+        index.refresh(6);
+
+        assertTrue(index.search("ηλεκτρονικα", 10).contains(6));
+        assertEquals(List.of(6), index.search("ηχειο", 10));
+    }
+
+    @Test
+    void refresh_ShouldRemoveProductMissingFromRepository() {
+        when(productRepository.findSearchViewById(3)).thenReturn(Optional.empty());
+
+        index.refresh(3);
+
+        assertEquals(List.of(1, 2), index.search("κινητο", 10));
+    }
+
+    @Test
+    void matchingProductIds_ShouldMatchProductNamesOnly() {
+        assertEquals(Set.of(1, 2, 3), index.matchingProductIds("κινητο", 10));
+        assertTrue(index.matchingProductIds("ηλεκτρονικα", 10).isEmpty());
+    }
+
+    @Test
+    void matchingProductIds_ShouldStopAfterLimit() {
+        assertEquals(2, index.matchingProductIds("κινητο", 1).size());
+    }
+
+    private static ProductSearchView view(Integer id, String productName, Integer categoryId, String categoryName) {
+        return new ProductSearchView() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public String getProductName() {
+                return productName;
+            }
+
+            @Override
+            public Integer getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return categoryName;
+            }
+        };
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.config.ReplicaLagGuard;
+import com.example.demo.dto.SupplierDTO;
+import com.example.demo.dto.UserRoleDTO;
+import com.example.demo.model.Supplier;
+import com.example.demo.service.CustomUserDetailsService;
+import com.example.demo.service.ProductService;
+import com.example.demo.service.ReferenceDataCache;
+import com.example.demo.service.SupplierService;
+import com.example.demo.service.UserPrincipalCache;
+import com.example.demo.service.UserRoleService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει τη δρομολόγηση με δύο βάσεις H2 στη μνήμη, μία κύρια και μία ως replica με το ίδιο σχήμα αλλά
+ * διαφορετικά δεδομένα, ώστε να φαίνεται από πού διάβασε κάθε μέθοδος. Η αναπαραγωγή δεν υπάρχει, οπότε ο
+ * παλμός στο replica γράφεται από το test.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=routing-primary",
+        "app.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password=",
+        "app.datasource.replica.max-lag=5s",
+        "app.datasource.replica.check-interval=1h"
+})
+@ActiveProfiles("h2")
+class ReplicaRoutingTest {
+
+    // Ο ίδιος προμηθευτής υπάρχει και στις δύο βάσεις, με διαφορετικό όνομα
+    private static final int SUPPLIER_ID = 1000;
+    private static final String USERNAME = "routing-user";
+
+    @Autowired
+    private SupplierService supplierService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserRoleService userRoleService;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ReplicaLagGuard replicaLagGuard;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        // Το replica παίρνει το σχήμα της κύριας βάσης, όπως θα το έπαιρνε μέσω της αναπαραγωγής
+        if (replica.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES " +
+                "WHERE TABLE_NAME = 'SUPPLIERS'", Integer.class) == 0) {
+            for (String statement : primary.queryForList("SCRIPT NODATA NOSETTINGS", String.class)) {
+                if (!statement.startsWith("CREATE USER")) {
+                    replica.execute(statement);
+                }
+            }
+        }
+        for (JdbcTemplate database : List.of(primary, replica)) {
+            database.update("DELETE FROM orders");
+            database.update("DELETE FROM suppliers_products");
+            database.update("DELETE FROM products");
+            database.update("DELETE FROM suppliers");
+            database.update("DELETE FROM user_roles");
+            database.update("DELETE FROM customers");
+            database.update("DELETE FROM users");
+        }
+        insertSupplier(primary, "Κύρια", "111111111");
+        insertSupplier(replica, "Αντίγραφο", "222222222");
+
+        // Ο χρήστης και ο ρόλος υπάρχουν μόνο στην κύρια βάση: δεν έχουν φτάσει ακόμα στο replica
+        primary.update("INSERT INTO users (username, email, password, created_at) " +
+                "VALUES (?, 'routing@example.com', 'x', CURRENT_TIMESTAMP)", USERNAME);
+        if (primary.queryForObject("SELECT COUNT(*) FROM roles WHERE name = 'ROLE_USER'", Integer.class) == 0) {
+            primary.update("INSERT INTO roles (name) VALUES ('ROLE_USER')");
+        }
+        replica.update("DELETE FROM roles");
+        referenceDataCache.evictAll();
+        userPrincipalCache.evictAll();
+
+        beatOnReplica(Instant.now());
+        replicaLagGuard.check();
+    }
+
+    @Test
+    void readOnlyQueries_ShouldReadFromReplica() {
+        assertTrue(replicaLagGuard.isReplicaUsable());
+
+        assertEquals(List.of("Αντίγραφο"), names(supplierService.getAllSuppliers()));
+        assertEquals(List.of("Αντίγραφο"), names(supplierService.findSuppliersByName("Αντί")));
+    }
+
+    @Test
+    void writes_ShouldGoToPrimary() {
+        SupplierDTO supplier = new SupplierDTO();
+        supplier.setFirstName("Νέος");
+        supplier.setLastName("Προμηθευτής");
+        supplier.setTelephone("2100000000");
+        supplier.setAfm("333333333");
+        supplier.setLocation("Πάτρα");
+
+        supplierService.createSupplier(supplier);
+
+        assertEquals(1, count(primary, "Νέος"));
+        assertEquals(0, count(replica, "Νέος"));
+    }
+
+    @Test
+    void laggingReplica_ShouldSendReadsToPrimary() {
+        beatOnReplica(Instant.now().minusSeconds(90));
+        replicaLagGuard.check();
+
+        assertFalse(replicaLagGuard.isReplicaUsable());
+        assertTrue(replicaLagGuard.getLag().getSeconds() >= 60);
+        assertEquals(List.of("Κύρια"), names(supplierService.getAllSuppliers()));
+    }
+
+    @Test
+    void replicaWithoutHeartbeat_ShouldSendReadsToPrimary() {
+        replica.update("DELETE FROM replication_heartbeat");
+        replicaLagGuard.check();
+
+        assertFalse(replicaLagGuard.isReplicaUsable());
+        assertNull(replicaLagGuard.getLag());
+        assertEquals(List.of("Κύρια"), names(supplierService.getAllSuppliers()));
+    }
+
+    @Test
+    void primaryHeartbeat_ShouldBeWrittenOnEveryCheck() {
+        Timestamp before = primary.queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1",
+                Timestamp.class);
+
+        replicaLagGuard.check();
+
+        Timestamp after = primary.queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1",
+                Timestamp.class);
+        assertFalse(after.before(before));
+        assertTrue(productService.getAllProducts().isEmpty());
+    }
+
+    @Test
+    void readOnlyQueries_ShouldNotFillSecondLevelCache() {
+        assertEquals(List.of("Αντίγραφο"), names(supplierService.getAllSuppliers()));
+
+        assertFalse(secondLevelCache().containsEntity(Supplier.class, SUPPLIER_ID));
+    }
+
+    @Test
+    void cacheRefillingLookup_ShouldReadFromPrimary() {
+        assertEquals("Κύρια", supplierService.getSupplierById(SUPPLIER_ID).getFirstName());
+        assertTrue(secondLevelCache().containsEntity(Supplier.class, SUPPLIER_ID));
+
+        // Η επόμενη ανάγνωση από το replica βρίσκει την εγγραφή στην cache
+        assertEquals("Κύρια", supplierService.getSupplierById(SUPPLIER_ID).getFirstName());
+    }
+
+    @Test
+    void loadUserByUsername_ShouldReadFromPrimary() {
+        UserDetails user = customUserDetailsService.loadUserByUsername(USERNAME);
+
+        assertEquals(USERNAME, user.getUsername());
+    }
+
+    @Test
+    void assignRoleToUser_ShouldReadUserAndRoleFromPrimary() {
+        UserRoleDTO userRole = new UserRoleDTO();
+        userRole.setUsername(USERNAME);
+        userRole.setRoleName("ROLE_USER");
+
+        userRoleService.assignRoleToUser(userRole);
+
+        assertEquals(1, primary.queryForObject("SELECT COUNT(*) FROM user_roles", Integer.class));
+        assertEquals(List.of("ROLE_USER"), customUserDetailsService.loadUserByUsername(USERNAME).getAuthorities()
+                .stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    private org.hibernate.Cache secondLevelCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private void beatOnReplica(Instant beatAt) {
+        replica.update("DELETE FROM replication_heartbeat");
+        replica.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", Timestamp.from(beatAt));
+    }
+
+    private static void insertSupplier(JdbcTemplate database, String firstName, String afm) {
+        database.update("INSERT INTO suppliers (id, first_name, last_name, telephone, afm, location) " +
+                "VALUES (?, ?, 'Παπαδόπουλος', '2100000000', ?, 'Αθήνα')", SUPPLIER_ID, firstName, afm);
+    }
+
+    private static int count(JdbcTemplate database, String firstName) {
+        return database.queryForObject("SELECT COUNT(*) FROM suppliers WHERE first_name = ?", Integer.class, firstName);
+    }
+
+    private static List<String> names(List<SupplierDTO> suppliers) {
+        return suppliers.stream().map(SupplierDTO::getFirstName).toList();
+    }
+}
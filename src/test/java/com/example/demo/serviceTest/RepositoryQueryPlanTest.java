@@ -0,0 +1,201 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.model.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Εκτελεί κάθε query method των repositories σε βάση H2 που δημιουργείται μόνο από τις μεταπτώσεις του Flyway
+ * (με ddl-auto=validate), καταγράφει το SQL που παράγει το Hibernate και αποτυγχάνει αν το {@code EXPLAIN} του
+ * δείχνει πλήρη σάρωση πίνακα. Εξαιρούνται μόνο τα queries που διαβάζουν εκ φύσεως όλο τον πίνακα.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=queryplans",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.demo.serviceTest.RepositoryQueryPlanTest$RecordingInspector"
+})
+@ActiveProfiles("h2")
+class RepositoryQueryPlanTest {
+
+    /**
+     * Queries που σαρώνουν σκόπιμα όλο τον πίνακα: αναζητήσεις με {@code LIKE '%...%'}, η φόρτωση του
+     * καταλόγου για το ευρετήριο αναζήτησης και η αντιγραφή των συνόλων στο τέλος μιας ανακατασκευής.
+     */
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "CustomerRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase",
+            "OrderRollupRepository.copyFromRebuild",
+            "OrderRepository.findByProductProductNameContainingIgnoreCase",
+            "ProductRepository.findByProductNameContainingIgnoreCase",
+            "ProductRepository.findAllSearchViews",
+            "SupplierRepository.findByFirstNameContainingIgnoreCase",
+            "SupplierRepository.findByLocationContainingIgnoreCase");
+
+    private static final List<String> RECORDED = new ArrayList<>();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void queryIndexes_ShouldBeCreatedByMigrations() {
+        Set<String> indexes = new TreeSet<>(jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class));
+
+        assertTrue(indexes.containsAll(List.of("idx_orders_supplier_created_at", "idx_orders_product_id",
+                "idx_products_category_id", "idx_products_supplier_id", "idx_products_uuid")), indexes.toString());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM roles", Integer.class));
+    }
+
+    @Test
+    void repositoryQueries_ShouldNotScanWholeTables() {
+        Map<String, List<String>> statements = recordQueryMethods();
+        Set<String> scanning = new TreeSet<>();
+        List<String> fullScans = new ArrayList<>();
+
+        statements.forEach((query, sqls) -> {
+            assertFalse(sqls.isEmpty(), query + " δεν εκτέλεσε κανένα SQL");
+            for (String sql : sqls) {
+                String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+                if (plan.contains(".tableScan")) {
+                    scanning.add(query);
+                    if (!FULL_SCAN_ALLOWED.contains(query)) {
+                        fullScans.add(query + "\n" + plan);
+                    }
+                }
+            }
+        });
+
+        assertTrue(fullScans.isEmpty(), "Πλήρης σάρωση πίνακα:\n" + String.join("\n\n", fullScans));
+        // Οι εξαιρέσεις να μένουν επίκαιρες: όποιο query δε σαρώνει πια τον πίνακα αφαιρείται από τη λίστα
+        assertEquals(new TreeSet<>(FULL_SCAN_ALLOWED), scanning);
+    }
+
+    /**
+     * Καλεί κάθε query method με ενδεικτικά ορίσματα σε transaction που αναιρείται και κρατά τα SQL της. Αν η
+     * κλήση αποτύχει (π.χ. μη έγκυρη τιμή για enum στήλη) το SQL έχει ήδη καταγραφεί, και μόνο αυτό χρειάζεται.
+     */
+    private Map<String, List<String>> recordQueryMethods() {
+        Map<String, List<String>> statements = new LinkedHashMap<>();
+        Repositories repositories = new Repositories(applicationContext);
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            for (Method method : information.getQueryMethods()) {
+                String query = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                synchronized (RECORDED) {
+                    RECORDED.clear();
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        status.setRollbackOnly();
+                        invoke(repository, method);
+                    });
+                } catch (RuntimeException ignored) {
+                    // Το SQL έχει καταγραφεί πριν από την εκτέλεσή του
+                }
+                synchronized (RECORDED) {
+                    statements.put(query, RECORDED.stream().toList());
+                }
+            }
+        }
+        return statements;
+    }
+
+    private static void invoke(Object repository, Method method) {
+        Object[] arguments = new Object[method.getParameterCount()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = sampleValue(method.getParameterTypes()[i]);
+        }
+        try {
+            Object result = method.invoke(repository, arguments);
+            if (result instanceof Stream<?> stream) {
+                try (stream) {
+                    stream.count();
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object sampleValue(Class<?> type) {
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Double.class || type == double.class) {
+            return 1.0;
+        }
+        if (type == String.class) {
+            return "a";
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 10);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(1, 2);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == User.class) {
+            User user = new User();
+            user.setId(1);
+            return user;
+        }
+        throw new IllegalArgumentException("Χωρίς ενδεικτική τιμή για " + type.getName());
+    }
+
+    /**
+     * Κρατά κάθε SQL που στέλνει το Hibernate στη βάση.
+     */
+    public static class RecordingInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (RECORDED) {
+                RECORDED.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.example.demo.mapper.RoleMapper;
 import com.example.demo.model.ERole;
 import com.example.demo.model.Role;
 import com.example.demo.repository.RoleRepository;
+import com.example.demo.service.ReferenceDataCache;
 import com.example.demo.service.RoleServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,9 @@ class RoleServiceImplTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -127,6 +131,7 @@ class RoleServiceImplTest {
         assertEquals("ROLE_ADMIN", result.getName());
         verify(roleRepository).findById(roleId);
         verify(roleRepository).save(existingRole);
+        verify(referenceDataCache).evictRole(roleId);
     }
 
     @Test
@@ -159,6 +164,7 @@ class RoleServiceImplTest {
 
         verify(roleRepository).findById(roleId);
         verify(roleRepository).delete(role);
+        verify(referenceDataCache).evictRole(roleId);
     }
 
     @Test
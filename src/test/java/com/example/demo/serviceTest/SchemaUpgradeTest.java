@@ -0,0 +1,103 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.OrderDTO;
+import com.example.demo.service.OrderService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει την αναβάθμιση μιας βάσης που δημιουργήθηκε πριν από τις μεταπτώσεις (με ddl-auto=update): η βάση έχει
+ * μόνο το σχήμα της V1 και δεδομένα, χωρίς ιστορικό του Flyway. Η εφαρμογή πρέπει να εκκινεί με
+ * ddl-auto=validate, αφού το Flyway σημειώσει τη V1 ως εφαρμοσμένη και εκτελέσει τις επόμενες εκδόσεις.
+ */
+class SchemaUpgradeTest {
+
+    private static final String URL = "jdbc:h2:mem:schema-upgrade;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    // Οι πίνακες που δημιουργούσε το ddl-auto=update πριν από τις μεταπτώσεις· οι νεότεροι ανήκουν σε νέες εκδόσεις
+    private static final List<String> BASELINE_TABLES = List.of("categories", "customers", "orders", "products",
+            "roles", "suppliers", "suppliers_products", "user_roles", "users");
+
+    private static List<String> baselineTables;
+
+    private static ConfigurableApplicationContext context;
+    private static JdbcTemplate jdbcTemplate;
+    private static int productId;
+
+    @BeforeAll
+    static void upgradeBaselineDatabase() throws Exception {
+        SingleConnectionDataSource baseline = new SingleConnectionDataSource(URL, "sa", "", true);
+        try (Connection connection = baseline.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline_schema.sql"));
+        }
+        JdbcTemplate existing = new JdbcTemplate(baseline);
+        baselineTables = existing.queryForList("SELECT LOWER(TABLE_NAME) FROM INFORMATION_SCHEMA.TABLES " +
+                "WHERE TABLE_SCHEMA = 'PUBLIC' ORDER BY LOWER(TABLE_NAME)", String.class);
+        existing.update("INSERT INTO roles (name) VALUES ('ROLE_USER')");
+        existing.update("INSERT INTO suppliers (first_name, last_name, telephone, afm, location) " +
+                "VALUES ('Γιώργος', 'Παπαδόπουλος', '2100000000', '123456789', 'Αθήνα')");
+        existing.update("INSERT INTO categories (name) VALUES ('Ηλεκτρονικά')");
+        existing.update("INSERT INTO products (product_name, category_id, price, supplier_id, quantity, uuid) " +
+                "VALUES ('Κινητό', 1, 10.0, 1, 100, RANDOM_UUID())");
+        for (int i = 0; i < 3; i++) {
+            existing.update("INSERT INTO orders (product_id, supplier_id, quantity, price, total_price, created_at) " +
+                    "VALUES (1, 1, 1, 10.0, 10.0, CURRENT_TIMESTAMP)");
+        }
+        baseline.destroy();
+
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("h2")
+                .run("--h2.database=schema-upgrade",
+                        "--spring.jpa.hibernate.ddl-auto=validate");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        productId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Integer.class);
+    }
+
+    @AfterAll
+    static void close() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void baselineMigration_ShouldContainOnlyBaselineSchema() {
+        assertEquals(BASELINE_TABLES, baselineTables);
+    }
+
+    @Test
+    void migrations_ShouldApplyAfterBaseline() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"version\" IS NOT NULL AND \"success\" " +
+                        "ORDER BY \"installed_rank\"", String.class);
+
+        assertEquals("1", versions.get(0));
+        assertTrue(versions.containsAll(List.of("2", "3", "4", "5", "6", "7", "8", "9")), versions.toString());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM roles", Integer.class));
+    }
+
+    @Test
+    void existingOrders_ShouldKeepTheirData_AndNewOrdersGetLaterIds() {
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE stock_reserved IS NULL", Integer.class));
+
+        OrderDTO order = context.getBean(OrderService.class).createOrderWithProductAndQuantity(productId, 2);
+
+        assertTrue(order.getId() > 3, () -> "ID νέας παραγγελίας: " + order.getId());
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class));
+        assertTrue(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_rollups", Integer.class) > 0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.CacheStatsDTO;
+import com.example.demo.dto.ProductCategoryDTO;
+import com.example.demo.model.ERole;
+import com.example.demo.service.ProductCategoryService;
+import com.example.demo.service.ReferenceDataCache;
+import com.example.demo.service.RoleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει σε πραγματική βάση (H2 στη μνήμη) ότι οι κατηγορίες και οι ρόλοι διαβάζονται από την cache δεύτερου
+ * επιπέδου και ότι οι ενημερώσεις μέσω των υπηρεσιών την αδειάζουν.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=l2cache"
+})
+@ActiveProfiles("h2")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProductCategoryService productCategoryService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int categoryId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Ηλεκτρονικά')");
+        categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Integer.class);
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM roles WHERE name = 'ROLE_USER'", Integer.class) == 0) {
+            jdbcTemplate.update("INSERT INTO roles (name) VALUES ('ROLE_USER')");
+        }
+        referenceDataCache.evictAll();
+    }
+
+    @Test
+    void getProductCategoryById_ShouldBeServedFromCache_OnSecondRead() {
+        productCategoryService.getProductCategoryById(categoryId);
+        long hitsBefore = hits("categories");
+
+        ProductCategoryDTO result = productCategoryService.getProductCategoryById(categoryId);
+
+        assertEquals("Ηλεκτρονικά", result.getName());
+        assertTrue(hits("categories") > hitsBefore);
+    }
+
+    @Test
+    void getRoleByName_ShouldUseQueryCache_OnSecondLookup() {
+        roleService.getRoleByName(ERole.ROLE_USER);
+        long queryHitsBefore = hits("default-query-results-region");
+
+        assertEquals(ERole.ROLE_USER, roleService.getRoleByName(ERole.ROLE_USER).getName());
+        assertTrue(hits("default-query-results-region") > queryHitsBefore);
+    }
+
+    @Test
+    void changesOutsideHibernate_ShouldBeVisible_OnlyAfterEviction() {
+        productCategoryService.getProductCategoryById(categoryId);
+        jdbcTemplate.update("UPDATE categories SET name = 'Έπιπλα' WHERE id = ?", categoryId);
+
+        assertEquals("Ηλεκτρονικά", productCategoryService.getProductCategoryById(categoryId).getName());
+
+        referenceDataCache.evictCategory(categoryId);
+
+        assertEquals("Έπιπλα", productCategoryService.getProductCategoryById(categoryId).getName());
+    }
+
+    @Test
+    void updateProductCategory_ShouldReturnNewName_OnNextRead() {
+        productCategoryService.getProductCategoryById(categoryId);
+        ProductCategoryDTO update = new ProductCategoryDTO();
+        update.setName("Αθλητικά");
+
+        productCategoryService.updateProductCategory(categoryId, update);
+
+        assertEquals("Αθλητικά", productCategoryService.getProductCategoryById(categoryId).getName());
+        assertEquals(1, productCategoryService.getAllProductCategories().stream()
+                .filter(category -> category.getName().equals("Αθλητικά")).count());
+    }
+
+    private long hits(String region) {
+        return referenceDataCache.stats().stream()
+                .filter(stats -> stats.getName().equals(region))
+                .mapToLong(CacheStatsDTO::getHits)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.config.InventoryProperties;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.metrics.ServiceMetricsAspect;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.repository.SupplierProductRepository;
+import com.example.demo.service.InventoryServiceImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceMetricsTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private SupplierProductRepository supplierProductRepository;
+
+    private SimpleMeterRegistry registry;
+    private InventoryServiceImpl inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new InventoryServiceImpl(productRepository, supplierProductRepository, new InventoryProperties()));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        inventoryService = factory.getProxy();
+    }
+
+    @Test
+    void serviceMethod_ShouldBeTimedPerClassAndMethod() {
+        when(productRepository.findQuantityById(1)).thenReturn(10);
+        when(productRepository.decrementStock(1, 2)).thenReturn(1);
+
+        inventoryService.tryReserve(1, null, 2);
+        inventoryService.tryReserve(1, null, 2);
+
+        Timer timer = registry.get(ServiceMetricsAspect.METRIC)
+                .tags("class", "InventoryServiceImpl", "method", "tryReserve", "exception", "none")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void serviceMethod_ShouldTagException() {
+        assertThrows(InvalidRequestException.class, () -> inventoryService.tryReserve(1, null, 0));
+
+        Timer timer = registry.get(ServiceMetricsAspect.METRIC)
+                .tags("method", "tryReserve", "exception", "InvalidRequestException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void bindTo_ShouldPublishCacheMetricsWithoutTimingIt() {
+        inventoryService.bindTo(registry);
+
+        assertNotNull(registry.get("cache.gets").tag("cache", "inventory-snapshots").functionCounters());
+        assertNull(registry.find(ServiceMetricsAspect.METRIC).timer());
+    }
+}
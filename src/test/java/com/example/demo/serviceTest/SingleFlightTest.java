@@ -0,0 +1,238 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.config.SingleFlightProperties;
+import com.example.demo.dto.SingleFlightKeyStatsDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.service.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 64;
+
+    private SingleFlightProperties properties;
+    private SingleFlight<Integer, String> singleFlight;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SingleFlightProperties();
+        singleFlight = new SingleFlight<>("test", properties);
+        registry = new SimpleMeterRegistry();
+        singleFlight.bindTo(registry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentCalls_ShouldShareOneLoad_OnPlatformThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            assertSharedLoad(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentCalls_ShouldShareOneLoad_OnVirtualThreads() throws Exception {
+        ExecutorService executor = virtualThreadExecutor();
+        assumeTrue(executor != null, "Τα virtual threads απαιτούν Java 21");
+        try {
+            assertSharedLoad(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failure_ShouldReachAllWaitingCalls_AndNotBeKept() throws Exception {
+        List<Throwable> failures = runConcurrently(Executors.newFixedThreadPool(CALLERS), key -> {
+            loads.incrementAndGet();
+            throw new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND, key);
+        }).failures();
+
+        assertEquals(CALLERS, failures.size());
+        failures.forEach(failure -> assertInstanceOf(ResourceNotFoundException.class, failure));
+        assertEquals(1, loads.get());
+        assertEquals(1.0, registry.get("singleflight.calls").tag("result", "failed").functionCounter().count());
+
+        // Η αποτυχία δεν αποθηκεύεται: η επόμενη κλήση φορτώνει ξανά
+        assertEquals("product-1", singleFlight.load(1, this::load));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void completedLoad_ShouldNotBeKept() {
+        assertEquals("product-1", singleFlight.load(1, this::load));
+        assertEquals("product-1", singleFlight.load(1, this::load));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void differentKeys_ShouldLoadIndependently() throws Exception {
+        Results results = runConcurrently(Executors.newFixedThreadPool(CALLERS), i -> i % 4, this::load);
+
+        assertTrue(results.failures().isEmpty());
+        assertEquals(Set.of("product-0", "product-1", "product-2", "product-3"), results.values());
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void disabled_ShouldLoadOnEveryCall() throws Exception {
+        properties.setEnabled(false);
+
+        Results results = runConcurrently(Executors.newFixedThreadPool(CALLERS), this::load);
+
+        assertTrue(results.failures().isEmpty());
+        assertEquals(CALLERS, loads.get());
+    }
+
+    @Test
+    void slowLoad_ShouldLetWaitingCallLoadItself_AfterTimeout() throws Exception {
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leading = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> leader = executor.submit(() -> singleFlight.load(1, key -> {
+            leading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "leader";
+        }));
+        assertTrue(leading.await(10, TimeUnit.SECONDS));
+
+        assertEquals("own", singleFlight.load(1, key -> "own"));
+
+        release.countDown();
+        assertEquals("leader", leader.get(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(1.0, registry.get("singleflight.calls").tag("result", "timeout").functionCounter().count());
+    }
+
+    @Test
+    void hotKeys_ShouldReportLoadsAndSharedCallsPerKey() throws Exception {
+        runConcurrently(Executors.newFixedThreadPool(CALLERS), this::load);
+        singleFlight.load(2, this::load);
+
+        List<SingleFlightKeyStatsDTO> hotKeys = singleFlight.hotKeys(10);
+
+        assertEquals(2, hotKeys.size());
+        assertEquals("1", hotKeys.get(0).getKey());
+        assertEquals("test", hotKeys.get(0).getName());
+        assertEquals(CALLERS, hotKeys.get(0).getLoads() + hotKeys.get(0).getShared());
+        assertEquals(1, hotKeys.get(1).getLoads());
+        assertEquals(0, hotKeys.get(1).getShared());
+        assertEquals(1, singleFlight.hotKeys(1).size());
+    }
+
+    private void assertSharedLoad(ExecutorService executor) throws Exception {
+        Results results = runConcurrently(executor, this::load);
+
+        assertTrue(results.failures().isEmpty(), () -> "Αποτυχίες: " + results.failures());
+        assertEquals(Set.of("product-1"), results.values());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, registry.get("singleflight.calls").tag("result", "loaded").functionCounter().count());
+        assertEquals(CALLERS - 1.0, registry.get("singleflight.calls").tag("result", "shared").functionCounter().count());
+        assertEquals(CALLERS, registry.get("singleflight.callers").summary().totalAmount());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    private Results runConcurrently(ExecutorService executor, Function<Integer, String> loader) throws Exception {
+        return runConcurrently(executor, i -> 1, loader);
+    }
+
+    /**
+     * Όλες οι κλήσεις ζητούν τα κλειδιά τους ταυτόχρονα· κάθε φόρτωση ολοκληρώνεται αφού έχουν ξεκινήσει όλες.
+     */
+    private Results runConcurrently(ExecutorService executor, IntUnaryOperator keys,
+                                    Function<Integer, String> loader) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch calling = new CountDownLatch(CALLERS);
+        Set<String> values = ConcurrentHashMap.newKeySet();
+        List<Throwable> failures = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            int key = keys.applyAsInt(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                calling.countDown();
+                values.add(singleFlight.load(key, k -> {
+                    awaitQuietly(calling);
+                    pause();
+                    return loader.apply(k);
+                }));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(1, TimeUnit.MINUTES);
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        executor.shutdown();
+        return new Results(values, failures);
+    }
+
+    private String load(Integer key) {
+        loads.incrementAndGet();
+        return "product-" + key;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Χρόνος για να φτάσουν στο SingleFlight όσες κλήσεις πέρασαν ήδη το latch
+    private static void pause() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private record Results(Set<String> values, List<Throwable> failures) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.SupplierDeletionStatusDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.search.ProductSearchIndex;
+import com.example.demo.service.OrderRollupRebuildJob;
+import com.example.demo.service.SupplierDeletionJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει σε πραγματική βάση (H2 στη μνήμη) ότι η διαγραφή ενός προμηθευτή, σε ένα transaction ή σε τμήματα στο
+ * παρασκήνιο, διαγράφει τις παραγγελίες, τις συνδέσεις και τα προϊόντα του, επιστρέφει το δεσμευμένο απόθεμα και
+ * αφήνει τα σύνολα ίδια με μια ανακατασκευή από την αρχή.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=supplierdeletion",
+        "app.supplier-deletion.chunk-size=3"
+})
+@ActiveProfiles("h2")
+class SupplierDeletionJobTest {
+
+    private static final String ROLLUPS = "SELECT dimension, dimension_id, bucket_date, order_count, quantity, turnover " +
+            "FROM order_rollups WHERE order_count <> 0 ORDER BY dimension, dimension_id, bucket_date";
+
+    @Autowired
+    private SupplierDeletionJob supplierDeletionJob;
+
+    @Autowired
+    private OrderRollupRebuildJob orderRollupRebuildJob;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int supplierId;
+    private int otherSupplierId;
+    private int ownProductId;
+    private int otherProductId;
+    private int nextOrderId = 1;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_rollups");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM suppliers_products");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM suppliers");
+
+        supplierId = insertSupplier("111111111");
+        otherSupplierId = insertSupplier("222222222");
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Ηλεκτρονικά')");
+        int categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Integer.class);
+
+        ownProductId = insertProduct("Τηλεσκόπιο", categoryId, supplierId);
+        insertProduct("Ηχείο", categoryId, supplierId);
+        otherProductId = insertProduct("Ποδήλατο", categoryId, otherSupplierId);
+        insertSupplierProduct(supplierId, ownProductId, 50);
+        insertSupplierProduct(otherSupplierId, ownProductId, 20);
+        insertSupplierProduct(supplierId, otherProductId, 30);
+        insertSupplierProduct(otherSupplierId, otherProductId, 40);
+
+        // 10 παραγγελίες του προμηθευτή σε 4 τμήματα των 3· από αυτές στο ξένο προϊόν μόνο οι 2 έχουν δέσμευση
+        for (int i = 0; i < 7; i++) {
+            insertOrder(supplierId, ownProductId, 2, i, true);
+        }
+        insertOrder(supplierId, otherProductId, 1, 1, true);
+        insertOrder(supplierId, otherProductId, 1, 2, true);
+        insertOrder(supplierId, otherProductId, 4, 2, null);
+        insertOrder(otherSupplierId, otherProductId, 5, 1, true);
+        insertOrder(otherSupplierId, otherProductId, 5, 3, true);
+
+        orderRollupRebuildJob.run();
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    void deleteNow_ShouldDeleteOrdersCatalogAndSupplier() {
+        long deleted = supplierDeletionJob.deleteNow(supplierId);
+
+        assertEquals(10, deleted);
+        assertEquals(0, count("SELECT COUNT(*) FROM suppliers WHERE id = ?", supplierId));
+        assertEquals(0, count("SELECT COUNT(*) FROM products WHERE supplier_id = ?", supplierId));
+        assertEquals(2, count("SELECT COUNT(*) FROM orders WHERE supplier_id = ?", otherSupplierId));
+        assertEquals(0, count("SELECT COUNT(*) FROM orders WHERE supplier_id = ?", supplierId));
+        assertEquals(1, count("SELECT COUNT(*) FROM suppliers_products"));
+        assertEquals(40, count("SELECT quantity FROM suppliers_products WHERE supplier_id = ?", otherSupplierId));
+        // Επιστρέφονται μόνο οι 2 δεσμευμένες μονάδες στο προϊόν που μένει
+        assertEquals(102, count("SELECT quantity FROM products WHERE id = ?", otherProductId));
+        assertTrue(productSearchIndex.search("Τηλεσκόπιο", 10).isEmpty());
+        assertEquals(List.of(otherProductId), productSearchIndex.search("Ποδήλατο", 10));
+        assertRollupsMatchRebuild();
+    }
+
+    @Test
+    void start_ShouldDeleteInChunks_AndReportProgress() throws InterruptedException {
+        assertTrue(supplierDeletionJob.start(supplierId));
+
+        SupplierDeletionStatusDTO status = awaitFinished(supplierId);
+
+        assertEquals("COMPLETED", status.getState(), status.getError());
+        assertEquals(10, status.getTotalOrders());
+        assertEquals(10, status.getDeletedOrders());
+        assertEquals(4, status.getChunks());
+        assertEquals(2, status.getDeletedProducts());
+        assertEquals(0, count("SELECT COUNT(*) FROM suppliers WHERE id = ?", supplierId));
+        assertEquals(102, count("SELECT quantity FROM products WHERE id = ?", otherProductId));
+        assertRollupsMatchRebuild();
+    }
+
+    @Test
+    void deleteNow_ShouldRejectAndChangeNothing_WhenOtherSuppliersOrderItsProducts() {
+        insertOrder(otherSupplierId, ownProductId, 1, 0, true);
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> supplierDeletionJob.deleteNow(supplierId));
+
+        assertEquals(ErrorCode.RECORD_CANNOT_BE_DELETED, exception.getErrorCode());
+        assertEquals(10, count("SELECT COUNT(*) FROM orders WHERE supplier_id = ?", supplierId));
+        assertEquals(1, count("SELECT COUNT(*) FROM suppliers WHERE id = ?", supplierId));
+    }
+
+    @Test
+    void deleteNow_ShouldThrow_WhenSupplierDoesNotExist() {
+        assertThrows(ResourceNotFoundException.class, () -> supplierDeletionJob.deleteNow(-1));
+        assertNull(supplierDeletionJob.getStatus(-1));
+    }
+
+    private void assertRollupsMatchRebuild() {
+        List<Map<String, Object>> incremental = jdbcTemplate.queryForList(ROLLUPS);
+        orderRollupRebuildJob.run();
+        assertEquals(jdbcTemplate.queryForList(ROLLUPS), incremental);
+    }
+
+    private SupplierDeletionStatusDTO awaitFinished(int id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        SupplierDeletionStatusDTO status = supplierDeletionJob.getStatus(id);
+        while (("QUEUED".equals(status.getState()) || "RUNNING".equals(status.getState()))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = supplierDeletionJob.getStatus(id);
+        }
+        return status;
+    }
+
+    private int insertSupplier(String afm) {
+        jdbcTemplate.update("INSERT INTO suppliers (first_name, last_name, telephone, afm, location) " +
+                "VALUES ('Γιώργος', 'Παπαδόπουλος', '2100000000', ?, 'Αθήνα')", afm);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM suppliers", Integer.class);
+    }
+
+    private int insertProduct(String name, int categoryId, int productSupplierId) {
+        jdbcTemplate.update("INSERT INTO products (product_name, category_id, price, supplier_id, quantity, uuid) " +
+                "VALUES (?, ?, 10.0, ?, 100, RANDOM_UUID())", name, categoryId, productSupplierId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Integer.class);
+    }
+
+    private void insertSupplierProduct(int linkedSupplierId, int productId, int quantity) {
+        jdbcTemplate.update("INSERT INTO suppliers_products (supplier_id, product_id, quantity) VALUES (?, ?, ?)",
+                linkedSupplierId, productId, quantity);
+    }
+
+    private void insertOrder(int orderSupplierId, int productId, int quantity, int daysAgo, Boolean stockReserved) {
+        jdbcTemplate.update("INSERT INTO orders (id, supplier_id, product_id, quantity, price, total_price, " +
+                        "created_at, stock_reserved) VALUES (?, ?, ?, ?, 10.0, ?, ?, ?)",
+                nextOrderId++, orderSupplierId, productId, quantity, quantity * 10.0,
+                LocalDateTime.now().minusDays(daysAgo), stockReserved);
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.demo.serviceTest;
 
-import com.example.demo.dto.OrderDTO;
+import com.example.demo.config.SingleFlightProperties;
 import com.example.demo.dto.SupplierDTO;
+import com.example.demo.dto.SupplierTurnoverDTO;
+import com.example.demo.dto.TurnoverBucketDTO;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.InvalidRequestException;
 import com.example.demo.mapper.SupplierMapper;
 import com.example.demo.model.Supplier;
+import com.example.demo.repository.SupplierDailyTurnoverView;
 import com.example.demo.repository.SupplierRepository;
 import com.example.demo.service.OrderSupplierCommonService;
+import com.example.demo.service.ReferenceDataCache;
+import com.example.demo.service.SingleFlight;
+import com.example.demo.service.SupplierDeletionJob;
 import com.example.demo.service.SupplierImpl;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -35,6 +45,18 @@ class SupplierImplTest {
     @Mock
     private OrderSupplierCommonService orderSupplierCommonService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private SupplierDeletionJob supplierDeletionJob;
+
+    @Spy
+    private SingleFlight<Integer, SupplierDTO> supplierLookups = new SingleFlight<>("suppliers", new SingleFlightProperties());
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private AutoCloseable mocks;
 
     @BeforeEach
@@ -103,18 +125,13 @@ class SupplierImplTest {
     void deleteSupplier_ShouldDeleteSupplier() {
         Integer id = 1;
 
-        OrderDTO orderDTO = new OrderDTO();
-        orderDTO.setId(1);
-
-        when(orderSupplierCommonService.searchOrdersBySupplierId(id)).thenReturn(List.of(orderDTO));
-        doNothing().when(orderSupplierCommonService).deleteOrder(orderDTO.getId());
-        doNothing().when(supplierRepository).deleteById(id);
+        when(supplierDeletionJob.deleteNow(id)).thenReturn(3L);
 
         supplierService.deleteSupplier(id);
 
-        verify(orderSupplierCommonService).searchOrdersBySupplierId(id);
-        verify(orderSupplierCommonService).deleteOrder(orderDTO.getId());
-        verify(supplierRepository).deleteById(id);
+        verify(supplierDeletionJob).deleteNow(id);
+        verifyNoInteractions(orderSupplierCommonService);
+        verify(supplierRepository, never()).deleteById(id);
     }
 
     @Test
@@ -135,6 +152,7 @@ class SupplierImplTest {
         assertNotNull(result);
         assertEquals("John", result.getFirstName());
         verify(supplierRepository).findById(id);
+        verify(supplierLookups).load(eq(id), any());
     }
 
     @Test
@@ -202,16 +220,93 @@ class SupplierImplTest {
         LocalDate startDate = LocalDate.of(2023, 1, 1);
         LocalDate endDate = LocalDate.of(2023, 12, 31);
 
-        OrderDTO orderDTO = new OrderDTO();
-        orderDTO.setTotalPrice(100.0);
+        when(orderSupplierCommonService.getDailyTurnover(supplierId, startDate, endDate))
+                .thenReturn(List.of(new DailyTurnover(LocalDate.of(2023, 3, 5), 1, 2, 100.0)));
 
-        when(orderSupplierCommonService.getOrdersBySupplierAndDate(supplierId, startDate, endDate))
-                .thenReturn(List.of(orderDTO));
-
-        Double turnover = supplierService.calculateTurnover(supplierId, startDate, endDate);
+        SupplierTurnoverDTO turnover = supplierService.calculateTurnover(supplierId, startDate, endDate);
 
         assertNotNull(turnover);
-        assertEquals(100.0, turnover);
-        verify(orderSupplierCommonService).getOrdersBySupplierAndDate(supplierId, startDate, endDate);
+        assertEquals(100.0, turnover.getTurnover());
+        assertEquals(1, turnover.getOrderCount());
+        verify(orderSupplierCommonService).getDailyTurnover(supplierId, startDate, endDate);
+        verify(orderSupplierCommonService, never()).getOrdersBySupplierAndDate(any(), any(), any());
+    }
+
+    @Test
+    void calculateTurnover_ShouldGroupDailyRowsIntoMonths() {
+        Integer supplierId = 1;
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 2, 28);
+
+        when(orderSupplierCommonService.getDailyTurnover(supplierId, startDate, endDate)).thenReturn(List.of(
+                new DailyTurnover(LocalDate.of(2023, 1, 10), 2, 5, 50.0),
+                new DailyTurnover(LocalDate.of(2023, 1, 20), 1, 1, 10.0),
+                new DailyTurnover(LocalDate.of(2023, 2, 3), 3, 4, 40.0)));
+
+        SupplierTurnoverDTO turnover = supplierService.calculateTurnover(supplierId, startDate, endDate);
+
+        assertEquals(100.0, turnover.getTurnover());
+        assertEquals(6, turnover.getOrderCount());
+        assertEquals(10, turnover.getQuantity());
+        assertEquals(3, turnover.getDaily().size());
+        assertEquals("2023-01-10", turnover.getDaily().get(0).getPeriod());
+
+        List<TurnoverBucketDTO> monthly = turnover.getMonthly();
+        assertEquals(2, monthly.size());
+        assertEquals("2023-01", monthly.get(0).getPeriod());
+        assertEquals(3, monthly.get(0).getOrderCount());
+        assertEquals(6, monthly.get(0).getQuantity());
+        assertEquals(60.0, monthly.get(0).getTurnover());
+        assertEquals("2023-02", monthly.get(1).getPeriod());
+        assertEquals(40.0, monthly.get(1).getTurnover());
+    }
+
+    @Test
+    void calculateTurnover_ShouldReturnZerosWhenNoOrders() {
+        LocalDate day = LocalDate.of(2023, 1, 1);
+        when(orderSupplierCommonService.getDailyTurnover(1, day, day)).thenReturn(List.of());
+
+        SupplierTurnoverDTO turnover = supplierService.calculateTurnover(1, day, day);
+
+        assertEquals(0.0, turnover.getTurnover());
+        assertEquals(0, turnover.getOrderCount());
+        assertTrue(turnover.getDaily().isEmpty());
+        assertTrue(turnover.getMonthly().isEmpty());
+    }
+
+    @Test
+    void calculateTurnover_ShouldRejectInvertedDateRange() {
+        LocalDate startDate = LocalDate.of(2023, 2, 1);
+        LocalDate endDate = LocalDate.of(2023, 1, 1);
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> supplierService.calculateTurnover(1, startDate, endDate));
+
+        assertEquals(ErrorCode.INVALID_DATE_RANGE, exception.getErrorCode());
+        verifyNoInteractions(orderSupplierCommonService);
+    }
+
+    private record DailyTurnover(LocalDate orderDate, long orderCount, long quantity, double turnover)
+            implements SupplierDailyTurnoverView {
+
+        @Override
+        public LocalDate getOrderDate() {
+            return orderDate;
+        }
+
+        @Override
+        public Long getOrderCount() {
+            return orderCount;
+        }
+
+        @Override
+        public Long getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public Double getTurnover() {
+            return turnover;
+        }
     }
 }
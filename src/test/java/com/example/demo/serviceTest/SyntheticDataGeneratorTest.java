@@ -0,0 +1,145 @@
+package com.example.demo.serviceTest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.datagen.DataGeneratorProperties;
+import com.example.demo.datagen.SyntheticDataGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ελέγχει σε πραγματική βάση (H2 στη μνήμη) τη γεννήτρια συνθετικών δεδομένων: πλήθη, συνέπεια παραγγελιών με τα
+ * προϊόντα τους, μοναδικές τιμές και ίδια δεδομένα για τον ίδιο σπόρο.
+ */
+@SpringBootTest(classes = DemoApplication.class, properties = {
+        "h2.database=datagen",
+        "app.datagen.enabled=true",
+        "app.security.password.bcrypt-strength=4"
+})
+@ActiveProfiles("h2")
+class SyntheticDataGeneratorTest {
+
+    private static final String PRODUCTS_SNAPSHOT =
+            "SELECT id, product_name, category_id, price, supplier_id, quantity, uuid FROM products ORDER BY id";
+    // Χωρίς το ID: τα IDs των παραγγελιών συνεχίζουν από τη γεννήτρια IDs και μετά τη διαγραφή
+    private static final String ORDERS_SNAPSHOT =
+            "SELECT supplier_id, product_id, quantity, price, created_at FROM orders ORDER BY id";
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private DataGeneratorProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_rollups");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM suppliers_products");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM suppliers");
+        jdbcTemplate.update("DELETE FROM users");
+
+        properties.setSeed(7);
+        properties.setCategories(3);
+        properties.setSuppliers(5);
+        properties.setProducts(40);
+        properties.setSuppliersPerProduct(2);
+        properties.setUsers(4);
+        properties.setOrders(250);
+        // Μικρά τμήματα και μη ακέραιο πλήθος εντολών ανά τμήμα, για παράλληλες εργασίες και μερικά INSERT
+        properties.setChunkSize(30);
+        properties.setRowsPerStatement(7);
+        properties.setWorkers(3);
+    }
+
+    @Test
+    void generate_ShouldInsertRequestedRowsAndReportThem() {
+        SyntheticDataGenerator.Report report = generator.generate();
+
+        assertEquals(3, count("categories"));
+        assertEquals(5, count("suppliers"));
+        assertEquals(40, count("products"));
+        assertEquals(80, count("suppliers_products"));
+        assertEquals(4, count("users"));
+        assertEquals(250, count("orders"));
+        assertTrue(count("order_rollups") > 0);
+
+        List<String> tables = report.tables().stream().map(SyntheticDataGenerator.TableStats::table).toList();
+        assertEquals(List.of("categories", "suppliers", "products", "suppliers_products", "users", "orders",
+                "order_rollups"), tables);
+        assertEquals(250, report.tables().get(5).rows());
+        assertTrue(report.rowsPerSecond() > 0);
+    }
+
+    @Test
+    void generate_ShouldKeepOrdersConsistentWithTheirProducts() {
+        generator.generate();
+
+        Integer mismatched = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders o JOIN products p " +
+                "ON p.id = o.product_id WHERE o.supplier_id <> p.supplier_id OR o.price <> p.price " +
+                "OR ABS(o.total_price - o.price * o.quantity) > 0.001", Integer.class);
+        assertEquals(0, mismatched);
+        // Κάθε νέο προϊόν συνδέεται και με τον δικό του προμηθευτή
+        Integer unlinked = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products p WHERE NOT EXISTS " +
+                "(SELECT 1 FROM suppliers_products sp WHERE sp.product_id = p.id AND sp.supplier_id = p.supplier_id)",
+                Integer.class);
+        assertEquals(0, unlinked);
+    }
+
+    @Test
+    void generate_ShouldProduceSameDataForSameSeed() {
+        generator.generate();
+        List<Map<String, Object>> products = jdbcTemplate.queryForList(PRODUCTS_SNAPSHOT);
+        List<Map<String, Object>> orders = jdbcTemplate.queryForList(ORDERS_SNAPSHOT);
+
+        setUp();
+        properties.setWorkers(1);
+        generator.generate();
+
+        assertEquals(products, jdbcTemplate.queryForList(PRODUCTS_SNAPSHOT));
+        assertEquals(orders, jdbcTemplate.queryForList(ORDERS_SNAPSHOT));
+    }
+
+    @Test
+    void generate_ShouldAppendAfterExistingRowsWithoutBreakingUniqueValues() {
+        generator.generate();
+        generator.generate();
+
+        assertEquals(10, count("suppliers"));
+        assertEquals(80, count("products"));
+        assertEquals(160, count("suppliers_products"));
+        assertEquals(8, count("users"));
+        assertEquals(500, count("orders"));
+
+        // Οι επόμενες εισαγωγές χωρίς ID συνεχίζουν μετά τα IDs της γεννήτριας
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Νέα')");
+        assertEquals(7, jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Integer.class));
+    }
+
+    @Test
+    void generate_ShouldRefuseExistingAfm() {
+        jdbcTemplate.update("INSERT INTO suppliers (id, first_name, last_name, telephone, afm, location) " +
+                "VALUES (1, 'Γιώργος', 'Παπαδόπουλος', '2100000000', '000000003', 'Αθήνα')");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> generator.generate());
+        assertTrue(exception.getMessage().contains("ΑΦΜ"));
+        assertEquals(1, count("suppliers"));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
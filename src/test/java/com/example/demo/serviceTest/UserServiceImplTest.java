@@ -7,7 +7,9 @@ import com.example.demo.model.ERole;
 import com.example.demo.model.Role;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.PasswordService;
 import com.example.demo.service.RoleService;
+import com.example.demo.service.UserPrincipalCache;
 import com.example.demo.service.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +35,12 @@ class UserServiceImplTest {
     @Mock
     private RoleService roleService;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private PasswordService passwordService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -60,11 +68,13 @@ class UserServiceImplTest {
         when(roleService.getRoleByName(ERole.ROLE_USER)).thenReturn(role);
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(userMapper.toDTO(user, false)).thenReturn(userDTO);
+        when(passwordService.encode("encryptedPassword")).thenReturn("$2a$10$hash");
 
         UserDTO result = userService.createUser(userDTO);
 
         assertNotNull(result);
         assertEquals("john_doe", result.getUsername());
+        assertEquals("$2a$10$hash", user.getPassword());
         verify(roleService, times(1)).getRoleByName(ERole.ROLE_USER);
         verify(userRepository, times(1)).save(any(User.class));
     }
@@ -154,4 +164,56 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).findById(1);
         verify(userRepository, times(1)).save(user);
     }
+
+    @Test
+    void updateUser_ShouldEvictOldAndNewUsernameFromPrincipalCache() {
+        User user = new User();
+        user.setId(1);
+        user.setUsername("john_doe");
+
+        UserDTO userDTO = new UserDTO();
+        userDTO.setUsername("john_doe_updated");
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        doAnswer(invocation -> {
+            user.setUsername(userDTO.getUsername());
+            return null;
+        }).when(userMapper).updateEntityFromDTO(userDTO, user);
+        when(userRepository.save(user)).thenReturn(user);
+
+        userService.updateUser(1, userDTO);
+
+        verify(userPrincipalCache).evict("john_doe");
+        verify(userPrincipalCache).evict("john_doe_updated");
+    }
+
+    @Test
+    void deleteUser_ShouldEvictFromPrincipalCache() {
+        User user = new User();
+        user.setId(1);
+        user.setUsername("john_doe");
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+
+        userService.deleteUser(1);
+
+        verify(userPrincipalCache).evict("john_doe");
+    }
+
+    @Test
+    void updateUserRoles_ShouldEvictFromPrincipalCache() {
+        User user = new User();
+        user.setId(1);
+        user.setUsername("john_doe");
+
+        Role role = new Role();
+        role.setName(ERole.ROLE_ADMIN);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(roleService.getRoleByName(ERole.ROLE_ADMIN)).thenReturn(role);
+
+        userService.updateUserRoles(1, Set.of("ROLE_ADMIN"));
+
+        verify(userPrincipalCache).evict("john_doe");
+    }
 }